@@ -18,6 +18,7 @@ package org.qubership.atp.tdm.configuration;
 
 import javax.sql.DataSource;
 
+import org.qubership.atp.tdm.service.QueryProfilerService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,7 +30,7 @@ import com.zaxxer.hikari.HikariDataSource;
 public class DbConfiguration {
 
     /**
-     * Creates data source from DBConfig.
+     * Creates data source from DBConfig. Executed statements are counted and profiled.
      */
     @Bean
     public DataSource dataSource(@Value("${jdbc.Url}") String url,
@@ -37,7 +38,8 @@ public class DbConfiguration {
                                  @Value("${jdbc.Password}") String password,
                                  @Value("${jdbc.MinIdle:1}") int minIdle,
                                  @Value("${jdbc.MaxPoolSize:4}") int maxPoolSize,
-                                 @Value("${jdbc.Debug:false}") boolean debug) {
+                                 @Value("${jdbc.Debug:false}") boolean debug,
+                                 QueryProfilerService queryProfiler) {
         HikariConfig config = new HikariConfig();
         config.setJdbcUrl(url);
         config.setUsername(user);
@@ -48,6 +50,6 @@ public class DbConfiguration {
         config.setMinimumIdle(minIdle);
         config.setMaximumPoolSize(maxPoolSize);
         config.setRegisterMbeans(debug);
-        return new HikariDataSource(config);
+        return new InstrumentedDataSource(new HikariDataSource(config), queryProfiler);
     }
 }
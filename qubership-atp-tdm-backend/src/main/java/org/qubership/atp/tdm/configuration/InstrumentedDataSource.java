@@ -0,0 +1,156 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.configuration;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.qubership.atp.tdm.service.QueryProfilerService;
+import org.qubership.atp.tdm.utils.SqlStatementsCounter;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Data source which reports every executed statement to {@link SqlStatementsCounter}
+ * and its execution time to {@link QueryProfilerService}. Parameters are captured only
+ * for statements the profiler is going to explain.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final QueryProfilerService queryProfiler;
+
+    public InstrumentedDataSource(@Nonnull DataSource targetDataSource, @Nonnull QueryProfilerService queryProfiler) {
+        super(targetDataSource);
+        this.queryProfiler = queryProfiler;
+    }
+
+    @Override
+    @Nonnull
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    @Nonnull
+    public Connection getConnection(@Nonnull String username, @Nonnull String password) throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T wrap(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private abstract static class InstrumentedHandler implements InvocationHandler {
+
+        final Object target;
+
+        InstrumentedHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return handle(method, args);
+            }
+        }
+
+        abstract Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    private class ConnectionHandler extends InstrumentedHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                return wrap(method.getReturnType(), new StatementHandler(result, (Connection) target, sql));
+            }
+            return result;
+        }
+    }
+
+    private class StatementHandler extends InstrumentedHandler {
+
+        private final Connection connection;
+        private final Map<Integer, Object> parameters;
+        private String sql;
+
+        StatementHandler(Object target, Connection connection, String sql) {
+            super(target);
+            this.connection = connection;
+            this.sql = sql;
+            this.parameters = target instanceof PreparedStatement && sql != null
+                    && queryProfiler.isParametersCaptureRequired(sql) ? new HashMap<>() : null;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (parameters != null && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer) {
+                parameters.put((Integer) args[0], "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name) && parameters != null) {
+                parameters.clear();
+            } else if ("addBatch".equals(name) && args != null && args.length == 1) {
+                sql = (String) args[0];
+            }
+            if (!name.startsWith("execute")) {
+                return InstrumentedDataSource.invoke(target, method, args);
+            }
+            SqlStatementsCounter.increment();
+            String executedSql = args != null && args.length > 0 && args[0] instanceof String
+                    ? (String) args[0] : sql;
+            long start = System.nanoTime();
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (executedSql != null) {
+                queryProfiler.recordStatement(executedSql, parameters, connection, System.nanoTime() - start);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.configuration;
+
+import org.qubership.atp.tdm.service.impl.MetricService;
+import org.qubership.atp.tdm.utils.SqlStatementsCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Reports count of SQL statements executed by each REST request handler.
+ */
+@Component
+public class SqlStatementsMetricInterceptor implements HandlerInterceptor {
+
+    private final MetricService metricService;
+
+    @Autowired
+    public SqlStatementsMetricInterceptor(@Nonnull MetricService metricService) {
+        this.metricService = metricService;
+    }
+
+    @Override
+    public boolean preHandle(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                             @Nonnull Object handler) {
+        SqlStatementsCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                                @Nonnull Object handler, Exception ex) {
+        int count = SqlStatementsCounter.stop();
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            metricService.recordSqlStatements(handlerMethod.getBeanType().getSimpleName() + "."
+                    + handlerMethod.getMethod().getName(), count);
+        }
+    }
+}
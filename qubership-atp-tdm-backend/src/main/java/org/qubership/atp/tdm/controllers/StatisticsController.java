@@ -24,19 +24,25 @@ import java.util.Map;
 import java.util.UUID;
 
 import org.qubership.atp.integration.configuration.configuration.AuditAction;
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.statistics.AvailableDataStatisticsConfig;
+import org.qubership.atp.tdm.model.statistics.CollectedStatistics;
 import org.qubership.atp.tdm.model.statistics.ConsumedStatistics;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatistics;
+import org.qubership.atp.tdm.model.statistics.SlowQueryStatistic;
 import org.qubership.atp.tdm.model.statistics.TestAvailableDataMonitoring;
 import org.qubership.atp.tdm.model.statistics.TestDataTableMonitoring;
 import org.qubership.atp.tdm.model.statistics.TestDataTableUsersMonitoring;
 import org.qubership.atp.tdm.model.statistics.UsersOccupyStatisticRequest;
 import org.qubership.atp.tdm.model.statistics.UsersOccupyStatisticResponse;
 import org.qubership.atp.tdm.model.statistics.available.AvailableDataByColumnStats;
+import org.qubership.atp.tdm.service.QueryProfilerService;
 import org.qubership.atp.tdm.service.StatisticsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -54,11 +60,16 @@ import jakarta.annotation.Nonnull;
 @RestController()
 public class StatisticsController /* implements StatisticsControllerApi */ {
 
+    private static final String INCOMPLETE_HEADER = "Statistics-Incomplete";
+
     private final StatisticsService statisticsService;
+    private final QueryProfilerService queryProfilerService;
 
     @Autowired
-    public StatisticsController(@Nonnull StatisticsService statisticsService) {
+    public StatisticsController(@Nonnull StatisticsService statisticsService,
+                                @Nonnull QueryProfilerService queryProfilerService) {
         this.statisticsService = statisticsService;
+        this.queryProfilerService = queryProfilerService;
     }
 
     @Operation(description = "Get threshold for statistics.")
@@ -68,15 +79,29 @@ public class StatisticsController /* implements StatisticsControllerApi */ {
         return statisticsService.getThreshold();
     }
 
-    @Operation(description = "Get test data availability.")
+    @Operation(description = "Get SQL statement fingerprints by total time of their slow executions.")
+    @PreAuthorize("@entityAccess.isAdmin() || @entityAccess.isSupport()")
+    @AuditAction(auditAction = "Get slow SQL statements")
+    @GetMapping(value = "/slow-queries")
+    public List<SlowQueryStatistic> getSlowQueries(@RequestParam(defaultValue = "20") int limit) {
+        return queryProfilerService.getSlowQueries(limit);
+    }
+
+    @Operation(description = "Get test data availability. Tables which statistics were not collected are left out, "
+            + "such response has Statistics-Incomplete header set to true.")
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).STATISTICS.getName(),"
             + "#projectId, 'READ')")
     @AuditAction(auditAction = "Get test data availability. ProjectId {{#projectId}}")
     @GetMapping(value = "/data/available")
-    public List<GeneralStatisticsItem> getTestDataAvailability(@RequestParam UUID projectId,
-                                                               @RequestParam(required = false) UUID systemId) {
-        return statisticsService.getTestDataAvailability(projectId, systemId);
+    public ResponseEntity<List<GeneralStatisticsItem>> getTestDataAvailability(
+            @RequestParam UUID projectId, @RequestParam(required = false) UUID systemId) {
+        CollectedStatistics<TestDataTableCatalog, GeneralStatisticsItem> statistics =
+                statisticsService.getTestDataAvailability(projectId, systemId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, INCOMPLETE_HEADER)
+                .header(INCOMPLETE_HEADER, String.valueOf(statistics.isIncomplete()))
+                .body(statistics.getItems());
     }
 
     @Operation(description = "Get test data consumption.")
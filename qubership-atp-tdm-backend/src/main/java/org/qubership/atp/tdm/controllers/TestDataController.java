@@ -17,6 +17,7 @@
 package org.qubership.atp.tdm.controllers;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
@@ -30,25 +31,31 @@ import org.qubership.atp.tdm.model.ChangeTitleRequest;
 import org.qubership.atp.tdm.model.ColumnValues;
 import org.qubership.atp.tdm.model.EnvsList;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
+import org.qubership.atp.tdm.model.TestDataExportRequest;
 import org.qubership.atp.tdm.model.TestDataRequest;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.TestDataTableUpdateByQuery;
+import org.qubership.atp.tdm.model.archive.ArchiveExportJob;
+import org.qubership.atp.tdm.model.archive.ArchiveExportRequest;
 import org.qubership.atp.tdm.model.ei.TdmDataToExport;
 import org.qubership.atp.tdm.model.rest.ResponseMessage;
 import org.qubership.atp.tdm.model.rest.ResponseType;
 import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataFlagsTable;
 import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.service.ArchiveExportService;
 import org.qubership.atp.tdm.service.TestDataService;
 import org.qubership.atp.tdm.service.impl.MetricService;
 import org.qubership.atp.tdm.utils.HttpUtils;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -68,12 +75,18 @@ import lombok.extern.slf4j.Slf4j;
 public class TestDataController /* implements TestDataControllerApi */ {
 
     private final TestDataService testDataService;
+    private final ArchiveExportService archiveExportService;
     private final MetricService metricService;
 
-
+    /**
+     * Constructor for TestDataController.
+     */
     @Autowired
-    public TestDataController(@Nonnull TestDataService testDataService, @Nonnull MetricService metricService) {
+    public TestDataController(@Nonnull TestDataService testDataService,
+                              @Nonnull ArchiveExportService archiveExportService,
+                              @Nonnull MetricService metricService) {
         this.testDataService = testDataService;
+        this.archiveExportService = archiveExportService;
         this.metricService = metricService;
     }
 
@@ -267,6 +280,101 @@ public class TestDataController /* implements TestDataControllerApi */ {
         return HttpUtils.buildFileResponseEntity(testDataTableAsCsvFile, "text/csv");
     }
 
+    /**
+     * Get filtered and column-projected TestDataTable As Excel File.
+     */
+    @Operation(description = "Download filtered table as excel file.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "@catalogRepository.findByTableName(#exportRequest.tableName).getProjectId(), 'READ')")
+    @AuditAction(auditAction = "Download filtered table {{#exportRequest.tableName}} as excel file.")
+    @PostMapping(path = "/download/excel")
+    public ResponseEntity<InputStreamResource> getFilteredTestDataTableAsExcelFile(
+            @RequestBody TestDataExportRequest exportRequest) throws IOException {
+        metricService.incrementGetAction(MDC.get(MdcField.PROJECT_ID.toString()));
+        File testDataTableAsExcelFile = testDataService.getTestDataTableAsExcelFile(exportRequest);
+        return HttpUtils.buildFileResponseEntity(testDataTableAsExcelFile,
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+    }
+
+    /**
+     * Get filtered and column-projected TestDataTable As Csv File.
+     */
+    @Operation(description = "Download filtered table as csv file.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "@catalogRepository.findByTableName(#exportRequest.tableName).getProjectId(), 'READ')")
+    @AuditAction(auditAction = "Download filtered table {{#exportRequest.tableName}} as csv file.")
+    @PostMapping(path = "/download/csv")
+    public ResponseEntity<InputStreamResource> getFilteredTestDataTableAsCsvFile(
+            @RequestBody TestDataExportRequest exportRequest) throws IOException {
+        metricService.incrementGetAction(MDC.get(MdcField.PROJECT_ID.toString()));
+        File testDataTableAsCsvFile = testDataService.getTestDataTableAsCsvFile(exportRequest);
+        return HttpUtils.buildFileResponseEntity(testDataTableAsCsvFile, "text/csv");
+    }
+
+    /**
+     * Start export of several tables into a single zip archive. Job state and archive are kept
+     * by the instance which started the export.
+     */
+    @Operation(description = "Start export of several tables into zip archive. Job state and archive are kept "
+            + "by the instance which started the export, following requests of the job have to reach it.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "#projectId, 'READ')")
+    @AuditAction(auditAction = "Start export of tables into zip archive. ProjectId {{#projectId}}")
+    @PostMapping(path = "/export/archive")
+    public ArchiveExportJob startArchiveExport(@RequestParam UUID projectId,
+                                               @RequestBody ArchiveExportRequest request) {
+        metricService.incrementGetAction(projectId.toString());
+        return archiveExportService.startExport(projectId, request);
+    }
+
+    /**
+     * Get archive export job status.
+     */
+    @Operation(description = "Get archive export job status.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "#projectId, 'READ')")
+    @AuditAction(auditAction = "Get archive export job {{#jobId}} status. ProjectId {{#projectId}}")
+    @GetMapping(path = "/export/archive/{jobId}")
+    public ArchiveExportJob getArchiveExportJob(@RequestParam UUID projectId, @PathVariable("jobId") UUID jobId) {
+        return archiveExportService.getJob(projectId, jobId);
+    }
+
+    /**
+     * Resume archive export job. Only failed tables are exported again.
+     */
+    @Operation(description = "Resume archive export job.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "#projectId, 'READ')")
+    @AuditAction(auditAction = "Resume archive export job {{#jobId}}. ProjectId {{#projectId}}")
+    @PostMapping(path = "/export/archive/{jobId}/resume")
+    public ArchiveExportJob resumeArchiveExport(@RequestParam UUID projectId, @PathVariable("jobId") UUID jobId) {
+        return archiveExportService.resumeExport(projectId, jobId);
+    }
+
+    /**
+     * Download zip archive of finished archive export job, responds with conflict while the job is in progress.
+     */
+    @Operation(description = "Download zip archive of archive export job.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "#projectId, 'READ')")
+    @AuditAction(auditAction = "Download archive of export job {{#jobId}}. ProjectId {{#projectId}}")
+    @GetMapping(path = "/export/archive/{jobId}/download")
+    public ResponseEntity<InputStreamResource> downloadArchive(@RequestParam UUID projectId,
+                                                               @PathVariable("jobId") UUID jobId) throws IOException {
+        File archive = archiveExportService.getArchive(projectId, jobId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "Content-Disposition")
+                .header("Content-Disposition", archive.getName())
+                .header("Content-Type", "application/zip")
+                .body(new InputStreamResource(new FileInputStream(archive)));
+    }
+
     /**
      * Method fixes issue with occupation functional (ATPII-10699).
      * For all tables add new column "OCCUPIED_BY"
@@ -47,6 +47,9 @@ public class JobsInitListener {
         dataRefreshService.initSchedules();
         cleanupService.initSchedules();
         statisticsService.startAvailableDataStatsMonitoring();
+        statisticsService.startDailyStatisticsRollup();
+        statisticsService.startOccupyStatisticRetention();
+        statisticsService.startAvailableDataCountersReconciliation();
         testDataService.schedule();
     }
 }
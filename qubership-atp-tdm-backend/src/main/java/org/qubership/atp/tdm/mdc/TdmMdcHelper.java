@@ -19,6 +19,7 @@ package org.qubership.atp.tdm.mdc;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.service.notification.environments.EnvironmentEvent;
+import org.qubership.atp.tdm.service.notification.projects.ProjectEvent;
 import org.qubership.atp.tdm.service.notification.systems.SystemEvent;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
@@ -45,4 +46,8 @@ public class TdmMdcHelper {
         MdcUtils.put(MdcField.SYSTEM_ID.toString(), event.getId());
         MdcUtils.put(MdcField.PROJECT_ID.toString(), event.getProjectId());
     }
+
+    public void putProjectEventFields(ProjectEvent event) {
+        MdcUtils.put(MdcField.PROJECT_ID.toString(), event.getProjectId());
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.model;
+
+import java.util.List;
+
+import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.TestDataTableOrder;
+import org.qubership.atp.tdm.model.table.TestDataType;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestDataExportRequest {
+    private String tableName;
+    private Boolean occupied;
+    private List<String> columns;
+    private List<TestDataTableFilter> filters;
+    private TestDataTableOrder dataTableOrder;
+
+    public TestDataExportRequest(String tableName) {
+        this.tableName = tableName;
+    }
+
+    /**
+     * Resolves type of exported data. Whole table is exported if occupied flag is not set.
+     *
+     * @return test data type.
+     */
+    @JsonIgnore
+    public TestDataType getTestDataType() {
+        if (occupied == null) {
+            return TestDataType.ALL;
+        }
+        return occupied ? TestDataType.OCCUPIED : TestDataType.AVAILABLE;
+    }
+}
@@ -19,9 +19,12 @@ package org.qubership.atp.tdm.model;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.springframework.data.domain.Persistable;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -34,7 +37,8 @@ import lombok.ToString;
 @AllArgsConstructor
 @EqualsAndHashCode
 @ToString
-public class TestDataOccupyStatistic {
+@IdClass(TestDataOccupyStatisticKey.class)
+public class TestDataOccupyStatistic implements Persistable<TestDataOccupyStatisticKey> {
 
     @Id
     @Column(name = "row_id")
@@ -49,8 +53,23 @@ public class TestDataOccupyStatistic {
     private String tableTitle;
     @Column(name = "occupied_by")
     private String occupiedBy;
+    @Id
     @Column(name = "occupied_date")
     private LocalDateTime occupiedDate;
     @Column(name = "created_when")
     private LocalDateTime createdWhen;
+
+    @Override
+    public TestDataOccupyStatisticKey getId() {
+        return new TestDataOccupyStatisticKey(rowId, occupiedDate);
+    }
+
+    /**
+     * Statistic is always inserted, replaced statistic of the row is deleted before by its key,
+     * so save doesn't look the statistic up in every partition.
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
 }
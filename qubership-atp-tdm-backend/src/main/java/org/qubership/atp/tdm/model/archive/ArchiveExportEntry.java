@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.model.archive;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ArchiveExportEntry {
+    private String tableName;
+    private String tableTitle;
+    private String entryName;
+    private volatile boolean exported;
+    private volatile String error;
+
+    /**
+     * Constructor for ArchiveExportEntry.
+     *
+     * @param tableName  - table name.
+     * @param tableTitle - table title.
+     * @param entryName  - name of the entry inside the archive.
+     */
+    public ArchiveExportEntry(String tableName, String tableTitle, String entryName) {
+        this.tableName = tableName;
+        this.tableTitle = tableTitle;
+        this.entryName = entryName;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.model.archive;
+
+import java.io.File;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.qubership.atp.tdm.model.ExportFileType;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ArchiveExportJob {
+    private UUID id;
+    private UUID projectId;
+    private ExportFileType fileType;
+    private volatile ArchiveExportStatus status;
+    private List<ArchiveExportEntry> entries;
+    private Date created;
+    private volatile Date finished;
+    @JsonIgnore
+    private volatile File archive;
+    @JsonIgnore
+    private volatile CompletableFuture<ArchiveExportJob> completion = new CompletableFuture<>();
+
+    /**
+     * Constructor for ArchiveExportJob.
+     *
+     * @param projectId - project id.
+     * @param fileType  - type of the archive entries.
+     * @param entries   - tables to export.
+     */
+    public ArchiveExportJob(UUID projectId, ExportFileType fileType, List<ArchiveExportEntry> entries) {
+        this.id = UUID.randomUUID();
+        this.projectId = projectId;
+        this.fileType = fileType;
+        this.entries = entries;
+        this.created = new Date();
+    }
+
+    public long getExportedCount() {
+        return entries.stream().filter(ArchiveExportEntry::isExported).count();
+    }
+
+    public long getFailedCount() {
+        return entries.stream().filter(entry -> entry.getError() != null).count();
+    }
+}
@@ -16,7 +16,6 @@
 
 package org.qubership.atp.tdm.model.mail.bulkaction;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -29,8 +28,8 @@ import org.qubership.atp.integration.configuration.model.MailRequest;
 import org.qubership.atp.integration.configuration.service.MailSenderService;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionContext;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionResult;
+import org.qubership.atp.tdm.service.mailsender.MailTemplateRegistry;
 
-import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import jakarta.annotation.Nonnull;
@@ -39,7 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class AbstractBulkActionMailSender {
 
-    Configuration configuration;
+    MailTemplateRegistry templateRegistry;
     MailSenderService mailSender;
     String mailSenderSubject;
     String mailSenderTemplate;
@@ -56,7 +55,7 @@ public abstract class AbstractBulkActionMailSender {
             mailRequest.setFrom(mailSenderFrom);
             mailRequest.setSubject(String.format(mailSenderSubject, bulkActionContext.getId()));
             mailRequest.setTo(bulkActionContext.getRecipients());
-            mailRequest.setContent(buildMessageContent(configuration, bulkActionContext.getProjectName(),
+            mailRequest.setContent(buildMessageContent(bulkActionContext.getProjectName(),
                     bulkActionContext.getEnvironmentName(), bulkActionContext.getSystemName(),
                     bulkActionContext.getResults()));
             Map<String, Object> metadata = new HashMap<>();
@@ -66,12 +65,11 @@ public abstract class AbstractBulkActionMailSender {
         }
     }
 
-    private String buildMessageContent(@Nonnull Configuration freemarkerConfig, @Nonnull String projectName,
+    private String buildMessageContent(@Nonnull String projectName,
                                        @Nonnull String environmentName, @Nonnull String systemName,
                                        @Nonnull List<BulkActionResult> results) {
         try {
-            freemarkerConfig.setDirectoryForTemplateLoading(new File(mailSenderPath));
-            Template template = freemarkerConfig.getTemplate(mailSenderTemplate);
+            Template template = templateRegistry.getTemplate(mailSenderPath, mailSenderTemplate);
             Writer writer = new StringWriter();
             template.process(new HashMap<String, Object>() {
                 {
@@ -17,11 +17,11 @@
 package org.qubership.atp.tdm.model.mail.bulkaction;
 
 import org.qubership.atp.integration.configuration.service.MailSenderService;
+import org.qubership.atp.tdm.service.mailsender.MailTemplateRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import freemarker.template.Configuration;
 import jakarta.annotation.Nonnull;
 
 @Component
@@ -31,19 +31,20 @@ public class BulkCleanupMailSender extends AbstractBulkActionMailSender {
      * BulkCleanupMailSender Constructor.
      */
     @Autowired
-    private BulkCleanupMailSender(@Nonnull Configuration configuration,
+    private BulkCleanupMailSender(@Nonnull MailTemplateRegistry templateRegistry,
                                   @Nonnull MailSenderService mailSender,
                                   @Value("${mail.sender.bulk.cleanup.subject}") String mailSenderSubject,
                                   @Value("${mail.sender.bulk.cleanup.template}") String mailSenderTemplate,
                                   @Value("${mail.sender.bulk.cleanup.path}") String mailSenderPath,
                                   @Value("${mail.sender.enable:true}") boolean mailSenderEnable,
                                   @Value("${mail.sender.from}") String mailSenderFrom) {
-        this.configuration = configuration;
+        this.templateRegistry = templateRegistry;
         this.mailSender = mailSender;
         this.mailSenderSubject = mailSenderSubject;
         this.mailSenderTemplate = mailSenderTemplate;
         this.mailSenderPath = mailSenderPath;
         this.mailSenderEnable = mailSenderEnable;
         this.mailSenderFrom = mailSenderFrom;
+        templateRegistry.preload(mailSenderPath, mailSenderTemplate);
     }
 }
@@ -28,4 +28,10 @@ import lombok.NoArgsConstructor;
 public class ConsumedStatistics {
     private List<String> dates;
     private List<ConsumedStatisticsItem> items;
+    private boolean incomplete;
+
+    public ConsumedStatistics(List<String> dates, List<ConsumedStatisticsItem> items) {
+        this.dates = dates;
+        this.items = items;
+    }
 }
@@ -28,4 +28,10 @@ import lombok.NoArgsConstructor;
 public class OutdatedStatistics {
     private List<String> dates;
     private List<OutdatedStatisticsItem> items;
+    private boolean incomplete;
+
+    public OutdatedStatistics(List<String> dates, List<OutdatedStatisticsItem> items) {
+        this.dates = dates;
+        this.items = items;
+    }
 }
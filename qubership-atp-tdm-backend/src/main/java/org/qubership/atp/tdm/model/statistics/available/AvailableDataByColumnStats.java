@@ -27,6 +27,7 @@ import lombok.Data;
 public class AvailableDataByColumnStats {
     private String description;
     private List<TableAvailableDataStats> statistics;
+    private boolean incomplete;
 
     public AvailableDataByColumnStats() {
         init();
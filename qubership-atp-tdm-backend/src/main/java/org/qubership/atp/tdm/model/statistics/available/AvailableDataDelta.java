@@ -0,0 +1,45 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.model.statistics.available;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * Change of available rows count per column value of a test data table.
+ */
+@Getter
+public class AvailableDataDelta {
+
+    private final Map<String, Map<String, Long>> columns = new HashMap<>();
+
+    /**
+     * Adds delta for the column value, null values are not counted.
+     */
+    public void add(String columnName, String value, long delta) {
+        if (value == null || delta == 0) {
+            return;
+        }
+        columns.computeIfAbsent(columnName, name -> new HashMap<>()).merge(value, delta, Long::sum);
+    }
+
+    public boolean isEmpty() {
+        return columns.isEmpty();
+    }
+}
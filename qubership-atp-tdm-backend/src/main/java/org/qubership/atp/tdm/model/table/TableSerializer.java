@@ -27,7 +27,9 @@ import org.qubership.atp.tdm.model.ColumnType;
 import org.qubership.atp.tdm.model.FilterType;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
 import org.qubership.atp.tdm.repo.impl.SystemColumns;
+import org.qubership.atp.tdm.service.QueryProfilerService;
 import org.qubership.atp.tdm.utils.TestDataTableConvertor;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -41,10 +43,27 @@ public class TableSerializer extends JsonSerializer<TestDataTable> {
     private static final String LONG_CELL_CONTENT = "this.longCellContent";
     private static final String SIMPLE_CELL_CONTENT = "this.simpleCellContent";
     private static final int LONG_STRING_MINIMUM_LENGTH = 60;
+    private static final String SERIALIZE_PHASE = "serialize";
+
+    /**
+     * Injected when the serializer is created by Spring's object mapper.
+     */
+    @Autowired(required = false)
+    private QueryProfilerService queryProfiler;
 
     @Override
     public void serialize(TestDataTable table, JsonGenerator jsonGenerator,
                           SerializerProvider serializerProvider) throws IOException {
+        if (queryProfiler == null) {
+            writeTable(table, jsonGenerator);
+            return;
+        }
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(SERIALIZE_PHASE)) {
+            writeTable(table, jsonGenerator);
+        }
+    }
+
+    private void writeTable(TestDataTable table, JsonGenerator jsonGenerator) throws IOException {
         jsonGenerator.writeStartObject();
 
         removeColumns(table);
@@ -74,4 +74,12 @@ public interface AtpActionRepository {
                                            @Nonnull String tableTitle);
 
     ResponseMessage resolveTableName(@Nonnull UUID projectId, @Nonnull UUID systemId, @Nonnull String tableTitle);
+
+    /**
+     * Find physical name of the table, the same way ATP actions resolve it.
+     *
+     * @return table name or null if table with such title doesn't exist.
+     */
+    @Nullable
+    String findTableName(@Nonnull UUID projectId, @Nullable UUID systemId, @Nonnull String tableTitle);
 }
@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.qubership.atp.tdm.model.statistics.available.AvailableDataDelta;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Live count of available rows per column value of test data tables. Counters are changed by occupy,
+ * release, insert and delete of rows; update of the tracked columns or of "SELECTED" and any other change
+ * of a table makes its counters stale, stale and untracked columns are recounted on read and by the scheduled
+ * reconciliation.
+ */
+public interface AvailableDataCounterRepository {
+
+    /**
+     * Returns names of tracked columns of the table, including stale ones.
+     */
+    List<String> getTrackedColumns(@Nonnull String tableName);
+
+    /**
+     * Returns available rows count per column value, the column is recounted if it is stale or untracked.
+     */
+    Map<String, Long> getCounters(@Nonnull String tableName, @Nonnull String columnName);
+
+    /**
+     * Adds delta to counters of reconciled columns within the current transaction, so it is committed or rolled
+     * back together with the change of rows.
+     */
+    void applyDelta(@Nonnull String tableName, @Nonnull AvailableDataDelta delta);
+
+    /**
+     * Executes update or delete of rows and adds the sign to counters of reconciled columns for every changed row
+     * with the counted "SELECTED" value, as it is returned by the change. Returns count of changed rows.
+     */
+    int updateCounting(@Nonnull String tableName, @Nonnull String query, @Nonnull MapSqlParameterSource parameters,
+                       boolean countedSelected, int sign);
+
+    void reconcile(@Nonnull String tableName, @Nonnull String columnName);
+
+    /**
+     * Recounts all tracked columns, columns of dropped tables are untracked.
+     */
+    void reconcileAll();
+
+    void invalidate(@Nonnull String tableName);
+
+    /**
+     * Makes stale the tracked columns among the given ones.
+     */
+    void invalidate(@Nonnull String tableName, @Nonnull Collection<String> columnNames);
+
+    void remove(@Nonnull String tableName);
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Monthly range partitions of the occupy statistic by occupied date. Partitioning is applied to PostgreSQL only,
+ * other databases keep a plain table and old statistic is deleted by rows.
+ */
+public interface OccupyStatisticPartitionRepository {
+
+    boolean isPartitioned();
+
+    List<YearMonth> getPartitions();
+
+    void createPartition(@Nonnull YearMonth month);
+
+    void dropPartition(@Nonnull YearMonth month);
+
+    /**
+     * Deletes statistic occupied before date from not partitioned table.
+     *
+     * @return count of deleted rows.
+     */
+    int deleteOccupiedBefore(@Nonnull LocalDate date);
+}
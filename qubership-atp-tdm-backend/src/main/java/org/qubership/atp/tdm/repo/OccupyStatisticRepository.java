@@ -17,11 +17,12 @@
 package org.qubership.atp.tdm.repo;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
-import org.qubership.atp.tdm.model.table.TestDataOccupyReportGroupBy;
+import org.qubership.atp.tdm.model.TestDataOccupyStatisticKey;
 import org.qubership.atp.tdm.utils.TestDataQueries;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -31,7 +32,8 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface OccupyStatisticRepository extends JpaRepository<TestDataOccupyStatistic, UUID> {
+public interface OccupyStatisticRepository
+        extends JpaRepository<TestDataOccupyStatistic, TestDataOccupyStatisticKey> {
 
     @Query(value = TestDataQueries.GET_OCCUPIED_STATISTIC_BY_PROJECT, nativeQuery = true)
     List<TestDataOccupyStatistic> findAllByProjectId(@Param("projectId") UUID projectId);
@@ -45,7 +47,11 @@ public interface OccupyStatisticRepository extends JpaRepository<TestDataOccupyS
     @Query(value = TestDataQueries.DELETE_OCCUPIED_STATISTIC, nativeQuery = true)
     void deleteAllByRowId(@Param("rowIds") List<UUID> rowIds);
 
-    @Query(value = TestDataQueries.GET_OCCUPIED_STATISTICS_GROUP_BY)
-    List<TestDataOccupyReportGroupBy> findAllByProjectIdAndOccupiedDateAndCountGroupBy(
-            @Param("projectId") UUID projectId, @Param("date") LocalDateTime date);
+    List<TestDataOccupyStatistic> findAllByRowIdIn(Collection<UUID> rowIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = TestDataQueries.DELETE_OCCUPIED_STATISTIC_BY_KEYS, nativeQuery = true)
+    void deleteAllByRowIdAndOccupiedDate(@Param("rowIds") Collection<UUID> rowIds,
+                                         @Param("occupiedDates") Collection<LocalDateTime> occupiedDates);
 }
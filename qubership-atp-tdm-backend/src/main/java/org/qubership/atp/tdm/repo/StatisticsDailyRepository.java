@@ -0,0 +1,76 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.qubership.atp.tdm.model.statistics.DailyStatisticsItem;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Daily rollup of the occupy statistic and of available test data by created day. Every change of the occupy
+ * statistic or of available test data enqueues the table name with the changed days, changes which days are not
+ * known enqueue the table name only, so its available test data rollup is rebuilt. Queued tables are rolled up
+ * by a scheduled job and removed from the queue up to the processed id. Table names are kept lower-cased.
+ */
+public interface StatisticsDailyRepository {
+
+    /**
+     * Enqueues tables which available test data changed on unknown days.
+     */
+    void enqueue(@Nonnull Collection<String> tableNames);
+
+    /**
+     * Enqueues table which occupy statistic or available test data of the given days changed.
+     */
+    void enqueue(@Nonnull String tableName, @Nonnull Collection<LocalDate> days);
+
+    @Nullable
+    Long getQueueWatermark();
+
+    List<String> getQueuedTables(long watermark);
+
+    /**
+     * Returns queued days of the period by lower-cased table names, statistics of these days are not rolled up yet.
+     */
+    Map<String, Set<LocalDate>> getQueuedDays(@Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo);
+
+    /**
+     * Returns lower-cased names of tables which available test data rollup is not rebuilt yet.
+     */
+    Set<String> getRebuildQueuedTables();
+
+    /**
+     * Rebuilds occupy statistic rollup and available test data rollup of the days queued up to watermark,
+     * available test data rollup of table enqueued without days is rebuilt for all days.
+     * Queued days before oldest retained day are not rebuilt, their occupy statistic could be already removed.
+     */
+    void rollupTable(@Nonnull String tableName, long watermark, @Nonnull LocalDate oldestRetainedDay);
+
+    /**
+     * Returns rolled up statistics of project, days are truncated to the given date_trunc unit.
+     */
+    List<DailyStatisticsItem> getDailyStatistics(@Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
+                                                 @Nonnull LocalDate dateTo, @Nonnull String truncUnit);
+}
@@ -19,21 +19,24 @@ package org.qubership.atp.tdm.repo;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.qubership.atp.tdm.model.statistics.CollectedStatistics;
 import org.qubership.atp.tdm.model.statistics.ConsumedStatistics;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatistics;
 import org.qubership.atp.tdm.model.statistics.report.StatisticsReport;
+import org.qubership.atp.tdm.model.table.TestDataOccupyReportGroupBy;
 
 import jakarta.annotation.Nonnull;
 
 public interface StatisticsRepository {
 
-    List<GeneralStatisticsItem> getTestDataAvailability(@Nonnull List<TestDataTableCatalog> catalogList,
-                                                        @Nonnull UUID projectId);
+    CollectedStatistics<TestDataTableCatalog, GeneralStatisticsItem> getTestDataAvailability(
+            @Nonnull List<TestDataTableCatalog> catalogList, @Nonnull UUID projectId);
 
     ConsumedStatistics getTestDataConsumption(@Nonnull List<TestDataOccupyStatistic> occupyStatisticList,
                                               @Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
@@ -51,4 +54,7 @@ public interface StatisticsRepository {
                                                            @Nonnull UUID projectId);
 
     List<String> alterOccupiedDateColumn(List<String> tableNames);
+
+    void getUsersDailyOccupation(@Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
+                                 @Nonnull Consumer<TestDataOccupyReportGroupBy> consumer);
 }
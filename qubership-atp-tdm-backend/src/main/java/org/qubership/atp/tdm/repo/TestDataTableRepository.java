@@ -55,11 +55,13 @@ public interface TestDataTableRepository {
 
     TestDataTable getFullTestData(@Nonnull String tableName);
 
-    File getTestDataTableAsExcel(@Nonnull String tableName, @Nullable Integer offset,
-                                 @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters);
+    File getTestDataTableAsExcel(@Nonnull String tableName, @Nonnull TestDataType testDataType,
+                                 @Nullable List<String> columnNames, @Nullable List<TestDataTableFilter> filters,
+                                 @Nullable TestDataTableOrder order);
 
-    File getTestDataTableAsCsv(@Nonnull String tableName, @Nullable Integer offset,
-                               @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters);
+    File getTestDataTableAsCsv(@Nonnull String tableName, @Nonnull TestDataType testDataType,
+                               @Nullable List<String> columnNames, @Nullable List<TestDataTableFilter> filters,
+                               @Nullable TestDataTableOrder order);
 
     TestDataTable saveTestData(@Nonnull String tableName, boolean exists, TestDataTable testDataTable);
 
@@ -101,8 +103,8 @@ public interface TestDataTableRepository {
     int getColumnDistinctValuesCount(@Nonnull String tableName, @Nonnull String columnName,
                                      String columnType, Boolean occupied);
 
-    TestDataTable getTableByCreatedWhen(@Nonnull String tableName, @Nonnull LocalDate dateFrom,
-                                        @Nonnull LocalDate dateTo);
+    Map<LocalDate, Long> getCreatedWhenStatistics(@Nonnull String tableName, @Nonnull LocalDate dateFrom,
+                                                  @Nonnull LocalDate dateTo, @Nonnull String truncUnit);
 
     boolean changeTestDataTitle(@Nonnull String tableName, @Nullable String tableTitle);
 
@@ -603,6 +603,13 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
                 );
     }
 
+    @Nullable
+    @Override
+    public String findTableName(@Nonnull UUID projectId, @Nullable UUID systemId, @Nonnull String tableTitle) {
+        TableDetails tableDetails = getTableDetails(projectId, systemId, tableTitle);
+        return tableDetails.isExists() ? tableDetails.getTableName() : null;
+    }
+
     private String formResultLink(UUID projectId, UUID environmentId, UUID systemId, String tdmUrl) {
         return String.format(DATA_REFRESH_LINK, tdmUrl, projectId, environmentId, systemId);
     }
@@ -0,0 +1,271 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.tdm.model.statistics.available.AvailableDataDelta;
+import org.qubership.atp.tdm.repo.AvailableDataCounterRepository;
+import org.qubership.atp.tdm.utils.DataUtils;
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Repository
+public class AvailableDataCounterRepositoryImpl implements AvailableDataCounterRepository {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Supplier<Boolean> isPostgresql;
+    private final LoadingCache<String, List<String>> trackedColumns;
+
+    /**
+     * Default constructor.
+     */
+    @Autowired
+    public AvailableDataCounterRepositoryImpl(@Nonnull JdbcTemplate jdbcTemplate,
+                                              @Nonnull PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.isPostgresql = Suppliers.memoize(() -> POSTGRESQL.equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName())));
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.trackedColumns = CacheBuilder.newBuilder()
+                .build(new CacheLoader<String, List<String>>() {
+                    @Override
+                    public List<String> load(@Nonnull String tableName) {
+                        return jdbcTemplate.queryForList(TestDataQueries.GET_AVAILABLE_COLUMNS, String.class,
+                                tableName);
+                    }
+                });
+    }
+
+    @Override
+    public List<String> getTrackedColumns(@Nonnull String tableName) {
+        return trackedColumns.getUnchecked(tableName.toLowerCase());
+    }
+
+    @Override
+    public Map<String, Long> getCounters(@Nonnull String tableName, @Nonnull String columnName) {
+        String table = tableName.toLowerCase();
+        List<Timestamp> reconciled = jdbcTemplate.queryForList(TestDataQueries.GET_AVAILABLE_COLUMN_RECONCILED,
+                Timestamp.class, table, columnName);
+        if (reconciled.isEmpty() || reconciled.get(0) == null) {
+            reconcile(table, columnName);
+        }
+        Map<String, Long> counters = new HashMap<>();
+        jdbcTemplate.query(TestDataQueries.GET_AVAILABLE_COUNTERS, resultSet -> {
+            counters.put(resultSet.getString(1), Math.max(resultSet.getLong(2), 0));
+        }, table, columnName);
+        return counters;
+    }
+
+    @Override
+    public void applyDelta(@Nonnull String tableName, @Nonnull AvailableDataDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        String table = tableName.toLowerCase();
+        List<String> reconciledColumns = getReconciledColumns(table);
+        List<Object[]> args = new ArrayList<>();
+        delta.getColumns().forEach((columnName, values) -> {
+            if (reconciledColumns.contains(columnName)) {
+                values.forEach((value, count) -> args.add(new Object[]{table, columnName, value, count}));
+            }
+        });
+        jdbcTemplate.batchUpdate(isPostgresql.get()
+                ? TestDataQueries.UPSERT_AVAILABLE_COUNTER
+                : TestDataQueries.MERGE_AVAILABLE_COUNTER, args);
+    }
+
+    /**
+     * On PostgreSQL the change of rows, the share lock of reconciled columns and the upsert of counters are done
+     * by one statement. Columns reconciled by other instances after the tracked columns were cached are not
+     * counted by the statement, they are invalidated and recounted on read.
+     */
+    @Override
+    public int updateCounting(@Nonnull String tableName, @Nonnull String query,
+                              @Nonnull MapSqlParameterSource parameters, boolean countedSelected, int sign) {
+        String table = tableName.toLowerCase();
+        List<String> columns = getTrackedColumns(table);
+        String returnedColumns = columns.stream().map(column -> ", \"" + column + "\"")
+                .collect(Collectors.joining());
+        if (!isPostgresql.get()) {
+            return updateCountingByDelta(table, query, parameters, countedSelected, sign, columns,
+                    returnedColumns);
+        }
+        String changedValues = columns.isEmpty()
+                ? TestDataQueries.GET_NO_CHANGED_COLUMN_VALUES
+                : columns.stream()
+                .map(column -> String.format(TestDataQueries.GET_CHANGED_COLUMN_VALUES, column, countedSelected))
+                .collect(Collectors.joining(" UNION ALL "));
+        String missingColumns = columns.isEmpty()
+                ? "true"
+                : columns.stream().map(column -> "'" + column + "'")
+                .collect(Collectors.joining(", ", "column_name NOT IN (", ")"));
+        MapSqlParameterSource counterParameters = new MapSqlParameterSource(parameters.getValues())
+                .addValue("counterTableName", table);
+        long[] result = namedParameterJdbcTemplate.queryForObject(
+                String.format(TestDataQueries.UPSERT_AVAILABLE_COUNTERS_BY_CHANGED_ROWS, query, returnedColumns,
+                        changedValues, sign, missingColumns), counterParameters,
+                (resultSet, rowNum) -> new long[]{resultSet.getLong(1), resultSet.getLong(2)});
+        if (result[1] > 0) {
+            invalidate(table);
+            trackedColumns.invalidate(table);
+        }
+        return (int) result[0];
+    }
+
+    private int updateCountingByDelta(@Nonnull String table, @Nonnull String query,
+                                      @Nonnull MapSqlParameterSource parameters, boolean countedSelected, int sign,
+                                      @Nonnull List<String> columns, @Nonnull String returnedColumns) {
+        String deltaTable = query.trim().toLowerCase().startsWith("delete") ? "OLD" : "FINAL";
+        AvailableDataDelta delta = new AvailableDataDelta();
+        Integer changedRows = transactionTemplate.execute(status -> {
+            int[] rows = new int[1];
+            namedParameterJdbcTemplate.query(String.format(TestDataQueries.GET_CHANGED_COUNTED_VALUES, query,
+                    returnedColumns, deltaTable), parameters, resultSet -> {
+                        rows[0]++;
+                        if (resultSet.getBoolean(1) == countedSelected) {
+                            for (int i = 0; i < columns.size(); i++) {
+                                delta.add(columns.get(i), resultSet.getString(i + 2), sign);
+                            }
+                        }
+                    });
+            if (!columns.containsAll(getReconciledColumns(table))) {
+                invalidate(table);
+                trackedColumns.invalidate(table);
+            }
+            applyDelta(table, delta);
+            return rows[0];
+        });
+        return changedRows == null ? 0 : changedRows;
+    }
+
+    /**
+     * Returns reconciled columns of the table. On PostgreSQL the columns are share locked till the end of
+     * transaction, so reconciliation of the table waits for the transactions which apply deltas.
+     */
+    private List<String> getReconciledColumns(@Nonnull String table) {
+        return jdbcTemplate.query(isPostgresql.get()
+                        ? TestDataQueries.LOCK_AVAILABLE_COLUMNS_RECONCILED
+                        : TestDataQueries.GET_AVAILABLE_COLUMNS_RECONCILED,
+                (resultSet, rowNum) -> resultSet.getTimestamp(2) == null ? null : resultSet.getString(1), table)
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void reconcile(@Nonnull String tableName, @Nonnull String columnName) {
+        DataUtils.checkTableName(tableName);
+        DataUtils.checkColumnName(columnName);
+        String table = tableName.toLowerCase();
+        transactionTemplate.executeWithoutResult(status -> {
+            // locks the column till the recount is committed, deltas of the table wait for it
+            if (jdbcTemplate.update(TestDataQueries.UPDATE_AVAILABLE_COLUMN_RECONCILED, table, columnName) == 0) {
+                jdbcTemplate.update(TestDataQueries.INSERT_AVAILABLE_COLUMN, table, columnName);
+            }
+            jdbcTemplate.update(TestDataQueries.DELETE_AVAILABLE_COUNTERS, table, columnName);
+            int values = jdbcTemplate.update(String.format(TestDataQueries.INSERT_AVAILABLE_COUNTERS,
+                    columnName, table), table, columnName);
+            log.debug("Available data counters of table: [{}], column: [{}] reconciled, values: {}",
+                    table, columnName, values);
+        });
+        trackedColumns.invalidate(table);
+    }
+
+    @Override
+    public void reconcileAll() {
+        List<String[]> columns = jdbcTemplate.query(TestDataQueries.GET_ALL_AVAILABLE_COLUMNS,
+                (resultSet, rowNum) -> new String[]{resultSet.getString(1), resultSet.getString(2)});
+        log.info("Reconciling available data counters for {} columns", columns.size());
+        for (String[] column : columns) {
+            try {
+                reconcile(column[0], column[1]);
+            } catch (BadSqlGrammarException e) {
+                log.warn("Table: [{}] or column: [{}] does not exist anymore, counters removed",
+                        column[0], column[1]);
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update(TestDataQueries.DELETE_AVAILABLE_COLUMN, column[0], column[1]);
+                    jdbcTemplate.update(TestDataQueries.DELETE_AVAILABLE_COUNTERS, column[0], column[1]);
+                });
+                trackedColumns.invalidate(column[0]);
+            } catch (Exception e) {
+                log.error("Failed to reconcile available data counters of table: [{}], column: [{}]",
+                        column[0], column[1], e);
+            }
+        }
+        log.info("Available data counters successfully reconciled.");
+    }
+
+    @Override
+    public void invalidate(@Nonnull String tableName) {
+        jdbcTemplate.update(TestDataQueries.INVALIDATE_AVAILABLE_COLUMNS, tableName.toLowerCase());
+    }
+
+    @Override
+    public void invalidate(@Nonnull String tableName, @Nonnull Collection<String> columnNames) {
+        String table = tableName.toLowerCase();
+        List<String> columns = getTrackedColumns(table).stream()
+                .filter(columnNames::contains)
+                .collect(Collectors.toList());
+        if (columns.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(TestDataQueries.INVALIDATE_AVAILABLE_COLUMNS_BY_NAMES,
+                new MapSqlParameterSource()
+                        .addValue("tableName", table)
+                        .addValue("columnNames", columns));
+    }
+
+    @Override
+    public void remove(@Nonnull String tableName) {
+        String table = tableName.toLowerCase();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(TestDataQueries.DELETE_AVAILABLE_COLUMNS, table);
+            jdbcTemplate.update(TestDataQueries.DELETE_ALL_AVAILABLE_COUNTERS, table);
+        });
+        trackedColumns.invalidate(table);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.qubership.atp.tdm.env.configurator.model.envgen.EnvironmentsSnapshot;
+import org.qubership.atp.tdm.env.configurator.service.EnvironmentsSnapshotStore;
+import org.qubership.atp.tdm.env.configurator.utils.decryptor.Decryptor;
+import org.qubership.atp.tdm.env.configurator.utils.decryptor.SopsDecryptor;
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps environments snapshots in TDM database, so all replicas start with the environments
+ * loaded by any of them. When SOPS decryption is configured the snapshot contains decrypted
+ * parameters, so it is stored encrypted with the key of the decryption cache.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "environments.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class EnvironmentsSnapshotRepositoryImpl implements EnvironmentsSnapshotStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SopsDecryptor sopsDecryptor;
+
+    /**
+     * Default constructor.
+     */
+    @Autowired
+    public EnvironmentsSnapshotRepositoryImpl(@Nonnull JdbcTemplate jdbcTemplate,
+                                              @Nonnull Optional<Decryptor> decryptor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sopsDecryptor = decryptor.filter(SopsDecryptor.class::isInstance)
+                .map(SopsDecryptor.class::cast)
+                .orElse(null);
+    }
+
+    @Override
+    public EnvironmentsSnapshot load(@Nonnull UUID projectId) {
+        List<byte[]> snapshots = jdbcTemplate.query(TestDataQueries.GET_ENVIRONMENTS_SNAPSHOT,
+                (resultSet, rowNum) -> resultSet.getBytes(1), projectId);
+        if (snapshots.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] bytes = snapshots.get(0);
+            return EnvironmentsSnapshot.deserialize(Objects.isNull(sopsDecryptor)
+                    ? bytes
+                    : sopsDecryptor.decryptCached(bytes));
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("Environments snapshot of project [{}] cannot be read and is ignored", projectId, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void save(@Nonnull UUID projectId, @Nonnull EnvironmentsSnapshot snapshot) {
+        byte[] bytes;
+        try {
+            bytes = snapshot.serialize();
+            if (Objects.nonNull(sopsDecryptor)) {
+                bytes = sopsDecryptor.encryptCached(bytes);
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("Failed to serialize or encrypt environments snapshot of project [{}]", projectId, e);
+            return;
+        }
+        Object[] args = {snapshot.getRevision(), Timestamp.from(Instant.now()), bytes, projectId};
+        if (jdbcTemplate.update(TestDataQueries.UPDATE_ENVIRONMENTS_SNAPSHOT, args) == 0) {
+            try {
+                jdbcTemplate.update(TestDataQueries.INSERT_ENVIRONMENTS_SNAPSHOT, args);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(TestDataQueries.UPDATE_ENVIRONMENTS_SNAPSHOT, args);
+            }
+        }
+        log.info("Saved snapshot of {} environments of project [{}], revision: {}, size: {} bytes",
+                snapshot.getEnvironments().size(), projectId, snapshot.getRevision(), bytes.length);
+    }
+}
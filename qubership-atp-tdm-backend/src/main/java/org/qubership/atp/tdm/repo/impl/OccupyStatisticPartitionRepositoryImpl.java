@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.tdm.repo.OccupyStatisticPartitionRepository;
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Repository
+public class OccupyStatisticPartitionRepositoryImpl implements OccupyStatisticPartitionRepository {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final String PARTITION_PREFIX = "test_data_occupy_statistic_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Default constructor.
+     */
+    @Autowired
+    public OccupyStatisticPartitionRepositoryImpl(@Nonnull JdbcTemplate jdbcTemplate,
+                                                  @Nonnull PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        String databaseName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!POSTGRESQL.equals(databaseName)) {
+            return false;
+        }
+        Integer count = jdbcTemplate.queryForObject(TestDataQueries.GET_OCCUPY_STATISTIC_PARTITIONED, Integer.class);
+        return Objects.nonNull(count) && count > 0;
+    }
+
+    @Override
+    public List<YearMonth> getPartitions() {
+        return jdbcTemplate.queryForList(TestDataQueries.GET_OCCUPY_STATISTIC_PARTITIONS, String.class).stream()
+                .filter(name -> name.startsWith(PARTITION_PREFIX))
+                .map(name -> YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX_FORMATTER))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Partition can not be attached while default partition has rows of its month,
+     * so these rows are moved to the new partition under the lock of default partition.
+     */
+    @Override
+    public void createPartition(@Nonnull YearMonth month) {
+        String partitionName = getPartitionName(month);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute(TestDataQueries.LOCK_OCCUPY_STATISTIC_DEFAULT_PARTITION);
+            if (getPartitions().contains(month)) {
+                log.info("Occupy statistic partition for month: [{}] already created.", month);
+                return;
+            }
+            jdbcTemplate.execute(String.format(TestDataQueries.CREATE_OCCUPY_STATISTIC_PARTITION_TABLE,
+                    partitionName));
+            int moved = jdbcTemplate.update(String.format(TestDataQueries.MOVE_OCCUPY_STATISTIC_FROM_DEFAULT_PARTITION,
+                    partitionName), Date.valueOf(from), Date.valueOf(to));
+            jdbcTemplate.execute(String.format(TestDataQueries.ATTACH_OCCUPY_STATISTIC_PARTITION,
+                    partitionName, from, to));
+            log.info("Occupy statistic partition for month: [{}] created, rows moved from default: {}", month, moved);
+        });
+    }
+
+    @Override
+    public void dropPartition(@Nonnull YearMonth month) {
+        jdbcTemplate.execute(String.format(TestDataQueries.DROP_TABLE, getPartitionName(month)));
+        log.info("Occupy statistic partition for month: [{}] dropped.", month);
+    }
+
+    @Override
+    public int deleteOccupiedBefore(@Nonnull LocalDate date) {
+        int deleted = jdbcTemplate.update(TestDataQueries.DELETE_OCCUPY_STATISTIC_BEFORE, Date.valueOf(date));
+        log.info("Occupy statistic before: [{}] deleted, rows: {}", date, deleted);
+        return deleted;
+    }
+
+    private String getPartitionName(@Nonnull YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX_FORMATTER);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.tdm.model.statistics.DailyStatisticsItem;
+import org.qubership.atp.tdm.repo.StatisticsDailyRepository;
+import org.qubership.atp.tdm.utils.DataUtils;
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Repository
+public class StatisticsDailyRepositoryImpl implements StatisticsDailyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Constructor for StatisticsDailyRepositoryImpl.
+     */
+    @Autowired
+    public StatisticsDailyRepositoryImpl(@Nonnull JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public void enqueue(@Nonnull Collection<String> tableNames) {
+        if (tableNames.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>();
+        tableNames.forEach(tableName -> args.add(new Object[]{tableName.toLowerCase(), null}));
+        jdbcTemplate.batchUpdate(TestDataQueries.INSERT_STATISTIC_DAILY_QUEUE_ITEM, args,
+                new int[]{Types.VARCHAR, Types.DATE});
+    }
+
+    @Override
+    public void enqueue(@Nonnull String tableName, @Nonnull Collection<LocalDate> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>();
+        days.forEach(day -> args.add(new Object[]{tableName.toLowerCase(), Date.valueOf(day)}));
+        jdbcTemplate.batchUpdate(TestDataQueries.INSERT_STATISTIC_DAILY_QUEUE_ITEM, args);
+    }
+
+    @Nullable
+    @Override
+    public Long getQueueWatermark() {
+        return jdbcTemplate.queryForObject(TestDataQueries.GET_STATISTIC_DAILY_QUEUE_WATERMARK, Long.class);
+    }
+
+    @Override
+    public List<String> getQueuedTables(long watermark) {
+        return jdbcTemplate.queryForList(TestDataQueries.GET_STATISTIC_DAILY_QUEUE_TABLES, String.class, watermark);
+    }
+
+    @Override
+    public Map<String, Set<LocalDate>> getQueuedDays(@Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo) {
+        Map<String, Set<LocalDate>> queuedDays = new HashMap<>();
+        jdbcTemplate.query(TestDataQueries.GET_STATISTIC_DAILY_QUEUE_DAYS_BY_PERIOD, (RowCallbackHandler) resultSet ->
+                queuedDays.computeIfAbsent(resultSet.getString(1), tableName -> new HashSet<>())
+                        .add(resultSet.getDate(2).toLocalDate()), Date.valueOf(dateFrom), Date.valueOf(dateTo));
+        return queuedDays;
+    }
+
+    @Override
+    public Set<String> getRebuildQueuedTables() {
+        return new HashSet<>(jdbcTemplate.queryForList(TestDataQueries.GET_STATISTIC_DAILY_QUEUE_REBUILD_TABLES,
+                String.class));
+    }
+
+    @Override
+    @Transactional
+    public void rollupTable(@Nonnull String tableName, long watermark, @Nonnull LocalDate oldestRetainedDay) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tableName", tableName)
+                .addValue("watermark", watermark);
+        List<LocalDate> days = namedParameterJdbcTemplate.queryForList(TestDataQueries.GET_STATISTIC_DAILY_QUEUE_DAYS,
+                        parameters, Date.class).stream()
+                .map(Date::toLocalDate)
+                .collect(Collectors.toList());
+        Long rebuilds = namedParameterJdbcTemplate.queryForObject(
+                TestDataQueries.GET_STATISTIC_DAILY_QUEUE_REBUILD_COUNT, parameters, Long.class);
+        List<LocalDate> retainedDays = days.stream()
+                .filter(day -> !day.isBefore(oldestRetainedDay))
+                .collect(Collectors.toList());
+        if (!retainedDays.isEmpty()) {
+            MapSqlParameterSource dayParameters = addDays(new MapSqlParameterSource("tableName", tableName),
+                    retainedDays);
+            namedParameterJdbcTemplate.update(TestDataQueries.DELETE_STATISTIC_DAILY_BY_DAYS, dayParameters);
+            namedParameterJdbcTemplate.update(TestDataQueries.INSERT_STATISTIC_DAILY_BY_DAYS, dayParameters);
+        }
+        if (Objects.nonNull(rebuilds) && rebuilds > 0) {
+            rollupAvailable(tableName, null);
+        } else if (!days.isEmpty()) {
+            rollupAvailable(tableName, days);
+        }
+        namedParameterJdbcTemplate.update(TestDataQueries.DELETE_STATISTIC_DAILY_QUEUE_ITEMS, parameters);
+        log.debug("Daily statistics for table: [{}] rolled up, days: {}, rebuilt: {}", tableName, days.size(),
+                rebuilds);
+    }
+
+    /**
+     * Recounts available test data of the given created days, all days are recounted when days are null.
+     */
+    private void rollupAvailable(@Nonnull String tableName, @Nullable List<LocalDate> days) {
+        MapSqlParameterSource parameters = Objects.isNull(days)
+                ? new MapSqlParameterSource("tableName", tableName)
+                : addDays(new MapSqlParameterSource("tableName", tableName), days);
+        namedParameterJdbcTemplate.update(Objects.isNull(days)
+                ? TestDataQueries.DELETE_STATISTIC_AVAILABLE_DAILY_BY_TABLE
+                : TestDataQueries.DELETE_STATISTIC_AVAILABLE_DAILY_BY_DAYS, parameters);
+        Long catalogs = namedParameterJdbcTemplate.queryForObject(
+                TestDataQueries.GET_TEST_DATA_TABLE_CATALOG_COUNT_BY_TABLE, parameters, Long.class);
+        if (Objects.nonNull(catalogs) && catalogs > 0) {
+            DataUtils.checkTableName(tableName);
+            namedParameterJdbcTemplate.update(String.format(Objects.isNull(days)
+                    ? TestDataQueries.INSERT_STATISTIC_AVAILABLE_DAILY_BY_TABLE
+                    : TestDataQueries.INSERT_STATISTIC_AVAILABLE_DAILY_BY_DAYS, tableName), parameters);
+        }
+    }
+
+    /**
+     * Adds days and the range of timestamps they cover, so statistic of the days is looked up by index range.
+     */
+    static MapSqlParameterSource addDays(@Nonnull MapSqlParameterSource parameters,
+                                         @Nonnull Collection<LocalDate> days) {
+        LocalDate firstDay = Collections.min(days);
+        LocalDate lastDay = Collections.max(days);
+        return parameters
+                .addValue("days", days.stream().map(Date::valueOf).collect(Collectors.toList()))
+                .addValue("daysFrom", Timestamp.valueOf(firstDay.atStartOfDay()))
+                .addValue("daysTo", Timestamp.valueOf(lastDay.plusDays(1).atStartOfDay()));
+    }
+
+    @Override
+    public List<DailyStatisticsItem> getDailyStatistics(@Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
+                                                        @Nonnull LocalDate dateTo, @Nonnull String truncUnit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("dateFrom", Date.valueOf(dateFrom))
+                .addValue("dateTo", Date.valueOf(dateTo));
+        return namedParameterJdbcTemplate.query(String.format(TestDataQueries.GET_STATISTIC_DAILY_BY_PROJECT,
+                        truncUnit), parameters,
+                (resultSet, rowNum) -> new DailyStatisticsItem(resultSet.getString(1),
+                        LocalDate.parse(resultSet.getString(2)), resultSet.getLong(3), resultSet.getLong(4),
+                        resultSet.getLong(5)));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.tdm.configuration.InstrumentedDataSource;
+import org.qubership.atp.tdm.model.statistics.CollectedStatistics;
+import org.qubership.atp.tdm.service.QueryProfilerService;
+import org.qubership.atp.tdm.utils.ExecutorUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs per-table statistics queries concurrently. Queries use own bounded connection pool, so a heavy
+ * dashboard can't take connections from request-serving pool. Tables not finished within request timeout
+ * are reported as timed out and their queries are cancelled, tables which query failed are reported as failed.
+ * Both are left out of the results, so a report built from them is partial.
+ */
+@Slf4j
+@Component
+public class StatisticsQueryExecutor {
+
+    private static final String POOL_NAME = "statistics";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService executor;
+    private final long timeoutSec;
+
+    /**
+     * Constructor for StatisticsQueryExecutor.
+     */
+    @Autowired
+    public StatisticsQueryExecutor(@Value("${jdbc.Url}") String url,
+                                   @Value("${jdbc.User}") String user,
+                                   @Value("${jdbc.Password}") String password,
+                                   @Value("${statistics.pool.size:4}") int poolSize,
+                                   @Value("${statistics.request.timeout.sec:60}") long timeoutSec,
+                                   @Nonnull QueryProfilerService queryProfiler) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(POOL_NAME);
+        config.setJdbcUrl(url);
+        config.setUsername(user);
+        config.setPassword(password);
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", "250");
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        config.setMinimumIdle(0);
+        config.setMaximumPoolSize(poolSize);
+        this.dataSource = new HikariDataSource(config);
+        this.jdbcTemplate = new JdbcTemplate(new InstrumentedDataSource(dataSource, queryProfiler));
+        this.jdbcTemplate.setQueryTimeout((int) timeoutSec);
+        this.executor = ExecutorUtils.newFixedThreadPool("statistics-query-%d", poolSize);
+        this.timeoutSec = timeoutSec;
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    /**
+     * Applies query to every source concurrently.
+     *
+     * @param sources - sources of statistics, usually catalog items.
+     * @param query   - statistics query of one source, null result is skipped.
+     * @return results in order of sources, sources not finished within request timeout and sources failed.
+     */
+    public <T, R> CollectedStatistics<T, R> collect(@Nonnull List<T> sources, @Nonnull Function<T, R> query) {
+        List<Callable<R>> tasks = sources.stream()
+                .map(source -> ExecutorUtils.withMdc(() -> query.apply(source)))
+                .collect(Collectors.toList());
+        List<Future<R>> futures;
+        try {
+            futures = executor.invokeAll(tasks, timeoutSec, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Statistics collection was interrupted, sources: {}", sources.size());
+            return new CollectedStatistics<>(Collections.emptyList(), new ArrayList<>(sources),
+                    Collections.emptyList());
+        }
+        List<R> items = new ArrayList<>();
+        List<T> timedOut = new ArrayList<>();
+        List<T> failed = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            Future<R> future = futures.get(i);
+            if (future.isCancelled()) {
+                timedOut.add(sources.get(i));
+                continue;
+            }
+            try {
+                R item = future.get();
+                if (Objects.nonNull(item)) {
+                    items.add(item);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                timedOut.add(sources.get(i));
+            } catch (ExecutionException e) {
+                log.error("Failed to collect statistics of source {} from {}.", i + 1, sources.size(), e.getCause());
+                failed.add(sources.get(i));
+            }
+        }
+        if (!timedOut.isEmpty()) {
+            log.warn("Statistics of {} from {} sources were not collected within {} sec.", timedOut.size(),
+                    sources.size(), timeoutSec);
+        }
+        return new CollectedStatistics<>(items, timedOut, failed);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        dataSource.close();
+    }
+}
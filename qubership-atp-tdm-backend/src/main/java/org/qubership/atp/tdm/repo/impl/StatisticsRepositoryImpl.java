@@ -16,37 +16,53 @@
 
 package org.qubership.atp.tdm.repo.impl;
 
+import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.qubership.atp.tdm.exceptions.internal.TdmStatisticsException;
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.qubership.atp.tdm.model.statistics.CollectedStatistics;
 import org.qubership.atp.tdm.model.statistics.ConsumedStatistics;
 import org.qubership.atp.tdm.model.statistics.ConsumedStatisticsItem;
+import org.qubership.atp.tdm.model.statistics.DailyStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.DateStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatistics;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatisticsInner;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatisticsItem;
+import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
 import org.qubership.atp.tdm.model.statistics.StatisticsItem;
 import org.qubership.atp.tdm.model.statistics.report.StatisticsReport;
+import org.qubership.atp.tdm.model.table.TestDataOccupyReportGroupBy;
 import org.qubership.atp.tdm.repo.ProjectInformationRepository;
+import org.qubership.atp.tdm.repo.StatisticsDailyRepository;
 import org.qubership.atp.tdm.repo.StatisticsRepository;
-import org.qubership.atp.tdm.repo.impl.extractors.ConsumedStatisticsExtractor;
 import org.qubership.atp.tdm.repo.impl.extractors.GeneralStatisticsExtractor;
 import org.qubership.atp.tdm.repo.impl.extractors.OutdatedStatisticsExtractor;
 import org.qubership.atp.tdm.repo.impl.extractors.TestDataExtractorProvider;
+import org.qubership.atp.tdm.service.QueryProfilerService;
 import org.qubership.atp.tdm.utils.DataUtils;
 import org.qubership.atp.tdm.utils.TestDataQueries;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import jakarta.annotation.Nonnull;
@@ -57,10 +73,20 @@ import lombok.extern.slf4j.Slf4j;
 public class StatisticsRepositoryImpl implements StatisticsRepository {
 
     private static final String NA = "N/A";
+    private static final String CONSUMED_STATISTICS_PHASE = "consumed_statistics";
+    private static final String OUTDATED_STATISTICS_PHASE = "outdated_statistics";
+    private static final String CREATED_WHEN_STATISTICS_PHASE = "created_when_statistics";
+    private static final String AVAILABILITY_STATISTICS_PHASE = "availability_statistics";
+    private static final String DAILY_STATISTICS_PHASE = "daily_statistics";
+    private static final String USERS_STATISTICS_PHASE = "users_statistics";
 
     private final JdbcTemplate jdbcTemplate;
     private final TestDataExtractorProvider extractorProvider;
     private final ProjectInformationRepository projectInformationRepository;
+    private final QueryProfilerService queryProfiler;
+    private final StatisticsDailyRepository statisticsDailyRepository;
+    private final StatisticsQueryExecutor statisticsQueryExecutor;
+    private final NamedParameterJdbcTemplate statisticsJdbcTemplate;
 
     /**
      * TestDataRepositoryImpl Constructor.
@@ -68,30 +94,34 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
     @Autowired
     public StatisticsRepositoryImpl(@Nonnull JdbcTemplate jdbcTemplate,
                                     @Nonnull TestDataExtractorProvider extractorProvider,
-                                    @Nonnull ProjectInformationRepository projectInformationRepository) {
+                                    @Nonnull ProjectInformationRepository projectInformationRepository,
+                                    @Nonnull QueryProfilerService queryProfiler,
+                                    @Nonnull StatisticsDailyRepository statisticsDailyRepository,
+                                    @Nonnull StatisticsQueryExecutor statisticsQueryExecutor) {
         this.jdbcTemplate = jdbcTemplate;
         this.extractorProvider = extractorProvider;
         this.projectInformationRepository = projectInformationRepository;
+        this.queryProfiler = queryProfiler;
+        this.statisticsDailyRepository = statisticsDailyRepository;
+        this.statisticsQueryExecutor = statisticsQueryExecutor;
+        this.statisticsJdbcTemplate = new NamedParameterJdbcTemplate(statisticsQueryExecutor.getJdbcTemplate());
     }
 
     @Override
-    public List<GeneralStatisticsItem> getTestDataAvailability(@Nonnull List<TestDataTableCatalog> catalogList,
-                                                               @Nonnull UUID projectId) {
-        List<GeneralStatisticsItem> listStatisticsItems = new ArrayList<>();
+    public CollectedStatistics<TestDataTableCatalog, GeneralStatisticsItem> getTestDataAvailability(
+            @Nonnull List<TestDataTableCatalog> catalogList, @Nonnull UUID projectId) {
         String timeZone = getTimeZone(projectId);
         Map<String, String> timeStampsMap = DataUtils.generateTimeStampDailyRange(timeZone);
-        catalogList.forEach(item -> {
-            GeneralStatisticsItem statisticsItem = getGeneralStatisticsItem(item, timeStampsMap);
-            if (Objects.nonNull(statisticsItem)) {
-                UUID system = item.getSystemId();
-                if (system != null) {
-                    statisticsItem.setSystem(system.toString());
-                }
-                listStatisticsItems.add(statisticsItem);
-            }
-        });
-        listStatisticsItems.sort(Comparator.comparing(GeneralStatisticsItem::getContext));
-        return listStatisticsItems;
+        CollectedStatistics<TestDataTableCatalog, GeneralStatisticsItem> collected =
+                statisticsQueryExecutor.collect(catalogList, item -> {
+                    GeneralStatisticsItem statisticsItem = getGeneralStatisticsItem(item, timeStampsMap);
+                    if (Objects.nonNull(statisticsItem)) {
+                        setSystem(statisticsItem, item.getSystemId());
+                    }
+                    return statisticsItem;
+                });
+        collected.getItems().sort(Comparator.comparing(GeneralStatisticsItem::getContext));
+        return collected;
     }
 
     @Override
@@ -99,97 +129,44 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                                                      @Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
                                                      @Nonnull LocalDate dateTo) {
         ConsumedStatistics consumedStatistics = new ConsumedStatistics();
-        consumedStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
-        List<ConsumedStatisticsItem> listStatisticsItems = new ArrayList<>();
-        occupyStatisticList.forEach(occupyStatisticItem -> {
-            ConsumedStatisticsItem statisticsItem = new ConsumedStatisticsItem(occupyStatisticItem.getTableTitle());
-            ConsumedStatisticsExtractor extractor = extractorProvider.consumedStatisticsExtractor();
-            List<Map<LocalDate, Long>> dbOutput = jdbcTemplate.query(TestDataQueries.GET_TEST_DATA_CONSUMPTION_ITEM,
-                    extractor, occupyStatisticItem.getTableName().toLowerCase(),
-                    dateFrom.toString(), dateTo.toString());
-            List<Long> consumed = calculateStatistic(dbOutput, dateFrom, dateTo, statisticsItem, occupyStatisticItem);
-            statisticsItem.setConsumed(consumed);
-            listStatisticsItems.add(statisticsItem);
-        });
+        StatisticsInterval interval = DataUtils.resolveStatisticsInterval(dateFrom, dateTo);
+        consumedStatistics.setDates(DataUtils.getStatisticsInterval(interval, dateFrom, dateTo));
+        String truncUnit = DataUtils.getStatisticsTruncUnit(interval);
+        Map<String, Set<LocalDate>> queuedDays = statisticsDailyRepository.getQueuedDays(dateFrom, dateTo);
+        Map<String, List<DailyStatisticsItem>> dailyStatistics = getDailyStatistics(projectId, dateFrom, dateTo,
+                truncUnit);
+        CollectedStatistics<TestDataOccupyStatistic, ConsumedStatisticsItem> collected =
+                statisticsQueryExecutor.collect(occupyStatisticList, occupyStatisticItem -> {
+                    ConsumedStatisticsItem statisticsItem =
+                            new ConsumedStatisticsItem(occupyStatisticItem.getTableTitle());
+                    String tableName = occupyStatisticItem.getTableName().toLowerCase();
+                    Map<LocalDate, Long> dbOutput = getTableDailyStatistics(tableName, projectId, dateFrom, dateTo,
+                            truncUnit, dailyStatistics, queuedDays, CONSUMED_STATISTICS_PHASE).stream()
+                            .collect(Collectors.toMap(DailyStatisticsItem::getDay, DailyStatisticsItem::getOccupied));
+                    statisticsItem.setConsumed(calculateStatistic(dbOutput, interval, dateFrom, dateTo,
+                            statisticsItem, occupyStatisticItem));
+                    return statisticsItem;
+                });
+        List<ConsumedStatisticsItem> listStatisticsItems = new ArrayList<>(collected.getItems());
         listStatisticsItems.sort(Comparator.comparing(ConsumedStatisticsItem::getContext));
         consumedStatistics.setItems(listStatisticsItems);
+        consumedStatistics.setIncomplete(collected.isIncomplete());
         return consumedStatistics;
     }
 
-    private List<Long> calculateStatistic(List<Map<LocalDate, Long>> dbOutput, LocalDate dateFrom, LocalDate dateTo,
-                                          StatisticsItem statisticsItem, TestDataOccupyStatistic occupyStatisticItem) {
-        List<Long> consumed = new ArrayList<>();
-        long count;
-        switch (DataUtils.statisticsInterval) {
-            case YEARS:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusYears(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-            case WEEKS:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()
-                                    && dateFrom.getMonth() == entry.getKey().getMonth()
-                                    && (entry.getKey().isEqual(dateFrom) || entry.getKey().isAfter(dateFrom))
-                                    && entry.getKey().isBefore(dateFrom.plusWeeks(1))) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusWeeks(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-            case DAYS:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()
-                                    && dateFrom.getMonth() == entry.getKey().getMonth()
-                                    && dateFrom.getDayOfMonth() == entry.getKey().getDayOfMonth()) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusDays(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-            default:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()
-                                    && dateFrom.getMonth() == entry.getKey().getMonth()) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusMonths(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-        }
-        UUID system = occupyStatisticItem.getSystemId();
+    private List<Long> calculateStatistic(Map<LocalDate, Long> dbOutput, StatisticsInterval interval,
+                                          LocalDate dateFrom, LocalDate dateTo, StatisticsItem statisticsItem,
+                                          TestDataOccupyStatistic occupyStatisticItem) {
+        List<Long> consumed = DataUtils.getStatisticsBuckets(dbOutput.entrySet(), Map.Entry::getKey,
+                Map.Entry::getValue, interval, dateFrom, dateTo);
+        setSystem(statisticsItem, occupyStatisticItem.getSystemId());
+        return consumed;
+    }
+
+    private void setSystem(@Nonnull StatisticsItem statisticsItem, UUID system) {
         if (system != null) {
             statisticsItem.setSystem(system.toString());
         }
-
-        return consumed;
     }
 
     @Override
@@ -197,147 +174,108 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                                                              @Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
                                                              @Nonnull LocalDate dateTo, int expirationDate) {
         OutdatedStatistics outdatedStatistics = new OutdatedStatistics();
-        outdatedStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
-        List<OutdatedStatisticsItem> listStatisticsItems = new ArrayList<>();
-        catalogList.forEach(occupyStatisticItem -> {
-            LocalDate iterDate = dateFrom;
-            OutdatedStatisticsItem statisticsItem = new OutdatedStatisticsItem(occupyStatisticItem.getTableTitle());
-            List<Long> created = new ArrayList<>();
-            List<Long> consumed = new ArrayList<>();
-            List<Long> outdated = new ArrayList<>();
-            List<OutdatedStatisticsInner> dbOutput;
-
-            try {
-                OutdatedStatisticsExtractor extractor = extractorProvider.outdatedStatisticsExtractor();
-                String query = String.format(TestDataQueries.GET_TEST_DATA_OUTDATED_ITEM,
-                        occupyStatisticItem.getTableName().toLowerCase());
-                dbOutput = jdbcTemplate.query(query, extractor, dateFrom.toString(), dateTo.toString(),
-                        occupyStatisticItem.getTableName().toLowerCase(),
-                        occupyStatisticItem.getTableName().toLowerCase(),
-                        dateFrom.plusDays(expirationDate).toString());
-            } catch (Exception e) {
-                log.error(String.format(TdmStatisticsException.DEFAULT_MESSAGE,
-                        occupyStatisticItem.getTableName()), e);
-                throw new TdmStatisticsException(occupyStatisticItem.getTableName());
-            }
-
-            if (Objects.nonNull(dbOutput)) {
-                long countCreated;
-                long countConsumed;
-                long countOutdated;
-                switch (DataUtils.statisticsInterval) {
-                    case YEARS:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusYears(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
-                    case WEEKS:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()
-                                        && iterDate.getMonth() == outdatedStatisticsItem.getDate().getMonth()
-                                        && (outdatedStatisticsItem.getDate().isEqual(iterDate)
-                                        || outdatedStatisticsItem.getDate().isAfter(iterDate))
-                                        && outdatedStatisticsItem.getDate().isBefore(iterDate.plusWeeks(1))) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusWeeks(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
-                    case DAYS:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()
-                                        && iterDate.getMonth() == outdatedStatisticsItem.getDate().getMonth()
-                                        && iterDate.getDayOfMonth() == outdatedStatisticsItem.getDate()
-                                        .getDayOfMonth()) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusDays(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
-                    default:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()
-                                        && iterDate.getMonth() == outdatedStatisticsItem.getDate().getMonth()) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusMonths(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
-                }
-                UUID system = occupyStatisticItem.getSystemId();
-                if (system != null) {
-                    statisticsItem.setSystem(system.toString());
-                }
-                statisticsItem.setCreated(created);
-                statisticsItem.setConsumed(consumed);
-                statisticsItem.setOutdated(outdated);
-                listStatisticsItems.add(statisticsItem);
-            } else {
-                log.warn("Outdated data in table:[{}] not found.", occupyStatisticItem.getTableName());
-            }
-        });
+        StatisticsInterval interval = DataUtils.resolveStatisticsInterval(dateFrom, dateTo);
+        outdatedStatistics.setDates(DataUtils.getStatisticsInterval(interval, dateFrom, dateTo));
+        String truncUnit = DataUtils.getStatisticsTruncUnit(interval);
+        LocalDate yearFrom = dateFrom.withDayOfYear(1);
+        LocalDate yearTo = dateTo.withDayOfYear(dateTo.lengthOfYear());
+        Set<String> rebuildTables = statisticsDailyRepository.getRebuildQueuedTables();
+        Map<String, Set<LocalDate>> queuedDays = statisticsDailyRepository.getQueuedDays(yearFrom, yearTo);
+        Map<String, List<DailyStatisticsItem>> dailyStatistics = getDailyStatistics(projectId, yearFrom, yearTo,
+                "day");
+        LocalDate outdatedFrom = dateFrom.plusDays(expirationDate);
+        CollectedStatistics<TestDataTableCatalog, OutdatedStatisticsItem> collected =
+                statisticsQueryExecutor.collect(catalogList, occupyStatisticItem -> {
+                    List<OutdatedStatisticsInner> dbOutput = getOutdatedStatistics(occupyStatisticItem, projectId,
+                            rebuildTables, queuedDays, dailyStatistics, truncUnit, yearFrom, yearTo, dateFrom,
+                            dateTo, outdatedFrom);
+                    if (Objects.isNull(dbOutput)) {
+                        log.warn("Outdated data in table:[{}] not found.", occupyStatisticItem.getTableName());
+                        return null;
+                    }
+                    OutdatedStatisticsItem statisticsItem =
+                            new OutdatedStatisticsItem(occupyStatisticItem.getTableTitle());
+                    setSystem(statisticsItem, occupyStatisticItem.getSystemId());
+                    statisticsItem.setCreated(DataUtils.getStatisticsBuckets(dbOutput,
+                            OutdatedStatisticsInner::getDate, OutdatedStatisticsInner::getCreated, interval, dateFrom,
+                            dateTo));
+                    statisticsItem.setConsumed(DataUtils.getStatisticsBuckets(dbOutput,
+                            OutdatedStatisticsInner::getDate, OutdatedStatisticsInner::getConsumed, interval, dateFrom,
+                            dateTo));
+                    statisticsItem.setOutdated(DataUtils.getStatisticsBuckets(dbOutput,
+                            OutdatedStatisticsInner::getDate, OutdatedStatisticsInner::getOutdated, interval, dateFrom,
+                            dateTo));
+                    return statisticsItem;
+                });
+        List<OutdatedStatisticsItem> listStatisticsItems = new ArrayList<>(collected.getItems());
         listStatisticsItems.sort(Comparator.comparing(OutdatedStatisticsItem::getContext));
         outdatedStatistics.setItems(listStatisticsItems);
+        outdatedStatistics.setIncomplete(collected.isIncomplete());
         return outdatedStatistics;
     }
 
+    private List<OutdatedStatisticsInner> getOutdatedStatistics(@Nonnull TestDataTableCatalog catalog,
+                                                                @Nonnull UUID projectId,
+                                                                @Nonnull Set<String> rebuildTables,
+                                                                @Nonnull Map<String, Set<LocalDate>> queuedDays,
+                                                                @Nonnull Map<String, List<DailyStatisticsItem>>
+                                                                        dailyStatistics,
+                                                                @Nonnull String truncUnit,
+                                                                @Nonnull LocalDate yearFrom,
+                                                                @Nonnull LocalDate yearTo,
+                                                                @Nonnull LocalDate dateFrom,
+                                                                @Nonnull LocalDate dateTo,
+                                                                @Nonnull LocalDate outdatedFrom) {
+        String tableName = catalog.getTableName().toLowerCase();
+        try {
+            if (rebuildTables.contains(tableName)) {
+                try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(OUTDATED_STATISTICS_PHASE)) {
+                    OutdatedStatisticsExtractor extractor = extractorProvider.outdatedStatisticsExtractor();
+                    String query = String.format(TestDataQueries.GET_TEST_DATA_OUTDATED_ITEM, truncUnit, tableName);
+                    return statisticsQueryExecutor.getJdbcTemplate().query(query, extractor, dateFrom.toString(),
+                            dateTo.toString(), outdatedFrom.toString(), tableName);
+                }
+            }
+            List<DailyStatisticsItem> items = getTableDailyStatistics(tableName, projectId, yearFrom, yearTo, "day",
+                    dailyStatistics, queuedDays, OUTDATED_STATISTICS_PHASE);
+            Map<LocalDate, Long> available = getTableAvailableStatistics(tableName, projectId, yearFrom, yearTo,
+                    items, queuedDays);
+            Map<LocalDate, Long> occupied = items.stream()
+                    .collect(Collectors.toMap(DailyStatisticsItem::getDay, DailyStatisticsItem::getOccupied));
+            Set<LocalDate> days = new HashSet<>(occupied.keySet());
+            days.addAll(available.keySet());
+            return days.stream()
+                    .map(day -> new OutdatedStatisticsInner(day,
+                            day.isBefore(dateTo) ? available.getOrDefault(day, 0L) : 0L,
+                            occupied.getOrDefault(day, 0L),
+                            day.isBefore(outdatedFrom) ? 0L : occupied.getOrDefault(day, 0L)))
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error(String.format(TdmStatisticsException.DEFAULT_MESSAGE, catalog.getTableName()), e);
+            throw new TdmStatisticsException(catalog.getTableName());
+        }
+    }
+
     @Override
     public DateStatistics getTestDataCreatedWhen(@Nonnull List<TestDataOccupyStatistic> occupyStatisticList,
                                                  @Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
                                                  @Nonnull LocalDate dateTo) {
         DateStatistics dateStatistics = new DateStatistics();
-        dateStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
+        StatisticsInterval interval = DataUtils.resolveStatisticsInterval(dateFrom, dateTo);
+        dateStatistics.setDates(DataUtils.getStatisticsInterval(interval, dateFrom, dateTo));
         List<DateStatisticsItem> listStatisticsItems = new ArrayList<>();
+        String truncUnit = DataUtils.getStatisticsTruncUnit(interval);
+        Map<String, Set<LocalDate>> queuedDays = statisticsDailyRepository.getQueuedDays(dateFrom, dateTo);
+        Map<String, List<DailyStatisticsItem>> dailyStatistics = getDailyStatistics(projectId, dateFrom, dateTo,
+                truncUnit);
         occupyStatisticList.forEach(occupyStatisticItem -> {
             DateStatisticsItem statisticsItem = new DateStatisticsItem(occupyStatisticItem.getTableTitle());
-            ConsumedStatisticsExtractor extractor = extractorProvider.consumedStatisticsExtractor();
-            List<Map<LocalDate, Long>> dbOutput = jdbcTemplate.query(TestDataQueries.GET_STATISTIC_CREATED_WHEN,
-                    extractor, occupyStatisticItem.getTableName().toLowerCase(),
-                    dateFrom.toString(), dateTo.toString());
-            List<Long> consumed = calculateStatistic(dbOutput, dateFrom, dateTo, statisticsItem, occupyStatisticItem);
+            String tableName = occupyStatisticItem.getTableName().toLowerCase();
+            Map<LocalDate, Long> dbOutput = getTableDailyStatistics(tableName, projectId, dateFrom, dateTo,
+                    truncUnit, dailyStatistics, queuedDays, CREATED_WHEN_STATISTICS_PHASE).stream()
+                    .collect(Collectors.toMap(DailyStatisticsItem::getDay, DailyStatisticsItem::getCreated));
+            List<Long> consumed = calculateStatistic(dbOutput, interval, dateFrom, dateTo, statisticsItem,
+                    occupyStatisticItem);
             statisticsItem.setCreated(consumed);
             listStatisticsItems.add(statisticsItem);
         });
@@ -379,6 +317,83 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
         return result;
     }
 
+    @Override
+    public void getUsersDailyOccupation(@Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
+                                        @Nonnull Consumer<TestDataOccupyReportGroupBy> consumer) {
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(USERS_STATISTICS_PHASE)) {
+            jdbcTemplate.query(TestDataQueries.GET_OCCUPIED_BY_USERS_DAILY, (RowCallbackHandler) resultSet ->
+                    consumer.accept(new TestDataOccupyReportGroupBy(resultSet.getString(1),
+                            LocalDate.parse(resultSet.getString(3)).atStartOfDay(), resultSet.getString(2),
+                            resultSet.getLong(4))), projectId, Timestamp.valueOf(dateFrom.atStartOfDay()));
+        }
+    }
+
+    private Map<String, List<DailyStatisticsItem>> getDailyStatistics(@Nonnull UUID projectId,
+                                                                      @Nonnull LocalDate dateFrom,
+                                                                      @Nonnull LocalDate dateTo,
+                                                                      @Nonnull String truncUnit) {
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(DAILY_STATISTICS_PHASE)) {
+            return statisticsDailyRepository.getDailyStatistics(projectId, dateFrom, dateTo, truncUnit).stream()
+                    .collect(Collectors.groupingBy(DailyStatisticsItem::getTableName));
+        }
+    }
+
+    /**
+     * Returns rolled up statistics of table, statistics of the queued days are counted from the occupy statistic.
+     * Queued days are read before the rollup, so days rolled up meanwhile are counted once.
+     */
+    private List<DailyStatisticsItem> getTableDailyStatistics(@Nonnull String tableName, @Nonnull UUID projectId,
+                                                              @Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo,
+                                                              @Nonnull String truncUnit,
+                                                              @Nonnull Map<String, List<DailyStatisticsItem>>
+                                                                      dailyStatistics,
+                                                              @Nonnull Map<String, Set<LocalDate>> queuedDays,
+                                                              @Nonnull String phase) {
+        Set<LocalDate> days = queuedDays.get(tableName);
+        if (Objects.isNull(days)) {
+            return dailyStatistics.getOrDefault(tableName, Collections.emptyList());
+        }
+        MapSqlParameterSource parameters = StatisticsDailyRepositoryImpl.addDays(new MapSqlParameterSource()
+                .addValue("tableName", tableName)
+                .addValue("projectId", projectId)
+                .addValue("dateFrom", Date.valueOf(dateFrom))
+                .addValue("dateTo", Date.valueOf(dateTo)), days);
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(phase)) {
+            return statisticsJdbcTemplate.query(String.format(
+                            TestDataQueries.GET_STATISTIC_DAILY_BY_TABLE_AND_QUEUE_DAYS, truncUnit), parameters,
+                    (resultSet, rowNum) -> new DailyStatisticsItem(tableName, LocalDate.parse(resultSet.getString(1)),
+                            resultSet.getLong(2), resultSet.getLong(3), 0L));
+        }
+    }
+
+    /**
+     * Returns available test data of table by created day, test data of the queued days is counted in the table.
+     */
+    private Map<LocalDate, Long> getTableAvailableStatistics(@Nonnull String tableName, @Nonnull UUID projectId,
+                                                             @Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo,
+                                                             @Nonnull List<DailyStatisticsItem> dailyStatistics,
+                                                             @Nonnull Map<String, Set<LocalDate>> queuedDays) {
+        Set<LocalDate> days = queuedDays.get(tableName);
+        if (Objects.isNull(days)) {
+            return dailyStatistics.stream()
+                    .collect(Collectors.toMap(DailyStatisticsItem::getDay, DailyStatisticsItem::getAvailable));
+        }
+        DataUtils.checkTableName(tableName);
+        MapSqlParameterSource parameters = StatisticsDailyRepositoryImpl.addDays(new MapSqlParameterSource()
+                .addValue("tableName", tableName)
+                .addValue("projectId", projectId)
+                .addValue("dateFrom", Date.valueOf(dateFrom))
+                .addValue("dateTo", Date.valueOf(dateTo)), days);
+        Map<LocalDate, Long> available = new HashMap<>();
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(AVAILABILITY_STATISTICS_PHASE)) {
+            statisticsJdbcTemplate.query(String.format(
+                            TestDataQueries.GET_STATISTIC_AVAILABLE_DAILY_BY_TABLE_AND_QUEUE_DAYS, tableName),
+                    parameters, (RowCallbackHandler) resultSet ->
+                            available.put(resultSet.getDate(1).toLocalDate(), resultSet.getLong(2)));
+        }
+        return available;
+    }
+
     private String getTimeZone(UUID projectId) {
         return projectInformationRepository
                 .getProjectInformationTableByProjectId(projectId).getTimeZone();
@@ -386,11 +401,12 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
 
     private GeneralStatisticsItem getGeneralStatisticsItem(TestDataTableCatalog item, Map<String, String> map) {
         GeneralStatisticsExtractor extractor = extractorProvider.generalStatisticsExtractor(item.getTableTitle());
-        GeneralStatisticsItem statisticsItem = jdbcTemplate.query(
-                String.format(TestDataQueries.GET_TEST_DATA_AVAILABILITY_ITEM,
-                        item.getTableName().toLowerCase(), item.getTableName().toLowerCase(),
-                        item.getTableName().toLowerCase(), map.get("startTimeStamp"),
-                        map.get("endTimeStamp"), item.getTableName().toLowerCase()), extractor);
-        return statisticsItem;
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(AVAILABILITY_STATISTICS_PHASE)) {
+            return statisticsQueryExecutor.getJdbcTemplate().query(
+                    String.format(TestDataQueries.GET_TEST_DATA_AVAILABILITY_ITEM,
+                            item.getTableName().toLowerCase(), item.getTableName().toLowerCase(),
+                            item.getTableName().toLowerCase(), map.get("startTimeStamp"),
+                            map.get("endTimeStamp"), item.getTableName().toLowerCase()), extractor);
+        }
     }
 }
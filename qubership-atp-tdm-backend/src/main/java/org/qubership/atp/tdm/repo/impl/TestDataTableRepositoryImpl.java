@@ -30,7 +30,6 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -39,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -75,19 +75,23 @@ import org.qubership.atp.tdm.model.QueryInfo;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.TestDataTableImportInfo;
 import org.qubership.atp.tdm.model.cleanup.TestDataCleanupConfig;
+import org.qubership.atp.tdm.model.statistics.available.AvailableDataDelta;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.model.table.conditions.factories.SearchConditionFactory;
 import org.qubership.atp.tdm.model.table.conditions.search.SearchCondition;
+import org.qubership.atp.tdm.repo.AvailableDataCounterRepository;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.CleanupConfigRepository;
 import org.qubership.atp.tdm.repo.ImportInfoRepository;
 import org.qubership.atp.tdm.repo.SqlRepository;
+import org.qubership.atp.tdm.repo.StatisticsDailyRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
 import org.qubership.atp.tdm.repo.impl.extractors.TestDataExtractorProvider;
 import org.qubership.atp.tdm.repo.impl.loader.TestDataExcelLoader;
+import org.qubership.atp.tdm.service.QueryProfilerService;
 import org.qubership.atp.tdm.utils.DataUtils;
 import org.qubership.atp.tdm.utils.QueryEvaluator;
 import org.qubership.atp.tdm.utils.TestDataQueries;
@@ -128,6 +132,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     private static final Pattern INDEX_COLUMN_PATTERN = Pattern.compile("\\$\\{'([^']+)'}");
     private static final Integer UPDATE_TEST_DATA_LIMIT = 100;
     private static final String EXCEL_IMPORT_FILE_MASK = "ExcelForImport_%s.xlsx";
+    private static final String DATA_QUERY_PHASE = "data_query";
+    private static final String DISTINCT_COUNT_PHASE = "distinct_count";
 
     private final JdbcTemplate jdbcTemplate;
     private final PlatformTransactionManager transactionManager;
@@ -140,6 +146,9 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     private final CatalogRepository catalogRepository;
     private final CleanupConfigRepository cleanupConfigRepository;
     private final LockManager lockManager;
+    private final QueryProfilerService queryProfiler;
+    private final AvailableDataCounterRepository availableDataCounterRepository;
+    private final StatisticsDailyRepository statisticsDailyRepository;
     private final Encoder esapiEncoder = DefaultEncoder.getInstance();
     private final OracleCodec oracleCodec = new OracleCodec();
     private ConcurrentHashMap<String, String> cacheLastUsageTable = new ConcurrentHashMap<>();
@@ -160,7 +169,10 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                                        @Nonnull QueryEvaluator queryEvaluator,
                                        @Nonnull CatalogRepository catalogRepository,
                                        @Nonnull CleanupConfigRepository cleanupConfigRepository,
-                                       @Nonnull LockManager lockManager) {
+                                       @Nonnull LockManager lockManager,
+                                       @Nonnull QueryProfilerService queryProfiler,
+                                       @Nonnull AvailableDataCounterRepository availableDataCounterRepository,
+                                       @Nonnull StatisticsDailyRepository statisticsDailyRepository) {
         this.jdbcTemplate = jdbcTemplate;
         this.transactionManager = transactionManager;
         this.sqlRepository = sqlRepository;
@@ -171,6 +183,9 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         this.catalogRepository = catalogRepository;
         this.cleanupConfigRepository = cleanupConfigRepository;
         this.lockManager = lockManager;
+        this.queryProfiler = queryProfiler;
+        this.availableDataCounterRepository = availableDataCounterRepository;
+        this.statisticsDailyRepository = statisticsDailyRepository;
     }
 
     @Override
@@ -341,6 +356,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                 log.error(message, e);
                 statistic.setError(message + ". " + e.getMessage());
             }
+            availableDataCounterRepository.invalidate(tableName);
+            statisticsDailyRepository.enqueue(Collections.singletonList(tableName));
             log.info("The update completed successfully.");
             return statistic;
         } else {
@@ -408,7 +425,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         TestDataTable table;
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
 
-        try {
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(DATA_QUERY_PHASE)) {
             log.debug("Start DB query.");
             table = jdbcTemplate.query(queryInfo.getQuery().toString(),
                     extractorProvider.simpleExtractor(sanitizedTableName, queryInfo.getCountQuery().toString(),
@@ -441,9 +458,11 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         }
         QueryInfo queryInfo = queryInfoBuilder.build();
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
-        return jdbcTemplate.query(queryInfo.getQuery().toString(),
-                extractorProvider.simpleExtractor(sanitizedTableName, queryInfo.getCountQuery().toString(),
-                        TestDataType.ALL, null));
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(DATA_QUERY_PHASE)) {
+            return jdbcTemplate.query(queryInfo.getQuery().toString(),
+                    extractorProvider.simpleExtractor(sanitizedTableName, queryInfo.getCountQuery().toString(),
+                            TestDataType.ALL, null));
+        }
     }
 
     @Override
@@ -456,7 +475,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         }
         QueryInfo queryInfo = queryInfoBuilder.build();
         TestDataTable table;
-        try {
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(DATA_QUERY_PHASE)) {
             log.debug("Start DB query.");
             table = jdbcTemplate.query(queryInfo.getQuery().toString(),
                     extractorProvider.multipleExtractor(tableName, TestDataType.AVAILABLE));
@@ -477,21 +496,45 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     }
 
     @Override
-    public File getTestDataTableAsExcel(@Nonnull String tableName, @Nullable Integer offset,
-                                        @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters) {
-        QueryInfo queryInfo = QueryInfo.newBuilder(tableName, TestDataType.ALL).build();
-        updateLastUsage(tableName);
-        return jdbcTemplate.query(queryInfo.getQuery().toString(), extractorProvider.fileExtractor(tableName,
-                ExportFileType.EXCEL));
+    public File getTestDataTableAsExcel(@Nonnull String tableName, @Nonnull TestDataType testDataType,
+                                        @Nullable List<String> columnNames,
+                                        @Nullable List<TestDataTableFilter> filters,
+                                        @Nullable TestDataTableOrder order) {
+        return getTestDataTableAsFile(tableName, testDataType, columnNames, filters, order, ExportFileType.EXCEL);
     }
 
     @Override
-    public File getTestDataTableAsCsv(@Nonnull String tableName, @Nullable Integer offset,
-                                      @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters) {
-        QueryInfo queryInfo = QueryInfo.newBuilder(tableName, TestDataType.ALL).build();
+    public File getTestDataTableAsCsv(@Nonnull String tableName, @Nonnull TestDataType testDataType,
+                                      @Nullable List<String> columnNames,
+                                      @Nullable List<TestDataTableFilter> filters,
+                                      @Nullable TestDataTableOrder order) {
+        return getTestDataTableAsFile(tableName, testDataType, columnNames, filters, order, ExportFileType.CSV);
+    }
+
+    private File getTestDataTableAsFile(@Nonnull String tableName, @Nonnull TestDataType testDataType,
+                                        @Nullable List<String> columnNames,
+                                        @Nullable List<TestDataTableFilter> filters,
+                                        @Nullable TestDataTableOrder order, @Nonnull ExportFileType fileType) {
+        DataUtils.checkTableName(tableName);
+        QueryInfo.Builder queryInfoBuilder;
+        if (Objects.nonNull(columnNames) && !columnNames.isEmpty()) {
+            columnNames.forEach(DataUtils::checkColumnName);
+            queryInfoBuilder = QueryInfo.newBuilder(tableName, columnNames, testDataType);
+        } else {
+            queryInfoBuilder = QueryInfo.newBuilder(tableName, testDataType);
+        }
+        if (Objects.nonNull(filters)) {
+            filters.forEach(filter -> DataUtils.checkColumnName(filter.getColumn()));
+            queryInfoBuilder.setFilters(filters);
+        }
+        if (Objects.nonNull(order)) {
+            DataUtils.checkColumnName(order.getColumnName());
+            queryInfoBuilder.setOrder(order);
+        }
+        QueryInfo queryInfo = queryInfoBuilder.build();
         updateLastUsage(tableName);
         return jdbcTemplate.query(queryInfo.getQuery().toString(), extractorProvider.fileExtractor(tableName,
-                ExportFileType.CSV));
+                fileType));
     }
 
     @Override
@@ -533,22 +576,43 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
             log.info("Saving test data. Processing rows. Table name: [{}]", tableName);
         }
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
-        jdbcTemplate.batchUpdate(TestDataUtils.generateInsertTemplate(sanitizedTableName, sanitizedColumns,
-                        systemColumnsExists),
-                rows,
-                Math.min(rows.size(), 100),
-                (PreparedStatement ps, Map<String, Object> row) -> {
-                    for (int ind = 1; ind <= columns.size(); ind++) {
-                        Object rowValue = row.get(columns.get(ind - 1));
-                        if (rowValue instanceof String && !rowValue.equals("null")) {
-                            ps.setObject(ind, String.valueOf(rowValue));
-                        } else if (!(rowValue instanceof String) && rowValue != null) {
-                            ps.setObject(ind, TestDataUtils.convertToJsonString(rowValue));
-                        } else {
-                            ps.setObject(ind, "");
+        List<String> trackedColumns = systemColumnsExists
+                ? Collections.emptyList()
+                : availableDataCounterRepository.getTrackedColumns(sanitizedTableName);
+        AvailableDataDelta delta = new AvailableDataDelta();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(TestDataUtils.generateInsertTemplate(sanitizedTableName, sanitizedColumns,
+                            systemColumnsExists),
+                    rows,
+                    Math.min(rows.size(), 100),
+                    (PreparedStatement ps, Map<String, Object> row) -> {
+                        for (int ind = 1; ind <= columns.size(); ind++) {
+                            Object rowValue = row.get(columns.get(ind - 1));
+                            String value;
+                            if (rowValue instanceof String && !rowValue.equals("null")) {
+                                value = String.valueOf(rowValue);
+                            } else if (!(rowValue instanceof String) && rowValue != null) {
+                                value = TestDataUtils.convertToJsonString(rowValue);
+                            } else {
+                                value = "";
+                            }
+                            ps.setObject(ind, value);
+                            if (trackedColumns.contains(sanitizedColumns.get(ind - 1))) {
+                                delta.add(sanitizedColumns.get(ind - 1), value, 1);
+                            }
                         }
-                    }
-                });
+                    });
+            if (systemColumnsExists) {
+                availableDataCounterRepository.invalidate(sanitizedTableName);
+            } else {
+                availableDataCounterRepository.applyDelta(sanitizedTableName, delta);
+            }
+        });
+        if (systemColumnsExists) {
+            statisticsDailyRepository.enqueue(Collections.singletonList(sanitizedTableName));
+        } else {
+            statisticsDailyRepository.enqueue(sanitizedTableName, Collections.singletonList(LocalDate.now()));
+        }
         if (!skipSchemaUpdate) {
             log.info("Test data table saved.");
         }
@@ -575,8 +639,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
 
         try {
-            int updatedRowsCount = namedParameterJdbcTemplate.update(
-                    format(TestDataQueries.OCCUPY_TEST_DATA, sanitizedTableName, date), parameters);
+            int updatedRowsCount = availableDataCounterRepository.updateCounting(sanitizedTableName,
+                    format(TestDataQueries.OCCUPY_TEST_DATA, sanitizedTableName, date), parameters, true, -1);
             if (updatedRowsCount == 0) {
                 throw new TdmTestDataOccupiedException();
             }
@@ -595,7 +659,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         MapSqlParameterSource parameters = new MapSqlParameterSource();
         parameters.addValue("ids", rows);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
-        namedParameterJdbcTemplate.update(format(TestDataQueries.RELEASE_TEST_DATA, sanitizedTableName), parameters);
+        availableDataCounterRepository.updateCounting(sanitizedTableName,
+                format(TestDataQueries.RELEASE_TEST_DATA, sanitizedTableName), parameters, false, 1);
         updateLastUsage(sanitizedTableName);
     }
 
@@ -619,7 +684,10 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         for (String key : dataForUpdate.keySet()) {
             query.addCustomSetClause(new CustomSql("\"" + key + "\""), dataForUpdate.get(key));
         }
-        return jdbcTemplate.update(query.toString());
+        int updated = jdbcTemplate.update(query.toString());
+        invalidateUpdatedColumns(tableName, dataForUpdate.keySet());
+        enqueueIfStatisticColumnsUpdated(tableName, dataForUpdate.keySet());
+        return updated;
     }
 
     @Override
@@ -633,7 +701,10 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
             query.addCustomSetClause(new CustomSql("\"" + key + "\""),
                     new CustomExpression("CONCAT(" + "\"" + key + "\",'\r\n" + dataForUpdate.get(key) + "')"));
         }
-        return jdbcTemplate.update(query.toString());
+        int updated = jdbcTemplate.update(query.toString());
+        invalidateUpdatedColumns(tableName, dataForUpdate.keySet());
+        enqueueIfStatisticColumnsUpdated(tableName, dataForUpdate.keySet());
+        return updated;
     }
 
     @Override
@@ -643,7 +714,9 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         DataUtils.checkColumnName(tableName);
         parameters.addValue("ids", rows);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
-        namedParameterJdbcTemplate.update(format(TestDataQueries.DELETE_ROWS_BY_ID, sanitizedTableName), parameters);
+        availableDataCounterRepository.updateCounting(sanitizedTableName,
+                format(TestDataQueries.DELETE_ROWS_BY_ID, sanitizedTableName), parameters, false, -1);
+        statisticsDailyRepository.enqueue(Collections.singletonList(sanitizedTableName));
     }
 
     @Override
@@ -651,7 +724,10 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         log.info("Deleting all rows from table with name: [{}]", tableName);
         DataUtils.checkColumnName(tableName);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
-        jdbcTemplate.execute(format(TestDataQueries.DELETE_ALL_TABLE_ROWS, sanitizedTableName));
+        availableDataCounterRepository.updateCounting(sanitizedTableName,
+                format(TestDataQueries.DELETE_ALL_TABLE_ROWS, sanitizedTableName), new MapSqlParameterSource(),
+                false, -1);
+        statisticsDailyRepository.enqueue(Collections.singletonList(sanitizedTableName));
     }
 
     @Override
@@ -659,7 +735,11 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         log.info("Deleting rows from table with name [{}] by date", tableName);
         DataUtils.checkColumnName(tableName);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
-        return jdbcTemplate.update(format(TestDataQueries.DELETE_ROWS_BY_DATE, sanitizedTableName, date));
+        int deleted = availableDataCounterRepository.updateCounting(sanitizedTableName,
+                format(TestDataQueries.DELETE_ROWS_BY_DATE, sanitizedTableName, date), new MapSqlParameterSource(),
+                false, -1);
+        statisticsDailyRepository.enqueue(Collections.singletonList(sanitizedTableName));
+        return deleted;
     }
 
     @Override
@@ -674,7 +754,10 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         log.info("Deleting unoccupied rows from table with name: [{}]", tableName);
         DataUtils.checkColumnName(tableName);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
-        jdbcTemplate.execute(format(TestDataQueries.DELETE_UNOCCUPIED_ROWS, sanitizedTableName));
+        availableDataCounterRepository.updateCounting(sanitizedTableName,
+                format(TestDataQueries.DELETE_UNOCCUPIED_ROWS, sanitizedTableName), new MapSqlParameterSource(),
+                false, -1);
+        statisticsDailyRepository.enqueue(Collections.singletonList(sanitizedTableName));
     }
 
     @Override
@@ -700,6 +783,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         DataUtils.checkTableName(tableName);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
         jdbcTemplate.execute(format(TestDataQueries.DROP_TABLE, sanitizedTableName));
+        availableDataCounterRepository.remove(sanitizedTableName);
+        statisticsDailyRepository.enqueue(Collections.singletonList(sanitizedTableName));
     }
 
     @Override
@@ -708,6 +793,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         DataUtils.checkTableName(tableName);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
         jdbcTemplate.execute(format(TestDataQueries.TRUNCATE_TABLE, sanitizedTableName));
+        availableDataCounterRepository.invalidate(sanitizedTableName);
+        statisticsDailyRepository.enqueue(Collections.singletonList(sanitizedTableName));
     }
 
     @Override
@@ -744,6 +831,13 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     @Override
     public int getColumnDistinctValuesCount(@Nonnull String tableName, @Nonnull String columnName,
                                             String columnType, Boolean occupied) {
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(DISTINCT_COUNT_PHASE)) {
+            return countColumnDistinctValues(tableName, columnName, columnType, occupied);
+        }
+    }
+
+    private int countColumnDistinctValues(@Nonnull String tableName, @Nonnull String columnName,
+                                          String columnType, Boolean occupied) {
         DataUtils.checkColumnName(columnName);
         DataUtils.checkTableName(tableName);
         String sanitizedTableName = esapiEncoder.encodeForSQL(oracleCodec, tableName);
@@ -775,26 +869,21 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     }
 
     /**
-     * Get table by created date.
+     * Get count of rows created per period.
      *
      * @param tableName - table name.
      * @param dateFrom  - beginning date.
      * @param dateTo    - ending date.
-     * @return - table.
+     * @param truncUnit - date_trunc unit of period.
+     * @return - count of rows by period start.
      */
-    public TestDataTable getTableByCreatedWhen(@Nonnull String tableName, @Nonnull LocalDate dateFrom,
-                                               @Nonnull LocalDate dateTo) {
+    @Override
+    public Map<LocalDate, Long> getCreatedWhenStatistics(@Nonnull String tableName, @Nonnull LocalDate dateFrom,
+                                                         @Nonnull LocalDate dateTo, @Nonnull String truncUnit) {
         DataUtils.checkTableName(tableName);
-        List<TestDataTableFilter> filters = new ArrayList<>();
-        TestDataTableFilter filterFrom = new TestDataTableFilter("CREATED_WHEN", "From",
-                Collections.singletonList(
-                        dateFrom.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))), false);
-        TestDataTableFilter filterTo = new TestDataTableFilter("CREATED_WHEN", "To",
-                Collections.singletonList(
-                        dateTo.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))), false);
-        filters.add(filterFrom);
-        filters.add(filterTo);
-        return getTestData(tableName, TestDataType.ALL, null, null, filters, null);
+        String query = format(TestDataQueries.GET_TEST_DATA_CREATED_WHEN_ITEM, truncUnit, tableName);
+        return jdbcTemplate.query(query, extractorProvider.consumedStatisticsExtractor(),
+                dateFrom + " 00:00:00", dateTo + " 23:59:59");
     }
 
     @Override
@@ -826,6 +915,30 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         }
     }
 
+    /**
+     * Counters of the updated tracked columns are stale, all of them are stale when "SELECTED" is updated.
+     */
+    private void invalidateUpdatedColumns(@Nonnull String tableName, @Nonnull Set<String> columns) {
+        if (columns.stream().anyMatch(SystemColumns.SELECTED.getName()::equalsIgnoreCase)) {
+            availableDataCounterRepository.invalidate(tableName);
+        } else {
+            availableDataCounterRepository.invalidate(tableName, columns);
+        }
+    }
+
+    /**
+     * Daily statistics are counted by "SELECTED" and "CREATED_WHEN" columns only,
+     * update of other columns doesn't change them.
+     */
+    private void enqueueIfStatisticColumnsUpdated(@Nonnull String tableName, @Nonnull Set<String> columns) {
+        boolean statisticColumnsUpdated = columns.stream()
+                .anyMatch(column -> SystemColumns.SELECTED.getName().equalsIgnoreCase(column)
+                        || SystemColumns.CREATED_WHEN.getName().equalsIgnoreCase(column));
+        if (statisticColumnsUpdated) {
+            statisticsDailyRepository.enqueue(Collections.singletonList(tableName));
+        }
+    }
+
     private void setWhereCondition(UpdateQuery query, List<TestDataTableFilter> filters) {
         for (TestDataTableFilter filter : filters) {
             SearchCondition searchCondition = SearchConditionFactory.getCondition(filter.getSearchCondition(),
@@ -19,28 +19,22 @@ package org.qubership.atp.tdm.repo.impl.extractors;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.ResultSetExtractor;
 
-public class ConsumedStatisticsExtractor implements ResultSetExtractor<List<Map<LocalDate, Long>>> {
+public class ConsumedStatisticsExtractor implements ResultSetExtractor<Map<LocalDate, Long>> {
 
     ConsumedStatisticsExtractor() {
     }
 
     @Override
-    public List<Map<LocalDate, Long>> extractData(ResultSet resultSet) throws SQLException, DataAccessException {
-        List<Map<LocalDate, Long>> consumedStatisticsItem = new ArrayList<>();
+    public Map<LocalDate, Long> extractData(ResultSet resultSet) throws SQLException, DataAccessException {
+        Map<LocalDate, Long> consumedStatisticsItem = new HashMap<>();
         while (resultSet.next()) {
-            consumedStatisticsItem.add(new HashMap<LocalDate, Long>() {
-                {
-                    put(LocalDate.parse(resultSet.getString(1)), resultSet.getLong(2));
-                }
-            });
+            consumedStatisticsItem.merge(LocalDate.parse(resultSet.getString(1)), resultSet.getLong(2), Long::sum);
         }
         return consumedStatisticsItem;
     }
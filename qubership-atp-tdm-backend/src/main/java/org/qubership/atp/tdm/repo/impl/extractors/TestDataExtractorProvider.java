@@ -20,6 +20,7 @@ import org.qubership.atp.tdm.model.ExportFileType;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.service.ColumnService;
+import org.qubership.atp.tdm.service.QueryProfilerService;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
@@ -33,16 +34,17 @@ public class TestDataExtractorProvider {
 
     private final JdbcTemplate jdbcTemplate;
     private final ColumnService columnService;
+    private final QueryProfilerService queryProfiler;
 
     public TestDataTableExtractor simpleExtractor(@Nonnull String tableName, @Nonnull String countQuery) {
-        return new TestDataTableExtractor(columnService, jdbcTemplate, tableName, countQuery);
+        return new TestDataTableExtractor(columnService, jdbcTemplate, queryProfiler, tableName, countQuery);
     }
 
     public TestDataTableExtractor simpleExtractor(@Nonnull String tableName, @Nonnull String countQuery,
                                                   @Nonnull TestDataType testDataType,
                                                   @Nullable TestDataTableOrder testDataTableOrder) {
-        return new TestDataTableExtractor(columnService, jdbcTemplate, tableName, countQuery, testDataType,
-                testDataTableOrder);
+        return new TestDataTableExtractor(columnService, jdbcTemplate, queryProfiler, tableName, countQuery,
+                testDataType, testDataTableOrder);
     }
 
     public TestDataTableMultipleExtractor multipleExtractor(@Nonnull String tableName,
@@ -50,8 +52,9 @@ public class TestDataExtractorProvider {
         return new TestDataTableMultipleExtractor(columnService, tableName, testDataType);
     }
 
-    public TestDataTableAsFileExtractor fileExtractor(@Nonnull String tableName, ExportFileType exportFileType) {
-        return new TestDataTableAsFileExtractor(columnService, tableName, exportFileType);
+    public TestDataTableAsFileExtractor fileExtractor(@Nonnull String tableName,
+                                                      @Nonnull ExportFileType exportFileType) {
+        return new TestDataTableAsFileExtractor(tableName, exportFileType);
     }
 
     public GeneralStatisticsExtractor generalStatisticsExtractor(@Nonnull String tableTitle) {
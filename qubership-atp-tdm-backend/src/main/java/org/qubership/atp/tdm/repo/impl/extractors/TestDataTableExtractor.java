@@ -30,6 +30,7 @@ import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
 import org.qubership.atp.tdm.service.ColumnService;
+import org.qubership.atp.tdm.service.QueryProfilerService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
@@ -41,25 +42,33 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TestDataTableExtractor implements ResultSetExtractor<TestDataTable> {
 
+    private static final String COLUMNS_PHASE = "columns";
+    private static final String ROWS_PHASE = "rows";
+    private static final String COUNT_PHASE = "count";
+
     private final ColumnService columnService;
     private final JdbcTemplate jdbcTemplate;
+    private final QueryProfilerService queryProfiler;
     private final String tableName;
     private final String countQuery;
     private TestDataType testDataType;
     private TestDataTableOrder testDataTableOrder;
 
     TestDataTableExtractor(@Nonnull ColumnService columnService, @Nonnull JdbcTemplate jdbcTemplate,
-                           @Nonnull String tableName, @Nonnull String countQuery, @Nonnull TestDataType testDataType,
+                           @Nonnull QueryProfilerService queryProfiler, @Nonnull String tableName,
+                           @Nonnull String countQuery, @Nonnull TestDataType testDataType,
                            @Nullable TestDataTableOrder testDataTableOrder) {
-        this(columnService, jdbcTemplate, tableName, countQuery);
+        this(columnService, jdbcTemplate, queryProfiler, tableName, countQuery);
         this.testDataType = testDataType;
         this.testDataTableOrder = testDataTableOrder;
     }
 
     TestDataTableExtractor(@Nonnull ColumnService columnService, @Nonnull JdbcTemplate jdbcTemplate,
-                           @Nonnull String tableName, @Nonnull String countQuery) {
+                           @Nonnull QueryProfilerService queryProfiler, @Nonnull String tableName,
+                           @Nonnull String countQuery) {
         this.columnService = columnService;
         this.jdbcTemplate = jdbcTemplate;
+        this.queryProfiler = queryProfiler;
         this.tableName = tableName;
         this.countQuery = countQuery;
     }
@@ -68,19 +77,26 @@ public class TestDataTableExtractor implements ResultSetExtractor<TestDataTable>
     public TestDataTable extractData(@Nonnull ResultSet resultSet) throws SQLException, DataAccessException {
         log.debug("ExtractData Start");
         TestDataTable testDataTable = new TestDataTable();
-        List<TestDataTableColumn> columns = getColumns(resultSet, testDataType, testDataTableOrder);
+        List<TestDataTableColumn> columns;
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(COLUMNS_PHASE)) {
+            columns = getColumns(resultSet, testDataType, testDataTableOrder);
+        }
         testDataTable.setColumns(columns);
         List<Map<String, Object>> rows = new ArrayList<>();
-        while (resultSet.next()) {
-            Map<String, Object> row = new HashMap<>();
-            for (TestDataTableColumn column : columns) {
-                String columnName = column.getIdentity().getColumnName();
-                row.put(columnName, formatColumn(resultSet.getObject(columnName)));
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(ROWS_PHASE)) {
+            while (resultSet.next()) {
+                Map<String, Object> row = new HashMap<>();
+                for (TestDataTableColumn column : columns) {
+                    String columnName = column.getIdentity().getColumnName();
+                    row.put(columnName, formatColumn(resultSet.getObject(columnName)));
+                }
+                rows.add(row);
             }
-            rows.add(row);
         }
         testDataTable.setData(rows);
-        testDataTable.setRecords(count(countQuery));
+        try (QueryProfilerService.Phase ignored = queryProfiler.startPhase(COUNT_PHASE)) {
+            testDataTable.setRecords(count(countQuery));
+        }
         log.debug("ExtractData Finish");
         return testDataTable;
     }
@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service;
+
+import java.io.File;
+import java.util.UUID;
+
+import org.qubership.atp.tdm.model.archive.ArchiveExportJob;
+import org.qubership.atp.tdm.model.archive.ArchiveExportRequest;
+
+import jakarta.annotation.Nonnull;
+
+public interface ArchiveExportService {
+
+    ArchiveExportJob startExport(@Nonnull UUID projectId, @Nonnull ArchiveExportRequest request);
+
+    ArchiveExportJob getJob(@Nonnull UUID projectId, @Nonnull UUID jobId);
+
+    ArchiveExportJob resumeExport(@Nonnull UUID projectId, @Nonnull UUID jobId);
+
+    File getArchive(@Nonnull UUID projectId, @Nonnull UUID jobId);
+}
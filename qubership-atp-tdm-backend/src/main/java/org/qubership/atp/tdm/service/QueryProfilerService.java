@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import org.qubership.atp.tdm.model.statistics.SlowQueryStatistic;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+public interface QueryProfilerService {
+
+    /**
+     * Start named phase of the current thread. Statements executed until the phase is closed
+     * are attributed to it, phase duration is recorded on close.
+     */
+    Phase startPhase(@Nonnull String name);
+
+    /**
+     * Checks whether parameters of the prepared statement have to be captured to explain it.
+     */
+    boolean isParametersCaptureRequired(@Nonnull String sql);
+
+    /**
+     * Record executed statement. Statements slower than threshold are logged with their plan.
+     *
+     * @param sql        executed SQL.
+     * @param parameters captured parameters of prepared statement by index, used to explain the statement.
+     * @param connection connection the statement was executed by.
+     * @param elapsedNanos execution time.
+     */
+    void recordStatement(@Nonnull String sql, @Nullable Map<Integer, Object> parameters,
+                         @Nonnull Connection connection, long elapsedNanos);
+
+    List<SlowQueryStatistic> getSlowQueries(int limit);
+
+    interface Phase extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -26,6 +26,7 @@ import java.util.UUID;
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.statistics.AvailableDataStatisticsConfig;
+import org.qubership.atp.tdm.model.statistics.CollectedStatistics;
 import org.qubership.atp.tdm.model.statistics.ConsumedStatistics;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
@@ -46,7 +47,8 @@ public interface StatisticsService {
 
     int getThreshold();
 
-    List<GeneralStatisticsItem> getTestDataAvailability(@Nonnull UUID projectId, @Nullable UUID systemId);
+    CollectedStatistics<TestDataTableCatalog, GeneralStatisticsItem> getTestDataAvailability(
+            @Nonnull UUID projectId, @Nullable UUID systemId);
 
     ConsumedStatistics getTestDataConsumption(@Nonnull UUID projectId, @Nullable UUID systemId,
                                               @Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo);
@@ -80,8 +82,22 @@ public interface StatisticsService {
 
     void saveOccupyStatistic(@Nonnull TestDataOccupyStatistic testDataOccupyStatistic);
 
+    void saveOccupyStatistics(@Nonnull List<TestDataOccupyStatistic> statistics);
+
     void deleteAllOccupyStatisticByRowId(@Nonnull List<UUID> rows);
 
+    void rollupDailyStatistics();
+
+    /**
+     * Recounts available data counters to fix the drift of incremental updates.
+     */
+    void reconcileAvailableDataCounters();
+
+    /**
+     * Creates occupy statistic partitions for upcoming months and drops partitions older than retention.
+     */
+    void maintainOccupyStatisticPartitions();
+
     void fillCreatedWhenStatistics(@Nonnull String tableName, @Nonnull TestDataTableCatalog catalog);
 
     void fillCreatedWhenStatistics(@Nonnull String tableName, @Nonnull TestDataTableCatalog catalog,
@@ -27,6 +27,7 @@ import org.qubership.atp.tdm.model.ColumnValues;
 import org.qubership.atp.tdm.model.DropResults;
 import org.qubership.atp.tdm.model.EnvsList;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
+import org.qubership.atp.tdm.model.TestDataExportRequest;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.ei.TdmDataToExport;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
@@ -79,6 +80,10 @@ public interface TestDataService {
 
     File getTestDataTableAsCsvFile(@Nonnull String tableName) throws IOException;
 
+    File getTestDataTableAsExcelFile(@Nonnull TestDataExportRequest exportRequest) throws IOException;
+
+    File getTestDataTableAsCsvFile(@Nonnull TestDataExportRequest exportRequest) throws IOException;
+
     String getPreviewLink(@Nonnull UUID projectId, @Nullable UUID systemId, @Nullable String endpoint,
                           @Nonnull String columnName, @Nullable String tableName,
                           @Nonnull Boolean pickUpFullLinkFromTableCell);
@@ -0,0 +1,302 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.impl;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.qubership.atp.tdm.exceptions.internal.TdmArchiveExportJobNotReadyException;
+import org.qubership.atp.tdm.exceptions.internal.TdmSearchArchiveExportJobException;
+import org.qubership.atp.tdm.exceptions.internal.TdmSearchTableException;
+import org.qubership.atp.tdm.model.ExportFileType;
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.qubership.atp.tdm.model.archive.ArchiveExportEntry;
+import org.qubership.atp.tdm.model.archive.ArchiveExportJob;
+import org.qubership.atp.tdm.model.archive.ArchiveExportRequest;
+import org.qubership.atp.tdm.model.archive.ArchiveExportStatus;
+import org.qubership.atp.tdm.repo.CatalogRepository;
+import org.qubership.atp.tdm.service.ArchiveExportService;
+import org.qubership.atp.tdm.service.TestDataService;
+import org.qubership.atp.tdm.utils.DataUtils;
+import org.qubership.atp.tdm.utils.ExecutorUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exports several test data tables into a single zip archive.
+ * Tables are dumped in parallel on a bounded pool, every entry is written to the archive as soon as it is ready.
+ * Export runs as a background job which can be polled, resumed (only failed entries are re-exported)
+ * and downloaded.
+ * Jobs and archives are kept in memory and temporary files of the instance which started the export, so
+ * requests of a job have to be routed to that instance, jobs are lost on its restart. Finished jobs are
+ * removed after their time to live.
+ */
+@Slf4j
+@Service
+public class ArchiveExportServiceImpl implements ArchiveExportService {
+
+    private static final String ARCHIVE_PREFIX = "TDM_export_";
+    private static final String ZIP_EXT = ".zip";
+    private static final String EXCEL_EXT = ".xlsx";
+    private static final String CSV_EXT = ".csv";
+
+    private final TestDataService testDataService;
+    private final CatalogRepository catalogRepository;
+    private final ExecutorService exportExecutor;
+    private final ScheduledExecutorService jobsEvictor;
+    private final long jobTtlMillis;
+    private final Map<UUID, ArchiveExportJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for ArchiveExportService.
+     */
+    @Autowired
+    public ArchiveExportServiceImpl(@Nonnull TestDataService testDataService,
+                                    @Nonnull CatalogRepository catalogRepository,
+                                    @Value("${export.archive.pool.size:2}") int poolSize,
+                                    @Value("${export.archive.job.ttl.min:60}") long jobTtlMinutes) {
+        this.testDataService = testDataService;
+        this.catalogRepository = catalogRepository;
+        this.exportExecutor = ExecutorUtils.newFixedThreadPool("archive-export-%d", poolSize);
+        this.jobTtlMillis = TimeUnit.MINUTES.toMillis(jobTtlMinutes);
+        this.jobsEvictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "archive-export-jobs-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        jobsEvictor.scheduleWithFixedDelay(this::evictExpiredJobs, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public ArchiveExportJob startExport(@Nonnull UUID projectId, @Nonnull ArchiveExportRequest request) {
+        ExportFileType fileType = Objects.nonNull(request.getFileType()) ? request.getFileType() : ExportFileType.CSV;
+        List<TestDataTableCatalog> catalogs = getCatalogs(projectId, request.getTableNames());
+        List<ArchiveExportEntry> entries = catalogs.stream()
+                .map(catalog -> new ArchiveExportEntry(catalog.getTableName(), catalog.getTableTitle(),
+                        buildEntryName(catalog, fileType)))
+                .collect(Collectors.toList());
+        ArchiveExportJob job = new ArchiveExportJob(projectId, fileType, entries);
+        jobs.put(job.getId(), job);
+        log.info("Archive export job [{}] started for project [{}], tables: {}", job.getId(), projectId,
+                entries.size());
+        runJob(job);
+        return job;
+    }
+
+    @Override
+    public ArchiveExportJob getJob(@Nonnull UUID projectId, @Nonnull UUID jobId) {
+        ArchiveExportJob job = jobs.get(jobId);
+        if (Objects.isNull(job) || !projectId.equals(job.getProjectId())) {
+            log.error(String.format(TdmSearchArchiveExportJobException.DEFAULT_MESSAGE, jobId));
+            throw new TdmSearchArchiveExportJobException(jobId.toString());
+        }
+        return job;
+    }
+
+    @Override
+    public ArchiveExportJob resumeExport(@Nonnull UUID projectId, @Nonnull UUID jobId) {
+        ArchiveExportJob job = getJob(projectId, jobId);
+        synchronized (job) {
+            if (ArchiveExportStatus.COMPLETED_WITH_ERRORS.equals(job.getStatus())) {
+                log.info("Archive export job [{}] resumed, failed tables: {}", jobId, job.getFailedCount());
+                runJob(job);
+            }
+        }
+        return job;
+    }
+
+    @Override
+    public File getArchive(@Nonnull UUID projectId, @Nonnull UUID jobId) {
+        ArchiveExportJob job = getJob(projectId, jobId);
+        if (ArchiveExportStatus.IN_PROGRESS.equals(job.getStatus())) {
+            log.error(String.format(TdmArchiveExportJobNotReadyException.DEFAULT_MESSAGE, jobId));
+            throw new TdmArchiveExportJobNotReadyException(jobId.toString());
+        }
+        return job.getArchive();
+    }
+
+    private List<TestDataTableCatalog> getCatalogs(@Nonnull UUID projectId, List<String> tableNames) {
+        if (Objects.isNull(tableNames) || tableNames.isEmpty()) {
+            return catalogRepository.findAllByProjectId(projectId);
+        }
+        return tableNames.stream()
+                .distinct()
+                .map(tableName -> {
+                    TestDataTableCatalog catalog = catalogRepository.findTableByProjectIdAndTableName(projectId,
+                            tableName);
+                    if (Objects.isNull(catalog)) {
+                        log.error(String.format(TdmSearchTableException.DEFAULT_MESSAGE, tableName));
+                        throw new TdmSearchTableException(tableName);
+                    }
+                    return catalog;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private String buildEntryName(@Nonnull TestDataTableCatalog catalog, @Nonnull ExportFileType fileType) {
+        String extension = ExportFileType.EXCEL.equals(fileType) ? EXCEL_EXT : CSV_EXT;
+        String title = Objects.nonNull(catalog.getTableTitle())
+                ? catalog.getTableTitle().replaceAll("[\\\\/:*?\"<>|]", "_") : "";
+        return title + "_" + catalog.getTableName() + extension;
+    }
+
+    /**
+     * Starts export of all not yet exported entries. Entries of the previous run are carried over
+     * from the previous archive, so resumed job doesn't dump them again.
+     */
+    private void runJob(@Nonnull ArchiveExportJob job) {
+        List<ArchiveExportEntry> pending = job.getEntries().stream()
+                .filter(entry -> !entry.isExported())
+                .collect(Collectors.toList());
+        pending.forEach(entry -> entry.setError(null));
+        if (job.getCompletion().isDone()) {
+            job.setCompletion(new CompletableFuture<>());
+        }
+        job.setStatus(ArchiveExportStatus.IN_PROGRESS);
+        job.setFinished(null);
+        ZipOutputStream zip;
+        try {
+            File archive = Files.createTempFile(ARCHIVE_PREFIX + job.getId(), ZIP_EXT).toFile();
+            zip = new ZipOutputStream(new FileOutputStream(archive));
+            File previous = job.getArchive();
+            if (Objects.nonNull(previous)) {
+                copyEntries(previous, zip);
+                DataUtils.deleteFile(previous.toPath());
+            }
+            job.setArchive(archive);
+        } catch (IOException e) {
+            log.error("Archive export job [{}]: failed to create archive", job.getId(), e);
+            pending.forEach(entry -> entry.setError(e.getMessage()));
+            finishJob(job, null);
+            return;
+        }
+        if (pending.isEmpty()) {
+            finishJob(job, zip);
+            return;
+        }
+        AtomicInteger remaining = new AtomicInteger(pending.size());
+        for (ArchiveExportEntry entry : pending) {
+            exportExecutor.submit(ExecutorUtils.withMdc(() -> {
+                exportEntry(job, entry, zip);
+                if (remaining.decrementAndGet() == 0) {
+                    finishJob(job, zip);
+                }
+                return null;
+            }));
+        }
+    }
+
+    private void exportEntry(@Nonnull ArchiveExportJob job, @Nonnull ArchiveExportEntry entry,
+                             @Nonnull ZipOutputStream zip) {
+        File file = null;
+        try {
+            log.debug("Archive export job [{}]: exporting table [{}]", job.getId(), entry.getTableName());
+            file = ExportFileType.EXCEL.equals(job.getFileType())
+                    ? testDataService.getTestDataTableAsExcelFile(entry.getTableName())
+                    : testDataService.getTestDataTableAsCsvFile(entry.getTableName());
+            synchronized (zip) {
+                zip.putNextEntry(new ZipEntry(entry.getEntryName()));
+                Files.copy(file.toPath(), zip);
+                zip.closeEntry();
+            }
+            entry.setExported(true);
+        } catch (Exception e) {
+            log.error("Archive export job [{}]: failed to export table [{}]", job.getId(), entry.getTableName(), e);
+            entry.setError(e.getMessage());
+        } finally {
+            if (Objects.nonNull(file)) {
+                DataUtils.deleteFile(file.toPath());
+            }
+        }
+    }
+
+    private void copyEntries(@Nonnull File source, @Nonnull ZipOutputStream zip) throws IOException {
+        try (ZipFile zipFile = new ZipFile(source)) {
+            Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+            for (ZipEntry zipEntry : Collections.list(zipEntries)) {
+                zip.putNextEntry(new ZipEntry(zipEntry.getName()));
+                try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                    inputStream.transferTo(zip);
+                }
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private void finishJob(@Nonnull ArchiveExportJob job, ZipOutputStream zip) {
+        if (Objects.nonNull(zip)) {
+            try {
+                zip.close();
+            } catch (IOException e) {
+                log.error("Archive export job [{}]: failed to close archive", job.getId(), e);
+            }
+        }
+        job.setFinished(new Date());
+        job.setStatus(job.getFailedCount() > 0
+                ? ArchiveExportStatus.COMPLETED_WITH_ERRORS : ArchiveExportStatus.COMPLETED);
+        log.info("Archive export job [{}] finished with status [{}]. Exported: {}, failed: {}", job.getId(),
+                job.getStatus(), job.getExportedCount(), job.getFailedCount());
+        job.getCompletion().complete(job);
+    }
+
+    void evictExpiredJobs() {
+        try {
+            long expiration = System.currentTimeMillis() - jobTtlMillis;
+            jobs.values().removeIf(job -> {
+                boolean expired = Objects.nonNull(job.getFinished()) && job.getFinished().getTime() < expiration;
+                if (expired && Objects.nonNull(job.getArchive())) {
+                    DataUtils.deleteFile(job.getArchive().toPath());
+                }
+                return expired;
+            });
+        } catch (Exception e) {
+            log.error("Failed to evict expired archive export jobs", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobsEvictor.shutdownNow();
+        exportExecutor.shutdownNow();
+    }
+}
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,10 +41,14 @@ import org.qubership.atp.tdm.model.rest.requests.ReleaseRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.UpdateRowRequest;
 import org.qubership.atp.tdm.repo.AtpActionRepository;
 import org.qubership.atp.tdm.service.AtpActionService;
+import org.qubership.atp.tdm.service.impl.MetricService.Operation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
@@ -56,11 +61,18 @@ import lombok.extern.slf4j.Slf4j;
 public class AtpActionServiceImpl implements AtpActionService {
 
     private static final String OCCUPIED_BY_USER = "ATP_User";
+    private static final int TABLE_NAMES_CACHE_SIZE = 1000;
+    private static final int TABLE_NAMES_CACHE_EXPIRE_MINUTES = 10;
     private static final Pattern TEMP_ENV_TIMESTAMP_PATTERN = Pattern.compile(" [0-9]{1,4}-[0-9]{1,2}-[0-9]{1,2}"
             + "T[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}.*");
 
     private final EnvironmentsService environmentsService;
     private final AtpActionRepository repository;
+    private final MetricService metricService;
+    private final Cache<String, String> tableNames = CacheBuilder.newBuilder()
+            .maximumSize(TABLE_NAMES_CACHE_SIZE)
+            .expireAfterWrite(TABLE_NAMES_CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .build();
 
     private String tdmUrl = "";
 
@@ -72,9 +84,11 @@ public class AtpActionServiceImpl implements AtpActionService {
      */
     @Autowired
     public AtpActionServiceImpl(@Nonnull EnvironmentsService environmentsService,
-                                @Nonnull AtpActionRepository repository) {
+                                @Nonnull AtpActionRepository repository,
+                                @Nonnull MetricService metricService) {
         this.environmentsService = environmentsService;
         this.repository = repository;
+        this.metricService = metricService;
     }
 
     @Override
@@ -82,13 +96,19 @@ public class AtpActionServiceImpl implements AtpActionService {
                                                            @Nullable String systemName, @NotNull String tableTitle,
                                                            @NotNull List<GetRowRequest> multipleColumnRowRequest) {
         log.info("ATP Action. Getting multiple column test data. Table Title: {}", tableTitle);
+        Timer.Sample sample = metricService.startTimer();
         EnvironmentContext environmentContext = getEnvironmentContext(projectName, envName, systemName);
         String link = this.formResultLink(environmentContext.getProjectId(), environmentContext.getEnvId(),
                 environmentContext.getSystemId());
-        List<ResponseMessage> response = repository.getMultipleColumnTestData(environmentContext.getProjectId(),
-                environmentContext.getSystemId(), tableTitle, multipleColumnRowRequest, link);
-        log.info("ATP Action. Stop multiple column test data. Table Title: {}.", tableTitle);
-        return response;
+        try {
+            List<ResponseMessage> response = repository.getMultipleColumnTestData(environmentContext.getProjectId(),
+                    environmentContext.getSystemId(), tableTitle, multipleColumnRowRequest, link);
+            log.info("ATP Action. Stop multiple column test data. Table Title: {}.", tableTitle);
+            return response;
+        } finally {
+            metricService.stopTimer(sample, Operation.GET_RECORD, environmentContext.getProjectId(),
+                    getTableName(environmentContext, tableTitle));
+        }
     }
 
     @Override
@@ -96,13 +116,19 @@ public class AtpActionServiceImpl implements AtpActionService {
                                           @Nullable String systemName, @Nonnull String tableTitle,
                                           List<Map<String, Object>> records) {
         log.info("ATP Action. Inserting test data. Table Title: {}", tableTitle);
+        Timer.Sample sample = metricService.startTimer();
         EnvironmentContext environmentContext = getEnvironmentContext(projectName, envName, systemName);
         String link = this.formResultLink(environmentContext.getProjectId(), environmentContext.getEnvId(),
                 environmentContext.getSystemId());
-        ResponseMessage response = repository.insertTestData(environmentContext.getProjectId(),
-                environmentContext.getSystemId(), environmentContext.getEnvId(), tableTitle, records, link);
-        log.info("ATP action. Data for table: {} inserted with status: {}.", tableTitle, response.getType());
-        return response;
+        try {
+            ResponseMessage response = repository.insertTestData(environmentContext.getProjectId(),
+                    environmentContext.getSystemId(), environmentContext.getEnvId(), tableTitle, records, link);
+            log.info("ATP action. Data for table: {} inserted with status: {}.", tableTitle, response.getType());
+            return response;
+        } finally {
+            metricService.stopTimer(sample, Operation.INSERT, environmentContext.getProjectId(),
+                    getTableName(environmentContext, tableTitle));
+        }
     }
 
     @Override
@@ -110,11 +136,17 @@ public class AtpActionServiceImpl implements AtpActionService {
                                                 @Nullable String systemName, @Nonnull String tableTitle,
                                                 List<OccupyRowRequest> occupyRowRequests) {
         log.info("ATP Action. Occupation of test data. Table Title: {}", tableTitle);
+        Timer.Sample sample = metricService.startTimer();
         EnvironmentContext environmentContext = getEnvironmentContext(projectName, envName, systemName);
         String link = this.formResultLink(environmentContext.getProjectId(), environmentContext.getEnvId(),
                 environmentContext.getSystemId());
-        return repository.occupyTestData(environmentContext.getProjectId(), environmentContext.getSystemId(),
-                tableTitle, OCCUPIED_BY_USER, occupyRowRequests, link);
+        try {
+            return repository.occupyTestData(environmentContext.getProjectId(), environmentContext.getSystemId(),
+                    tableTitle, OCCUPIED_BY_USER, occupyRowRequests, link);
+        } finally {
+            metricService.stopTimer(sample, Operation.OCCUPY, environmentContext.getProjectId(),
+                    getTableName(environmentContext, tableTitle));
+        }
     }
 
     @Override
@@ -122,11 +154,17 @@ public class AtpActionServiceImpl implements AtpActionService {
                                                        @Nullable String systemName, @Nonnull String tableTitle,
                                                        List<OccupyFullRowRequest> occupyFullRowRequests) {
         log.info("ATP Action. Occupation of test data to return several rows. Table Title: {}", tableTitle);
+        Timer.Sample sample = metricService.startTimer();
         EnvironmentContext environmentContext = getEnvironmentContext(projectName, envName, systemName);
         String link = this.formResultLink(environmentContext.getProjectId(), environmentContext.getEnvId(),
                 environmentContext.getSystemId());
-        return repository.occupyTestDataFullRow(environmentContext.getProjectId(), environmentContext.getSystemId(),
-                tableTitle, OCCUPIED_BY_USER, occupyFullRowRequests, link);
+        try {
+            return repository.occupyTestDataFullRow(environmentContext.getProjectId(), environmentContext.getSystemId(),
+                    tableTitle, OCCUPIED_BY_USER, occupyFullRowRequests, link);
+        } finally {
+            metricService.stopTimer(sample, Operation.OCCUPY, environmentContext.getProjectId(),
+                    getTableName(environmentContext, tableTitle));
+        }
     }
 
     @Override
@@ -134,18 +172,30 @@ public class AtpActionServiceImpl implements AtpActionService {
                                                  @Nullable String systemName, @Nonnull String tableTitle,
                                                  List<ReleaseRowRequest> releaseRowRequests) {
         log.info("ATP Action. Release of test data. Table Title: {}", tableTitle);
+        Timer.Sample sample = metricService.startTimer();
         EnvironmentContext environmentContext = getEnvironmentContext(projectName, envName, systemName);
-        return repository.releaseTestData(environmentContext.getProjectId(), environmentContext.getSystemId(),
-                tableTitle, releaseRowRequests);
+        try {
+            return repository.releaseTestData(environmentContext.getProjectId(), environmentContext.getSystemId(),
+                    tableTitle, releaseRowRequests);
+        } finally {
+            metricService.stopTimer(sample, Operation.RELEASE, environmentContext.getProjectId(),
+                    getTableName(environmentContext, tableTitle));
+        }
     }
 
     @Override
     public List<ResponseMessage> releaseFullTestData(@Nonnull String projectName, @Nullable String envName,
                                                      @Nullable String systemName, @Nonnull String tableTitle) {
         log.info("ATP Action. Release of test data. Table Title: {}", tableTitle);
+        Timer.Sample sample = metricService.startTimer();
         EnvironmentContext environmentContext = getEnvironmentContext(projectName, envName, systemName);
-        return repository.releaseFullTestData(environmentContext.getProjectId(), environmentContext.getSystemId(),
-                tableTitle);
+        try {
+            return repository.releaseFullTestData(environmentContext.getProjectId(), environmentContext.getSystemId(),
+                    tableTitle);
+        } finally {
+            metricService.stopTimer(sample, Operation.RELEASE, environmentContext.getProjectId(),
+                    getTableName(environmentContext, tableTitle));
+        }
     }
 
     @Override
@@ -163,9 +213,15 @@ public class AtpActionServiceImpl implements AtpActionService {
                                              @Nullable String systemName, @Nonnull String tableTitle,
                                              List<GetRowRequest> getRowRequests) {
         log.info("ATP Action. Getting test data. Table Title: {}", tableTitle);
+        Timer.Sample sample = metricService.startTimer();
         EnvironmentContext environmentContext = getEnvironmentContext(projectName, envName, systemName);
-        return repository.getTestData(environmentContext.getProjectId(), environmentContext.getSystemId(),
-                tableTitle, getRowRequests);
+        try {
+            return repository.getTestData(environmentContext.getProjectId(), environmentContext.getSystemId(),
+                    tableTitle, getRowRequests);
+        } finally {
+            metricService.stopTimer(sample, Operation.GET_RECORD, environmentContext.getProjectId(),
+                    getTableName(environmentContext, tableTitle));
+        }
     }
 
     @Override
@@ -281,6 +337,24 @@ public class AtpActionServiceImpl implements AtpActionService {
         return new EnvironmentContext(projectId, envId, systemId);
     }
 
+    /**
+     * Physical table name to tag operation timers with, as other instrumented services do.
+     * Names are cached, so timers don't add a catalog query to every ATP action.
+     */
+    @Nullable
+    private String getTableName(@Nonnull EnvironmentContext environmentContext, @Nonnull String tableTitle) {
+        String key = environmentContext.getProjectId() + "/" + environmentContext.getSystemId() + "/" + tableTitle;
+        String tableName = tableNames.getIfPresent(key);
+        if (tableName == null) {
+            tableName = repository.findTableName(environmentContext.getProjectId(),
+                    environmentContext.getSystemId(), tableTitle);
+            if (tableName != null) {
+                tableNames.put(key, tableName);
+            }
+        }
+        return tableName;
+    }
+
     private String formResultLink(@Nonnull UUID projectName, @Nullable UUID envName,
                                   @Nullable UUID systemName) {
         if (envName == null) {
@@ -61,13 +61,16 @@ import org.qubership.atp.tdm.repo.SqlRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
 import org.qubership.atp.tdm.service.CleanupService;
 import org.qubership.atp.tdm.service.SchedulerService;
+import org.qubership.atp.tdm.service.impl.MetricService.Operation;
 import org.qubership.atp.tdm.utils.DataUtils;
 import org.qubership.atp.tdm.utils.ValidateCronExpression;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.google.common.base.Preconditions;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -222,8 +225,7 @@ public class CleanupServiceImpl implements CleanupService {
 
             MdcUtils.put(MdcField.PROJECT_ID.toString(), firstTable.get().getProjectId());
             tdmMdcHelper.putConfigFields(firstTable.get());
-            metricService.executeCleanupJob(configId.toString(),
-                    firstTable.get().getProjectId(), firstTable.get().getTableTitle());
+            metricService.executeCleanupJob(firstTable.get().getProjectId(), firstTable.get().getTableTitle());
         }
 
         TestDataCleanupConfig config = getCleanupConfig(configId);
@@ -293,6 +295,16 @@ public class CleanupServiceImpl implements CleanupService {
     @Override
     public CleanupResults runCleanup(@Nonnull String tableName,
                                      @Nonnull TestDataCleanupConfig config) throws Exception {
+        Timer.Sample sample = metricService.startTimer();
+        try {
+            return cleanupTable(tableName, config);
+        } finally {
+            metricService.stopTimer(sample, Operation.CLEANUP, MDC.get(MdcField.PROJECT_ID.toString()), tableName);
+        }
+    }
+
+    private CleanupResults cleanupTable(@Nonnull String tableName,
+                                        @Nonnull TestDataCleanupConfig config) throws Exception {
         if (CleanupType.SQL.equals(config.getType())) {
             Server server = sqlRepository.getServer(tableName, catalogRepository, environmentsService);
             try (Connection connection = sqlRepository.createConnection(server)) {
@@ -58,7 +58,9 @@ import org.qubership.atp.tdm.repo.SqlRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
 import org.qubership.atp.tdm.service.DataRefreshService;
 import org.qubership.atp.tdm.service.SchedulerService;
+import org.qubership.atp.tdm.service.impl.MetricService.Operation;
 import org.qubership.atp.tdm.utils.ValidateCronExpression;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -67,6 +69,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.google.common.base.Preconditions;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -206,7 +209,7 @@ public class DataRefreshServiceImpl implements DataRefreshService {
         TestDataTableCatalog catalog = catalogRepository.findByRefreshConfigId(config.getId());
         MdcUtils.put(MdcField.PROJECT_ID.toString(), catalog.getProjectId());
         tdmMdcHelper.putConfigFields(catalog);
-        metricService.executeRefreshJob(configId.toString(), catalog.getProjectId(), catalog.getTableTitle());
+        metricService.executeRefreshJob(catalog.getProjectId(), catalog.getTableTitle());
         RefreshResults results = new RefreshResults();
         if (config.isEnabled()) {
             String tableName = catalog.getTableName();
@@ -250,6 +253,15 @@ public class DataRefreshServiceImpl implements DataRefreshService {
     @Transactional
     @SuppressWarnings("PMD.TooManyStaticImports")
     public RefreshResults runRefresh(@Nonnull String tableName, boolean saveOccupiedData) throws Exception {
+        Timer.Sample sample = metricService.startTimer();
+        try {
+            return refreshTable(tableName, saveOccupiedData);
+        } finally {
+            metricService.stopTimer(sample, Operation.REFRESH, MDC.get(MdcField.PROJECT_ID.toString()), tableName);
+        }
+    }
+
+    private RefreshResults refreshTable(@Nonnull String tableName, boolean saveOccupiedData) throws Exception {
         log.info("Run data refresh for table with name: {}, save occupied data: {}", tableName, saveOccupiedData);
         Server server = sqlRepository.getServer(tableName, catalogRepository, environmentsService);
         Optional<TestDataTableImportInfo> importInfo = importInfoRepository.findById(tableName);
@@ -16,18 +16,35 @@
 
 package org.qubership.atp.tdm.service.impl;
 
-import java.util.List;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 public class MetricService {
     private MeterRegistry meterRegistry;
@@ -37,12 +54,11 @@ public class MetricService {
     private static final String EXECUTE_REFRESH_BY_CRON = "atp_tdm_execute_refresh_by_cron";
     private static final String EXECUTE_STATISTICS_BY_CRON = "atp_tdm_execute_statistics_by_cron";
     private static final String EXECUTE_STATISTICS_USER_BY_CRON = "atp_tdm_execute_user_statistics_by_cron";
-    private static final String CLEANUP_ID = "cleanup_id";
-    private static final String REFRESH_ID = "refresh_id";
     private static final String PROJECT_ID = "project_id";
     private static final String TABLE_TITLE = "table_title";
     private static final String TABLES_COUNT_PER_PROJECT = "atp_tdm_tables_count_per_project";
     private static final String TABLES_COUNT = "atp_tdm_tables_count";
+    private static final String TABLES_COUNT_LAST_REFRESH = "atp_tdm_tables_count_last_refresh_seconds";
     private static final String INSERT_ACTION = "atp_tdm_insert_action";
     private static final String OCCUPY_ACTION = "atp_tdm_occupy_action";
     private static final String RELEASE_ACTION = "atp_tdm_release_action";
@@ -50,48 +66,106 @@ public class MetricService {
     private static final String DELETE_ACTION = "atp_tdm_delete_action";
     private static final String GET_ACTION = "atp_tdm_get_action";
     private static final String PROJECT_NOT_FOUND = "UNKNOWN";
+    private static final String OPERATION_DURATION = "atp_tdm_operation_duration";
+    private static final String SQL_STATEMENTS_PER_REQUEST = "atp_tdm_sql_statements_per_request";
+    private static final String OPERATION = "operation";
+    private static final String TABLE = "table";
+    private static final String HANDLER = "handler";
+    private static final String TABLE_NOT_FOUND = "UNKNOWN";
+    private static final String TABLE_OTHER = "OTHER";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final String TABLES_COUNT_PER_PROJECT_QUERY =
+            "select project_id, count(*) as tables_count from test_data_table_catalog group by project_id";
+
+    private final AtomicReference<Map<UUID, Long>> tablesCountPerProject =
+            new AtomicReference<>(Collections.emptyMap());
+    private final AtomicLong tablesCount = new AtomicLong();
+    private final AtomicLong lastRefreshTime = new AtomicLong();
+    private final Set<UUID> registeredProjects = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService tablesCountRefresher;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> sqlStatementsSummaries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> tableTagsPerProject = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> tableTitleTagsPerProject = new ConcurrentHashMap<>();
+    private final int tableTagsLimit;
 
     /**
      * MetricService registers custom metrics for incoming requests.
+     * Tables count gauges only expose values cached by a background refresh,
+     * so metrics scraping never queries the database.
      *
      * @param meterRegistry micrometer registry helps add custom metrics.
+     * @param tablesCountRefreshInterval interval of tables count refresh, in seconds.
+     * @param tableTagsLimit max count of distinct table (and table title) tags per project,
+     *                       other tables are reported as OTHER.
      */
     @Autowired
-    public MetricService(MeterRegistry meterRegistry, @Nonnull JdbcTemplate jdbcTemplate) {
+    public MetricService(MeterRegistry meterRegistry, @Nonnull JdbcTemplate jdbcTemplate,
+                         @Value("${metrics.tables.count.refresh.interval.sec:60}")
+                         long tablesCountRefreshInterval,
+                         @Value("${metrics.table.tags.limit:100}") int tableTagsLimit) {
 
         this.meterRegistry = meterRegistry;
         this.jdbcTemplate = jdbcTemplate;
-        registerTablesPerProject();
+        this.tableTagsLimit = tableTagsLimit;
         registerTablesCount();
+        this.tablesCountRefresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tables-count-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        tablesCountRefresher.scheduleWithFixedDelay(this::refreshTablesCountSafely, 0,
+                tablesCountRefreshInterval, TimeUnit.SECONDS);
     }
 
-    /**
-     * Register Tables Per Project.
-     */
-    public void registerTablesPerProject() {
-        String queryForProjectIds  = "select DISTINCT project_id from test_data_table_catalog;";
-        List<UUID> projectIds = jdbcTemplate.queryForList(queryForProjectIds, UUID.class);
-
-        projectIds.forEach(v -> Gauge.builder(TABLES_COUNT_PER_PROJECT, this,
-                        eos -> eos.getTableCountForProject(v))
-                .tag(PROJECT_ID, String.valueOf(v)).register(meterRegistry));
+    @PreDestroy
+    public void shutdown() {
+        tablesCountRefresher.shutdownNow();
     }
 
     /**
-     * Get Table Count For Project.
+     * Reload tables count per project with a single query and register gauges for new projects.
      */
-    public int getTableCountForProject(UUID projectId) {
-        String query = String.format("select count(*) from test_data_table_catalog where project_id='%s';", projectId);
-        return jdbcTemplate.queryForObject(query, Integer.class);
+    public void refreshTablesCount() {
+        Map<UUID, Long> counts = new HashMap<>();
+        jdbcTemplate.query(TABLES_COUNT_PER_PROJECT_QUERY, rs -> {
+            counts.put(rs.getObject("project_id", UUID.class), rs.getLong("tables_count"));
+        });
+        tablesCountPerProject.set(counts);
+        tablesCount.set(counts.values().stream().mapToLong(Long::longValue).sum());
+        counts.keySet().stream()
+                .filter(registeredProjects::add)
+                .forEach(this::registerTablesPerProject);
+        lastRefreshTime.set(System.currentTimeMillis());
+    }
 
+    private void refreshTablesCountSafely() {
+        try {
+            refreshTablesCount();
+        } catch (Exception e) {
+            log.warn("Failed to refresh tables count metrics, previous values are kept.", e);
+        }
     }
 
-    public void registerTablesCount() {
-        Gauge.builder(TABLES_COUNT, this, eos -> eos.getTablesCount()).register(meterRegistry);
+    private void registerTablesPerProject(UUID projectId) {
+        Gauge.builder(TABLES_COUNT_PER_PROJECT, this, eos -> eos.getTableCountForProject(projectId))
+                .tag(PROJECT_ID, String.valueOf(projectId)).register(meterRegistry);
     }
 
-    private int getTablesCount() {
-        return jdbcTemplate.queryForObject("select count(*) from test_data_table_catalog;", Integer.class);
+    /**
+     * Get cached Table Count For Project.
+     */
+    public long getTableCountForProject(UUID projectId) {
+        return tablesCountPerProject.get().getOrDefault(projectId, 0L);
+    }
+
+    private void registerTablesCount() {
+        Gauge.builder(TABLES_COUNT, tablesCount, AtomicLong::get).register(meterRegistry);
+        Gauge.builder(TABLES_COUNT_LAST_REFRESH, lastRefreshTime, time -> time.get() / 1000d)
+                .description("Unix time of the last successful tables count refresh")
+                .baseUnit("seconds")
+                .register(meterRegistry);
     }
 
     public void executeStatisticsJob(String project) {
@@ -99,7 +173,7 @@ public class MetricService {
     }
 
     private void incrementMetricExecuteStatisticsJob(String project) {
-        meterRegistry.counter(MetricService.EXECUTE_STATISTICS_BY_CRON, PROJECT_ID, project).increment();
+        counter(MetricService.EXECUTE_STATISTICS_BY_CRON, PROJECT_ID, project).increment();
     }
 
     public void executeStatisticsUserJob(String project) {
@@ -107,49 +181,135 @@ public class MetricService {
     }
 
     private void incrementMetricExecuteStatisticsUserJob(String project) {
-        meterRegistry.counter(MetricService.EXECUTE_STATISTICS_USER_BY_CRON, PROJECT_ID, project).increment();
+        counter(MetricService.EXECUTE_STATISTICS_USER_BY_CRON, PROJECT_ID, project).increment();
     }
 
-    public void executeRefreshJob(String refreshId, UUID projectId, String tableTitle) {
-        incrementMetricExecuteRefreshJob(refreshId, getProjectIdOrDefault(projectId), tableTitle);
+    public void executeRefreshJob(UUID projectId, String tableTitle) {
+        incrementMetricExecuteRefreshJob(getProjectIdOrDefault(projectId), tableTitle);
     }
 
-    private void incrementMetricExecuteRefreshJob(String refreshId, String project, String tableTitle) {
-        meterRegistry.counter(MetricService.EXECUTE_REFRESH_BY_CRON, PROJECT_ID, project, TABLE_TITLE, tableTitle,
-                REFRESH_ID, refreshId).increment();
+    private void incrementMetricExecuteRefreshJob(String project, String tableTitle) {
+        counter(MetricService.EXECUTE_REFRESH_BY_CRON, PROJECT_ID, project,
+                TABLE_TITLE, getTableTitleTag(project, tableTitle)).increment();
     }
 
-    public void executeCleanupJob(String cleanupId, UUID projectId, String tableTitle) {
-        incrementMetricExecuteCleanupJob(cleanupId, getProjectIdOrDefault(projectId), tableTitle);
+    public void executeCleanupJob(UUID projectId, String tableTitle) {
+        incrementMetricExecuteCleanupJob(getProjectIdOrDefault(projectId), tableTitle);
     }
 
-    private void incrementMetricExecuteCleanupJob(String cleanupId, String project, String tableTitle) {
-        meterRegistry.counter(MetricService.EXECUTE_CLEANUP_BY_CRON, PROJECT_ID, project, TABLE_TITLE, tableTitle,
-                CLEANUP_ID, cleanupId).increment();
+    private void incrementMetricExecuteCleanupJob(String project, String tableTitle) {
+        counter(MetricService.EXECUTE_CLEANUP_BY_CRON, PROJECT_ID, project,
+                TABLE_TITLE, getTableTitleTag(project, tableTitle)).increment();
     }
 
     public void incrementInsertAction(UUID projectId) {
-        meterRegistry.counter(INSERT_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
+        counter(INSERT_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
     }
 
     public void incrementOccupyAction(String projectId) {
-        meterRegistry.counter(OCCUPY_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
+        counter(OCCUPY_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
     }
 
     public void incrementReleaseAction(String projectId) {
-        meterRegistry.counter(RELEASE_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
+        counter(RELEASE_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
     }
 
     public void incrementUpdateAction(String projectId) {
-        meterRegistry.counter(UPDATE_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
+        counter(UPDATE_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
     }
 
     public void incrementDeleteAction(String projectId) {
-        meterRegistry.counter(DELETE_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
+        counter(DELETE_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
     }
 
     public void incrementGetAction(String projectId) {
-        meterRegistry.counter(GET_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
+        counter(GET_ACTION, PROJECT_ID, getProjectIdOrDefault(projectId)).increment();
+    }
+
+    /**
+     * Start measuring of an operation, should be finished by one of stopTimer methods.
+     */
+    public Timer.Sample startTimer() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Record operation duration, tagged by project and table.
+     *
+     * @param sample    sample returned by {@link #startTimer()}.
+     * @param operation measured operation.
+     * @param projectId project id, UNKNOWN if null.
+     * @param table     physical table name, replaced with OTHER when tables limit of the project is reached.
+     */
+    public void stopTimer(@Nonnull Timer.Sample sample, @Nonnull Operation operation, @Nullable UUID projectId,
+                          @Nullable String table) {
+        stopTimer(sample, operation, getProjectIdOrDefault(projectId), table);
+    }
+
+    /**
+     * Record operation duration, tagged by project and table.
+     */
+    public void stopTimer(@Nonnull Timer.Sample sample, @Nonnull Operation operation, @Nullable String projectId,
+                          @Nullable String table) {
+        String project = getProjectIdOrDefault(projectId);
+        String tableTag = getTableTag(project, table);
+        Timer timer = timers.computeIfAbsent(meterKey(OPERATION_DURATION, operation.getName(), project, tableTag),
+                key -> Timer.builder(OPERATION_DURATION)
+                        .tag(OPERATION, operation.getName())
+                        .tag(PROJECT_ID, project)
+                        .tag(TABLE, tableTag)
+                        .publishPercentiles(PERCENTILES)
+                        .register(meterRegistry));
+        sample.stop(timer);
+    }
+
+    /**
+     * Record count of SQL statements executed while processing a request.
+     *
+     * @param handler  request handler, e.g. controller class and method names.
+     * @param count    executed statements count.
+     */
+    public void recordSqlStatements(@Nonnull String handler, int count) {
+        sqlStatementsSummaries.computeIfAbsent(handler,
+                key -> DistributionSummary.builder(SQL_STATEMENTS_PER_REQUEST)
+                        .tag(HANDLER, handler)
+                        .publishPercentiles(PERCENTILES)
+                        .register(meterRegistry))
+                .record(count);
+    }
+
+    private Counter counter(String name, String... tags) {
+        return counters.computeIfAbsent(meterKey(name, tags), key -> meterRegistry.counter(name, tags));
+    }
+
+    private String getTableTag(@Nonnull String project, @Nullable String table) {
+        return getLimitedTag(tableTagsPerProject, project, table);
+    }
+
+    private String getTableTitleTag(@Nonnull String project, @Nullable String tableTitle) {
+        return getLimitedTag(tableTitleTagsPerProject, project, tableTitle);
+    }
+
+    private String getLimitedTag(Map<String, Set<String>> tagsPerProject, @Nonnull String project,
+                                 @Nullable String table) {
+        if (StringUtils.isEmpty(table)) {
+            return TABLE_NOT_FOUND;
+        }
+        Set<String> tableTags = tagsPerProject.computeIfAbsent(project, key -> ConcurrentHashMap.newKeySet());
+        if (tableTags.contains(table)) {
+            return table;
+        }
+        synchronized (tableTags) {
+            if (tableTags.size() < tableTagsLimit) {
+                tableTags.add(table);
+                return table;
+            }
+        }
+        return TABLE_OTHER;
+    }
+
+    private static String meterKey(String name, String... tags) {
+        return name + '|' + String.join("|", tags);
     }
 
     private String getProjectIdOrDefault(String projectId) {
@@ -160,4 +320,27 @@ public class MetricService {
         return  projectId == null ? PROJECT_NOT_FOUND : projectId.toString();
     }
 
+    /**
+     * Operations measured by {@link #OPERATION_DURATION} timer.
+     */
+    public enum Operation {
+        OCCUPY("occupy"),
+        RELEASE("release"),
+        GET_RECORD("get_record"),
+        INSERT("insert"),
+        REFRESH("refresh"),
+        CLEANUP("cleanup"),
+        IMPORT("import"),
+        EXPORT("export");
+
+        private final String name;
+
+        Operation(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.tdm.exceptions.internal.TdmValidateLimitException;
+import org.qubership.atp.tdm.model.statistics.SlowQueryStatistic;
+import org.qubership.atp.tdm.service.QueryProfilerService;
+import org.qubership.atp.tdm.utils.SqlFingerprint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class QueryProfilerServiceImpl implements QueryProfilerService {
+
+    private static final String PHASE_DURATION = "atp_tdm_repository_phase_duration";
+    private static final String PHASE = "phase";
+    private static final String NO_PHASE = "none";
+    private static final String OTHER_FINGERPRINTS = "other";
+    private static final long PLAN_LOG_INTERVAL_MS = TimeUnit.MINUTES.toMillis(10);
+    private static final ThreadLocal<Deque<String>> PHASES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final boolean explainEnabled;
+    private final int fingerprintsLimit;
+    private final Map<String, FingerprintStatistic> fingerprints = new ConcurrentHashMap<>();
+    private final Set<String> explainPending = ConcurrentHashMap.newKeySet();
+    private final Map<String, Timer> phaseTimers = new ConcurrentHashMap<>();
+
+    /**
+     * Query profiler constructor.
+     */
+    @Autowired
+    public QueryProfilerServiceImpl(@Nonnull MeterRegistry meterRegistry,
+                                    @Value("${metrics.sql.slow.threshold.ms:1000}") long slowThresholdMs,
+                                    @Value("${metrics.sql.slow.explain:true}") boolean explainEnabled,
+                                    @Value("${metrics.sql.fingerprints.limit:1000}") int fingerprintsLimit) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.explainEnabled = explainEnabled;
+        this.fingerprintsLimit = fingerprintsLimit;
+    }
+
+    @Override
+    public Phase startPhase(@Nonnull String name) {
+        Deque<String> phases = PHASES.get();
+        phases.push(name);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return () -> {
+            phases.pop();
+            sample.stop(phaseTimers.computeIfAbsent(name, key -> Timer.builder(PHASE_DURATION)
+                    .tag(PHASE, name)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)));
+        };
+    }
+
+    @Override
+    public boolean isParametersCaptureRequired(@Nonnull String sql) {
+        return !explainPending.isEmpty() && explainPending.contains(sql);
+    }
+
+    /**
+     * Statement faster than threshold is not recorded. Parameters of a slow prepared statement are known
+     * only if they were captured, otherwise its plan is logged on the next slow execution.
+     */
+    @Override
+    public void recordStatement(@Nonnull String sql, @Nullable Map<Integer, Object> parameters,
+                                @Nonnull Connection connection, long elapsedNanos) {
+        if (elapsedNanos < slowThresholdNanos) {
+            return;
+        }
+        String fingerprint = SqlFingerprint.of(sql);
+        String phase = currentPhase();
+        FingerprintStatistic statistic = getStatistic(fingerprint);
+        statistic.record(phase, elapsedNanos);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        boolean explainable = parameters != null || sql.indexOf('?') < 0;
+        if (explainEnabled && explainable && statistic.isPlanLogRequired()) {
+            explainPending.remove(sql);
+            log.warn("Slow SQL statement: {} ms, phase: {}, fingerprint: {}\nPlan:\n{}", elapsedMs, phase,
+                    fingerprint, explain(sql, parameters, connection));
+        } else {
+            if (explainEnabled && !explainable && explainPending.size() < fingerprintsLimit) {
+                explainPending.add(sql);
+            }
+            log.warn("Slow SQL statement: {} ms, phase: {}, fingerprint: {}", elapsedMs, phase, fingerprint);
+        }
+    }
+
+    @Override
+    public List<SlowQueryStatistic> getSlowQueries(int limit) {
+        if (limit < 1) {
+            throw new TdmValidateLimitException(limit);
+        }
+        return fingerprints.entrySet().stream()
+                .map(entry -> entry.getValue().toSlowQueryStatistic(entry.getKey()))
+                .sorted(Comparator.comparingLong(SlowQueryStatistic::getTotalTimeMs).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private String currentPhase() {
+        String phase = PHASES.get().peek();
+        return phase == null ? NO_PHASE : phase;
+    }
+
+    private FingerprintStatistic getStatistic(@Nonnull String fingerprint) {
+        FingerprintStatistic statistic = fingerprints.get(fingerprint);
+        if (statistic != null) {
+            return statistic;
+        }
+        if (fingerprints.size() >= fingerprintsLimit) {
+            return fingerprints.computeIfAbsent(OTHER_FINGERPRINTS, key -> new FingerprintStatistic());
+        }
+        return fingerprints.computeIfAbsent(fingerprint, key -> new FingerprintStatistic());
+    }
+
+    /**
+     * Explain statement by the same connection. Savepoint keeps an outer transaction usable
+     * if explain fails.
+     */
+    private String explain(@Nonnull String sql, @Nullable Map<Integer, Object> parameters,
+                           @Nonnull Connection connection) {
+        String statement = sql.trim().toLowerCase(Locale.ROOT);
+        if (!statement.startsWith("select") && !statement.startsWith("with")) {
+            return "not available for non-select statements";
+        }
+        Savepoint savepoint = null;
+        try {
+            if (!connection.getAutoCommit()) {
+                savepoint = connection.setSavepoint();
+            }
+            StringJoiner plan = new StringJoiner("\n");
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                if (parameters != null) {
+                    for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+                        explain.setObject(parameter.getKey(), parameter.getValue());
+                    }
+                }
+                try (ResultSet resultSet = explain.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+            }
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            rollbackToSavepoint(connection, savepoint);
+            log.debug("Failed to explain statement: {}", sql, e);
+            return "not available: " + e.getMessage();
+        }
+    }
+
+    private void rollbackToSavepoint(@Nonnull Connection connection, @Nullable Savepoint savepoint) {
+        if (savepoint != null) {
+            try {
+                connection.rollback(savepoint);
+            } catch (SQLException e) {
+                log.debug("Failed to rollback to savepoint after explain.", e);
+            }
+        }
+    }
+
+    private static class FingerprintStatistic {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong lastPlanLogTime = new AtomicLong();
+        private volatile String phase;
+
+        void record(@Nonnull String phase, long elapsedNanos) {
+            this.phase = phase;
+            executions.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        boolean isPlanLogRequired() {
+            long now = System.currentTimeMillis();
+            long last = lastPlanLogTime.get();
+            return now - last >= PLAN_LOG_INTERVAL_MS && lastPlanLogTime.compareAndSet(last, now);
+        }
+
+        SlowQueryStatistic toSlowQueryStatistic(@Nonnull String fingerprint) {
+            long count = executions.sum();
+            long totalMs = TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+            return new SlowQueryStatistic(fingerprint, phase, count, totalMs,
+                    TimeUnit.NANOSECONDS.toMillis(maxNanos.get()), count == 0 ? 0 : totalMs / count);
+        }
+    }
+}
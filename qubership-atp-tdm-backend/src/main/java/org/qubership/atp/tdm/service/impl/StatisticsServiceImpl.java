@@ -17,38 +17,48 @@
 package org.qubership.atp.tdm.service.impl;
 
 import static java.time.temporal.ChronoUnit.DAYS;
-import static org.qubership.atp.tdm.utils.AvailableStatisticUtils.availableDataQuery;
 import static org.qubership.atp.tdm.utils.DateFormatters.FULL_DATE_FORMATTER;
 import static org.qubership.atp.tdm.utils.TestDataQueries.GET_COUNT_OF_ROWS;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.text.ParseException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.quartz.CronExpression;
+import org.quartz.CronScheduleBuilder;
 import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
 import org.quartz.JobKey;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
 import org.qubership.atp.tdm.exceptions.internal.TdmAvailableStatisticActiveColumnException;
@@ -59,10 +69,14 @@ import org.qubership.atp.tdm.exceptions.internal.TdmSearchAvailableMonitoringCon
 import org.qubership.atp.tdm.exceptions.internal.TdmSearchAvailableStatisticConfigException;
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.qubership.atp.tdm.model.scheduler.AvailableDataCountersReconcileJob;
 import org.qubership.atp.tdm.model.scheduler.AvailableDataStatisticsMailJob;
+import org.qubership.atp.tdm.model.scheduler.OccupyStatisticRetentionJob;
+import org.qubership.atp.tdm.model.scheduler.StatisticsDailyRollupJob;
 import org.qubership.atp.tdm.model.scheduler.StatisticsMailJob;
 import org.qubership.atp.tdm.model.scheduler.UsersStatisticsMailJob;
 import org.qubership.atp.tdm.model.statistics.AvailableDataStatisticsConfig;
+import org.qubership.atp.tdm.model.statistics.CollectedStatistics;
 import org.qubership.atp.tdm.model.statistics.ConsumedStatistics;
 import org.qubership.atp.tdm.model.statistics.ConsumedStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
@@ -72,6 +86,7 @@ import org.qubership.atp.tdm.model.statistics.OccupiedDataByUsersStatistics;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatistics;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.StatisticsEnvironment;
+import org.qubership.atp.tdm.model.statistics.StatisticsItem;
 import org.qubership.atp.tdm.model.statistics.TestAvailableDataMonitoring;
 import org.qubership.atp.tdm.model.statistics.TestDataTableMonitoring;
 import org.qubership.atp.tdm.model.statistics.TestDataTableUsersMonitoring;
@@ -86,17 +101,22 @@ import org.qubership.atp.tdm.model.statistics.report.StatisticsReportEnvironment
 import org.qubership.atp.tdm.model.statistics.report.StatisticsReportObject;
 import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportElement;
 import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportObject;
+import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataOccupyReportGroupBy;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
 import org.qubership.atp.tdm.model.table.conditions.search.SearchConditionType;
+import org.qubership.atp.tdm.repo.AvailableDataCounterRepository;
 import org.qubership.atp.tdm.repo.CatalogRepository;
+import org.qubership.atp.tdm.repo.OccupyStatisticPartitionRepository;
 import org.qubership.atp.tdm.repo.OccupyStatisticRepository;
+import org.qubership.atp.tdm.repo.StatisticsDailyRepository;
 import org.qubership.atp.tdm.repo.StatisticsRepository;
 import org.qubership.atp.tdm.repo.TableColumnValuesRepository;
 import org.qubership.atp.tdm.repo.TestAvailableDataMonitoringRepository;
 import org.qubership.atp.tdm.repo.TestDataMonitoringRepository;
 import org.qubership.atp.tdm.repo.TestDataUsersMonitoringRepository;
+import org.qubership.atp.tdm.repo.impl.StatisticsQueryExecutor;
 import org.qubership.atp.tdm.repo.impl.SystemColumns;
 import org.qubership.atp.tdm.service.SchedulerService;
 import org.qubership.atp.tdm.service.StatisticsService;
@@ -126,6 +146,10 @@ public class StatisticsServiceImpl implements StatisticsService {
     private static final String SCHEDULE_GROUP = "statistics";
     private static final String SCHEDULE_USERS_GROUP = "user-statistics";
     private static final String SCHEDULE_AVAILABLE_DATA_GROUP = "available-data-statistics";
+    private static final String SCHEDULE_DAILY_ROLLUP_GROUP = "daily-statistics";
+    private static final String SCHEDULE_OCCUPY_RETENTION_GROUP = "occupy-statistic-retention";
+    private static final String SCHEDULE_AVAILABLE_COUNTERS_GROUP = "available-data-counters";
+    private static final int OCCUPY_STATISTIC_PARTITIONS_AHEAD = 3;
     private static final String ALL_ENVIRONMENTS = "across all";
     private static final String NA = "N/A";
     private static final String CSV_EXT = ".csv";
@@ -135,11 +159,19 @@ public class StatisticsServiceImpl implements StatisticsService {
     private final TestAvailableDataMonitoringRepository availableDataMonitoringRepository;
     private final TableColumnValuesRepository tableColumnValuesRepository;
     private final OccupyStatisticRepository occupyStatisticRepository;
+    private final StatisticsDailyRepository statisticsDailyRepository;
+    private final OccupyStatisticPartitionRepository occupyStatisticPartitionRepository;
+    private final StatisticsQueryExecutor statisticsQueryExecutor;
+    private final AvailableDataCounterRepository availableDataCounterRepository;
     private final SchedulerService schedulerService;
     private final EnvironmentsService environmentsService;
     private final TestDataService testDataService;
     private final CatalogRepository catalogRepository;
     private final Integer threshold;
+    private final String dailyRollupCron;
+    private final int occupyRetentionMonths;
+    private final String occupyRetentionCron;
+    private final String availableCountersReconcileCron;
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -157,7 +189,17 @@ public class StatisticsServiceImpl implements StatisticsService {
                                  @Nonnull OccupyStatisticRepository occupyStatisticRepository,
                                  @Nonnull TestAvailableDataMonitoringRepository availableDataMonitoringRepository,
                                  @Nonnull TableColumnValuesRepository tableColumnValuesRepository,
-                                 @Value("${test.data.initial.threshold}") Integer threshold) {
+                                 @Nonnull StatisticsDailyRepository statisticsDailyRepository,
+                                 @Nonnull OccupyStatisticPartitionRepository occupyStatisticPartitionRepository,
+                                 @Nonnull StatisticsQueryExecutor statisticsQueryExecutor,
+                                 @Nonnull AvailableDataCounterRepository availableDataCounterRepository,
+                                 @Value("${test.data.initial.threshold}") Integer threshold,
+                                 @Value("${statistics.daily.rollup.cron:0 * * ? * *}") String dailyRollupCron,
+                                 @Value("${statistics.occupy.retention.months:0}") int occupyRetentionMonths,
+                                 @Value("${statistics.occupy.retention.cron:0 0 1 ? * * *}")
+                                 String occupyRetentionCron,
+                                 @Value("${statistics.available.counters.reconcile.cron:0 0 * ? * *}")
+                                 String availableCountersReconcileCron) {
         this.statisticsRepository = statisticsRepository;
         this.monitoringRepository = monitoringRepository;
         this.usersMonitoringRepository = userMonitoringRepository;
@@ -168,7 +210,15 @@ public class StatisticsServiceImpl implements StatisticsService {
         this.occupyStatisticRepository = occupyStatisticRepository;
         this.availableDataMonitoringRepository = availableDataMonitoringRepository;
         this.tableColumnValuesRepository = tableColumnValuesRepository;
+        this.statisticsDailyRepository = statisticsDailyRepository;
+        this.occupyStatisticPartitionRepository = occupyStatisticPartitionRepository;
+        this.statisticsQueryExecutor = statisticsQueryExecutor;
+        this.availableDataCounterRepository = availableDataCounterRepository;
         this.threshold = threshold;
+        this.dailyRollupCron = dailyRollupCron;
+        this.occupyRetentionMonths = occupyRetentionMonths;
+        this.occupyRetentionCron = occupyRetentionCron;
+        this.availableCountersReconcileCron = availableCountersReconcileCron;
     }
 
     @Override
@@ -177,16 +227,19 @@ public class StatisticsServiceImpl implements StatisticsService {
     }
 
     @Override
-    public List<GeneralStatisticsItem> getTestDataAvailability(@Nonnull UUID projectId, @Nullable UUID systemId) {
+    public CollectedStatistics<TestDataTableCatalog, GeneralStatisticsItem> getTestDataAvailability(
+            @Nonnull UUID projectId, @Nullable UUID systemId) {
         log.info("Get test data availability for project: {}, systemId: {}", projectId, systemId);
         List<TestDataTableCatalog> catalogList = Objects.nonNull(systemId)
                 ? catalogRepository.findAllByProjectIdAndSystemId(projectId, systemId)
                 : catalogRepository.findAllByProjectId(projectId);
-        List<GeneralStatisticsItem> data = statisticsRepository.getTestDataAvailability(catalogList, projectId);
+        CollectedStatistics<TestDataTableCatalog, GeneralStatisticsItem> collected =
+                statisticsRepository.getTestDataAvailability(catalogList, projectId);
+        List<GeneralStatisticsItem> data = collected.getItems();
         setEnvironmentsNames(projectId, data);
         if (Objects.nonNull(systemId)) {
             log.info("Test data availability of {} system is successfully received.", systemId);
-            return data;
+            return collected;
         } else {
             List<GeneralStatisticsItem> listItems = new ArrayList<>();
             List<String> contextList = data.stream().map(GeneralStatisticsItem::getContext)
@@ -211,7 +264,7 @@ public class StatisticsServiceImpl implements StatisticsService {
                 listItems.add(item);
             });
             log.info("Test data availability of all systems is successfully received.");
-            return listItems;
+            return new CollectedStatistics<>(listItems, collected.getTimedOut(), collected.getFailed());
         }
     }
 
@@ -512,12 +565,125 @@ public class StatisticsServiceImpl implements StatisticsService {
 
     @Override
     public void saveOccupyStatistic(@Nonnull TestDataOccupyStatistic testDataOccupyStatistic) {
-        occupyStatisticRepository.save(testDataOccupyStatistic);
+        saveOccupyStatistics(Collections.singletonList(testDataOccupyStatistic));
+    }
+
+    /**
+     * Statistic of released row is removed, so the replaced statistic of an occupied row is the created one
+     * with the same created day and no previous statistic has to be read to enqueue its days.
+     * Replaced statistic of an occupied row is deleted by its key, so only the partitions of the occupied
+     * dates are changed. Created statistic replaces any statistic of the row.
+     */
+    @Override
+    public void saveOccupyStatistics(@Nonnull List<TestDataOccupyStatistic> statistics) {
+        if (statistics.isEmpty()) {
+            return;
+        }
+        Map<Boolean, List<TestDataOccupyStatistic>> statisticsByOccupied = statistics.stream()
+                .collect(Collectors.partitioningBy(statistic -> Objects.nonNull(statistic.getOccupiedDate())));
+        List<TestDataOccupyStatistic> created = statisticsByOccupied.get(false);
+        if (!created.isEmpty()) {
+            deleteAllOccupyStatisticByRowId(created.stream()
+                    .map(TestDataOccupyStatistic::getRowId)
+                    .collect(Collectors.toList()));
+        }
+        List<TestDataOccupyStatistic> occupied = statisticsByOccupied.get(true);
+        if (!occupied.isEmpty()) {
+            occupyStatisticRepository.deleteAllByRowIdAndOccupiedDate(
+                    occupied.stream().map(TestDataOccupyStatistic::getRowId).collect(Collectors.toList()),
+                    occupied.stream().map(TestDataOccupyStatistic::getOccupiedDate).distinct()
+                            .collect(Collectors.toList()));
+        }
+        occupyStatisticRepository.saveAll(statistics);
+        enqueueStatisticDays(statistics);
     }
 
     @Override
     public void deleteAllOccupyStatisticByRowId(@Nonnull List<UUID> rows) {
+        List<TestDataOccupyStatistic> statistics = occupyStatisticRepository.findAllByRowIdIn(rows);
         occupyStatisticRepository.deleteAllByRowId(rows);
+        enqueueStatisticDays(statistics);
+    }
+
+    private void enqueueStatisticDays(@Nonnull List<TestDataOccupyStatistic> statistics) {
+        LocalDate oldestRetainedDay = getOldestRetainedDay();
+        Map<String, Set<LocalDate>> tableDays = new HashMap<>();
+        statistics.forEach(statistic -> {
+            Set<LocalDate> days = tableDays.computeIfAbsent(statistic.getTableName(), tableName -> new HashSet<>());
+            Stream.of(statistic.getOccupiedDate(), statistic.getCreatedWhen())
+                    .filter(Objects::nonNull)
+                    .map(LocalDateTime::toLocalDate)
+                    .filter(day -> !day.isBefore(oldestRetainedDay))
+                    .forEach(days::add);
+        });
+        tableDays.forEach((tableName, days) -> {
+            if (!days.isEmpty()) {
+                statisticsDailyRepository.enqueue(tableName, days);
+            }
+        });
+    }
+
+    @Override
+    public void rollupDailyStatistics() {
+        Long watermark = statisticsDailyRepository.getQueueWatermark();
+        if (Objects.isNull(watermark)) {
+            return;
+        }
+        List<String> tableNames = statisticsDailyRepository.getQueuedTables(watermark);
+        log.info("Rolling up daily statistics for {} tables, watermark: {}", tableNames.size(), watermark);
+        for (String tableName : tableNames) {
+            try {
+                statisticsDailyRepository.rollupTable(tableName, watermark, getOldestRetainedDay());
+            } catch (Exception e) {
+                log.error("Failed to roll up daily statistics for table: [{}]", tableName, e);
+            }
+        }
+        log.info("Daily statistics successfully rolled up.");
+    }
+
+    @Override
+    public void reconcileAvailableDataCounters() {
+        availableDataCounterRepository.reconcileAll();
+    }
+
+    @Override
+    public void maintainOccupyStatisticPartitions() {
+        YearMonth currentMonth = YearMonth.now();
+        boolean partitioned = occupyStatisticPartitionRepository.isPartitioned();
+        List<YearMonth> partitions = partitioned
+                ? occupyStatisticPartitionRepository.getPartitions()
+                : Collections.emptyList();
+        if (partitioned) {
+            for (int i = 0; i <= OCCUPY_STATISTIC_PARTITIONS_AHEAD; i++) {
+                YearMonth month = currentMonth.plusMonths(i);
+                if (!partitions.contains(month)) {
+                    occupyStatisticPartitionRepository.createPartition(month);
+                }
+            }
+        }
+        if (occupyRetentionMonths <= 0) {
+            return;
+        }
+        YearMonth oldestKeptMonth = currentMonth.minusMonths(occupyRetentionMonths);
+        log.info("Removing occupy statistic before month: [{}]", oldestKeptMonth);
+        if (partitioned) {
+            partitions.stream()
+                    .filter(month -> month.isBefore(oldestKeptMonth))
+                    .forEach(occupyStatisticPartitionRepository::dropPartition);
+        } else {
+            occupyStatisticPartitionRepository.deleteOccupiedBefore(oldestKeptMonth.atDay(1));
+        }
+        log.info("Occupy statistic before month: [{}] removed.", oldestKeptMonth);
+    }
+
+    /**
+     * Daily statistics of days before the retained occupy statistic are kept as they were rolled up,
+     * they can't be rebuilt from the removed occupy statistic.
+     */
+    private LocalDate getOldestRetainedDay() {
+        return occupyRetentionMonths > 0
+                ? YearMonth.now().minusMonths(occupyRetentionMonths).atDay(1)
+                : LocalDate.EPOCH;
     }
 
     @Override
@@ -546,7 +712,7 @@ public class StatisticsServiceImpl implements StatisticsService {
                             catalog.getTableTitle(), null, null, createdWhen);
                 })
                 .collect(Collectors.toList());
-        occupyStatisticRepository.saveAll(statistics);
+        saveOccupyStatistics(statistics);
         log.info("Created when statistics for table: [{}] successfully saved.", tableName);
     }
 
@@ -572,91 +738,68 @@ public class StatisticsServiceImpl implements StatisticsService {
         UUID projectId = testDataTableUsersMonitoring.getProjectId();
         int daysCount = testDataTableUsersMonitoring.getDaysCount();
         String shortNameProject = environmentsService.getLazyProjectById(projectId).getName();
+        List<String> dates = getDateFormatFromDaysCount(daysCount);
+        Map<String, UsersStatisticsReportElement> userElements = new LinkedHashMap<>();
+        LocalDate dateTo = LocalDate.now();
+        collectUsersStatistics(projectId, dateTo.minusDays(daysCount), dateTo, (userName, item) ->
+                userElements.computeIfAbsent(userName, user -> new UsersStatisticsReportElement(user, dates,
+                        new ArrayList<>())).getItems().add(item));
+        if (userElements.isEmpty()) {
+            return new UsersStatisticsReportObject(shortNameProject, null);
+        }
+        return new UsersStatisticsReportObject(shortNameProject, new ArrayList<>(userElements.values()));
+    }
 
-        List<TestDataOccupyReportGroupBy> testDataOccupy = occupyStatisticRepository
-                .findAllByProjectIdAndOccupiedDateAndCountGroupBy(projectId, LocalDateTime.now().minusDays(daysCount));
-
-        if (!testDataOccupy.isEmpty()) {
-            List<UsersStatisticsReportElement> userElements = new ArrayList<>();
-
-            Map<String, TestDataTableCatalog> catalogMap = catalogRepository.findAllByProjectId(projectId)
-                    .stream()
-                    .collect(Collectors.toMap(TestDataTableCatalog::getTableName, Function.identity()));
-
-            List<String> userNames = testDataOccupy.stream()
-                    .map(TestDataOccupyReportGroupBy::getOccupiedBy)
-                    .distinct()
-                    .collect(Collectors.toList());
-
-            userNames.forEach(userName -> {
-                UsersStatisticsReportElement usersStatisticsReportElement = new UsersStatisticsReportElement();
-                List<UserGeneralStatisticsItem> listItems = new ArrayList<>();
-                usersStatisticsReportElement.setUser(userName);
-                usersStatisticsReportElement.setDates(getDateFormatFromDaysCount(daysCount));
-
-                List<TestDataOccupyReportGroupBy> testDataOccupyForUserName = testDataOccupy.stream()
-                        .filter(t -> t.getOccupiedBy().equals(userName)).collect(Collectors.toList());
-
-                List<String> tableNames =
-                        testDataOccupyForUserName.stream().map(TestDataOccupyReportGroupBy::getTableName)
-                                .distinct().collect(Collectors.toList());
-
-                tableNames.forEach(tableName -> {
-                    List<TestDataOccupyReportGroupBy> testDataOccupyForTableName = testDataOccupyForUserName.stream()
-                            .filter(t -> t.getTableName().equals(tableName)).collect(Collectors.toList());
-
-                    TestDataTableCatalog tableCatalog = catalogMap.get(tableName);
-
-                    String envName;
-                    String systemName;
-
-                    try {
-                        envName = environmentsService.getEnvNameById(tableCatalog.getEnvironmentId());
-                    } catch (Exception e) {
-                        log.error("Environment name for id: {} - don't found in EnvService",
-                                tableCatalog.getEnvironmentId());
-                        envName = tableCatalog.getEnvironmentId().toString();
-                    }
-
-                    try {
-                        systemName = environmentsService.getLazySystemById(
-                                        tableCatalog.getEnvironmentId(), tableCatalog.getSystemId()
-                                )
-                                .getName();
-                    } catch (Exception e) {
-                        log.error("System name for id: {} - don't found in EnvService",
-                                tableCatalog.getSystemId());
-                        systemName = tableCatalog.getSystemId().toString();
-                    }
-
-                    List<Long> counts = new ArrayList<>();
-                    DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-                    List<LocalDateTime> dates = getDateFromDaysCount(daysCount);
-                    dates.forEach(date -> {
-                        Long count = testDataOccupyForTableName.stream()
-                                .filter(t -> t.getOccupiedDate().format(dateTimeFormatter)
-                                        .equals(date.format(dateTimeFormatter)))
-                                .findFirst()
-                                .orElse(new TestDataOccupyReportGroupBy(null, null,
-                                        null, 0L))
-                                .getCount();
-                        counts.add(count);
-                    });
-
-                    UserGeneralStatisticsItem userStatisticsItem = new UserGeneralStatisticsItem(envName, systemName,
-                            tableCatalog.getTableTitle(), counts);
-
-                    listItems.add(userStatisticsItem);
-                });
+    /**
+     * Reads occupied rows counts grouped by user, table and day and passes them to consumer
+     * by one item per user and table.
+     *
+     * @param projectId - project id
+     * @param dateFrom  - first day of report
+     * @param dateTo    - last day of report
+     * @param consumer  - consumer of user name and item with counts for each day of report
+     */
+    private void collectUsersStatistics(@Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
+                                        @Nonnull LocalDate dateTo,
+                                        @Nonnull BiConsumer<String, UserGeneralStatisticsItem> consumer) {
+        UsersStatisticsCollector collector = new UsersStatisticsCollector(getTablesNames(projectId), dateFrom,
+                (int) DAYS.between(dateFrom, dateTo) + 1, consumer);
+        statisticsRepository.getUsersDailyOccupation(projectId, dateFrom, collector);
+        collector.flush();
+    }
 
-                usersStatisticsReportElement.setItems(listItems);
-                userElements.add(usersStatisticsReportElement);
+    /**
+     * Resolves environment and system names of project tables, each environment and system is requested once.
+     *
+     * @param projectId - project id
+     * @return items with environment name, system name and table title by table name
+     */
+    private Map<String, StatisticsItem> getTablesNames(@Nonnull UUID projectId) {
+        Map<UUID, String> environments = new HashMap<>();
+        Map<UUID, String> systems = new HashMap<>();
+        Map<String, StatisticsItem> tables = new HashMap<>();
+        catalogRepository.findAllByProjectId(projectId).forEach(tableCatalog -> {
+            UUID environmentId = tableCatalog.getEnvironmentId();
+            String envName = environments.computeIfAbsent(environmentId, id -> {
+                try {
+                    return environmentsService.getEnvNameById(id);
+                } catch (Exception e) {
+                    log.error("Environment name for id: {} - don't found in EnvService", id);
+                    return String.valueOf(id);
+                }
             });
-            return new UsersStatisticsReportObject(shortNameProject, userElements);
-        } else {
-            return new UsersStatisticsReportObject(shortNameProject, null);
-        }
+            String systemName = systems.computeIfAbsent(tableCatalog.getSystemId(), id -> {
+                try {
+                    return environmentsService.getLazySystemById(environmentId, id).getName();
+                } catch (Exception e) {
+                    log.error("System name for id: {} - don't found in EnvService", id);
+                    return String.valueOf(id);
+                }
+            });
+            tables.put(tableCatalog.getTableName(), new StatisticsItem(envName, systemName,
+                    tableCatalog.getTableTitle()));
+        });
+        return tables;
     }
 
     private List<LocalDateTime> getDateFromDaysCount(int daysCount) {
@@ -730,6 +873,53 @@ public class StatisticsServiceImpl implements StatisticsService {
         log.info("Stored statistic jobs successfully started.");
     }
 
+    /**
+     * Schedule daily statistics rollup.
+     */
+    public void startDailyStatisticsRollup() {
+        JobDetail job = JobBuilder.newJob(StatisticsDailyRollupJob.class)
+                .withIdentity(SCHEDULE_DAILY_ROLLUP_GROUP, SCHEDULE_DAILY_ROLLUP_GROUP)
+                .build();
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity(SCHEDULE_DAILY_ROLLUP_GROUP, SCHEDULE_DAILY_ROLLUP_GROUP)
+                .withSchedule(CronScheduleBuilder.cronSchedule(dailyRollupCron))
+                .build();
+        schedulerService.reschedule(job, trigger, true);
+        log.info("Daily statistics rollup has been scheduled with cron: {}", dailyRollupCron);
+    }
+
+    /**
+     * Schedule reconciliation of available data counters.
+     */
+    public void startAvailableDataCountersReconciliation() {
+        JobDetail job = JobBuilder.newJob(AvailableDataCountersReconcileJob.class)
+                .withIdentity(SCHEDULE_AVAILABLE_COUNTERS_GROUP, SCHEDULE_AVAILABLE_COUNTERS_GROUP)
+                .build();
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity(SCHEDULE_AVAILABLE_COUNTERS_GROUP, SCHEDULE_AVAILABLE_COUNTERS_GROUP)
+                .withSchedule(CronScheduleBuilder.cronSchedule(availableCountersReconcileCron))
+                .build();
+        schedulerService.reschedule(job, trigger, true);
+        log.info("Available data counters reconciliation has been scheduled with cron: {}",
+                availableCountersReconcileCron);
+    }
+
+    /**
+     * Schedule occupy statistic partitions maintenance and retention.
+     */
+    public void startOccupyStatisticRetention() {
+        JobDetail job = JobBuilder.newJob(OccupyStatisticRetentionJob.class)
+                .withIdentity(SCHEDULE_OCCUPY_RETENTION_GROUP, SCHEDULE_OCCUPY_RETENTION_GROUP)
+                .build();
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity(SCHEDULE_OCCUPY_RETENTION_GROUP, SCHEDULE_OCCUPY_RETENTION_GROUP)
+                .withSchedule(CronScheduleBuilder.cronSchedule(occupyRetentionCron))
+                .build();
+        schedulerService.reschedule(job, trigger, true);
+        log.info("Occupy statistic retention has been scheduled with cron: {}, retention months: {}",
+                occupyRetentionCron, occupyRetentionMonths);
+    }
+
     /**
      * Schedule users statistic monitoring.
      */
@@ -811,49 +1001,34 @@ public class StatisticsServiceImpl implements StatisticsService {
     public File getCsvReportByUsers(UUID projectId, int days) throws IOException {
         LocalDate dateTo = LocalDate.now();
         LocalDate dateFrom = dateTo.minusDays(days);
-
-        UsersOccupyStatisticResponse response = getOccupiedDataByUsers(new UsersOccupyStatisticRequest(
-                projectId,
-                0L,
-                100L,
-                null,
-                null,
-                dateFrom.toString(),
-                dateTo.toString()
-        ));
         String projectName = environmentsService.getLazyProjectById(projectId).getName();
-        String period = LocalDate.now().minusDays(days) + "-" + LocalDate.now();
+        String period = dateFrom + "-" + dateTo;
         File csvFile = new File(Files.createTempFile("[Statistic by User][" + projectName + "][" + period + "]",
                 CSV_EXT).toString());
-        try (FileWriter fileWriter = new FileWriter(csvFile)) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(csvFile))) {
             List<String> datesBetween = UsersOccupyStatisticUtils.getDatesBetween(dateFrom, dateTo);
-            datesBetween = datesBetween.stream()
-                    .map(LocalDate::parse)
-                    .map(date -> date.format(DateTimeFormatter.ISO_LOCAL_DATE))
-                    .collect(Collectors.toList());
-            StringBuilder csvHeader = new StringBuilder("User Name,Table,System,Environment,");
-            String datesString = String.join(",", datesBetween);
-            csvHeader.append(datesString).append(",\n");
-            fileWriter.write(csvHeader.toString());
-            for (OccupiedDataByUsersStatistics table : response.getData()) {
-                SortedSet<LocalDate> keys = new TreeSet<>(table.getData().keySet());
-                StringBuilder valuesString = new StringBuilder();
-                keys.forEach(date -> valuesString.append(table.getData().get(date)).append(","));
-
-                StringBuilder build = new StringBuilder();
-                build
-                        .append(table.getUserName())
+            writer.write("User Name,Table,System,Environment," + String.join(",", datesBetween) + ",\n");
+            collectUsersStatistics(projectId, dateFrom, dateTo, (userName, item) -> {
+                StringBuilder row = new StringBuilder()
+                        .append(userName)
                         .append(",")
-                        .append(table.getContext())
+                        .append(item.getContext())
                         .append(",")
-                        .append(StringUtils.defaultIfEmpty(table.getSystem(), "Not found"))
+                        .append(StringUtils.defaultIfEmpty(item.getSystem(), "Not found"))
                         .append(",")
-                        .append(StringUtils.defaultIfEmpty(table.getEnvironment(), "Not found"))
+                        .append(StringUtils.defaultIfEmpty(item.getEnvironment(), "Not found"))
                         .append(",");
-                build.append(valuesString);
-                build.append("\n");
-                fileWriter.write(build.toString());
-            }
+                item.getCounts().forEach(count -> row.append(count).append(","));
+                row.append("\n");
+                try {
+                    writer.write(row.toString());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.error("Error write csv file for report by users", e);
+            throw e.getCause();
         } catch (IOException e) {
             log.error("Error write csv file for report by users", e);
             throw e;
@@ -962,21 +1137,19 @@ public class StatisticsServiceImpl implements StatisticsService {
         if (CollectionUtils.isEmpty(config.getTablesColumns())) {
             throw new TdmSearchAvailableStatisticConfigException();
         }
-        config.getTablesColumns().stream().forEach(columnValues -> {
-            TableAvailableDataStats tableStats = new TableAvailableDataStats();
-            tableStats.setTableName(columnValues.getTableName());
-            tableStats.setTableTitle(columnValues.getTableTitle());
-            List<Object[]> result = entityManager
-                    .createNativeQuery(availableDataQuery(columnValues, config.getActiveColumnKey())).getResultList();
-            result.forEach(resultRow -> {
-                String key = String.valueOf(resultRow[0]);
-                if (columnValues.getValues().contains(key)) {
-                    tableStats.getOptions().put(key, ((Number) resultRow[1]).intValue());
-                }
-            });
-            columnValues.getValues().stream().forEach(value -> tableStats.getOptions().putIfAbsent(value, 0));
-            statistic.addTableStatistics(tableStats);
-        });
+        CollectedStatistics<TableColumnValues, TableAvailableDataStats> result =
+                statisticsQueryExecutor.collect(config.getTablesColumns(), columnValues -> {
+                    TableAvailableDataStats tableStats = new TableAvailableDataStats();
+                    tableStats.setTableName(columnValues.getTableName());
+                    tableStats.setTableTitle(columnValues.getTableTitle());
+                    Map<String, Long> counters = availableDataCounterRepository.getCounters(
+                            columnValues.getTableName(), config.getActiveColumnKey());
+                    columnValues.getValues().forEach(value -> tableStats.getOptions()
+                            .put(value, counters.getOrDefault(value, 0L).intValue()));
+                    return tableStats;
+                });
+        result.getItems().forEach(statistic::addTableStatistics);
+        statistic.setIncomplete(result.isIncomplete());
         log.debug("Received available data statistic: {}", statistic);
         return statistic;
     }
@@ -1024,4 +1197,55 @@ public class StatisticsServiceImpl implements StatisticsService {
         schedulerService.deleteJob(new JobKey(String.valueOf(systemId), SCHEDULE_AVAILABLE_DATA_GROUP));
         log.info("The statistics available data schedule successfully deleted.");
     }
+
+    /**
+     * Folds rows ordered by user, table and day into one item per user and table.
+     */
+    private static class UsersStatisticsCollector implements Consumer<TestDataOccupyReportGroupBy> {
+
+        private final Map<String, StatisticsItem> tables;
+        private final LocalDate dateFrom;
+        private final int daysNumber;
+        private final BiConsumer<String, UserGeneralStatisticsItem> consumer;
+        private String userName;
+        private String tableName;
+        private List<Long> counts;
+
+        UsersStatisticsCollector(@Nonnull Map<String, StatisticsItem> tables, @Nonnull LocalDate dateFrom,
+                                 int daysNumber, @Nonnull BiConsumer<String, UserGeneralStatisticsItem> consumer) {
+            this.tables = tables;
+            this.dateFrom = dateFrom;
+            this.daysNumber = daysNumber;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(TestDataOccupyReportGroupBy row) {
+            if (Objects.isNull(counts) || !Objects.equals(userName, row.getOccupiedBy())
+                    || !Objects.equals(tableName, row.getTableName())) {
+                flush();
+                userName = row.getOccupiedBy();
+                tableName = row.getTableName();
+                counts = new ArrayList<>(Collections.nCopies(daysNumber, 0L));
+            }
+            int day = (int) DAYS.between(dateFrom, row.getOccupiedDate().toLocalDate());
+            if (day >= 0 && day < daysNumber) {
+                counts.set(day, row.getCount());
+            }
+        }
+
+        void flush() {
+            if (Objects.isNull(counts)) {
+                return;
+            }
+            StatisticsItem table = tables.get(tableName);
+            if (Objects.nonNull(table)) {
+                consumer.accept(userName, new UserGeneralStatisticsItem(table.getEnvironment(), table.getSystem(),
+                        table.getContext(), counts));
+            } else {
+                log.debug("Table {} is not found in catalog, skipped in users statistics.", tableName);
+            }
+            counts = null;
+        }
+    }
 }
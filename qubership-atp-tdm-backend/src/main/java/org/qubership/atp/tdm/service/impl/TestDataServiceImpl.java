@@ -61,6 +61,7 @@ import org.qubership.atp.tdm.model.ColumnValues;
 import org.qubership.atp.tdm.model.DropResults;
 import org.qubership.atp.tdm.model.EnvsList;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
+import org.qubership.atp.tdm.model.TestDataExportRequest;
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.TestDataTableImportInfo;
@@ -69,6 +70,7 @@ import org.qubership.atp.tdm.model.scheduler.CleanRemovingHistoryJob;
 import org.qubership.atp.tdm.model.scheduler.TableCleanerJob;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.DateStatisticsItem;
+import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
 import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataFlagsTable;
 import org.qubership.atp.tdm.model.table.TestDataTable;
@@ -79,7 +81,6 @@ import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.ImportInfoRepository;
 import org.qubership.atp.tdm.repo.ProjectInformationRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
-import org.qubership.atp.tdm.repo.impl.SystemColumns;
 import org.qubership.atp.tdm.service.CleanupService;
 import org.qubership.atp.tdm.service.ColumnService;
 import org.qubership.atp.tdm.service.DataRefreshService;
@@ -87,6 +88,7 @@ import org.qubership.atp.tdm.service.SchedulerService;
 import org.qubership.atp.tdm.service.StatisticsService;
 import org.qubership.atp.tdm.service.TestDataFlagsService;
 import org.qubership.atp.tdm.service.TestDataService;
+import org.qubership.atp.tdm.service.impl.MetricService.Operation;
 import org.qubership.atp.tdm.utils.DataUtils;
 import org.qubership.atp.tdm.utils.TestDataTableConvertor;
 import org.qubership.atp.tdm.utils.TestDataUtils;
@@ -97,6 +99,7 @@ import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -127,6 +130,7 @@ public class TestDataServiceImpl implements TestDataService {
     private final TdmMdcHelper tdmMdcHelper;
     private final SchedulerService schedulerService;
     private final GitService gitService;
+    private final MetricService metricService;
 
     /**
      * Constructor for TestDataService.
@@ -149,7 +153,8 @@ public class TestDataServiceImpl implements TestDataService {
                                @Value("${table.expiration.cron}") String removingCron,
                                @Value("${clean.removed.tables.history.cron}") String historyCleanerCron,
                                TdmMdcHelper helper,
-                               GitService gitService) {
+                               GitService gitService,
+                               @Nonnull MetricService metricService) {
         this.catalogRepository = catalogRepository;
         this.testDataTableRepository = testDataTableRepository;
         this.environmentsService = environmentsService;
@@ -167,6 +172,7 @@ public class TestDataServiceImpl implements TestDataService {
         this.removingCron = removingCron;
         this.historyCleanerCron = historyCleanerCron;
         this.gitService = gitService;
+        this.metricService = metricService;
     }
 
     @Override
@@ -235,6 +241,19 @@ public class TestDataServiceImpl implements TestDataService {
                                                              @Nullable UUID systemId, @Nonnull String tableTitle,
                                                              @Nonnull Boolean runSqlScriptAfterExcelImport,
                                                              @Nonnull MultipartFile file) {
+        Timer.Sample sample = metricService.startTimer();
+        try {
+            return runExcelImport(projectId, environmentId, systemId, tableTitle, runSqlScriptAfterExcelImport, file);
+        } finally {
+            metricService.stopTimer(sample, Operation.IMPORT, projectId,
+                    findTableName(projectId, systemId, tableTitle));
+        }
+    }
+
+    private List<ImportTestDataStatistic> runExcelImport(@Nonnull UUID projectId, @Nullable UUID environmentId,
+                                                         @Nullable UUID systemId, @Nonnull String tableTitle,
+                                                         @Nonnull Boolean runSqlScriptAfterExcelImport,
+                                                         @Nonnull MultipartFile file) {
         log.info("Excel import started. Table title [{}]", tableTitle);
         if (Objects.isNull(environmentId) || Objects.isNull(systemId)) {
             throw new TdmEnvironmentSystemException();
@@ -287,6 +306,26 @@ public class TestDataServiceImpl implements TestDataService {
                                                            @Nonnull List<UUID> environmentsIds,
                                                            @Nonnull String systemName, @Nonnull String tableTitle,
                                                            @Nonnull String query, @Nonnull Integer queryTimeout) {
+        Timer.Sample sample = metricService.startTimer();
+        try {
+            return runSqlImport(projectId, environmentsIds, systemName, tableTitle, query, queryTimeout);
+        } finally {
+            metricService.stopTimer(sample, Operation.IMPORT, projectId, findTableName(projectId, null, tableTitle));
+        }
+    }
+
+    @Nullable
+    private String findTableName(@Nonnull UUID projectId, @Nullable UUID systemId, @Nonnull String tableTitle) {
+        TestDataTableCatalog tableCatalog = Objects.isNull(systemId)
+                ? catalogRepository.findAllByProjectIdAndTableTitle(projectId, tableTitle).stream()
+                        .findFirst().orElse(null)
+                : catalogRepository.findByProjectIdAndSystemIdAndTableTitle(projectId, systemId, tableTitle);
+        return Objects.isNull(tableCatalog) ? null : tableCatalog.getTableName();
+    }
+
+    private List<ImportTestDataStatistic> runSqlImport(@Nonnull UUID projectId, @Nonnull List<UUID> environmentsIds,
+                                                       @Nonnull String systemName, @Nonnull String tableTitle,
+                                                       @Nonnull String query, @Nonnull Integer queryTimeout) {
         log.info("SQL import started. Table title: [{}]", tableTitle);
         List<ImportTestDataStatistic> statistics = new ArrayList<>();
         for (UUID environmentId : environmentsIds) {
@@ -361,23 +400,40 @@ public class TestDataServiceImpl implements TestDataService {
 
     @Override
     public void occupyTestData(@Nonnull String tableName, @Nonnull String occupiedBy, @Nonnull List<UUID> rows) {
+        Timer.Sample sample = metricService.startTimer();
+        try {
+            occupyRows(tableName, occupiedBy, rows);
+        } finally {
+            metricService.stopTimer(sample, Operation.OCCUPY, MDC.get(MdcField.PROJECT_ID.toString()), tableName);
+        }
+    }
+
+    private void occupyRows(@Nonnull String tableName, @Nonnull String occupiedBy, @Nonnull List<UUID> rows) {
         String date = testDataTableRepository.occupyTestData(tableName, occupiedBy, rows);
         TestDataTableCatalog catalog = catalogRepository.findByTableName(tableName);
         testDataTableRepository.updateLastUsage(tableName);
         tdmMdcHelper.putConfigFields(catalog);
         LocalDateTime occupyTime = LocalDateTime.parse(date, FULL_DATE_FORMATTER);
-        rows.forEach(row -> {
-            LocalDateTime createdTime = LocalDateTime.parse(String.valueOf(getTableRow(tableName, "ROW_ID",
-                    row.toString(), true).get("CREATED_WHEN")), FULL_DATE_FORMATTER);
-            statisticsService.saveOccupyStatistic(new TestDataOccupyStatistic(row, catalog.getProjectId(),
-                    catalog.getSystemId(), tableName, catalog.getTableTitle(), occupiedBy, occupyTime, createdTime));
-        });
+        List<TestDataOccupyStatistic> statistics = rows.stream()
+                .map(row -> {
+                    LocalDateTime createdTime = LocalDateTime.parse(String.valueOf(getTableRow(tableName, "ROW_ID",
+                            row.toString(), true).get("CREATED_WHEN")), FULL_DATE_FORMATTER);
+                    return new TestDataOccupyStatistic(row, catalog.getProjectId(), catalog.getSystemId(), tableName,
+                            catalog.getTableTitle(), occupiedBy, occupyTime, createdTime);
+                })
+                .collect(Collectors.toList());
+        statisticsService.saveOccupyStatistics(statistics);
     }
 
     @Override
     public void releaseTestData(@Nonnull String tableName, @Nonnull List<UUID> rows) {
-        testDataTableRepository.releaseTestData(tableName, rows);
-        statisticsService.deleteAllOccupyStatisticByRowId(rows);
+        Timer.Sample sample = metricService.startTimer();
+        try {
+            testDataTableRepository.releaseTestData(tableName, rows);
+            statisticsService.deleteAllOccupyStatisticByRowId(rows);
+        } finally {
+            metricService.stopTimer(sample, Operation.RELEASE, MDC.get(MdcField.PROJECT_ID.toString()), tableName);
+        }
     }
 
     @Override
@@ -438,7 +494,7 @@ public class TestDataServiceImpl implements TestDataService {
      */
     @Override
     public File getTestDataTableAsExcelFile(@Nonnull String tableName) {
-        return testDataTableRepository.getTestDataTableAsExcel(tableName, null, null, null);
+        return getTestDataTableAsExcelFile(new TestDataExportRequest(tableName));
     }
 
     /**
@@ -449,7 +505,45 @@ public class TestDataServiceImpl implements TestDataService {
      */
     @Override
     public File getTestDataTableAsCsvFile(@Nonnull String tableName) {
-        return testDataTableRepository.getTestDataTableAsCsv(tableName, null, null, null);
+        return getTestDataTableAsCsvFile(new TestDataExportRequest(tableName));
+    }
+
+    /**
+     * Method to convert filtered and column-projected TestDataTable to excel file.
+     *
+     * @param exportRequest export request with the grid columns, filters and ordering.
+     * @return Excel file.
+     */
+    @Override
+    public File getTestDataTableAsExcelFile(@Nonnull TestDataExportRequest exportRequest) {
+        Timer.Sample sample = metricService.startTimer();
+        try {
+            return testDataTableRepository.getTestDataTableAsExcel(exportRequest.getTableName(),
+                    exportRequest.getTestDataType(), exportRequest.getColumns(), exportRequest.getFilters(),
+                    exportRequest.getDataTableOrder());
+        } finally {
+            metricService.stopTimer(sample, Operation.EXPORT, MDC.get(MdcField.PROJECT_ID.toString()),
+                    exportRequest.getTableName());
+        }
+    }
+
+    /**
+     * Method to convert filtered and column-projected TestDataTable to csv file.
+     *
+     * @param exportRequest export request with the grid columns, filters and ordering.
+     * @return csv file.
+     */
+    @Override
+    public File getTestDataTableAsCsvFile(@Nonnull TestDataExportRequest exportRequest) {
+        Timer.Sample sample = metricService.startTimer();
+        try {
+            return testDataTableRepository.getTestDataTableAsCsv(exportRequest.getTableName(),
+                    exportRequest.getTestDataType(), exportRequest.getColumns(), exportRequest.getFilters(),
+                    exportRequest.getDataTableOrder());
+        } finally {
+            metricService.stopTimer(sample, Operation.EXPORT, MDC.get(MdcField.PROJECT_ID.toString()),
+                    exportRequest.getTableName());
+        }
     }
 
     @Override
@@ -572,92 +666,14 @@ public class TestDataServiceImpl implements TestDataService {
                                                 @Nonnull LocalDate dateTo) {
         DateStatistics dateStatistics = new DateStatistics();
         List<DateStatisticsItem> listStatisticsItems = new ArrayList<>();
-        dateStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
+        StatisticsInterval interval = DataUtils.resolveStatisticsInterval(dateFrom, dateTo);
+        dateStatistics.setDates(DataUtils.getStatisticsInterval(interval, dateFrom, dateTo));
         catalogList.forEach(catalog -> {
-            TestDataTable table = testDataTableRepository.getTableByCreatedWhen(catalog.getTableName(),
-                    dateFrom, dateTo);
-            LocalDate iterDate = dateFrom;
+            Map<LocalDate, Long> createdWhen = testDataTableRepository.getCreatedWhenStatistics(
+                    catalog.getTableName(), dateFrom, dateTo, DataUtils.getStatisticsTruncUnit(interval));
             DateStatisticsItem statisticsItem = new DateStatisticsItem(catalog.getTableTitle());
-            List<Long> created = new ArrayList<>();
-            long count;
-            switch (DataUtils.statisticsInterval) {
-                case YEARS:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen = LocalDateTime
-                                    .parse(
-                                            row.get(SystemColumns.CREATED_WHEN.getName()).toString(),
-                                            FULL_DATE_FORMATTER
-                                    )
-                                    .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusYears(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
-                case WEEKS:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen =
-                                    LocalDateTime.parse(
-                                                    row.get(SystemColumns.CREATED_WHEN.getName()).toString(),
-                                                    FULL_DATE_FORMATTER
-                                            )
-                                            .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()
-                                    && iterDate.getMonth() == createdWhen.getMonth()
-                                    && (createdWhen.isEqual(iterDate) || createdWhen.isAfter(iterDate))
-                                    && createdWhen.isBefore(iterDate.plusWeeks(1))) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusWeeks(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
-                case DAYS:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen = LocalDateTime.parse(
-                                            row.get(SystemColumns.CREATED_WHEN.getName()).toString(),
-                                            FULL_DATE_FORMATTER
-                                    )
-                                    .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()
-                                    && iterDate.getMonth() == createdWhen.getMonth()
-                                    && iterDate.getDayOfMonth() == createdWhen.getDayOfMonth()) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusDays(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
-                default:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen = LocalDateTime.parse(
-                                            row.get(SystemColumns.CREATED_WHEN.getName()).toString(),
-                                            FULL_DATE_FORMATTER
-                                    )
-                                    .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()
-                                    && iterDate.getMonth() == createdWhen.getMonth()) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusMonths(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
-            }
+            List<Long> created = DataUtils.getStatisticsBuckets(createdWhen.entrySet(), Map.Entry::getKey,
+                    Map.Entry::getValue, interval, dateFrom, dateTo);
             UUID system = catalog.getSystemId();
             if (system != null) {
                 statisticsItem.setSystem(system.toString());
@@ -16,9 +16,7 @@
 
 package org.qubership.atp.tdm.service.mailsender;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
@@ -33,25 +31,19 @@ import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.integration.configuration.model.MailRequest;
 import org.qubership.atp.integration.configuration.service.MailSenderService;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
-import org.qubership.atp.tdm.exceptions.file.TdmMultipartFileException;
-import org.qubership.atp.tdm.exceptions.internal.TdmGetImageFromHighchartException;
 import org.qubership.atp.tdm.model.mail.charts.ChartSeries;
 import org.qubership.atp.tdm.model.statistics.TestAvailableDataMonitoring;
 import org.qubership.atp.tdm.model.statistics.available.AvailableDataByColumnStats;
 import org.qubership.atp.tdm.model.statistics.available.TableAvailableDataStats;
 import org.qubership.atp.tdm.service.StatisticsService;
-import org.qubership.atp.tdm.service.client.HighchartsFeignClient;
 import org.qubership.atp.tdm.utils.AvailableStatisticUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import jakarta.annotation.Nonnull;
@@ -63,8 +55,8 @@ public class AvailableDataStatisticsMailSender {
 
     private static final String IMAGE_TEMPLATE = "<img src=\"cid:%s\" />";
     private final String mailSenderFrom;
-    private final HighchartsFeignClient highchartsFeignClient;
-    private final Configuration configuration;
+    private final ChartRenderer chartRenderer;
+    private final MailTemplateRegistry templateRegistry;
     private final StatisticsService statisticsService;
     private final MailSenderService mailSender;
     private final String mailSenderSubject;
@@ -80,7 +72,7 @@ public class AvailableDataStatisticsMailSender {
      * AvailableDataStatisticsMailSender Constructor.
      */
     @Autowired
-    private AvailableDataStatisticsMailSender(@Nonnull Configuration configuration,
+    private AvailableDataStatisticsMailSender(@Nonnull MailTemplateRegistry templateRegistry,
                                               @Nonnull StatisticsService statisticsService,
                                               @Nonnull MailSenderService mailSender,
                                               @Nonnull EnvironmentsService environmentsService,
@@ -92,8 +84,8 @@ public class AvailableDataStatisticsMailSender {
                                               @Value("${highcharts.template.path}") String highchartJsonTemplatePath,
                                               @Value("${mail.sender.available.statistics.path}") String mailSenderPath,
                                               @Value("${highcharts.template}") String highchartJsonTemplate,
-                                              HighchartsFeignClient highchartsFeignClient) {
-        this.configuration = configuration;
+                                              @Nonnull ChartRenderer chartRenderer) {
+        this.templateRegistry = templateRegistry;
         this.statisticsService = statisticsService;
         this.mailSender = mailSender;
         this.mailSenderSubject = mailSenderSubject;
@@ -102,8 +94,9 @@ public class AvailableDataStatisticsMailSender {
         this.environmentsService = environmentsService;
         this.highchartJsonPath = highchartJsonTemplatePath;
         this.highchartJsonTemplate = highchartJsonTemplate;
-        this.highchartsFeignClient = highchartsFeignClient;
+        this.chartRenderer = chartRenderer;
         this.mailSenderFrom = mailSenderFrom;
+        templateRegistry.preload(mailSenderPath, mailSenderTemplate);
     }
 
     /**
@@ -129,7 +122,7 @@ public class AvailableDataStatisticsMailSender {
             log.trace("Statistic: {}", statistics);
             String environmentName = environmentsService.getEnvNameById(environmentId);
             List<MultipartFile> images = buildImages(statistics);
-            String content = buildMessageContent(configuration, statistics, environmentName,
+            String content = buildMessageContent(statistics, environmentName,
                     monitoring.getThreshold(), images.stream()
                             .map(image -> String.format(IMAGE_TEMPLATE, image.getOriginalFilename()))
                             .collect(Collectors.toList()));
@@ -143,13 +136,12 @@ public class AvailableDataStatisticsMailSender {
         }
     }
 
-    private String buildMessageContent(Configuration freemarkerConfig, AvailableDataByColumnStats messageContent,
+    private String buildMessageContent(AvailableDataByColumnStats messageContent,
                                        String environmentName, int threshold, List<String> highcharts) {
         log.debug("Build message content: message content {}, environmentName {}, threshold {}, highcharts {}",
                 messageContent, environmentName, threshold, highcharts);
         try {
-            freemarkerConfig.setDirectoryForTemplateLoading(new File(mailSenderPath));
-            Template template = freemarkerConfig.getTemplate(mailSenderTemplate);
+            Template template = templateRegistry.getTemplate(mailSenderPath, mailSenderTemplate);
             Writer writer = new StringWriter();
             template.process(new HashMap<String, Object>() {
                 {
@@ -171,7 +163,7 @@ public class AvailableDataStatisticsMailSender {
 
     private List<MultipartFile> buildImages(AvailableDataByColumnStats statistics) {
         log.debug("Building image for stats: {}", statistics);
-        List<MultipartFile> images = new ArrayList<>();
+        List<String> chartConfigurations = new ArrayList<>();
         List<String> currentCategories = new ArrayList<>();
         List<ChartSeries> chartSeriesList = new ArrayList<>();
         int currentColumnCount = 0;
@@ -198,13 +190,7 @@ public class AvailableDataStatisticsMailSender {
                         AvailableStatisticUtils.getColorByIndex(statistics.getStatistics().indexOf(stats)));
                 chartSeriesList.add(series);
             } else {
-                try {
-                    images.add(getImageFromHighchartService(currentCategories, chartSeriesList));
-                } catch (Exception e) {
-                    log.error("Cannot create MultipartFile for categories {} and chart series list {}",
-                            currentCategories, chartSeriesList, e);
-                    throw e;
-                }
+                chartConfigurations.add(buildChartConfiguration(currentCategories, chartSeriesList));
                 currentCategories.clear();
                 chartSeriesList.clear();
                 currentCategories.addAll(stats.getOptions().keySet());
@@ -215,41 +201,23 @@ public class AvailableDataStatisticsMailSender {
                 chartSeriesList.add(series);
             }
             if (!statsIterator.hasNext()) {
-                try {
-                    images.add(getImageFromHighchartService(currentCategories, chartSeriesList));
-                } catch (Exception e) {
-                    log.error("Cannot create MultipartFile for categories {} and chart series list {}",
-                            currentCategories, chartSeriesList, e);
-                    throw e;
-                }
+                chartConfigurations.add(buildChartConfiguration(currentCategories, chartSeriesList));
             }
         }
+        List<byte[]> charts = chartRenderer.render(chartConfigurations);
+        String filePrefix = String.valueOf(System.currentTimeMillis());
+        List<MultipartFile> images = new ArrayList<>();
+        for (int i = 0; i < charts.size(); i++) {
+            images.add(new MockMultipartFile("application", filePrefix + "_" + i + ".png",
+                    MediaType.APPLICATION_OCTET_STREAM.toString(), charts.get(i)));
+        }
         return images;
     }
 
-    private MultipartFile getImageFromHighchartService(List<String> categories, List<ChartSeries> chartSeriesList) {
-        log.debug("Getting image from highchart service for categories {} and chart series list {}", categories,
+    private String buildChartConfiguration(List<String> categories, List<ChartSeries> chartSeriesList) {
+        log.debug("Building chart configuration for categories {} and chart series list {}", categories,
                 chartSeriesList);
-
-        ResponseEntity<Resource> response = highchartsFeignClient.create(
-                AvailableStatisticUtils.buildHighChartConfigurationBody(
-                        highchartJsonPath + highchartJsonTemplate, categories, chartSeriesList));
-
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            String errorMessage = String.format("Status code isn't successfull: %s", response.getStatusCode().value());
-            log.error(errorMessage);
-            throw new TdmGetImageFromHighchartException(errorMessage);
-        }
-        String fileName = System.currentTimeMillis() + ".png";
-        MockMultipartFile multipartFileToSend = null;
-
-        try (InputStream stream = response.getBody().getInputStream()) {
-            multipartFileToSend = new MockMultipartFile("application", fileName,
-                    MediaType.APPLICATION_OCTET_STREAM.toString(), stream);
-        } catch (Exception e) {
-            log.error(String.format(TdmMultipartFileException.DEFAULT_MESSAGE, e.getMessage()), e);
-            throw new TdmMultipartFileException(e.getMessage());
-        }
-        return multipartFileToSend;
+        return AvailableStatisticUtils.buildHighChartConfigurationBody(highchartJsonPath + highchartJsonTemplate,
+                categories, chartSeriesList);
     }
 }
@@ -0,0 +1,146 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.mailsender;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.tdm.exceptions.file.TdmMultipartFileException;
+import org.qubership.atp.tdm.exceptions.internal.TdmGetImageFromHighchartException;
+import org.qubership.atp.tdm.service.client.HighchartsFeignClient;
+import org.qubership.atp.tdm.utils.ExecutorUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Renders report charts through highcharts service. Charts of one report are rendered concurrently
+ * by bounded pool within render timeout, rendered images are cached by hash of chart configuration,
+ * so scheduled reports with unchanged data don't call highcharts service again.
+ */
+@Slf4j
+@Component
+public class ChartRenderer {
+
+    private final HighchartsFeignClient highchartsFeignClient;
+    private final ExecutorService executor;
+    private final Cache<String, byte[]> charts;
+    private final long timeoutSec;
+
+    /**
+     * Constructor for ChartRenderer.
+     */
+    @Autowired
+    public ChartRenderer(@Nonnull HighchartsFeignClient highchartsFeignClient,
+                         @Value("${highcharts.render.pool.size:4}") int poolSize,
+                         @Value("${highcharts.cache.size:200}") long cacheSize,
+                         @Value("${highcharts.cache.expire.hours:24}") long cacheExpireHours,
+                         @Value("${highcharts.render.timeout.sec:60}") long timeoutSec) {
+        this.highchartsFeignClient = highchartsFeignClient;
+        this.executor = ExecutorUtils.newFixedThreadPool("chart-render-%d", poolSize);
+        this.charts = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheExpireHours, TimeUnit.HOURS)
+                .build();
+        this.timeoutSec = timeoutSec;
+    }
+
+    /**
+     * Renders charts concurrently.
+     *
+     * @param configurations - highcharts configuration of each chart
+     * @return png images in order of configurations
+     */
+    public List<byte[]> render(@Nonnull List<String> configurations) {
+        List<Callable<byte[]>> tasks = configurations.stream()
+                .map(configuration -> ExecutorUtils.withMdc(() -> getChart(configuration)))
+                .collect(Collectors.toList());
+        List<byte[]> images = new ArrayList<>();
+        try {
+            for (Future<byte[]> future : executor.invokeAll(tasks, timeoutSec, TimeUnit.SECONDS)) {
+                if (future.isCancelled()) {
+                    String errorMessage = String.format("Charts were not rendered within %s sec, count: %s",
+                            timeoutSec, configurations.size());
+                    log.error(errorMessage);
+                    throw new TdmGetImageFromHighchartException(errorMessage);
+                }
+                images.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TdmGetImageFromHighchartException(e.getMessage());
+        } catch (ExecutionException e) {
+            log.error("Cannot render charts, count: {}", configurations.size(), e.getCause());
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new TdmGetImageFromHighchartException(e.getCause().getMessage());
+        }
+        return images;
+    }
+
+    private byte[] getChart(@Nonnull String configuration) {
+        String key = Hashing.sha256().hashString(configuration, StandardCharsets.UTF_8).toString();
+        byte[] chart = charts.getIfPresent(key);
+        if (chart == null) {
+            chart = renderChart(configuration);
+            charts.put(key, chart);
+        } else {
+            log.debug("Chart {} is taken from cache", key);
+        }
+        return chart;
+    }
+
+    private byte[] renderChart(@Nonnull String configuration) {
+        log.debug("Getting image from highchart service for configuration {}", configuration);
+        ResponseEntity<Resource> response = highchartsFeignClient.create(configuration);
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            String errorMessage = String.format("Status code isn't successfull: %s", response.getStatusCode().value());
+            log.error(errorMessage);
+            throw new TdmGetImageFromHighchartException(errorMessage);
+        }
+        try (InputStream stream = response.getBody().getInputStream()) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            log.error(String.format(TdmMultipartFileException.DEFAULT_MESSAGE, e.getMessage()), e);
+            throw new TdmMultipartFileException(e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
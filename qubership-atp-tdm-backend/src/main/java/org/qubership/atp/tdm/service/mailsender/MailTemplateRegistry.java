@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.mailsender;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shared registry of mail report templates. Each templates directory gets own copy of Freemarker configuration,
+ * so the shared configuration is never reconfigured and parsed templates stay in Freemarker template cache
+ * between sends.
+ */
+@Slf4j
+@Component
+public class MailTemplateRegistry {
+
+    private final Configuration configuration;
+    private final Map<String, Configuration> configurations = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MailTemplateRegistry(@Nonnull Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Loads template in advance. Template which can't be loaded now is loaded again on first use.
+     *
+     * @param path - templates directory
+     * @param name - template name
+     */
+    public void preload(@Nonnull String path, @Nonnull String name) {
+        try {
+            getTemplate(path, name);
+            log.debug("Mail template {} is loaded from {}", name, path);
+        } catch (IOException e) {
+            log.warn("Mail template {} can't be preloaded from {}: {}", name, path, e.getMessage());
+        }
+    }
+
+    /**
+     * Get parsed template.
+     *
+     * @param path - templates directory
+     * @param name - template name
+     * @return template
+     */
+    public Template getTemplate(@Nonnull String path, @Nonnull String name) throws IOException {
+        Configuration pathConfiguration = configurations.get(path);
+        if (pathConfiguration == null) {
+            pathConfiguration = (Configuration) configuration.clone();
+            pathConfiguration.setDirectoryForTemplateLoading(new File(path));
+            Configuration existing = configurations.putIfAbsent(path, pathConfiguration);
+            if (existing != null) {
+                pathConfiguration = existing;
+            }
+        }
+        return pathConfiguration.getTemplate(name);
+    }
+}
@@ -16,7 +16,6 @@
 
 package org.qubership.atp.tdm.service.mailsender;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -36,7 +35,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import jakarta.annotation.Nonnull;
@@ -47,7 +45,7 @@ import lombok.extern.slf4j.Slf4j;
 public class StatisticsMailSender {
 
     private final String mailSenderFrom;
-    private final Configuration configuration;
+    private final MailTemplateRegistry templateRegistry;
     private final StatisticsService statisticsService;
     private final MailSenderService mailSender;
     private final MetricService metricService;
@@ -63,7 +61,7 @@ public class StatisticsMailSender {
      */
     @Autowired
     private StatisticsMailSender(@Value("${mail.sender.from}") String mailSenderFrom,
-                                 @Nonnull Configuration configuration,
+                                 @Nonnull MailTemplateRegistry templateRegistry,
                                  @Nonnull StatisticsService statisticsService,
                                  @Nonnull MailSenderService mailSender,
                                  @Nonnull MetricService metricService,
@@ -72,7 +70,7 @@ public class StatisticsMailSender {
                                  @Value("${mail.sender.statistics.template}") String mailSenderTemplate,
                                  @Value("${mail.sender.statistics.path}") String mailSenderPath) {
         this.mailSenderFrom = mailSenderFrom;
-        this.configuration = configuration;
+        this.templateRegistry = templateRegistry;
         this.statisticsService = statisticsService;
         this.mailSender = mailSender;
         this.metricService = metricService;
@@ -80,6 +78,7 @@ public class StatisticsMailSender {
         this.mailSenderTemplate = mailSenderTemplate;
         this.mailSenderPath = mailSenderPath;
         this.environmentsService = environmentsService;
+        templateRegistry.preload(mailSenderPath, mailSenderTemplate);
     }
 
     /**
@@ -98,7 +97,7 @@ public class StatisticsMailSender {
                 StatisticsReportObject statisticsReportObject = statisticsService
                         .getTestDataMonitoringStatistics(projId, monitoring.getThreshold());
                 mailRequest.setSubject(String.format(mailSenderSubject, statisticsReportObject.getProjectName()));
-                mailRequest.setContent(buildMessageContent(configuration, statisticsReportObject));
+                mailRequest.setContent(buildMessageContent(statisticsReportObject));
                 Map<String, Object> metadata = new HashMap<>();
                 metadata.put("projectId", projId);
                 mailRequest.setMetadata(metadata);
@@ -120,10 +119,9 @@ public class StatisticsMailSender {
         }
     }
 
-    private String buildMessageContent(Configuration freemarkerConfig, StatisticsReportObject messageContent) {
+    private String buildMessageContent(StatisticsReportObject messageContent) {
         try {
-            freemarkerConfig.setDirectoryForTemplateLoading(new File(mailSenderPath));
-            Template template = freemarkerConfig.getTemplate(mailSenderTemplate);
+            Template template = templateRegistry.getTemplate(mailSenderPath, mailSenderTemplate);
             Writer writer = new StringWriter();
             template.process(new HashMap<String, Object>() {
                 {
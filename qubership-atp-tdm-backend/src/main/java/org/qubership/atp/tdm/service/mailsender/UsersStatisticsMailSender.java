@@ -44,7 +44,6 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import jakarta.annotation.Nonnull;
@@ -57,7 +56,7 @@ public class UsersStatisticsMailSender {
     private static final String EMPTY_HTML_CONTENT = "Statistic by Users.\n"
             + "Please, find CSV file with statistic in attachment";
     private final String mailSenderFrom;
-    private final Configuration configuration;
+    private final MailTemplateRegistry templateRegistry;
     private final StatisticsService statisticsService;
     private final MailSenderService mailSender;
     private final MetricService metricService;
@@ -73,7 +72,7 @@ public class UsersStatisticsMailSender {
      */
     @Autowired
     private UsersStatisticsMailSender(@Value("${mail.sender.from}") String mailSenderFrom,
-                                      @Nonnull Configuration configuration,
+                                      @Nonnull MailTemplateRegistry templateRegistry,
                                       @Nonnull StatisticsService statisticsService,
                                       @Nonnull MailSenderService mailSenderService,
                                       @Nonnull MetricService metricService,
@@ -82,7 +81,7 @@ public class UsersStatisticsMailSender {
                                       @Value("${mail.sender.users.statistics.template}") String mailSenderTemplate,
                                       @Value("${mail.sender.users.statistics.path}") String mailSenderPath) {
         this.mailSenderFrom = mailSenderFrom;
-        this.configuration = configuration;
+        this.templateRegistry = templateRegistry;
         this.statisticsService = statisticsService;
         this.mailSender = mailSenderService;
         this.metricService = metricService;
@@ -90,6 +89,7 @@ public class UsersStatisticsMailSender {
         this.mailSenderSubject = mailSenderSubject;
         this.mailSenderTemplate = mailSenderTemplate;
         this.mailSenderPath = mailSenderPath;
+        templateRegistry.preload(mailSenderPath, mailSenderTemplate);
     }
 
     /**
@@ -115,7 +115,7 @@ public class UsersStatisticsMailSender {
                         statisticsService.getUsersStatisticsReport(monitoring);
                 String content = EMPTY_HTML_CONTENT;
                 if (monitoring.isHtmlReport()) {
-                    content = buildMessageContent(configuration, usersStatisticsReportObject);
+                    content = buildMessageContent(usersStatisticsReportObject);
                 }
                 mailRequest.setSubject(String.format(mailSenderSubject, usersStatisticsReportObject.getProjectName()));
                 mailRequest.setContent(content);
@@ -154,10 +154,9 @@ public class UsersStatisticsMailSender {
         }
     }
 
-    private String buildMessageContent(Configuration freemarkerConfig, UsersStatisticsReportObject messageContent) {
+    private String buildMessageContent(UsersStatisticsReportObject messageContent) {
         try {
-            freemarkerConfig.setDirectoryForTemplateLoading(new File(mailSenderPath));
-            Template template = freemarkerConfig.getTemplate(mailSenderTemplate);
+            Template template = templateRegistry.getTemplate(mailSenderPath, mailSenderTemplate);
             Writer writer = new StringWriter();
             template.process(new HashMap<String, Object>() {
                 {
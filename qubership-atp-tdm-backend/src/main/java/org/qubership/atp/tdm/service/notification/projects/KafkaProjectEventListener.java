@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.notification.projects;
+
+import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
+import org.qubership.atp.tdm.mdc.TdmMdcHelper;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.Gson;
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts cached data of the project on its change event.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.enable", havingValue = "true")
+public class KafkaProjectEventListener implements ProjectEventListener {
+
+    private static final Gson GSON = new Gson();
+
+    private final EnvironmentsService environmentsService;
+    private final TdmMdcHelper mdcHelper;
+
+    @Autowired
+    public KafkaProjectEventListener(@Nonnull EnvironmentsService environmentsService,
+                                     @Nonnull TdmMdcHelper mdcHelper) {
+        this.environmentsService = environmentsService;
+        this.mdcHelper = mdcHelper;
+    }
+
+    @Override
+    @KafkaListener(topics = "${kafka.projects.topic}")
+    public void listen(String event) {
+        MDC.clear();
+        try {
+            ProjectEvent projectEvent = GSON.fromJson(event, ProjectEvent.class);
+            mdcHelper.putProjectEventFields(projectEvent);
+            log.info("Project event received: {} {}", projectEvent.getType(), projectEvent.getProjectId());
+            environmentsService.evictProject(projectEvent.getProjectId());
+        } catch (Exception e) {
+            log.error("Failed to process project event", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.notification.systems;
+
+import java.util.List;
+
+import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
+import org.qubership.atp.tdm.mdc.TdmMdcHelper;
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.qubership.atp.tdm.service.ColumnService;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.Gson;
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sets up links of tables again when the system is updated, because they are built from the system connections.
+ * Events are consumed with a group shared by all instances, so links are rewritten by one of them.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.enable", havingValue = "true")
+public class KafkaSystemLinksListener implements SystemEventListener {
+
+    private static final Gson GSON = new Gson();
+
+    private final EnvironmentsService environmentsService;
+    private final ColumnService columnService;
+    private final TdmMdcHelper mdcHelper;
+
+    @Autowired
+    public KafkaSystemLinksListener(@Nonnull EnvironmentsService environmentsService,
+                                    @Nonnull ColumnService columnService,
+                                    @Nonnull TdmMdcHelper mdcHelper) {
+        this.environmentsService = environmentsService;
+        this.columnService = columnService;
+        this.mdcHelper = mdcHelper;
+    }
+
+    @Override
+    @KafkaListener(topics = "${kafka.systems.topic}", groupId = "${kafka.systems.links.group.id}")
+    public void listen(String event) {
+        MDC.clear();
+        try {
+            SystemEvent systemEvent = GSON.fromJson(event, SystemEvent.class);
+            if (!SystemEventType.UPDATE.equals(systemEvent.getEventType())) {
+                return;
+            }
+            mdcHelper.putSystemEventFields(systemEvent);
+            // the broadcast listener of this instance may not have evicted the system yet
+            environmentsService.evictSystem(systemEvent.getProjectId(), systemEvent.getId());
+            refreshLinks(systemEvent);
+        } catch (Exception e) {
+            log.error("Failed to refresh links on system event: {}", event, e);
+        }
+    }
+
+    private void refreshLinks(SystemEvent systemEvent) {
+        List<TestDataTableCatalog> catalogs = columnService.getAllTablesWithLinks(systemEvent.getProjectId(),
+                systemEvent.getId());
+        for (TestDataTableCatalog catalog : catalogs) {
+            try {
+                columnService.setUpLinks(systemEvent.getProjectId(), systemEvent.getId(), catalog.getTableName());
+            } catch (Exception e) {
+                log.warn("Failed to refresh links of table: {}", catalog.getTableName(), e);
+            }
+        }
+        log.info("Links of {} tables have been refreshed for system: {}", catalogs.size(), systemEvent.getId());
+    }
+}
@@ -19,10 +19,13 @@ package org.qubership.atp.tdm.utils;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -35,6 +38,8 @@ public class AvailableStatisticUtils {
 
     private static final int CATEGORY_COEF = 20;
 
+    private static final Map<Path, ChartTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
     private static final List<String> colors = new ArrayList<>(Arrays.asList("#09A4F1",
             "#00BB5B",
             "#FFB02E",
@@ -58,10 +63,7 @@ public class AvailableStatisticUtils {
         String jsonString;
         try {
             categories = categories.stream().map(string -> string.replace("\"", "\\\"")).collect(Collectors.toList());
-            File file = new File(pathToTemplate);
-            String canonical = file.getCanonicalPath();
-            jsonString = StringUtils.join(Files.readAllLines(Paths.get(canonical)), "");
-            jsonString = String.format(jsonString,
+            jsonString = String.format(getTemplate(pathToTemplate),
                     categories.size() * CATEGORY_COEF + 100,
                     StringUtils.join(categories, "\",\""),
                     new Gson().toJson(chartSeriesList));
@@ -82,4 +84,29 @@ public class AvailableStatisticUtils {
                 String.join("','", columnValues.getValues()),
                 activeColumn);
     }
+
+    /**
+     * Template is read again when its file is modified, so it can be changed without restart.
+     */
+    private static String getTemplate(String pathToTemplate) throws IOException {
+        Path path = Paths.get(new File(pathToTemplate).getCanonicalPath());
+        long modified = Files.getLastModifiedTime(path).toMillis();
+        ChartTemplate template = TEMPLATES.get(path);
+        if (template == null || template.modified != modified) {
+            template = new ChartTemplate(modified, StringUtils.join(Files.readAllLines(path), ""));
+            TEMPLATES.put(path, template);
+        }
+        return template.content;
+    }
+
+    private static class ChartTemplate {
+
+        private final long modified;
+        private final String content;
+
+        ChartTemplate(long modified, String content) {
+            this.modified = modified;
+            this.content = content;
+        }
+    }
 }
@@ -20,14 +20,19 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.Period;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -47,7 +52,6 @@ public class DataUtils {
     private static final int WEEK_LENGTH = 7;
     private static final String WEEK_PLACEHOLDER = "w";
     private static final String DAY_PLACEHOLDER = "d";
-    public static StatisticsInterval statisticsInterval;
 
     /**
      * Preparing cleanup by date string.
@@ -78,18 +82,52 @@ public class DataUtils {
      * @return - parsed dates list.
      */
     public static List<String> getStatisticsInterval(@Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo) {
+        return getStatisticsInterval(resolveStatisticsInterval(dateFrom, dateTo), dateFrom, dateTo);
+    }
+
+    /**
+     * Get interval statistics of the requested period are bucketed by.
+     *
+     * @param dateFrom - beginning time.
+     * @param dateTo   - ending time.
+     * @return - statistics interval.
+     */
+    public static StatisticsInterval resolveStatisticsInterval(@Nonnull LocalDate dateFrom,
+                                                               @Nonnull LocalDate dateTo) {
+        double days = ChronoUnit.DAYS.between(dateFrom, dateTo);
+        long weeks = (long) Math.ceil(days / WEEK_LENGTH);
+        Period period = Period.between(dateFrom, dateTo);
+        if (period.getYears() != 0) {
+            return StatisticsInterval.YEARS;
+        }
+        if (period.getMonths() == 0 && period.getDays() < UI_SUITABLE_PERIODS) {
+            return StatisticsInterval.DAYS;
+        }
+        return weeks < UI_SUITABLE_PERIODS ? StatisticsInterval.WEEKS : StatisticsInterval.MONTHS;
+    }
+
+    /**
+     * Get statistics interval.
+     *
+     * @param interval - statistics interval of the period.
+     * @param dateFrom - beginning time.
+     * @param dateTo   - ending time.
+     * @return - parsed dates list.
+     */
+    public static List<String> getStatisticsInterval(@Nonnull StatisticsInterval interval,
+                                                     @Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo) {
         List<String> dates = new ArrayList<>();
         double days = ChronoUnit.DAYS.between(dateFrom, dateTo);
         long weeks = (long) Math.ceil(days / WEEK_LENGTH);
         Period period = Period.between(dateFrom, dateTo);
-        if (period.getYears() == 0) {
-            if (period.getMonths() == 0 && period.getDays() < UI_SUITABLE_PERIODS) {
+        switch (interval) {
+            case DAYS:
                 for (int i = 0; i <= period.getDays(); ++i) {
                     dates.add(dateFrom.plusDays(i).format(DateTimeFormatter.ofPattern(
                             DateFormatters.UI_DATE_FORMATTER_DAYS)));
                 }
-                statisticsInterval = StatisticsInterval.DAYS;
-            } else if (weeks < UI_SUITABLE_PERIODS) {
+                break;
+            case WEEKS:
                 for (int i = 1; i <= weeks; ++i) {
                     dates.add(dateFrom.plusWeeks(i - 1).format(DateTimeFormatter.ofPattern(
                             DateFormatters.UI_DATE_FORMATTER_DAYS))
@@ -97,24 +135,100 @@ public class DataUtils {
                             + dateFrom.plusWeeks(i).minusDays(1)
                             .format(DateTimeFormatter.ofPattern(DateFormatters.UI_DATE_FORMATTER_DAYS)));
                 }
-                statisticsInterval = StatisticsInterval.WEEKS;
-            } else {
+                break;
+            case MONTHS:
                 for (int i = 0; i <= period.getMonths(); ++i) {
                     dates.add(dateFrom.plusMonths(i).format(DateTimeFormatter.ofPattern(
                             DateFormatters.UI_DATE_FORMATTER_MONTHS)));
                 }
-                statisticsInterval = StatisticsInterval.MONTHS;
-            }
-        } else {
-            for (int i = 0; i <= period.getYears(); ++i) {
-                dates.add(dateFrom.plusYears(i).format(DateTimeFormatter.ofPattern(
-                        DateFormatters.UI_DATE_FORMATTER_YEARS)) + " year");
-            }
-            statisticsInterval = StatisticsInterval.YEARS;
+                break;
+            default:
+                for (int i = 0; i <= period.getYears(); ++i) {
+                    dates.add(dateFrom.plusYears(i).format(DateTimeFormatter.ofPattern(
+                            DateFormatters.UI_DATE_FORMATTER_YEARS)) + " year");
+                }
         }
         return dates;
     }
 
+    /**
+     * Get date part statistics rows are truncated to by the database for the statistics interval.
+     * Weeks start at the beginning of the requested period, so they are summed up from days.
+     *
+     * @param interval - statistics interval of the period.
+     * @return date_trunc field name.
+     */
+    public static String getStatisticsTruncUnit(@Nonnull StatisticsInterval interval) {
+        switch (interval) {
+            case YEARS:
+                return "year";
+            case WEEKS:
+            case DAYS:
+                return "day";
+            default:
+                return "month";
+        }
+    }
+
+    /**
+     * Sums counts into the buckets of the statistics interval in a single pass.
+     *
+     * @param rows     - rows with dates, either exact or truncated to the interval start.
+     * @param date     - date of row.
+     * @param count    - count of row.
+     * @param interval - statistics interval of the period.
+     * @param dateFrom - beginning time.
+     * @param dateTo   - ending time.
+     * @return counts per bucket, buckets match dates returned by {@link #getStatisticsInterval}.
+     */
+    public static <T> List<Long> getStatisticsBuckets(@Nonnull Collection<T> rows,
+                                                      @Nonnull Function<T, LocalDate> date,
+                                                      @Nonnull ToLongFunction<T> count,
+                                                      @Nonnull StatisticsInterval interval,
+                                                      @Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo) {
+        int bucketsCount = 0;
+        LocalDate iterDate = dateFrom;
+        do {
+            bucketsCount++;
+            iterDate = nextBucket(interval, iterDate);
+        } while (!iterDate.isAfter(dateTo));
+        List<Long> buckets = new ArrayList<>(Collections.nCopies(bucketsCount, 0L));
+        for (T row : rows) {
+            long bucket = getBucket(interval, date.apply(row), dateFrom);
+            if (bucket >= 0 && bucket < bucketsCount) {
+                buckets.set((int) bucket, buckets.get((int) bucket) + count.applyAsLong(row));
+            }
+        }
+        return buckets;
+    }
+
+    private static LocalDate nextBucket(@Nonnull StatisticsInterval interval, @Nonnull LocalDate date) {
+        switch (interval) {
+            case YEARS:
+                return date.plusYears(1);
+            case WEEKS:
+                return date.plusWeeks(1);
+            case DAYS:
+                return date.plusDays(1);
+            default:
+                return date.plusMonths(1);
+        }
+    }
+
+    private static long getBucket(@Nonnull StatisticsInterval interval, @Nonnull LocalDate date,
+                                  @Nonnull LocalDate dateFrom) {
+        switch (interval) {
+            case YEARS:
+                return date.getYear() - dateFrom.getYear();
+            case WEEKS:
+                return date.isBefore(dateFrom) ? -1 : ChronoUnit.DAYS.between(dateFrom, date) / WEEK_LENGTH;
+            case DAYS:
+                return ChronoUnit.DAYS.between(dateFrom, date);
+            default:
+                return ChronoUnit.MONTHS.between(YearMonth.from(dateFrom), YearMonth.from(date));
+        }
+    }
+
     /**
      * Get time stamp start and end of current day.
      * @return Map with stored time stamps.
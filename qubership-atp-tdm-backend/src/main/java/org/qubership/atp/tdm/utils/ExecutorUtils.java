@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.utils;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.slf4j.MDC;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.Nonnull;
+
+public class ExecutorUtils {
+
+    /**
+     * Creates fixed thread pool which threads are named by the format, e.g. "statistics-query-%d".
+     *
+     * @param nameFormat - format of thread names with thread number.
+     * @param poolSize   - number of threads.
+     * @return thread pool.
+     */
+    public static ExecutorService newFixedThreadPool(@Nonnull String nameFormat, int poolSize) {
+        return Executors.newFixedThreadPool(poolSize, new ThreadFactoryBuilder()
+                .setNameFormat(nameFormat)
+                .build());
+    }
+
+    /**
+     * Wraps task to run with MDC context of the calling thread, so logs of pooled threads keep request context.
+     *
+     * @param task - task to run in pool.
+     * @return task restoring MDC context of the caller.
+     */
+    public static <R> Callable<R> withMdc(@Nonnull Callable<R> task) {
+        Map<String, String> mdcMap = MDC.getCopyOfContextMap();
+        return () -> {
+            MdcUtils.setContextMap(mdcMap);
+            try {
+                return task.call();
+            } finally {
+                MDC.clear();
+            }
+        };
+    }
+}
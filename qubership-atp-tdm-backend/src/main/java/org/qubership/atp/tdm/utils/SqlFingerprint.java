@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.utils;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Normalizes SQL statements into fingerprints: literals, generated table names and
+ * lists of placeholders are replaced, so statements differing only by values are grouped together.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern TEST_DATA_TABLE_NAME = Pattern.compile("\\btdm_[0-9a-f]{32}\\b");
+    private static final Pattern UUID_VALUE = Pattern.compile(
+            "\\b[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\b");
+    private static final Pattern NUMBER = Pattern.compile("(?<![\\w$])-?\\d+(\\.\\d+)?\\b");
+    private static final Pattern PLACEHOLDERS_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * Get fingerprint of SQL statement.
+     *
+     * @param sql SQL statement.
+     * @return normalized statement.
+     */
+    @Nonnull
+    public static String of(@Nonnull String sql) {
+        String fingerprint = sql.toLowerCase(Locale.ROOT);
+        fingerprint = STRING_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = TEST_DATA_TABLE_NAME.matcher(fingerprint).replaceAll("tdm_?");
+        fingerprint = UUID_VALUE.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMBER.matcher(fingerprint).replaceAll("?");
+        fingerprint = PLACEHOLDERS_LIST.matcher(fingerprint).replaceAll("?, ...");
+        return WHITESPACES.matcher(fingerprint).replaceAll(" ").trim();
+    }
+}
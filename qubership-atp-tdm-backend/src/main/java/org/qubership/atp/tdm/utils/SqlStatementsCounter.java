@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.utils;
+
+/**
+ * Counts SQL statements executed by the current thread between {@link #start()} and {@link #stop()}.
+ */
+public final class SqlStatementsCounter {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    private SqlStatementsCounter() {
+    }
+
+    /**
+     * Start counting for the current thread.
+     */
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * Register executed statement, ignored when counting isn't started.
+     */
+    public static void increment() {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+
+    /**
+     * Stop counting for the current thread.
+     *
+     * @return count of statements executed since start.
+     */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+}
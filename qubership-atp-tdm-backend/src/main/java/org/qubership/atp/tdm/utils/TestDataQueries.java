@@ -20,14 +20,12 @@ public class TestDataQueries {
 
     public static final String OCCUPIED_CONDITION = "WHERE \"SELECTED\" = ?";
 
-    public static final String GET_OCCUPIED_STATISTICS_GROUP_BY =
-            "SELECT NEW org.qubership.atp.tdm.model.table.TestDataOccupyReportGroupBy"
-            + "(c.occupiedBy, c.occupiedDate, c.tableName, COUNT(*)) "
-            + "FROM TestDataOccupyStatistic as c "
-            + "WHERE c.projectId = :projectId "
-            + "AND c.occupiedDate >= :date "
-            + "GROUP BY c.occupiedBy, c.occupiedDate, c.tableName "
-            + "ORDER BY c.tableName";
+    public static final String GET_OCCUPIED_BY_USERS_DAILY =
+            "SELECT occupied_by, table_name, TO_CHAR(occupied_date, 'YYYY-MM-dd') AS occupied_day, COUNT(*) "
+            + "FROM test_data_occupy_statistic "
+            + "WHERE project_id = ? AND occupied_date >= ? "
+            + "GROUP BY occupied_by, table_name, occupied_day "
+            + "ORDER BY occupied_by, table_name, occupied_day";
 
     public static final String OCCUPY_TEST_DATA =
             "update %s set \"SELECTED\" = true, \"OCCUPIED_BY\" = :user, \"OCCUPIED_DATE\" = '%s' "
@@ -35,7 +33,7 @@ public class TestDataQueries {
 
     public static final String RELEASE_TEST_DATA =
             "update %s set \"SELECTED\" = false, \"OCCUPIED_BY\" = '' "
-                    + "where \"ROW_ID\" IN (:ids)";
+                    + "where \"SELECTED\" = true and \"ROW_ID\" IN (:ids)";
 
     public static final String DROP_TABLE = "DROP TABLE IF EXISTS %s CASCADE";
 
@@ -71,37 +69,23 @@ public class TestDataQueries {
             + "(SELECT COUNT(*) as total FROM %s ) total";
 
     public static final String GET_TEST_DATA_CONSUMPTION_ITEM = ""
-            + "SELECT date, SUM(count) as count FROM ( "
-            + "SELECT date, count FROM "
-            + "( "
-            + "SELECT TO_CHAR(occupied_date, 'YYYY-MM-dd') as date, COUNT(*) as count "
+            + "SELECT TO_CHAR(DATE_TRUNC('%s', occupied_date), 'YYYY-MM-dd') AS date, COUNT(*) AS count "
             + "FROM test_data_occupy_statistic "
             + "WHERE LOWER(table_name) = ? AND (occupied_date BETWEEN ?::date AND ?::date) "
-            + "GROUP BY date ORDER BY date) as existing "
-            + ") as statistics "
-            + "GROUP BY date ORDER BY date";
+            + "GROUP BY date";
 
     public static final String GET_TEST_DATA_OUTDATED_ITEM = ""
             + "SELECT date, SUM(created) AS created, SUM(consumed) AS consumed, SUM(outdated) AS outdated "
-            + "FROM ((SELECT TO_CHAR(\"CREATED_WHEN\", 'YYYY-MM-dd') AS date, COUNT(*) as created, 0 consumed, 0 "
-            + "outdated "
-            + "FROM %s WHERE \"SELECTED\" = false AND (\"CREATED_WHEN\" BETWEEN ?::date AND ?::date) "
-            + "GROUP BY date ORDER BY date) "
+            + "FROM ((SELECT TO_CHAR(DATE_TRUNC('%1$s', \"CREATED_WHEN\"), 'YYYY-MM-dd') AS date, COUNT(*) AS created, "
+            + "0 AS consumed, 0 AS outdated "
+            + "FROM %2$s WHERE \"SELECTED\" = false AND (\"CREATED_WHEN\" BETWEEN ?::date AND ?::date) "
+            + "GROUP BY date) "
             + "UNION ALL "
-            + "( "
-            + "SELECT TO_CHAR(occupied_date, 'YYYY-MM-dd') as date, 0 created, COUNT(*) as consumed, 0 outdated "
+            + "(SELECT TO_CHAR(DATE_TRUNC('%1$s', occupied_date), 'YYYY-MM-dd') AS date, 0 AS created, "
+            + "COUNT(*) AS consumed, SUM(CASE WHEN occupied_date >= ?::date THEN 1 ELSE 0 END) AS outdated "
             + "FROM test_data_occupy_statistic "
-            + "WHERE LOWER(table_name) = ? "
-            + "AND occupied_date is not null "
-            + "GROUP BY date ORDER BY date) "
-            + "UNION ALL "
-            + "( "
-            + "SELECT TO_CHAR(occupied_date, 'YYYY-MM-dd') as date,0 created, 0 consumed, COUNT(*) "
-            + "AS outdated "
-            + "FROM test_data_occupy_statistic WHERE LOWER(table_name) = ? "
-            + "AND OCCUPIED_DATE >= ?::date "
-            + "GROUP BY date ORDER BY date "
-            + ")) AS test GROUP BY date ";
+            + "WHERE LOWER(table_name) = ? AND occupied_date IS NOT NULL "
+            + "GROUP BY date)) AS test GROUP BY date";
 
     public static final String ALTER_OCCUPIED_DATE_COLUMN =
             "ALTER TABLE %s ADD COLUMN IF NOT EXISTS \"OCCUPIED_DATE\" TIMESTAMP";
@@ -151,12 +135,168 @@ public class TestDataQueries {
     public static final String DELETE_OCCUPIED_STATISTIC = "DELETE FROM test_data_occupy_statistic "
             + "WHERE row_id IN (:rowIds)";
 
+    public static final String DELETE_OCCUPIED_STATISTIC_BY_KEYS = "DELETE FROM test_data_occupy_statistic "
+            + "WHERE row_id IN (:rowIds) AND (occupied_date IS NULL OR occupied_date IN (:occupiedDates))";
+
     public static final String GET_STATISTIC_CREATED_WHEN =
-            "SELECT TO_CHAR(CREATED_WHEN, 'YYYY-MM-dd') as date, COUNT(*) as count "
+            "SELECT TO_CHAR(DATE_TRUNC('%s', created_when), 'YYYY-MM-dd') AS date, COUNT(*) AS count "
                     + "FROM test_data_occupy_statistic "
                     + "WHERE LOWER(table_name) = ? "
-                    + "AND CREATED_WHEN BETWEEN ?::date AND ?::date "
-                    + "GROUP BY CREATED_WHEN ORDER BY CREATED_WHEN";
+                    + "AND created_when BETWEEN ?::date AND ?::date "
+                    + "GROUP BY date";
+
+    public static final String GET_TEST_DATA_CREATED_WHEN_ITEM = ""
+            + "SELECT TO_CHAR(DATE_TRUNC('%1$s', \"CREATED_WHEN\"), 'YYYY-MM-dd') AS date, COUNT(*) AS count "
+            + "FROM %2$s WHERE \"CREATED_WHEN\" >= ?::timestamp AND \"CREATED_WHEN\" <= ?::timestamp "
+            + "GROUP BY date";
+
+    public static final String GET_OCCUPY_STATISTIC_PARTITIONED =
+            "SELECT COUNT(*) FROM pg_partitioned_table pt "
+                    + "JOIN pg_class c ON c.oid = pt.partrelid "
+                    + "WHERE c.relname = 'test_data_occupy_statistic'";
+
+    public static final String GET_OCCUPY_STATISTIC_PARTITIONS =
+            "SELECT child.relname FROM pg_inherits "
+                    + "JOIN pg_class parent ON pg_inherits.inhparent = parent.oid "
+                    + "JOIN pg_class child ON pg_inherits.inhrelid = child.oid "
+                    + "WHERE parent.relname = 'test_data_occupy_statistic'";
+
+    public static final String LOCK_OCCUPY_STATISTIC_DEFAULT_PARTITION =
+            "LOCK TABLE test_data_occupy_statistic_default IN EXCLUSIVE MODE";
+
+    public static final String CREATE_OCCUPY_STATISTIC_PARTITION_TABLE =
+            "CREATE TABLE %s (LIKE test_data_occupy_statistic INCLUDING DEFAULTS)";
+
+    public static final String MOVE_OCCUPY_STATISTIC_FROM_DEFAULT_PARTITION =
+            "WITH moved AS (DELETE FROM test_data_occupy_statistic_default "
+                    + "WHERE occupied_date >= ? AND occupied_date < ? RETURNING *) "
+                    + "INSERT INTO %s SELECT * FROM moved";
+
+    public static final String ATTACH_OCCUPY_STATISTIC_PARTITION =
+            "ALTER TABLE test_data_occupy_statistic ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')";
+
+    public static final String DELETE_OCCUPY_STATISTIC_BEFORE =
+            "DELETE FROM test_data_occupy_statistic WHERE occupied_date < ?";
+
+    public static final String INSERT_STATISTIC_DAILY_QUEUE_ITEM =
+            "INSERT INTO test_data_statistic_daily_queue (table_name, stat_day) VALUES (?, ?)";
+
+    public static final String GET_STATISTIC_DAILY_QUEUE_WATERMARK =
+            "SELECT MAX(id) FROM test_data_statistic_daily_queue";
+
+    public static final String GET_STATISTIC_DAILY_QUEUE_TABLES =
+            "SELECT DISTINCT table_name FROM test_data_statistic_daily_queue WHERE id <= ?";
+
+    public static final String GET_STATISTIC_DAILY_QUEUE_DAYS_BY_PERIOD =
+            "SELECT DISTINCT table_name, stat_day FROM test_data_statistic_daily_queue "
+                    + "WHERE stat_day BETWEEN ? AND ?";
+
+    public static final String GET_STATISTIC_DAILY_QUEUE_REBUILD_TABLES =
+            "SELECT DISTINCT table_name FROM test_data_statistic_daily_queue WHERE stat_day IS NULL";
+
+    public static final String DELETE_STATISTIC_DAILY_QUEUE_ITEMS =
+            "DELETE FROM test_data_statistic_daily_queue WHERE table_name = :tableName AND id <= :watermark";
+
+    public static final String GET_STATISTIC_DAILY_QUEUE_DAYS =
+            "SELECT DISTINCT stat_day FROM test_data_statistic_daily_queue "
+                    + "WHERE table_name = :tableName AND id <= :watermark AND stat_day IS NOT NULL";
+
+    public static final String GET_STATISTIC_DAILY_QUEUE_REBUILD_COUNT =
+            "SELECT COUNT(*) FROM test_data_statistic_daily_queue "
+                    + "WHERE table_name = :tableName AND id <= :watermark AND stat_day IS NULL";
+
+    public static final String DELETE_STATISTIC_DAILY_BY_DAYS =
+            "DELETE FROM test_data_statistic_daily WHERE table_name = :tableName AND stat_day IN (:days)";
+
+    private static final String GET_OCCUPY_STATISTIC_BY_DAYS = ""
+            + "SELECT project_id, system_id, CAST(occupied_date AS DATE) AS stat_day, "
+            + "1 AS occupied_count, 0 AS created_count "
+            + "FROM test_data_occupy_statistic WHERE LOWER(table_name) = :tableName "
+            + "AND occupied_date >= :daysFrom AND occupied_date < :daysTo "
+            + "AND CAST(occupied_date AS DATE) IN (:days) "
+            + "UNION ALL "
+            + "SELECT project_id, system_id, CAST(created_when AS DATE) AS stat_day, "
+            + "0 AS occupied_count, 1 AS created_count "
+            + "FROM test_data_occupy_statistic WHERE LOWER(table_name) = :tableName "
+            + "AND created_when >= :daysFrom AND created_when < :daysTo "
+            + "AND CAST(created_when AS DATE) IN (:days)";
+
+    public static final String INSERT_STATISTIC_DAILY_BY_DAYS = ""
+            + "INSERT INTO test_data_statistic_daily (project_id, system_id, environment_id, table_name, stat_day, "
+            + "occupied_count, created_count) "
+            + "SELECT s.project_id, s.system_id, c.environment_id, :tableName, s.stat_day, "
+            + "SUM(s.occupied_count), SUM(s.created_count) "
+            + "FROM (" + GET_OCCUPY_STATISTIC_BY_DAYS + ") s "
+            + "LEFT JOIN test_data_table_catalog c ON LOWER(c.table_name) = :tableName "
+            + "GROUP BY s.project_id, s.system_id, c.environment_id, s.stat_day";
+
+    public static final String GET_TEST_DATA_TABLE_CATALOG_COUNT_BY_TABLE =
+            "SELECT COUNT(*) FROM test_data_table_catalog WHERE LOWER(table_name) = :tableName";
+
+    public static final String DELETE_STATISTIC_AVAILABLE_DAILY_BY_TABLE =
+            "DELETE FROM test_data_statistic_available_daily WHERE table_name = :tableName";
+
+    public static final String DELETE_STATISTIC_AVAILABLE_DAILY_BY_DAYS =
+            "DELETE FROM test_data_statistic_available_daily WHERE table_name = :tableName AND stat_day IN (:days)";
+
+    public static final String INSERT_STATISTIC_AVAILABLE_DAILY_BY_TABLE = ""
+            + "INSERT INTO test_data_statistic_available_daily (project_id, system_id, environment_id, table_name, "
+            + "stat_day, available_count) "
+            + "SELECT c.project_id, c.system_id, c.environment_id, :tableName, CAST(t.\"CREATED_WHEN\" AS DATE), "
+            + "COUNT(*) "
+            + "FROM %s t CROSS JOIN test_data_table_catalog c "
+            + "WHERE LOWER(c.table_name) = :tableName AND t.\"SELECTED\" = false "
+            + "GROUP BY c.project_id, c.system_id, c.environment_id, CAST(t.\"CREATED_WHEN\" AS DATE)";
+
+    public static final String INSERT_STATISTIC_AVAILABLE_DAILY_BY_DAYS = ""
+            + "INSERT INTO test_data_statistic_available_daily (project_id, system_id, environment_id, table_name, "
+            + "stat_day, available_count) "
+            + "SELECT c.project_id, c.system_id, c.environment_id, :tableName, CAST(t.\"CREATED_WHEN\" AS DATE), "
+            + "COUNT(*) "
+            + "FROM %s t CROSS JOIN test_data_table_catalog c "
+            + "WHERE LOWER(c.table_name) = :tableName AND t.\"SELECTED\" = false "
+            + "AND CAST(t.\"CREATED_WHEN\" AS DATE) IN (:days) "
+            + "GROUP BY c.project_id, c.system_id, c.environment_id, CAST(t.\"CREATED_WHEN\" AS DATE)";
+
+    public static final String GET_STATISTIC_DAILY_BY_PROJECT = ""
+            + "SELECT s.table_name, TO_CHAR(DATE_TRUNC('%s', s.stat_day), 'YYYY-MM-dd') AS date, "
+            + "SUM(s.occupied_count), SUM(s.created_count), SUM(s.available_count) "
+            + "FROM ("
+            + "SELECT table_name, stat_day, occupied_count, created_count, 0 AS available_count "
+            + "FROM test_data_statistic_daily "
+            + "WHERE project_id = :projectId AND stat_day BETWEEN :dateFrom AND :dateTo "
+            + "UNION ALL "
+            + "SELECT table_name, stat_day, 0 AS occupied_count, 0 AS created_count, available_count "
+            + "FROM test_data_statistic_available_daily "
+            + "WHERE project_id = :projectId AND stat_day BETWEEN :dateFrom AND :dateTo"
+            + ") s "
+            + "GROUP BY s.table_name, date";
+
+    public static final String GET_STATISTIC_DAILY_BY_TABLE_AND_QUEUE_DAYS = ""
+            + "SELECT TO_CHAR(DATE_TRUNC('%s', s.stat_day), 'YYYY-MM-dd') AS date, "
+            + "SUM(s.occupied_count), SUM(s.created_count) "
+            + "FROM ("
+            + "SELECT stat_day, occupied_count, created_count FROM test_data_statistic_daily "
+            + "WHERE table_name = :tableName AND project_id = :projectId AND stat_day BETWEEN :dateFrom AND :dateTo "
+            + "AND stat_day NOT IN (:days) "
+            + "UNION ALL "
+            + "SELECT stat_day, occupied_count, created_count FROM (" + GET_OCCUPY_STATISTIC_BY_DAYS + ") q "
+            + "WHERE q.project_id = :projectId"
+            + ") s "
+            + "GROUP BY date";
+
+    public static final String GET_STATISTIC_AVAILABLE_DAILY_BY_TABLE_AND_QUEUE_DAYS = ""
+            + "SELECT s.stat_day, SUM(s.available_count) "
+            + "FROM ("
+            + "SELECT stat_day, available_count FROM test_data_statistic_available_daily "
+            + "WHERE table_name = :tableName AND project_id = :projectId AND stat_day BETWEEN :dateFrom AND :dateTo "
+            + "AND stat_day NOT IN (:days) "
+            + "UNION ALL "
+            + "SELECT CAST(\"CREATED_WHEN\" AS DATE) AS stat_day, COUNT(*) AS available_count FROM %s "
+            + "WHERE \"SELECTED\" = false AND CAST(\"CREATED_WHEN\" AS DATE) IN (:days) "
+            + "GROUP BY CAST(\"CREATED_WHEN\" AS DATE)"
+            + ") s "
+            + "GROUP BY s.stat_day";
 
     public static final String CHANGE_TEST_DATA_TITLE = "UPDATE test_data_table_catalog "
             + "SET table_title = :table_title WHERE table_name = :table_name";
@@ -204,6 +344,105 @@ public class TestDataQueries {
             + "WHERE LOWER(table_name) IN (SELECT LOWER(table_name) FROM test_data_table_catalog "
             + "WHERE system_id = ?)";
 
+    public static final String GET_AVAILABLE_COLUMNS =
+            "SELECT column_name FROM test_data_available_column WHERE table_name = ?";
+
+    public static final String GET_ALL_AVAILABLE_COLUMNS =
+            "SELECT table_name, column_name FROM test_data_available_column";
+
+    public static final String GET_AVAILABLE_COLUMN_RECONCILED =
+            "SELECT reconciled_when FROM test_data_available_column WHERE table_name = ? AND column_name = ?";
+
+    public static final String UPDATE_AVAILABLE_COLUMN_RECONCILED =
+            "UPDATE test_data_available_column SET reconciled_when = CURRENT_TIMESTAMP "
+            + "WHERE table_name = ? AND column_name = ?";
+
+    public static final String INSERT_AVAILABLE_COLUMN =
+            "INSERT INTO test_data_available_column (table_name, column_name, reconciled_when) "
+            + "VALUES (?, ?, CURRENT_TIMESTAMP)";
+
+    public static final String INVALIDATE_AVAILABLE_COLUMNS =
+            "UPDATE test_data_available_column SET reconciled_when = NULL WHERE table_name = ?";
+
+    public static final String INVALIDATE_AVAILABLE_COLUMNS_BY_NAMES =
+            "UPDATE test_data_available_column SET reconciled_when = NULL "
+            + "WHERE table_name = :tableName AND column_name IN (:columnNames)";
+
+    public static final String DELETE_AVAILABLE_COLUMN =
+            "DELETE FROM test_data_available_column WHERE table_name = ? AND column_name = ?";
+
+    public static final String DELETE_AVAILABLE_COLUMNS =
+            "DELETE FROM test_data_available_column WHERE table_name = ?";
+
+    public static final String GET_AVAILABLE_COUNTERS =
+            "SELECT column_value, available_count FROM test_data_available_counter "
+            + "WHERE table_name = ? AND column_name = ?";
+
+    public static final String DELETE_AVAILABLE_COUNTERS =
+            "DELETE FROM test_data_available_counter WHERE table_name = ? AND column_name = ?";
+
+    public static final String DELETE_ALL_AVAILABLE_COUNTERS =
+            "DELETE FROM test_data_available_counter WHERE table_name = ?";
+
+    public static final String INSERT_AVAILABLE_COUNTERS =
+            "INSERT INTO test_data_available_counter (table_name, column_name, column_value, available_count) "
+            + "SELECT ?, ?, \"%1$s\", count(*) FROM %2$s "
+            + "WHERE \"SELECTED\" = false AND \"%1$s\" IS NOT NULL GROUP BY \"%1$s\"";
+
+    public static final String UPSERT_AVAILABLE_COUNTER =
+            "INSERT INTO test_data_available_counter (table_name, column_name, column_value, available_count) "
+            + "VALUES (?, ?, ?, ?) ON CONFLICT (table_name, column_name, column_value) "
+            + "DO UPDATE SET available_count = test_data_available_counter.available_count "
+            + "+ EXCLUDED.available_count";
+
+    public static final String MERGE_AVAILABLE_COUNTER =
+            "MERGE INTO test_data_available_counter c "
+            + "USING (VALUES (CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS BIGINT))) "
+            + "d (table_name, column_name, column_value, available_count) "
+            + "ON c.table_name = d.table_name AND c.column_name = d.column_name "
+            + "AND c.column_value = d.column_value "
+            + "WHEN MATCHED THEN UPDATE SET available_count = c.available_count + d.available_count "
+            + "WHEN NOT MATCHED THEN INSERT (table_name, column_name, column_value, available_count) "
+            + "VALUES (d.table_name, d.column_name, d.column_value, d.available_count)";
+
+    public static final String GET_AVAILABLE_COLUMNS_RECONCILED =
+            "SELECT column_name, reconciled_when FROM test_data_available_column WHERE table_name = ?";
+
+    public static final String UPSERT_AVAILABLE_COUNTERS_BY_CHANGED_ROWS =
+            "WITH changed AS (%1$s RETURNING \"SELECTED\"%2$s), "
+            + "reconciled AS (SELECT column_name FROM test_data_available_column "
+            + "WHERE table_name = :counterTableName AND reconciled_when IS NOT NULL FOR SHARE), "
+            + "counters AS (INSERT INTO test_data_available_counter "
+            + "(table_name, column_name, column_value, available_count) "
+            + "SELECT :counterTableName, d.column_name, d.column_value, %4$d * COUNT(*) FROM (%3$s) d "
+            + "JOIN reconciled r ON r.column_name = d.column_name WHERE d.column_value IS NOT NULL "
+            + "GROUP BY d.column_name, d.column_value "
+            + "ON CONFLICT (table_name, column_name, column_value) "
+            + "DO UPDATE SET available_count = test_data_available_counter.available_count "
+            + "+ EXCLUDED.available_count) "
+            + "SELECT (SELECT COUNT(*) FROM changed), (SELECT COUNT(*) FROM reconciled WHERE %5$s)";
+
+    public static final String GET_CHANGED_COUNTED_VALUES =
+            "SELECT \"SELECTED\"%2$s FROM %3$s TABLE (%1$s)";
+
+    public static final String GET_CHANGED_COLUMN_VALUES =
+            "SELECT '%1$s' AS column_name, CAST(\"%1$s\" AS VARCHAR) AS column_value "
+            + "FROM changed WHERE \"SELECTED\" = %2$s";
+
+    public static final String GET_NO_CHANGED_COLUMN_VALUES =
+            "SELECT CAST(NULL AS VARCHAR) AS column_name, CAST(NULL AS VARCHAR) AS column_value WHERE false";
+
+    public static final String LOCK_AVAILABLE_COLUMNS_RECONCILED = GET_AVAILABLE_COLUMNS_RECONCILED + " FOR SHARE";
+
+    public static final String GET_ENVIRONMENTS_SNAPSHOT =
+            "SELECT snapshot FROM environments_snapshot WHERE project_id = ?";
+
+    public static final String UPDATE_ENVIRONMENTS_SNAPSHOT =
+            "UPDATE environments_snapshot SET revision = ?, saved_when = ?, snapshot = ? WHERE project_id = ?";
+
+    public static final String INSERT_ENVIRONMENTS_SNAPSHOT =
+            "INSERT INTO environments_snapshot (revision, saved_when, snapshot, project_id) VALUES (?, ?, ?, ?)";
+
     public static final String GET_AVAILABLE_DATA_FOR_EACH_VALUE =
             "SELECT \"%s\", count(*) FROM %s "
             + "WHERE \"SELECTED\" = false AND \"%s\" IN ('%s') "
@@ -22,21 +22,21 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.function.Consumer;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
-import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.qubership.atp.tdm.exceptions.file.TdmBuildCvsFileException;
-import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
+import org.qubership.atp.tdm.repo.impl.SystemColumns;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,7 +46,6 @@ public class TestDataTableConvertor {
     private static final String TEST_TABLE_NAME_PREFIX = "TDM_";
     private static final String EXCEL_EXT = ".xlsx";
     private static final String CSV_EXT = ".csv";
-    private static final int NUM_OF_BODY_ROW = 2;
 
     private static final int BATCH_SIZE = 200;
 
@@ -55,24 +54,29 @@ public class TestDataTableConvertor {
     }
 
     /**
-     * Create an .xlsx file from given table.
+     * Create an .xlsx file from given result set.
+     * Header is built from the result set metadata, cells are read by column index.
      *
      * @return fn .xlsx file
      */
-    public static File convertTableToExcelFile(String tableName, List<TestDataTableColumn> columns,
-                                               ResultSet resultSet) throws IOException, SQLException {
+    public static File convertTableToExcelFile(String tableName, ResultSet resultSet)
+            throws IOException, SQLException {
         File file = new File(Files.createTempFile(tableName, EXCEL_EXT).toString());
         try (FileOutputStream outputStream = new FileOutputStream(file); SXSSFWorkbook workbook = new SXSSFWorkbook()) {
             SXSSFSheet sheet = workbook.createSheet();
             sheet.setRandomAccessWindowSize(100);
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int[] columnIndexes = getExportedColumnIndexes(metaData);
+            Row header = sheet.createRow(0);
+            for (int cellIdx = 0; cellIdx < columnIndexes.length; cellIdx++) {
+                header.createCell(cellIdx).setCellValue(metaData.getColumnName(columnIndexes[cellIdx]));
+            }
+            int rowCount = 0;
             while (resultSet.next()) {
-                int rowCount = resultSet.getRow();
-                if (rowCount - 1 == 0) {
-                    Row row = sheet.createRow(rowCount - 1);
-                    formExcelRow(rowCount - 1, columns, row, resultSet);
+                Row row = sheet.createRow(++rowCount);
+                for (int cellIdx = 0; cellIdx < columnIndexes.length; cellIdx++) {
+                    row.createCell(cellIdx).setCellValue(getCellValue(resultSet, columnIndexes[cellIdx]));
                 }
-                Row row = sheet.createRow(rowCount);
-                formExcelRow(rowCount + NUM_OF_BODY_ROW, columns, row, resultSet);
             }
             workbook.write(outputStream);
         } finally {
@@ -82,42 +86,28 @@ public class TestDataTableConvertor {
     }
 
     /**
-     * Method for forming excel row.
-     *
-     * @param columns   - list of columns.
-     * @param row       - row from sheet to work.
-     * @param resultSet - resultSet for SQL queries.
-     * @throws SQLException - sql exception.
-     */
-    private static void formExcelRow(int rowCount, List<TestDataTableColumn> columns, Row row,
-                                     ResultSet resultSet) throws SQLException {
-        for (int colCount = 1; colCount < columns.size(); colCount++) {
-            //colCount-1 or empty column will be in the start of the file
-            Cell cell = row.createCell(colCount - 1);
-            Consumer<String> consumer = cell::setCellValue;
-            String columnName = columns.get(colCount).getIdentity().getColumnName();
-            setCellsForExcelFile(rowCount, columnName, resultSet, consumer);
-        }
-    }
-
-    /**
-     * Create an .csv file from given table.
+     * Create an .csv file from given result set.
+     * Header is built from the result set metadata, cells are read by column index.
      *
      * @return fn .csv file
      */
-    public static File convertTableToCsvFile(String tableName, List<TestDataTableColumn> columns,
-                                             ResultSet resultSet) throws IOException, SQLException {
+    public static File convertTableToCsvFile(String tableName, ResultSet resultSet)
+            throws IOException, SQLException {
         File file = new File(Files.createTempFile(tableName, CSV_EXT).toString());
         try (CSVPrinter printer = new CSVPrinter(new FileWriter(file), CSVFormat.EXCEL)) {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int[] columnIndexes = getExportedColumnIndexes(metaData);
+            for (int columnIndex : columnIndexes) {
+                printCsvCell(printer, metaData.getColumnName(columnIndex), tableName);
+            }
+            printer.println();
+            int rowCount = 0;
             while (resultSet.next()) {
-                int rowCount = resultSet.getRow();
-                if (rowCount - 1 == 0) {
-                    formCsvRow(columns, rowCount - 1, resultSet, printer, tableName);
-                    printer.println();
+                for (int columnIndex : columnIndexes) {
+                    printCsvCell(printer, getCellValue(resultSet, columnIndex), tableName);
                 }
-                formCsvRow(columns, rowCount + NUM_OF_BODY_ROW, resultSet, printer, tableName);
                 printer.println();
-                if (rowCount % BATCH_SIZE == 0) {
+                if (++rowCount % BATCH_SIZE == 0) {
                     printer.flush();
                 }
             }
@@ -128,81 +118,49 @@ public class TestDataTableConvertor {
     }
 
     /**
-     * Method for forming csv row.
+     * Resolves indexes of the result set columns to be exported. Technical ROW_ID column is skipped.
      *
-     * @param columns   - list of columns.
-     * @param rowCount  - row iter count.
-     * @param resultSet - resultSet for SQL queries.
-     * @param printer   - csv printer.
-     * @param tableName - table name.
+     * @param metaData - result set metadata.
+     * @return indexes of exported columns (1-based).
      * @throws SQLException - sql exception.
      */
-    private static void formCsvRow(List<TestDataTableColumn> columns, int rowCount, ResultSet resultSet,
-                                   CSVPrinter printer, String tableName) throws SQLException {
-        for (int colCount = 1; colCount < columns.size(); colCount++) {
-            String columnName = columns.get(colCount).getIdentity().getColumnName();
-            setCellsForCsvFile(rowCount, colCount, columnName, resultSet, value -> {
-                try {
-                    printer.print(value);
-                } catch (IOException e) {
-                    log.error(String.format(TdmBuildCvsFileException.DEFAULT_MESSAGE, tableName), e);
-                    throw new TdmBuildCvsFileException(tableName);
-                }
-            });
-        }
-    }
-
-    /**
-     * Set full table to write in excel file for user.
-     *
-     * @param columnName - name column.
-     * @param resultSet  - resultSet for SQL queries.
-     * @param consumer   - consumer for work.
-     */
-    private static void setCellsForExcelFile(int rowCount, String columnName, ResultSet resultSet,
-                                             Consumer<String> consumer) throws SQLException {
-        if (rowCount == 0) {
-            setBodyCellsForFile(columnName, consumer);
-        } else {
-            String cellValue = "";
-            if (Objects.nonNull(resultSet.getObject(columnName))) {
-                cellValue = resultSet.getObject(columnName).toString();
+    private static int[] getExportedColumnIndexes(ResultSetMetaData metaData) throws SQLException {
+        List<Integer> indexes = new ArrayList<>();
+        for (int columnIndex = 1; columnIndex <= metaData.getColumnCount(); columnIndex++) {
+            if (!SystemColumns.ROW_ID.getName().equalsIgnoreCase(metaData.getColumnName(columnIndex))) {
+                indexes.add(columnIndex);
             }
-            setBodyCellsForFile(cellValue, consumer);
         }
+        return indexes.stream().mapToInt(Integer::intValue).toArray();
     }
 
     /**
-     * Method to set cells in csv file.
+     * Reads cell value by column index.
      *
-     * @param rowCount   - row iter count.
-     * @param colCount   - column iter count.
-     * @param columnName - name of a column.
-     * @param resultSet  - resultSet for SQL queries.
-     * @param consumer   -  consumer for work.
+     * @param resultSet   - resultSet for SQL queries.
+     * @param columnIndex - column index (1-based).
+     * @return string value of the cell or empty string.
      * @throws SQLException - sql exception.
      */
-    private static void setCellsForCsvFile(int rowCount, int colCount, String columnName, ResultSet resultSet,
-                                           Consumer<String> consumer) throws SQLException {
-        if (rowCount == 0 && colCount > 0) {
-            setBodyCellsForFile(columnName, consumer);
-        } else {
-            String cellValue = "";
-            if (Objects.nonNull(resultSet.getObject(columnName))) {
-                cellValue = resultSet.getObject(columnName).toString();
-            }
-            setBodyCellsForFile(cellValue, consumer);
-        }
+    private static String getCellValue(ResultSet resultSet, int columnIndex) throws SQLException {
+        Object value = resultSet.getObject(columnIndex);
+        return Objects.nonNull(value) ? value.toString() : "";
     }
 
     /**
-     * Set body cells for table to write in file for user.
+     * Method to print cell in csv file.
      *
-     * @param cellValue - values for cell.
-     * @param consumer  - consumer for work.
+     * @param printer   - csv printer.
+     * @param value     - cell value.
+     * @param tableName - table name.
      */
-    private static void setBodyCellsForFile(String cellValue, Consumer<String> consumer) {
-        consumer.accept(cellValue);
+    private static void printCsvCell(CSVPrinter printer, String value, String tableName) {
+        try {
+            printer.print(value);
+        } catch (IOException e) {
+            log.error(String.format(TdmBuildCvsFileException.DEFAULT_MESSAGE, tableName), e);
+            throw new TdmBuildCvsFileException(tableName);
+        }
     }
 
     /**
@@ -0,0 +1,43 @@
+ALTER TABLE test_data_occupy_statistic RENAME TO test_data_occupy_statistic_unpartitioned;
+
+CREATE INDEX test_data_occupy_statistic_unpartitioned_occupied_date
+    ON test_data_occupy_statistic_unpartitioned (occupied_date);
+
+CREATE TABLE test_data_occupy_statistic
+    (LIKE test_data_occupy_statistic_unpartitioned INCLUDING DEFAULTS)
+    PARTITION BY RANGE (occupied_date);
+
+CREATE TABLE test_data_occupy_statistic_default PARTITION OF test_data_occupy_statistic DEFAULT;
+
+DO
+$$
+declare
+    partition_month date;
+begin
+    select date_trunc('month', coalesce(min(occupied_date), current_date))::date
+    into partition_month
+    from test_data_occupy_statistic_unpartitioned;
+    while partition_month <= date_trunc('month', current_date + interval '3 months')::date
+    loop
+        execute format('CREATE TABLE %I PARTITION OF test_data_occupy_statistic FOR VALUES FROM (%L) TO (%L)',
+                       'test_data_occupy_statistic_p' || to_char(partition_month, 'YYYYMM'),
+                       partition_month, (partition_month + interval '1 month')::date);
+        insert into test_data_occupy_statistic
+        select * from test_data_occupy_statistic_unpartitioned
+        where occupied_date >= partition_month
+          and occupied_date < (partition_month + interval '1 month')::date;
+        partition_month := (partition_month + interval '1 month')::date;
+    end loop;
+    insert into test_data_occupy_statistic
+    select * from test_data_occupy_statistic_unpartitioned
+    where occupied_date is null or occupied_date >= partition_month;
+end
+$$;
+
+DROP TABLE test_data_occupy_statistic_unpartitioned;
+
+ALTER TABLE test_data_occupy_statistic
+    ADD CONSTRAINT "TEST_DATA_OCCUPY_STATISTIC(ROW_ID, OCCUPIED_DATE)" UNIQUE (row_id, occupied_date);
+
+CREATE UNIQUE INDEX "TEST_DATA_OCCUPY_STATISTIC_DEFAULT(ROW_ID)"
+    ON test_data_occupy_statistic_default (row_id) WHERE occupied_date IS NULL;
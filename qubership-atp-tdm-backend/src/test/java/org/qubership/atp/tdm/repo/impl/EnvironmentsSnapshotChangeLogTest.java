@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import liquibase.change.Change;
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import liquibase.resource.ResourceAccessor;
+import liquibase.sql.Sql;
+import liquibase.sqlgenerator.SqlGeneratorFactory;
+
+public class EnvironmentsSnapshotChangeLogTest {
+
+    private static final String CHANGE_LOG = "update.xml";
+
+    @Test
+    public void environmentsSnapshotChangeSet_generateForPostgres_snapshotColumnIsBytea() throws Exception {
+        PostgresDatabase database = new PostgresDatabase();
+        ResourceAccessor accessor = new ClassLoaderResourceAccessor();
+        DatabaseChangeLog changeLog = ChangeLogParserFactory.getInstance().getParser(CHANGE_LOG, accessor)
+                .parse(CHANGE_LOG, new ChangeLogParameters(database), accessor);
+        ChangeSet changeSet = changeLog.getChangeSet(CHANGE_LOG, "atp-tdm-be", "CREATE_TABLE_ENVIRONMENTS_SNAPSHOT");
+        Assertions.assertNotNull(changeSet);
+
+        StringBuilder sql = new StringBuilder();
+        for (Change change : changeSet.getChanges()) {
+            Sql[] statements = SqlGeneratorFactory.getInstance().generateSql(change, database);
+            sql.append(Arrays.stream(statements).map(Sql::toSql).collect(Collectors.joining(";")));
+        }
+
+        String createTable = sql.toString().toUpperCase();
+        Assertions.assertTrue(createTable.contains("SNAPSHOT BYTEA"),
+                "Snapshot is bound as byte array and must be stored as BYTEA, but was: " + createTable);
+    }
+}
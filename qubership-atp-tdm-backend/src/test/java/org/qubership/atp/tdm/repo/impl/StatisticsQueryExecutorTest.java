@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.model.statistics.CollectedStatistics;
+import org.qubership.atp.tdm.service.impl.QueryProfilerServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class StatisticsQueryExecutorTest {
+
+    private final StatisticsQueryExecutor executor = new StatisticsQueryExecutor("jdbc:h2:mem:statistics",
+            "sa", "", 2, 1, new QueryProfilerServiceImpl(new SimpleMeterRegistry(), 1000, false, 10));
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void collect_severalSources_returnsResultsInSourcesOrder() {
+        List<Integer> sources = Arrays.asList(3, 1, 2, 0);
+        CollectedStatistics<Integer, Integer> result = executor.collect(sources, source -> {
+            if (source == 0) {
+                return null;
+            }
+            return executor.getJdbcTemplate().queryForObject("SELECT ? * 10", Integer.class, source);
+        });
+        Assertions.assertEquals(Arrays.asList(30, 10, 20), result.getItems());
+        Assertions.assertFalse(result.isIncomplete());
+    }
+
+    @Test
+    public void collect_sourceExceedsTimeout_returnsPartialResult() {
+        List<Integer> sources = Arrays.asList(1, 2);
+        CollectedStatistics<Integer, Integer> result = executor.collect(sources, source -> {
+            if (source == 2) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return source;
+        });
+        Assertions.assertEquals(Arrays.asList(1), result.getItems());
+        Assertions.assertEquals(Arrays.asList(2), result.getTimedOut());
+        Assertions.assertTrue(result.isIncomplete());
+    }
+
+    @Test
+    public void collect_sourceFails_returnsPartialResultWithoutFailedSource() {
+        List<Integer> sources = Arrays.asList(1, 2, 3);
+        CollectedStatistics<Integer, Integer> result = executor.collect(sources, source -> {
+            if (source == 2) {
+                throw new IllegalStateException("failed");
+            }
+            return source;
+        });
+        Assertions.assertEquals(Arrays.asList(1, 3), result.getItems());
+        Assertions.assertEquals(Arrays.asList(2), result.getFailed());
+        Assertions.assertTrue(result.getTimedOut().isEmpty());
+        Assertions.assertTrue(result.isIncomplete());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.AbstractTestDataTest;
+import org.qubership.atp.tdm.exceptions.internal.TdmSearchArchiveExportJobException;
+import org.qubership.atp.tdm.exceptions.internal.TdmSearchTableException;
+import org.qubership.atp.tdm.model.ExportFileType;
+import org.qubership.atp.tdm.model.archive.ArchiveExportJob;
+import org.qubership.atp.tdm.model.archive.ArchiveExportRequest;
+import org.qubership.atp.tdm.model.archive.ArchiveExportStatus;
+import org.qubership.atp.tdm.service.ArchiveExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class ArchiveExportServiceTest extends AbstractTestDataTest {
+
+    private static final UUID archiveProjectId = UUID.randomUUID();
+
+    @Autowired
+    protected ArchiveExportService archiveExportService;
+
+    @Test
+    public void archiveExportService_startExport_allTablesAddedToArchive() throws Exception {
+        String firstTableName = "tdm_test_archive_export_first";
+        String secondTableName = "tdm_test_archive_export_second";
+        createTestDataTable(firstTableName);
+        createTestDataTable(secondTableName);
+        createTestDataTableCatalog(archiveProjectId, systemId, environmentId, "Archive First", firstTableName);
+        createTestDataTableCatalog(archiveProjectId, systemId, environmentId, "Archive Second", secondTableName);
+
+        ArchiveExportJob job = archiveExportService.startExport(archiveProjectId,
+                new ArchiveExportRequest(Arrays.asList(firstTableName, secondTableName), ExportFileType.CSV));
+        waitForJob(job);
+        List<String> entryNames = readEntryNames(archiveExportService.getArchive(archiveProjectId, job.getId()));
+
+        deleteTestDataTableIfExists(firstTableName);
+        deleteTestDataTableIfExists(secondTableName);
+        catalogRepository.deleteByTableName(firstTableName);
+        catalogRepository.deleteByTableName(secondTableName);
+
+        Assertions.assertEquals(ArchiveExportStatus.COMPLETED, job.getStatus());
+        Assertions.assertEquals(2, job.getExportedCount());
+        Assertions.assertTrue(entryNames.containsAll(Arrays.asList("Archive First_" + firstTableName + ".csv",
+                "Archive Second_" + secondTableName + ".csv")));
+    }
+
+    @Test
+    public void archiveExportService_resumeExport_onlyFailedTablesExportedAgain() throws Exception {
+        String existingTableName = "tdm_test_archive_resume_existing";
+        String missingTableName = "tdm_test_archive_resume_missing";
+        createTestDataTable(existingTableName);
+        createTestDataTableCatalog(archiveProjectId, systemId, environmentId, "Resume Existing", existingTableName);
+        createTestDataTableCatalog(archiveProjectId, systemId, environmentId, "Resume Missing", missingTableName);
+
+        ArchiveExportJob job = archiveExportService.startExport(archiveProjectId,
+                new ArchiveExportRequest(Arrays.asList(existingTableName, missingTableName), ExportFileType.CSV));
+        waitForJob(job);
+        Assertions.assertEquals(ArchiveExportStatus.COMPLETED_WITH_ERRORS, job.getStatus());
+        Assertions.assertEquals(1, job.getFailedCount());
+
+        createTestDataTable(missingTableName);
+        archiveExportService.resumeExport(archiveProjectId, job.getId());
+        waitForJob(job);
+        List<String> entryNames = readEntryNames(archiveExportService.getArchive(archiveProjectId, job.getId()));
+
+        deleteTestDataTableIfExists(existingTableName);
+        deleteTestDataTableIfExists(missingTableName);
+        catalogRepository.deleteByTableName(existingTableName);
+        catalogRepository.deleteByTableName(missingTableName);
+
+        Assertions.assertEquals(ArchiveExportStatus.COMPLETED, job.getStatus());
+        Assertions.assertEquals(2, entryNames.size());
+    }
+
+    @Test
+    public void archiveExportService_startExportWithForeignTable_throwsException() {
+        Assertions.assertThrows(TdmSearchTableException.class, () -> archiveExportService.startExport(
+                archiveProjectId, new ArchiveExportRequest(Arrays.asList("tdm_test_archive_not_exist"),
+                        ExportFileType.CSV)));
+    }
+
+    @Test
+    public void archiveExportService_evictExpiredJobs_finishedJobAndArchiveRemoved() throws Exception {
+        UUID emptyProjectId = UUID.randomUUID();
+        ArchiveExportJob job = archiveExportService.startExport(emptyProjectId,
+                new ArchiveExportRequest(Collections.emptyList(), ExportFileType.CSV));
+        waitForJob(job);
+        File archive = job.getArchive();
+        job.setFinished(new Date(0));
+
+        ((ArchiveExportServiceImpl) archiveExportService).evictExpiredJobs();
+
+        Assertions.assertFalse(archive.exists());
+        Assertions.assertThrows(TdmSearchArchiveExportJobException.class,
+                () -> archiveExportService.getJob(emptyProjectId, job.getId()));
+    }
+
+    @Test
+    public void archiveExportService_getJobOfAnotherProject_throwsException() {
+        Assertions.assertThrows(TdmSearchArchiveExportJobException.class,
+                () -> archiveExportService.getJob(archiveProjectId, UUID.randomUUID()));
+    }
+
+    private void waitForJob(ArchiveExportJob job) throws Exception {
+        job.getCompletion().get(30, TimeUnit.SECONDS);
+    }
+
+    private List<String> readEntryNames(File archive) throws IOException {
+        try (ZipFile zipFile = new ZipFile(archive)) {
+            return zipFile.stream().map(ZipEntry::getName).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.impl;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.AbstractTestDataTest;
+import org.qubership.atp.tdm.service.impl.MetricService.Operation;
+import org.qubership.atp.tdm.utils.SqlStatementsCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class MetricServiceTest extends AbstractTestDataTest {
+
+    private static final UUID metricsProjectId = UUID.randomUUID();
+
+    @Autowired
+    private MetricService metricService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void metricService_refreshTablesCount_gaugesReturnCachedValues() {
+        String firstTableName = "tdm_test_metrics_tables_count_first";
+        String secondTableName = "tdm_test_metrics_tables_count_second";
+        createTestDataTableCatalog(metricsProjectId, systemId, environmentId, "Metrics First", firstTableName);
+        createTestDataTableCatalog(metricsProjectId, systemId, environmentId, "Metrics Second", secondTableName);
+        metricService.refreshTablesCount();
+        catalogRepository.deleteByTableName(firstTableName);
+        catalogRepository.deleteByTableName(secondTableName);
+
+        Gauge perProject = meterRegistry.find("atp_tdm_tables_count_per_project")
+                .tag("project_id", metricsProjectId.toString()).gauge();
+        Gauge lastRefresh = meterRegistry.find("atp_tdm_tables_count_last_refresh_seconds").gauge();
+
+        Assertions.assertNotNull(perProject);
+        Assertions.assertEquals(2, perProject.value());
+        Assertions.assertTrue(meterRegistry.find("atp_tdm_tables_count").gauge().value() >= 2);
+        Assertions.assertTrue(lastRefresh.value() > 0);
+    }
+
+    @Test
+    public void metricService_stopTimer_durationRecordedWithOperationTags() {
+        String tableName = "tdm_test_metrics_operation_timer";
+        Timer.Sample sample = metricService.startTimer();
+        metricService.stopTimer(sample, Operation.OCCUPY, metricsProjectId, tableName);
+
+        Timer timer = meterRegistry.find("atp_tdm_operation_duration")
+                .tags("operation", "occupy", "project_id", metricsProjectId.toString(), "table", tableName)
+                .timer();
+
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void metricService_tableTagsLimitReachedByProject_otherProjectsKeepTableTags() {
+        MetricService limitedMetricService = new MetricService(meterRegistry, jdbcTemplate, 3600, 1);
+        String busyProject = UUID.randomUUID().toString();
+        String quietProject = UUID.randomUUID().toString();
+        try {
+            limitedMetricService.stopTimer(metricService.startTimer(), Operation.GET_RECORD, busyProject,
+                    "tdm_test_metrics_busy_first");
+            limitedMetricService.stopTimer(metricService.startTimer(), Operation.GET_RECORD, busyProject,
+                    "tdm_test_metrics_busy_second");
+            limitedMetricService.stopTimer(metricService.startTimer(), Operation.GET_RECORD, quietProject,
+                    "tdm_test_metrics_quiet");
+        } finally {
+            limitedMetricService.shutdown();
+        }
+
+        Assertions.assertNotNull(meterRegistry.find("atp_tdm_operation_duration")
+                .tags("project_id", busyProject, "table", "OTHER").timer());
+        Assertions.assertNotNull(meterRegistry.find("atp_tdm_operation_duration")
+                .tags("project_id", quietProject, "table", "tdm_test_metrics_quiet").timer());
+    }
+
+    @Test
+    public void metricService_executeRefreshJob_counterNotTaggedByConfigId() {
+        String tableTitle = "Metrics Refresh";
+        metricService.executeRefreshJob(metricsProjectId, tableTitle);
+        metricService.executeRefreshJob(metricsProjectId, tableTitle);
+
+        Counter counter = meterRegistry.find("atp_tdm_execute_refresh_by_cron")
+                .tags("project_id", metricsProjectId.toString(), "table_title", tableTitle).counter();
+
+        Assertions.assertNotNull(counter);
+        Assertions.assertEquals(2, counter.count());
+        Assertions.assertNull(counter.getId().getTag("refresh_id"));
+    }
+
+    @Test
+    public void instrumentedDataSource_executeStatements_statementsCounted() {
+        SqlStatementsCounter.start();
+        jdbcTemplate.queryForObject("select count(*) from test_data_table_catalog", Integer.class);
+        jdbcTemplate.queryForList("select table_name from test_data_table_catalog");
+        int count = SqlStatementsCounter.stop();
+
+        Assertions.assertEquals(2, count);
+        Assertions.assertEquals(0, SqlStatementsCounter.stop());
+    }
+}
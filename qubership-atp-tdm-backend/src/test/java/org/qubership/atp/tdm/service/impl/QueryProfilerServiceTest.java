@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.impl;
+
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.AbstractTestDataTest;
+import org.qubership.atp.tdm.configuration.InstrumentedDataSource;
+import org.qubership.atp.tdm.exceptions.internal.TdmValidateLimitException;
+import org.qubership.atp.tdm.model.statistics.SlowQueryStatistic;
+import org.qubership.atp.tdm.service.QueryProfilerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class QueryProfilerServiceTest extends AbstractTestDataTest {
+
+    @Autowired
+    private QueryProfilerService queryProfilerService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void queryProfiler_slowStatements_statementsAttributedToPhases() {
+        String tableName = "tdm_test_query_profiler_phases";
+        QueryProfilerService profiler = new QueryProfilerServiceImpl(new SimpleMeterRegistry(), 0, false, 10);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new InstrumentedDataSource(dataSource, profiler));
+        deleteTestDataTableIfExists(tableName);
+        createTestDataTable(tableName);
+        try (QueryProfilerService.Phase count = profiler.startPhase("count")) {
+            jdbcTemplate.queryForObject("select count(*) from " + tableName, Integer.class);
+            try (QueryProfilerService.Phase dataQuery = profiler.startPhase("data_query")) {
+                jdbcTemplate.queryForList("select * from " + tableName + " where \"ROW_ID\" = ?",
+                        UUID.randomUUID());
+            }
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+
+        List<SlowQueryStatistic> statistics = profiler.getSlowQueries(Integer.MAX_VALUE);
+
+        Assertions.assertTrue(statistics.stream().anyMatch(statistic -> "count".equals(statistic.getPhase())
+                && statistic.getFingerprint().contains(tableName)));
+        Assertions.assertTrue(statistics.stream().anyMatch(statistic -> "data_query".equals(statistic.getPhase())
+                && statistic.getFingerprint().contains(tableName)));
+    }
+
+    @Test
+    public void queryProfiler_recordSlowStatement_statementCountedAsSlow() throws Exception {
+        QueryProfilerService profiler = new QueryProfilerServiceImpl(new SimpleMeterRegistry(), 0, true, 10);
+        String sql = "select count(*) from test_data_table_catalog where project_id = ?";
+        try (Connection connection = dataSource.getConnection()) {
+            profiler.recordStatement(sql, Collections.singletonMap(1, projectId), connection,
+                    TimeUnit.MILLISECONDS.toNanos(5));
+            profiler.recordStatement(sql, Collections.singletonMap(1, projectId), connection,
+                    TimeUnit.MILLISECONDS.toNanos(15));
+        }
+
+        List<SlowQueryStatistic> statistics = profiler.getSlowQueries(5);
+
+        Assertions.assertEquals(1, statistics.size());
+        Assertions.assertEquals(2, statistics.get(0).getExecutions());
+        Assertions.assertEquals(15, statistics.get(0).getMaxTimeMs());
+        Assertions.assertEquals(20, statistics.get(0).getTotalTimeMs());
+    }
+
+    @Test
+    public void queryProfiler_recordFastAndSlowStatements_parametersCapturedOnlyForSlowStatementToExplain()
+            throws Exception {
+        QueryProfilerService profiler = new QueryProfilerServiceImpl(new SimpleMeterRegistry(), 10, true, 10);
+        String sql = "select count(*) from test_data_table_catalog where project_id = ?";
+        try (Connection connection = dataSource.getConnection()) {
+            profiler.recordStatement(sql, null, connection, TimeUnit.MILLISECONDS.toNanos(5));
+            Assertions.assertTrue(profiler.getSlowQueries(5).isEmpty());
+            Assertions.assertFalse(profiler.isParametersCaptureRequired(sql));
+
+            profiler.recordStatement(sql, null, connection, TimeUnit.MILLISECONDS.toNanos(15));
+            Assertions.assertTrue(profiler.isParametersCaptureRequired(sql));
+
+            profiler.recordStatement(sql, Collections.singletonMap(1, projectId), connection,
+                    TimeUnit.MILLISECONDS.toNanos(15));
+            Assertions.assertFalse(profiler.isParametersCaptureRequired(sql));
+        }
+
+        Assertions.assertEquals(2, profiler.getSlowQueries(5).get(0).getExecutions());
+    }
+
+    @Test
+    public void queryProfiler_getSlowQueriesWithNotPositiveLimit_exceptionThrown() {
+        Assertions.assertThrows(TdmValidateLimitException.class, () -> queryProfilerService.getSlowQueries(0));
+        Assertions.assertThrows(TdmValidateLimitException.class, () -> queryProfilerService.getSlowQueries(-1));
+    }
+}
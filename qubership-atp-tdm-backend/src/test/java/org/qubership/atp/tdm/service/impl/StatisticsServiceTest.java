@@ -22,6 +22,7 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.sql.Timestamp;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
@@ -35,6 +36,8 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -49,10 +52,14 @@ import org.qubership.atp.tdm.env.configurator.model.LazySystem;
 import org.qubership.atp.tdm.env.configurator.model.Project;
 import org.qubership.atp.tdm.env.configurator.model.System;
 import org.qubership.atp.tdm.model.ProjectInformation;
+import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.mail.charts.ChartSeries;
 import org.qubership.atp.tdm.model.statistics.AvailableDataStatisticsConfig;
+import org.qubership.atp.tdm.model.statistics.CollectedStatistics;
 import org.qubership.atp.tdm.model.statistics.ConsumedStatistics;
 import org.qubership.atp.tdm.model.statistics.ConsumedStatisticsItem;
+import org.qubership.atp.tdm.model.statistics.DailyStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.DateStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
@@ -65,6 +72,7 @@ import org.qubership.atp.tdm.model.statistics.UserGeneralStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.UsersOccupyStatisticRequest;
 import org.qubership.atp.tdm.model.statistics.UsersOccupyStatisticResponse;
 import org.qubership.atp.tdm.model.statistics.available.AvailableDataByColumnStats;
+import org.qubership.atp.tdm.model.statistics.available.AvailableDataDelta;
 import org.qubership.atp.tdm.model.statistics.report.StatisticsReportElement;
 import org.qubership.atp.tdm.model.statistics.report.StatisticsReportEnvironment;
 import org.qubership.atp.tdm.model.statistics.report.StatisticsReportObject;
@@ -72,12 +80,18 @@ import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportElemen
 import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportObject;
 import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.repo.AvailableDataCounterRepository;
+import org.qubership.atp.tdm.repo.OccupyStatisticPartitionRepository;
+import org.qubership.atp.tdm.repo.OccupyStatisticRepository;
+import org.qubership.atp.tdm.repo.StatisticsDailyRepository;
 import org.qubership.atp.tdm.repo.TestAvailableDataMonitoringRepository;
 import org.qubership.atp.tdm.repo.TestDataUsersMonitoringRepository;
 import org.qubership.atp.tdm.utils.AvailableStatisticUtils;
 import org.qubership.atp.tdm.utils.DataUtils;
+import org.qubership.atp.tdm.utils.TestDataQueries;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
 @Sql({"/scripts.sql"})
@@ -154,6 +168,21 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
     @Autowired
     private TestAvailableDataMonitoringRepository availableDataMonitoringRepository;
 
+    @Autowired
+    private StatisticsDailyRepository statisticsDailyRepository;
+
+    @Autowired
+    private OccupyStatisticPartitionRepository occupyStatisticPartitionRepository;
+
+    @Autowired
+    private OccupyStatisticRepository occupyStatisticRepository;
+
+    @Autowired
+    private AvailableDataCounterRepository availableDataCounterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     public void setUp() throws RuntimeException {
         deleteTestDataTableIfExists(TABLE_NAME_FIRST);
         deleteTestDataTableIfExists(TABLE_NAME_SECOND);
@@ -382,8 +411,29 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
         setUp();
         List<GeneralStatisticsItem> expectedStatistics = new ArrayList<>();
         expectedStatistics.add(availableItemFirst);
-        List<GeneralStatisticsItem> actualStatistics = statisticsService.getTestDataAvailability(projectId, systemId);
-        Assertions.assertEquals(expectedStatistics, actualStatistics);
+        CollectedStatistics<TestDataTableCatalog, GeneralStatisticsItem> actualStatistics =
+                statisticsService.getTestDataAvailability(projectId, systemId);
+        Assertions.assertEquals(expectedStatistics, actualStatistics.getItems());
+        Assertions.assertFalse(actualStatistics.isIncomplete());
+    }
+
+    @Test
+    public void statisticsService_checkAvailabilityWithFailedTable_failedTableOmittedAndResultIncomplete() {
+        setUp();
+        String missingTableName = "tdm_statistics_missing_table";
+        catalogRepository.deleteByTableName(missingTableName);
+        createTestDataTableCatalog(projectId, systemId, environmentId, "Missing Table", missingTableName);
+        try {
+            CollectedStatistics<TestDataTableCatalog, GeneralStatisticsItem> actualStatistics =
+                    statisticsService.getTestDataAvailability(projectId, systemId);
+            Assertions.assertEquals(Collections.singletonList(availableItemFirst), actualStatistics.getItems());
+            Assertions.assertEquals(Collections.singletonList(missingTableName),
+                    actualStatistics.getFailed().stream().map(TestDataTableCatalog::getTableName)
+                            .collect(Collectors.toList()));
+            Assertions.assertTrue(actualStatistics.isIncomplete());
+        } finally {
+            catalogRepository.deleteByTableName(missingTableName);
+        }
     }
 
     @Test
@@ -412,7 +462,8 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
         statistics.setSystem(DEFAULT_ASSIGNMENT);
         statistics.setDetails(Arrays.asList(availableItemFirst, availableItemSecond));
         expectedStatistics.add(statistics);
-        List<GeneralStatisticsItem> actualStatistics = statisticsService.getTestDataAvailability(projectId, null);
+        List<GeneralStatisticsItem> actualStatistics =
+                statisticsService.getTestDataAvailability(projectId, null).getItems();
         List<GeneralStatisticsItem> details =
                 actualStatistics.get(0).getDetails().stream()
                         .sorted(Comparator.comparingLong(GeneralStatisticsItem::getOccupied))
@@ -736,6 +787,22 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
         Assertions.assertEquals(expect, actual);
     }
 
+    @Test
+    public void statisticsService_getCsvReportByUsers_writesRowPerUserAndTable() throws IOException {
+        setUp();
+        List<String> lines = Files.readAllLines(statisticsService.getCsvReportByUsers(projectId, 2).toPath());
+        cleanUp();
+        String dates = String.join(",", LocalDate.now().minusDays(2).toString(),
+                LocalDate.now().minusDays(1).toString(), LocalDate.now().toString());
+        List<String> expected = Arrays.asList(
+                "User Name,Table,System,Environment," + dates + ",",
+                "TestUser," + TABLE_TITLE + "," + lazySystem.getName() + "," + lazyEnvironment.getName()
+                        + ",0,0,1,",
+                "TestUser," + TABLE_TITLE + "," + lazySystemSecond.getName() + ","
+                        + lazyEnvironmentSecond.getName() + ",0,0,2,");
+        Assertions.assertEquals(expected, lines);
+    }
+
     @Test
     public void statisticsService_checkNextScheduledRun_returnsNextScheduledRun() throws ParseException {
         final String cronExpression = "0 0 6 * * ?";
@@ -774,6 +841,142 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
         Assertions.assertEquals(expectedStatistics, actualStatistics);
     }
 
+    @Test
+    public void statisticsService_rollupDailyStatistics_statisticsServedFromRollupAreSame() {
+        setUp();
+        LocalDate dateFrom = LocalDate.now().minusDays(3);
+        LocalDate dateTo = LocalDate.now().plusDays(1);
+        ConsumedStatistics expectedConsumed = statisticsService.getTestDataConsumption(projectId, null,
+                dateFrom, dateTo);
+        OutdatedStatistics expectedOutdated = statisticsService.getTestDataConsumptionWhitOutdated(projectId, null,
+                dateFrom, dateTo, 1);
+        DateStatistics expectedCreatedWhen = statisticsService.getTestDataCreatedWhen(projectId, null,
+                dateFrom, dateTo);
+
+        statisticsService.rollupDailyStatistics();
+
+        Map<String, Set<LocalDate>> queuedDays = statisticsDailyRepository.getQueuedDays(dateFrom, dateTo);
+        Set<String> rebuildQueuedTables = statisticsDailyRepository.getRebuildQueuedTables();
+        Assertions.assertFalse(queuedDays.containsKey(TABLE_NAME_FIRST.toLowerCase()));
+        Assertions.assertFalse(queuedDays.containsKey(TABLE_NAME_SECOND.toLowerCase()));
+        Assertions.assertFalse(rebuildQueuedTables.contains(TABLE_NAME_FIRST.toLowerCase()));
+        Assertions.assertFalse(rebuildQueuedTables.contains(TABLE_NAME_SECOND.toLowerCase()));
+        Assertions.assertTrue(statisticsDailyRepository.getDailyStatistics(projectId, dateFrom, dateTo, "day")
+                .stream().anyMatch(item -> TABLE_NAME_FIRST.equals(item.getTableName())
+                        && LocalDate.now().equals(item.getDay()) && item.getOccupied() > 0));
+        Assertions.assertEquals(expectedConsumed, statisticsService.getTestDataConsumption(projectId, null,
+                dateFrom, dateTo));
+        Assertions.assertEquals(expectedOutdated, statisticsService.getTestDataConsumptionWhitOutdated(projectId,
+                null, dateFrom, dateTo, 1));
+        Assertions.assertEquals(expectedCreatedWhen, statisticsService.getTestDataCreatedWhen(projectId, null,
+                dateFrom, dateTo));
+        cleanUp();
+    }
+
+    @Test
+    public void statisticsService_rollupDailyStatistics_onlyQueuedDaysRebuilt() {
+        String tableName = "TDM_Daily_" + UUID.randomUUID().toString().replace("-", "");
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        LocalDate oldDay = today.minusDays(10);
+        UUID oldRowId = UUID.randomUUID();
+        UUID newRowId = UUID.randomUUID();
+        statisticsService.saveOccupyStatistic(new TestDataOccupyStatistic(oldRowId, projectId, systemId, tableName,
+                TABLE_TITLE, "TestUser", now.minusDays(10), now.minusDays(10)));
+        try {
+            statisticsService.rollupDailyStatistics();
+            // removed without enqueueing, so the rolled up old day is not rebuilt by the next rollup
+            occupyStatisticRepository.deleteAllByRowId(Collections.singletonList(oldRowId));
+            statisticsService.saveOccupyStatistic(new TestDataOccupyStatistic(newRowId, projectId, systemId,
+                    tableName, TABLE_TITLE, "TestUser", now, now));
+            statisticsService.rollupDailyStatistics();
+
+            Map<LocalDate, DailyStatisticsItem> daily = statisticsDailyRepository
+                    .getDailyStatistics(projectId, oldDay, today, "day").stream()
+                    .filter(item -> tableName.toLowerCase().equals(item.getTableName()))
+                    .collect(Collectors.toMap(DailyStatisticsItem::getDay, item -> item));
+            Assertions.assertEquals(2, daily.size());
+            Assertions.assertEquals(1L, daily.get(oldDay).getOccupied());
+            Assertions.assertEquals(1L, daily.get(today).getOccupied());
+            Assertions.assertEquals(1L, daily.get(today).getCreated());
+        } finally {
+            statisticsService.deleteAllOccupyStatisticByRowId(Arrays.asList(oldRowId, newRowId));
+            statisticsDailyRepository.enqueue(tableName, Collections.singletonList(oldDay));
+            statisticsService.rollupDailyStatistics();
+        }
+    }
+
+    @Test
+    public void statisticsService_getTestDataConsumption_queuedDaysCountedFromOccupyStatistic() {
+        String tableName = "TDM_Queued_" + UUID.randomUUID().toString().replace("-", "");
+        String tableTitle = "Queued " + tableName;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        LocalDate oldDay = today.minusDays(10);
+        UUID oldRowId = UUID.randomUUID();
+        UUID newRowId = UUID.randomUUID();
+        statisticsService.saveOccupyStatistic(new TestDataOccupyStatistic(oldRowId, projectId, systemId, tableName,
+                tableTitle, "TestUser", now.minusDays(10), now.minusDays(10)));
+        try {
+            statisticsService.rollupDailyStatistics();
+            // removed without enqueueing, so the old day can only be served from the rollup
+            occupyStatisticRepository.deleteAllByRowId(Collections.singletonList(oldRowId));
+            statisticsService.saveOccupyStatistic(new TestDataOccupyStatistic(newRowId, projectId, systemId,
+                    tableName, tableTitle, "TestUser", now, now));
+
+            Assertions.assertTrue(statisticsDailyRepository.getQueuedDays(oldDay, today)
+                    .get(tableName.toLowerCase()).contains(today));
+            ConsumedStatistics consumed = statisticsService.getTestDataConsumption(projectId, null, oldDay, today);
+            long consumedCount = consumed.getItems().stream()
+                    .filter(item -> tableTitle.equals(item.getContext()))
+                    .flatMap(item -> item.getConsumed().stream())
+                    .mapToLong(Long::longValue)
+                    .sum();
+            Assertions.assertEquals(2L, consumedCount);
+        } finally {
+            statisticsService.deleteAllOccupyStatisticByRowId(Arrays.asList(oldRowId, newRowId));
+            statisticsDailyRepository.enqueue(tableName, Collections.singletonList(oldDay));
+            statisticsService.rollupDailyStatistics();
+        }
+    }
+
+    @Test
+    public void statisticsService_maintainOccupyStatisticPartitions_oldStatisticDeletedDailyStatisticKept() {
+        String tableName = "tdm_retention_" + UUID.randomUUID().toString().replace("-", "");
+        UUID retentionProjectId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate oldDay = now.minusMonths(14).toLocalDate();
+        UUID oldRowId = UUID.randomUUID();
+        UUID newRowId = UUID.randomUUID();
+        statisticsService.saveOccupyStatistic(new TestDataOccupyStatistic(oldRowId, retentionProjectId, systemId,
+                tableName, TABLE_TITLE, "TestUser", now.minusMonths(14), now.minusMonths(14)));
+        statisticsService.saveOccupyStatistic(new TestDataOccupyStatistic(newRowId, retentionProjectId, systemId,
+                tableName, TABLE_TITLE, "TestUser", now, now));
+        try {
+            // old day rolled up while it was retained
+            statisticsDailyRepository.enqueue(tableName, Collections.singletonList(oldDay));
+            statisticsDailyRepository.rollupTable(tableName, statisticsDailyRepository.getQueueWatermark(),
+                    LocalDate.EPOCH);
+
+            statisticsService.maintainOccupyStatisticPartitions();
+            statisticsDailyRepository.enqueue(tableName, Collections.singletonList(oldDay));
+            statisticsService.rollupDailyStatistics();
+
+            Assertions.assertFalse(occupyStatisticPartitionRepository.isPartitioned());
+            Assertions.assertTrue(occupyStatisticRepository.findAllByRowIdIn(Collections.singletonList(oldRowId)).isEmpty());
+            Assertions.assertFalse(occupyStatisticRepository.findAllByRowIdIn(Collections.singletonList(newRowId)).isEmpty());
+            Map<LocalDate, DailyStatisticsItem> daily = statisticsDailyRepository
+                    .getDailyStatistics(retentionProjectId, oldDay, now.toLocalDate(), "day").stream()
+                    .filter(item -> tableName.equals(item.getTableName()))
+                    .collect(Collectors.toMap(DailyStatisticsItem::getDay, item -> item));
+            Assertions.assertEquals(1L, daily.get(oldDay).getOccupied());
+            Assertions.assertEquals(1L, daily.get(oldDay).getCreated());
+            Assertions.assertTrue(daily.containsKey(now.toLocalDate()));
+        } finally {
+            statisticsService.deleteAllOccupyStatisticByRowId(Arrays.asList(oldRowId, newRowId));
+        }
+    }
+
     @Test
     public void statisticService_getStatisticsByUsers_returnRightRowsCount() {
         setUp();
@@ -945,6 +1148,96 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
         }
     }
 
+    @Test
+    public void availableData_occupyReleaseAndDeleteRows_countersFollowChanges() {
+        UUID system2 = UUID.randomUUID();
+        UUID project = UUID.randomUUID();
+        String tableName = "availablecounters_" + java.lang.System.currentTimeMillis();
+        try {
+            createTestDataTable(tableName);
+            createTestDataTableCatalog(project, system2, environmentId, "availableCounters", tableName);
+            AvailableDataStatisticsConfig config = statisticsService.getAvailableStatsConfig(system2, environmentId);
+            config.setTablesColumns(testDataService.getDistinctTablesColumnValues(system2, environmentId, "sim"));
+            config.setDescription("Description");
+            config.setActiveColumnKey("sim");
+            statisticsService.saveAvailableStatsConfig(config);
+            List<Map<String, Object>> rows = testDataService.getTestData(tableName).getData();
+            String sim = String.valueOf(rows.get(0).get("sim"));
+            List<UUID> rowIds = extractRowIds(rows.subList(0, 1));
+            Assertions.assertEquals(Integer.valueOf(1), getAvailableCount(system2, sim));
+
+            testDataTableRepository.occupyTestData(tableName, "TestUser", rowIds);
+            Assertions.assertEquals(Integer.valueOf(0), getAvailableCount(system2, sim));
+            testDataTableRepository.releaseTestData(tableName, rowIds);
+            Assertions.assertEquals(Integer.valueOf(1), getAvailableCount(system2, sim));
+            testDataTableRepository.deleteRows(tableName, rowIds);
+            Assertions.assertEquals(Integer.valueOf(0), getAvailableCount(system2, sim));
+
+            Map<String, Long> live = availableDataCounterRepository.getCounters(tableName, "sim");
+            availableDataCounterRepository.reconcile(tableName, "sim");
+            Assertions.assertEquals(availableDataCounterRepository.getCounters(tableName, "sim").entrySet().stream()
+                    .filter(counter -> counter.getValue() > 0).collect(Collectors.toSet()),
+                    live.entrySet().stream().filter(counter -> counter.getValue() > 0).collect(Collectors.toSet()));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+            catalogRepository.deleteByTableName(tableName);
+        }
+    }
+
+    @Test
+    public void availableData_applyDeltaOfNewAndExistingValues_countersUpserted() {
+        String tableName = "availablecounters_" + java.lang.System.currentTimeMillis();
+        try {
+            createTestDataTable(tableName);
+            availableDataCounterRepository.reconcile(tableName, "sim");
+            AvailableDataDelta delta = new AvailableDataDelta();
+            delta.add("sim", "new_sim", 1);
+
+            availableDataCounterRepository.applyDelta(tableName, delta);
+            availableDataCounterRepository.applyDelta(tableName, delta);
+
+            Assertions.assertEquals(Long.valueOf(2), availableDataCounterRepository.getCounters(tableName, "sim")
+                    .get("new_sim"));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+            availableDataCounterRepository.remove(tableName);
+        }
+    }
+
+    @Test
+    public void availableData_updateUntrackedColumnAndDeleteUnoccupiedRows_countersStayReconciled() {
+        String tableName = "availablecounters_" + java.lang.System.currentTimeMillis();
+        try {
+            createTestDataTable(tableName);
+            availableDataCounterRepository.reconcile(tableName, "sim");
+
+            testDataTableRepository.updateRows(tableName, Collections.emptyList(),
+                    Collections.singletonMap("Status", "Updated"));
+            Assertions.assertTrue(isReconciled(tableName, "sim"));
+            testDataTableRepository.deleteUnoccupiedRows(tableName);
+            Assertions.assertTrue(isReconciled(tableName, "sim"));
+            Assertions.assertTrue(availableDataCounterRepository.getCounters(tableName, "sim").values().stream()
+                    .allMatch(count -> count == 0));
+
+            testDataTableRepository.updateRows(tableName, Collections.emptyList(),
+                    Collections.singletonMap("sim", "Updated"));
+            Assertions.assertFalse(isReconciled(tableName, "sim"));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+            availableDataCounterRepository.remove(tableName);
+        }
+    }
+
+    private boolean isReconciled(String tableName, String columnName) {
+        return jdbcTemplate.queryForObject(TestDataQueries.GET_AVAILABLE_COLUMN_RECONCILED, Timestamp.class,
+                tableName.toLowerCase(), columnName) != null;
+    }
+
+    private Integer getAvailableCount(UUID systemId, String value) {
+        return statisticsService.getAvailableDataInColumn(systemId, environmentId)
+                .getStatistics().get(0).getOptions().get(value);
+    }
+
     private static TestAvailableDataMonitoring createMonitoringConfig() {
         TestAvailableDataMonitoring availableDataMonitoring = new TestAvailableDataMonitoring();
         availableDataMonitoring.setSystemId(systemId);
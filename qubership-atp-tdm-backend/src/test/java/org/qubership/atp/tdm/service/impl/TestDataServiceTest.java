@@ -33,10 +33,13 @@ import org.qubership.atp.tdm.exceptions.db.TdmDbRowNotFoundException;
 import org.qubership.atp.tdm.model.EnvsList;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
 import org.qubership.atp.tdm.model.ProjectInformation;
+import org.qubership.atp.tdm.model.TestDataExportRequest;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.qubership.atp.tdm.model.table.OrderType;
 import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -588,6 +591,25 @@ public class TestDataServiceTest extends AbstractTestDataTest {
         Assertions.assertEquals(erRowsPerformed, arRows);
     }
 
+    @Test
+    public void testDataService_getFilteredTestDataTableAsCsvFile_returnOnlyRequestedColumnsAndRows()
+            throws IOException {
+        String tableName = "tdm_test_get_filtered_table_as_csv";
+        createTestDataTable(tableName, true);
+        TestDataTableFilter simColumnFilter = new TestDataTableFilter("sim", "contains",
+                Arrays.asList("0126072004014082", "8901260720040140973"), false);
+        TestDataExportRequest exportRequest = new TestDataExportRequest(tableName, null,
+                Arrays.asList("sim", "Partner ID"), Collections.singletonList(simColumnFilter),
+                new TestDataTableOrder("Partner ID", OrderType.DESC));
+
+        File arFile = testDataService.getTestDataTableAsCsvFile(exportRequest);
+        List<String> arRows = Files.readAllLines(arFile.toPath());
+        deleteTestDataTableIfExists(tableName);
+
+        List<String> erRows = Arrays.asList("sim,Partner ID", "8901260720040140973,3", "8901260720040140822,2");
+        Assertions.assertEquals(erRows, arRows);
+    }
+
      @Test
      public void testDataService_importSqlTestData_rowsImportedAndStatisticReturned() {
         createTestDataTable("tdm_test_import_sql_source_table");
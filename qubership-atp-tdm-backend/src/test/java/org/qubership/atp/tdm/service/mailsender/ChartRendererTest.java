@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.service.mailsender;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.exceptions.internal.TdmGetImageFromHighchartException;
+import org.qubership.atp.tdm.service.client.HighchartsFeignClient;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public class ChartRendererTest {
+
+    private final HighchartsFeignClient highchartsFeignClient = mock(HighchartsFeignClient.class);
+    private final ChartRenderer chartRenderer = new ChartRenderer(highchartsFeignClient, 2, 10, 1, 1);
+
+    @AfterEach
+    public void tearDown() {
+        chartRenderer.shutdown();
+    }
+
+    @Test
+    public void render_severalCharts_returnsImagesInOrder() {
+        when(highchartsFeignClient.create(anyString())).thenAnswer(invocation -> ResponseEntity.ok(
+                new ByteArrayResource(("png:" + invocation.getArgument(0)).getBytes(StandardCharsets.UTF_8))));
+
+        List<byte[]> images = chartRenderer.render(Arrays.asList("first", "second", "third"));
+
+        Assertions.assertEquals(3, images.size());
+        Assertions.assertEquals("png:first", new String(images.get(0), StandardCharsets.UTF_8));
+        Assertions.assertEquals("png:second", new String(images.get(1), StandardCharsets.UTF_8));
+        Assertions.assertEquals("png:third", new String(images.get(2), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void render_sameChartTwice_rendersOnce() {
+        when(highchartsFeignClient.create(anyString()))
+                .thenAnswer(invocation -> ResponseEntity.ok(new ByteArrayResource(new byte[] {1, 2, 3})));
+
+        chartRenderer.render(Arrays.asList("chart"));
+        List<byte[]> images = chartRenderer.render(Arrays.asList("chart"));
+
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, images.get(0));
+        verify(highchartsFeignClient, times(1)).create("chart");
+    }
+
+    @Test
+    public void render_highchartsServiceHangs_throwsExceptionAfterTimeout() {
+        CountDownLatch released = new CountDownLatch(1);
+        when(highchartsFeignClient.create(anyString())).thenAnswer(invocation -> {
+            released.await();
+            return ResponseEntity.ok(new ByteArrayResource(new byte[] {1}));
+        });
+
+        try {
+            Assertions.assertThrows(TdmGetImageFromHighchartException.class,
+                    () -> chartRenderer.render(Arrays.asList("chart")));
+        } finally {
+            released.countDown();
+        }
+    }
+
+    @Test
+    public void render_highchartsServiceFails_throwsException() {
+        when(highchartsFeignClient.create(anyString()))
+                .thenReturn(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+
+        Assertions.assertThrows(TdmGetImageFromHighchartException.class,
+                () -> chartRenderer.render(Arrays.asList("chart")));
+    }
+}
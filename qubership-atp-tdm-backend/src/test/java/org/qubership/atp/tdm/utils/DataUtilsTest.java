@@ -22,12 +22,17 @@ import org.qubership.atp.tdm.exceptions.db.TdmDbCheckQueryException;
 import org.qubership.atp.tdm.exceptions.db.TdmDbCheckTableNameException;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.cleanup.TestDataCleanupConfig;
+import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class DataUtilsTest extends AbstractTestDataTest {
@@ -106,4 +111,54 @@ public class DataUtilsTest extends AbstractTestDataTest {
             Assertions.assertEquals(message, e.getMessage());
         }
     }
+
+    @Test
+    public void dataUtils_getStatisticsBuckets_weekCrossingMonthIsCounted() {
+        LocalDate dateFrom = LocalDate.of(2024, 1, 29);
+        LocalDate dateTo = LocalDate.of(2024, 2, 25);
+        StatisticsInterval interval = DataUtils.resolveStatisticsInterval(dateFrom, dateTo);
+        List<String> dates = DataUtils.getStatisticsInterval(interval, dateFrom, dateTo);
+        Map<LocalDate, Long> rows = new HashMap<>();
+        rows.put(LocalDate.of(2024, 1, 28), 7L);
+        rows.put(LocalDate.of(2024, 1, 30), 1L);
+        rows.put(LocalDate.of(2024, 2, 2), 2L);
+        rows.put(LocalDate.of(2024, 2, 19), 4L);
+        rows.put(LocalDate.of(2024, 2, 26), 7L);
+        List<Long> buckets = DataUtils.getStatisticsBuckets(rows.entrySet(), Map.Entry::getKey,
+                Map.Entry::getValue, interval, dateFrom, dateTo);
+        Assertions.assertEquals("day", DataUtils.getStatisticsTruncUnit(interval));
+        Assertions.assertEquals(dates.size(), buckets.size());
+        Assertions.assertEquals(Arrays.asList(3L, 0L, 0L, 4L), buckets);
+    }
+
+    @Test
+    public void dataUtils_getStatisticsBuckets_monthsFromTruncatedDates() {
+        LocalDate dateFrom = LocalDate.of(2024, 1, 15);
+        LocalDate dateTo = LocalDate.of(2024, 6, 10);
+        StatisticsInterval interval = DataUtils.resolveStatisticsInterval(dateFrom, dateTo);
+        List<String> dates = DataUtils.getStatisticsInterval(interval, dateFrom, dateTo);
+        Map<LocalDate, Long> rows = new HashMap<>();
+        rows.put(LocalDate.of(2024, 1, 1), 5L);
+        rows.put(LocalDate.of(2024, 3, 1), 2L);
+        rows.put(LocalDate.of(2024, 5, 1), 1L);
+        List<Long> buckets = DataUtils.getStatisticsBuckets(rows.entrySet(), Map.Entry::getKey,
+                Map.Entry::getValue, interval, dateFrom, dateTo);
+        Assertions.assertEquals("month", DataUtils.getStatisticsTruncUnit(interval));
+        Assertions.assertEquals(dates.size(), buckets.size());
+        Assertions.assertEquals(Arrays.asList(5L, 0L, 2L, 0L, 1L), buckets);
+    }
+
+    @Test
+    public void dataUtils_resolveStatisticsInterval_otherPeriodDoesNotChangeBuckets() {
+        LocalDate dateFrom = LocalDate.of(2024, 3, 1);
+        LocalDate dateTo = LocalDate.of(2024, 3, 3);
+        StatisticsInterval interval = DataUtils.resolveStatisticsInterval(dateFrom, dateTo);
+        DataUtils.getStatisticsInterval(LocalDate.of(2020, 1, 1), LocalDate.of(2024, 1, 1));
+        Map<LocalDate, Long> rows = new HashMap<>();
+        rows.put(LocalDate.of(2024, 3, 2), 3L);
+        List<Long> buckets = DataUtils.getStatisticsBuckets(rows.entrySet(), Map.Entry::getKey,
+                Map.Entry::getValue, interval, dateFrom, dateTo);
+        Assertions.assertEquals(StatisticsInterval.DAYS, interval);
+        Assertions.assertEquals(Arrays.asList(0L, 3L, 0L), buckets);
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SqlFingerprintTest {
+
+    @Test
+    public void sqlFingerprint_statementsDifferByValues_sameFingerprint() {
+        String first = SqlFingerprint.of("SELECT * FROM tdm_0123456789abcdef0123456789abcdef\n"
+                + "WHERE \"SELECTED\" = false AND \"NAME\" = 'first' LIMIT 10 OFFSET 0");
+        String second = SqlFingerprint.of("select *  from tdm_fedcba9876543210fedcba9876543210 "
+                + "where \"SELECTED\" = false and \"NAME\" = 'it''s second' limit 50 offset 100");
+
+        Assertions.assertEquals("select * from tdm_? where \"selected\" = false and \"name\" = ? limit ? offset ?",
+                first);
+        Assertions.assertEquals(first, second);
+    }
+
+    @Test
+    public void sqlFingerprint_placeholdersList_collapsed() {
+        Assertions.assertEquals(SqlFingerprint.of("delete from t where row_id in (?, ?)"),
+                SqlFingerprint.of("delete from t where row_id in (?,?,?,?)"));
+    }
+}
@@ -16,21 +16,32 @@
 
 package org.qubership.atp.tdm.benchmarks;
 
+import java.io.File;
+
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 public interface AbstractJmhTest {
 
+    String REPORTS_DIRECTORY = "reports";
+
     default Options prepareOptionBuilder(String name) {
+        return prepareOptionBuilder(name, 1);
+    }
+
+    default Options prepareOptionBuilder(String name, int threads) {
+        // JMH does not create the parent directory of the result file
+        new File(REPORTS_DIRECTORY).mkdirs();
         return new OptionsBuilder()
                 .include("\\." + this.getClass().getSimpleName() + "\\.")
+                // benchmarks take Spring beans from static fields, so they must run in the test JVM
                 .forks(0)
-                .threads(1)
+                .threads(threads)
                 .shouldDoGC(true)
                 .shouldFailOnError(true)
                 .jvmArgs("-server")
-                .result("reports/" + name)
+                .result(REPORTS_DIRECTORY + "/" + name)
                 .resultFormat(ResultFormatType.JSON)
                 .build();
     }
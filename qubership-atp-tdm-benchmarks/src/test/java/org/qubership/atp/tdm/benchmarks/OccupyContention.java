@@ -0,0 +1,266 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.qubership.atp.tdm.benchmarks.facades.ContentionFacade;
+import org.qubership.atp.tdm.benchmarks.utils.Helper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
+import org.qubership.atp.tdm.env.configurator.model.LazyProject;
+import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
+import org.qubership.atp.tdm.model.rest.ResponseMessage;
+import org.qubership.atp.tdm.model.rest.ResponseType;
+import org.qubership.atp.tdm.repo.AvailableDataCounterRepository;
+import org.qubership.atp.tdm.repo.CatalogRepository;
+import org.qubership.atp.tdm.repo.TestDataTableRepository;
+import org.qubership.atp.tdm.service.AtpActionService;
+import org.qubership.atp.tdm.service.TestDataService;
+import org.qubership.atp.tdm.service.impl.AtpActionServiceTest;
+
+/**
+ * Occupy, release and get-record ATP actions executed by 1, 8, 32 and 128 threads against the same table.
+ * Every run reports throughput and latency percentiles (p99 included) to its own json report, and counts
+ * rows that were handed out twice as {@code duplicates}.
+ */
+@SpringBootTest
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OccupyContention extends AtpActionServiceTest implements AbstractJmhTest {
+
+    private static final int[] THREADS = {1, 8, 32, 128};
+    private static final int RELEASE_WINDOW = 10_000;
+
+    private static final UUID projectId = UUID.randomUUID();
+
+    private static final LazyEnvironment lazyEnvironment = new LazyEnvironment() {{
+        setName("Lazy Environment");
+        setId(projectId);
+    }};
+
+    private static final LazyProject lazyProject = new LazyProject() {{
+        setName("Lazy Project");
+        setId(projectId);
+    }};
+
+    private static final Map<Integer, String> tables = new ConcurrentHashMap<>();
+
+    private static TestDataService benchmarkTestDataService;
+    private static AtpActionService benchmarkAtpActionService;
+    private static EnvironmentsService benchmarkEnvironmentsService;
+    private static TestDataTableRepository benchmarkTestDataTableRepository;
+    private static CatalogRepository benchmarkCatalogRepository;
+    private static JdbcTemplate benchmarkJdbcTemplate;
+    private static AvailableDataCounterRepository benchmarkAvailableDataCounterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AvailableDataCounterRepository availableDataCounterRepository;
+
+    @Test
+    public void runBenchmarksForOccupyContention() throws Exception {
+        setFields();
+        for (int threads : THREADS) {
+            Options opts = prepareOptionBuilder("jmh-occupy-contention-" + threads + "-threads-report.json",
+                    threads);
+            new Runner(opts).run();
+        }
+    }
+
+    private void setFields() {
+        benchmarkTestDataService = testDataService;
+        benchmarkAtpActionService = atpActionService;
+        benchmarkEnvironmentsService = environmentsService;
+        benchmarkCatalogRepository = catalogRepository;
+        benchmarkTestDataTableRepository = testDataTableRepository;
+        benchmarkJdbcTemplate = jdbcTemplate;
+        benchmarkAvailableDataCounterRepository = availableDataCounterRepository;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public ResponseMessage occupyTestData(Table table, OccupyData data, Violations violations) {
+        ResponseMessage response = firstResponse(table.testingTarget.occupyTestData(lazyProject.getName(),
+                lazyEnvironment.getName(), system.getName(), table.tableTitle,
+                Collections.singletonList(ContentionFacade.occupyAvailableRequest())));
+        if (response.getType() == ResponseType.SUCCESS) {
+            violations.track(data.claimed.add(response.getContent()));
+        } else {
+            violations.misses++;
+        }
+        return response;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public ResponseMessage releaseTestData(Table table, ReleaseData data, Violations violations) {
+        String searchValue = data.occupied.get(ThreadLocalRandom.current().nextInt(data.occupied.size()));
+        ResponseMessage response = firstResponse(table.testingTarget.releaseTestData(lazyProject.getName(),
+                lazyEnvironment.getName(), system.getName(), table.tableTitle,
+                Collections.singletonList(ContentionFacade.releaseRequest(searchValue))));
+        if (response.getType() == ResponseType.SUCCESS) {
+            violations.track(data.released.add(searchValue));
+        } else {
+            violations.misses++;
+        }
+        return response;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public ResponseMessage getTestData(Table table, Violations violations) {
+        String searchValue = ContentionFacade.searchValue(ThreadLocalRandom.current().nextInt(table.rows));
+        ResponseMessage response = firstResponse(table.testingTarget.getTestData(lazyProject.getName(),
+                lazyEnvironment.getName(), system.getName(), table.tableTitle,
+                Collections.singletonList(ContentionFacade.getRequest(searchValue))));
+        if (response.getType() == ResponseType.SUCCESS) {
+            violations.successes++;
+        } else {
+            violations.misses++;
+        }
+        return response;
+    }
+
+    private static ResponseMessage firstResponse(List<ResponseMessage> responses) {
+        return responses.stream().findFirst().orElse(new ResponseMessage());
+    }
+
+    /**
+     * Synthetic table shared by all benchmark threads. Tables are created once per size and reused by
+     * the runs for other thread counts.
+     */
+    @State(Scope.Benchmark)
+    public static class Table {
+
+        @Param({"10000", "100000", "1000000"})
+        public int rows;
+
+        private String tableTitle;
+        private ContentionFacade testingTarget;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            when(benchmarkEnvironmentsService.getLazyProjectByName(any())).thenReturn(lazyProject);
+            when(benchmarkEnvironmentsService.getLazyEnvironmentByName(any(), any())).thenReturn(lazyEnvironment);
+            testingTarget = new ContentionFacade(benchmarkTestDataService, benchmarkTestDataTableRepository,
+                    benchmarkAtpActionService, benchmarkJdbcTemplate, benchmarkAvailableDataCounterRepository);
+            tableTitle = "OCCUPY_CONTENTION_" + rows;
+            tables.computeIfAbsent(rows, size -> {
+                String tableName = "tdm_benchmark_occupy_contention_" + size;
+                Helper.createTestDataTableCatalog(environmentId, projectId, systemId,
+                        tableTitle, tableName, benchmarkCatalogRepository);
+                testingTarget.createSyntheticTable(tableName, size);
+                return tableName;
+            });
+        }
+    }
+
+    /**
+     * Every iteration starts with all rows available, so occupation never runs out of data.
+     */
+    @State(Scope.Benchmark)
+    public static class OccupyData {
+
+        private final Set<String> claimed = ConcurrentHashMap.newKeySet();
+
+        @Setup(Level.Iteration)
+        public void setUp(Table table) {
+            table.testingTarget.releaseAllRows(tables.get(table.rows));
+            claimed.clear();
+        }
+    }
+
+    /**
+     * Every iteration starts with a window of occupied rows which threads release in random order.
+     */
+    @State(Scope.Benchmark)
+    public static class ReleaseData {
+
+        private final Set<String> released = ConcurrentHashMap.newKeySet();
+        private List<String> occupied;
+
+        @Setup(Level.Iteration)
+        public void setUp(Table table) {
+            table.testingTarget.releaseAllRows(tables.get(table.rows));
+            occupied = table.testingTarget.occupyRows(tables.get(table.rows), Math.min(table.rows, RELEASE_WINDOW));
+            released.clear();
+        }
+    }
+
+    /**
+     * Per-thread counters, summed by JMH over all threads. {@code duplicates} counts rows which were
+     * successfully occupied (or released) more than once within an iteration and must stay zero.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Violations {
+
+        public long successes;
+        public long misses;
+        public long duplicates;
+
+        @Setup(Level.Iteration)
+        public void clean() {
+            successes = 0;
+            misses = 0;
+            duplicates = 0;
+        }
+
+        void track(boolean firstClaim) {
+            if (firstClaim) {
+                successes++;
+            } else {
+                duplicates++;
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.qubership.atp.tdm.benchmarks.facades.ReadPathFacade;
+import org.qubership.atp.tdm.benchmarks.utils.Helper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.qubership.atp.tdm.AbstractTestDataTest;
+import org.qubership.atp.tdm.model.QueryInfo;
+import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.TestDataTableOrder;
+import org.qubership.atp.tdm.model.table.TestDataType;
+import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
+import org.qubership.atp.tdm.repo.CatalogRepository;
+import org.qubership.atp.tdm.repo.TestDataTableRepository;
+import org.qubership.atp.tdm.service.ColumnService;
+import org.qubership.atp.tdm.service.TestDataService;
+
+/**
+ * Read path of {@link TestDataService#getTestData} on tables of different sizes, filtered, sorted and paged.
+ * Besides the whole call, every phase is measured on its own: query building, data query, count query,
+ * column metadata and serialization of the page.
+ */
+@SpringBootTest
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReadPath extends AbstractTestDataTest implements AbstractJmhTest {
+
+    private static final Map<String, String> tables = new ConcurrentHashMap<>();
+
+    private static TestDataService benchmarkTestDataService;
+    private static TestDataTableRepository benchmarkTestDataTableRepository;
+    private static CatalogRepository benchmarkCatalogRepository;
+    private static ColumnService benchmarkColumnService;
+    private static JdbcTemplate benchmarkJdbcTemplate;
+    private static ObjectMapper benchmarkObjectMapper;
+
+    @Autowired
+    private ColumnService columnService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void runBenchmarksForReadPath() throws Exception {
+        setFields();
+        Options opts = prepareOptionBuilder("jmh-read-path-report.json");
+        new Runner(opts).run();
+    }
+
+    private void setFields() {
+        benchmarkTestDataService = testDataService;
+        benchmarkTestDataTableRepository = testDataTableRepository;
+        benchmarkCatalogRepository = catalogRepository;
+        benchmarkColumnService = columnService;
+        benchmarkJdbcTemplate = jdbcTemplate;
+        benchmarkObjectMapper = objectMapper;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public TestDataTable getTestData(Table table, Query query) {
+        return table.testingTarget.getTestData(table.tableName, query.offset, query.filters, query.order);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public String buildQuery(Table table, Query query) {
+        return ReadPathFacade.buildQueryInfo(table.tableName, query.offset, ReadPathFacade.PAGE_SIZE,
+                query.filters, query.order).getQuery().toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Map<String, Object>> dataQuery(Query query) {
+        return benchmarkJdbcTemplate.query(query.dataQuery, new ColumnMapRowMapper());
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public Long countQuery(Query query) {
+        return benchmarkJdbcTemplate.queryForObject(query.countQuery, Long.class);
+    }
+
+    /**
+     * Columns are extracted from the result set of the data query, so its execution is included.
+     * The query is limited to one row to keep that share small.
+     */
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public List<TestDataTableColumn> columnMetadata(Table table, Query query) {
+        ResultSetExtractor<List<TestDataTableColumn>> extractor = resultSet -> benchmarkColumnService
+                .extractColumns(table.tableName, TestDataType.AVAILABLE, resultSet, query.order);
+        return benchmarkJdbcTemplate.query(query.metadataQuery, extractor);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] serialize(Query query) throws JsonProcessingException {
+        return benchmarkObjectMapper.writeValueAsBytes(query.result);
+    }
+
+    /**
+     * Tables are created once per size and reused by all queries.
+     */
+    @State(Scope.Benchmark)
+    public static class Table {
+
+        @Param({"10000", "100000"})
+        public int rows;
+
+        @Param({"8", "32"})
+        public int columns;
+
+        private String tableName;
+        private ReadPathFacade testingTarget;
+
+        @Setup
+        public void setUp() {
+            testingTarget = new ReadPathFacade(benchmarkTestDataService, benchmarkTestDataTableRepository);
+            tableName = tables.computeIfAbsent(rows + "_" + columns, size -> {
+                String name = "tdm_benchmark_read_path_" + size;
+                Helper.createTestDataTableCatalog(environmentId, projectId, systemId,
+                        "READ_PATH_" + size, name, benchmarkCatalogRepository);
+                testingTarget.createTable(name, rows, columns);
+                return name;
+            });
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Query {
+
+        @Param({"none", "equals", "contains", "containsCaseSensitive", "startWith", "startWithCaseSensitive",
+                "date"})
+        public String filter;
+
+        @Param({"none", "asc"})
+        public String sort;
+
+        @Param({"first", "last"})
+        public String page;
+
+        private int offset;
+        private List<TestDataTableFilter> filters;
+        private TestDataTableOrder order;
+        private String dataQuery;
+        private String countQuery;
+        private String metadataQuery;
+        private TestDataTable result;
+
+        @Setup
+        public void setUp(Table table) {
+            filters = ReadPathFacade.buildFilters(filter);
+            order = ReadPathFacade.buildOrder(sort);
+            Long matchingRows = benchmarkJdbcTemplate.queryForObject(ReadPathFacade.buildQueryInfo(table.tableName,
+                    0, ReadPathFacade.PAGE_SIZE, filters, order).getCountQuery().toString(), Long.class);
+            offset = ReadPathFacade.getOffset(page, matchingRows.intValue());
+            QueryInfo queryInfo = ReadPathFacade.buildQueryInfo(table.tableName, offset, ReadPathFacade.PAGE_SIZE,
+                    filters, order);
+            dataQuery = queryInfo.getQuery().toString();
+            countQuery = queryInfo.getCountQuery().toString();
+            metadataQuery = ReadPathFacade.buildQueryInfo(table.tableName, 0, 1, filters, order).getQuery()
+                    .toString();
+            result = table.testingTarget.getTestData(table.tableName, offset, filters, order);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.qubership.atp.tdm.benchmarks.facades.StatisticsHistoryFacade;
+import org.qubership.atp.tdm.benchmarks.utils.HeapPeakProfiler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.qubership.atp.tdm.AbstractTestDataTest;
+import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
+import org.qubership.atp.tdm.model.ProjectInformation;
+import org.qubership.atp.tdm.model.statistics.ConsumedStatistics;
+import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
+import org.qubership.atp.tdm.model.statistics.OutdatedStatistics;
+import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportObject;
+import org.qubership.atp.tdm.repo.CatalogRepository;
+import org.qubership.atp.tdm.repo.StatisticsDailyRepository;
+import org.qubership.atp.tdm.repo.TestDataTableRepository;
+import org.qubership.atp.tdm.service.ProjectInformationService;
+import org.qubership.atp.tdm.service.StatisticsService;
+import org.qubership.atp.tdm.service.TestDataService;
+
+/**
+ * Statistics and reports of a project with a synthetic occupy history spread over hundreds of tables.
+ * Besides time, peak heap of every iteration is reported, as reports are built in memory.
+ * Consumption and outdated statistics are measured both on the daily rollup and on the raw history
+ * of tables queued for the rollup.
+ * The history is generated in the configured database, up to the production scale of 50M rows,
+ * so run it with {@code -Djdbc.Url} of a PostgreSQL database. History sizes can be overridden with
+ * a comma separated {@code -Dstatistics.history} list, e.g. {@code -Dstatistics.history=100000} for a quick run.
+ */
+@SpringBootTest
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StatisticsHistory extends AbstractTestDataTest implements AbstractJmhTest {
+
+    private static final Map<String, History> histories = new ConcurrentHashMap<>();
+
+    private static TestDataService benchmarkTestDataService;
+    private static TestDataTableRepository benchmarkTestDataTableRepository;
+    private static CatalogRepository benchmarkCatalogRepository;
+    private static StatisticsService benchmarkStatisticsService;
+    private static EnvironmentsService benchmarkEnvironmentsService;
+    private static ProjectInformationService benchmarkProjectInformationService;
+    private static StatisticsDailyRepository benchmarkStatisticsDailyRepository;
+    private static JdbcTemplate benchmarkJdbcTemplate;
+
+    @Autowired
+    private StatisticsDailyRepository statisticsDailyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void runBenchmarksForStatisticsHistory() throws Exception {
+        setFields();
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .parent(prepareOptionBuilder("jmh-statistics-history-report.json"))
+                .addProfiler(GCProfiler.class)
+                .addProfiler(HeapPeakProfiler.class);
+        String history = System.getProperty("statistics.history");
+        if (history != null && !history.isEmpty()) {
+            builder.param("history", history.split(","));
+        }
+        new Runner(builder.build()).run();
+    }
+
+    private void setFields() {
+        benchmarkTestDataService = testDataService;
+        benchmarkTestDataTableRepository = testDataTableRepository;
+        benchmarkCatalogRepository = catalogRepository;
+        benchmarkStatisticsService = statisticsService;
+        benchmarkEnvironmentsService = environmentsService;
+        benchmarkProjectInformationService = projectInformationService;
+        benchmarkStatisticsDailyRepository = statisticsDailyRepository;
+        benchmarkJdbcTemplate = jdbcTemplate;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public ConsumedStatistics getTestDataConsumption(History history, DailyStatistics dailyStatistics) {
+        return history.testingTarget.getTestDataConsumption(history.projectId);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public OutdatedStatistics getTestDataOutdated(History history, DailyStatistics dailyStatistics) {
+        return history.testingTarget.getTestDataOutdated(history.projectId);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public List<GeneralStatisticsItem> getTestDataAvailability(History history) {
+        return history.testingTarget.getTestDataAvailability(history.projectId, null);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public UsersStatisticsReportObject getUsersStatisticsReport(History history) {
+        return history.testingTarget.getUsersStatisticsReport(history.projectId);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public long getCsvReportByUsers(History history) throws IOException {
+        return history.testingTarget.getCsvReportByUsers(history.projectId);
+    }
+
+    /**
+     * Every combination of tables and history size gets its own project, histories are generated once
+     * and reused by all benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class History {
+
+        @Param({"100", "500"})
+        public int tables;
+
+        @Param({"1000000", "10000000", "50000000"})
+        public int history;
+
+        private UUID projectId;
+        private List<String> tableNames;
+        private StatisticsHistoryFacade testingTarget;
+
+        @Setup
+        public void setUp() {
+            when(benchmarkEnvironmentsService.getLazyProjectById(any())).thenReturn(lazyProject);
+            when(benchmarkEnvironmentsService.getLazyEnvironments(any()))
+                    .thenReturn(Collections.singletonList(lazyEnvironment));
+            when(benchmarkEnvironmentsService.getLazySystemById(any(), any())).thenReturn(lazySystem);
+            when(benchmarkEnvironmentsService.getEnvNameById(any())).thenReturn(environmentName);
+            testingTarget = new StatisticsHistoryFacade(benchmarkTestDataService, benchmarkTestDataTableRepository,
+                    benchmarkStatisticsService, benchmarkJdbcTemplate, benchmarkStatisticsDailyRepository);
+            History created = histories.computeIfAbsent(tables + "_" + history, size -> {
+                projectId = UUID.randomUUID();
+                benchmarkProjectInformationService.saveProjectInformation(new ProjectInformation(projectId,
+                        "GMT+03:00", "d MMM yyyy", "hh:mm:ss a", 1));
+                tableNames = testingTarget.createHistory(projectId, systemId, environmentId,
+                        benchmarkCatalogRepository, "tdm_benchmark_statistics_history_" + size, tables, history);
+                return this;
+            });
+            projectId = created.projectId;
+            tableNames = created.tableNames;
+        }
+    }
+
+    /**
+     * Rolls the history up before the trial, or leaves its tables queued, so that statistics are read
+     * from the occupy history itself.
+     */
+    @State(Scope.Benchmark)
+    public static class DailyStatistics {
+
+        @Param({"rollup", "queued"})
+        public String source;
+
+        @Setup
+        public void setUp(History history) {
+            history.testingTarget.prepareDailyStatistics(history.tableNames, "rollup".equals(source));
+        }
+    }
+}
@@ -33,7 +33,7 @@ import org.qubership.atp.tdm.service.TestDataService;
 
 public class AtpActionsFacade extends GeneralFacade {
 
-    private final AtpActionService atpActionService;
+    protected final AtpActionService atpActionService;
 
     public AtpActionsFacade(@Nonnull TestDataService testDataService,
                             @Nonnull TestDataTableRepository testDataTableRepository,
@@ -0,0 +1,138 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.facades;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.Nonnull;
+
+import org.qubership.atp.tdm.benchmarks.utils.Helper;
+
+import org.qubership.atp.tdm.model.rest.ApiDataFilter;
+import org.qubership.atp.tdm.model.rest.ResponseMessage;
+import org.qubership.atp.tdm.model.rest.requests.GetRowRequest;
+import org.qubership.atp.tdm.model.rest.requests.OccupyRowRequest;
+import org.qubership.atp.tdm.model.rest.requests.ReleaseRowRequest;
+import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.repo.AvailableDataCounterRepository;
+import org.qubership.atp.tdm.repo.TestDataTableRepository;
+import org.qubership.atp.tdm.service.AtpActionService;
+import org.qubership.atp.tdm.service.TestDataService;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ContentionFacade extends AtpActionsFacade {
+
+    public static final String SEARCH_COLUMN = "SIM";
+    public static final String STATUS_COLUMN = "Status";
+    public static final String AVAILABLE_STATUS = "51";
+
+    private static final List<String> COLUMNS = Arrays.asList(SEARCH_COLUMN, STATUS_COLUMN, "Partner",
+            "Partner category", "Operator ID", "Environment", "Assignment");
+    private static final String RELEASE_ALL_ROWS =
+            "update %s set \"SELECTED\" = false, \"OCCUPIED_BY\" = '' where \"SELECTED\" = true";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AvailableDataCounterRepository availableDataCounterRepository;
+
+    public ContentionFacade(@Nonnull TestDataService testDataService,
+                            @Nonnull TestDataTableRepository testDataTableRepository,
+                            @Nonnull AtpActionService atpActionService,
+                            @Nonnull JdbcTemplate jdbcTemplate,
+                            @Nonnull AvailableDataCounterRepository availableDataCounterRepository) {
+        super(testDataService, testDataTableRepository, atpActionService);
+        this.jdbcTemplate = jdbcTemplate;
+        this.availableDataCounterRepository = availableDataCounterRepository;
+    }
+
+    /**
+     * Synthetic SIM value of the row with the given index, unique within the table.
+     */
+    public static String searchValue(int index) {
+        return String.format("89%017d", index);
+    }
+
+    /**
+     * Create a table with the given amount of rows.
+     */
+    public void createSyntheticTable(@Nonnull String tableName, int rows) {
+        saveTestDataInChunks(tableName, COLUMNS, rows, i -> Arrays.asList(searchValue(i), AVAILABLE_STATUS,
+                "CINTEX", "MVNO", "2500", "ZLAB08", "Test Automation " + i));
+    }
+
+    /**
+     * Occupy the first available rows directly, bypassing ATP actions, and return their SIM values.
+     */
+    public List<String> occupyRows(@Nonnull String tableName, int limit) {
+        TestDataTable table = testDataTableRepository.getTestData(false, tableName, 0, limit, null, null);
+        testDataService.occupyTestData(tableName, "TestUser", Helper.extractRowIds(table.getData()));
+        return table.getData().stream()
+                .map(row -> String.valueOf(row.get(SEARCH_COLUMN)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Release all occupied rows by one statement. Release ATP action pages through the table and skips
+     * rows, so it can not reset the table between iterations.
+     */
+    public int releaseAllRows(@Nonnull String tableName) {
+        int released = jdbcTemplate.update(String.format(RELEASE_ALL_ROWS, tableName));
+        availableDataCounterRepository.invalidate(tableName);
+        return released;
+    }
+
+    public List<ResponseMessage> releaseTestData(@Nonnull String projectName, @Nonnull String envName,
+                                                 @Nonnull String systemName, @Nonnull String tableTitle,
+                                                 List<ReleaseRowRequest> releaseRowRequests) {
+        return atpActionService.releaseTestData(projectName, envName, systemName, tableTitle, releaseRowRequests);
+    }
+
+    /**
+     * Occupy any available row and return its SIM.
+     */
+    public static OccupyRowRequest occupyAvailableRequest() {
+        OccupyRowRequest request = new OccupyRowRequest();
+        request.setNameColumnResponse(SEARCH_COLUMN);
+        request.setFilters(Collections.singletonList(
+                new ApiDataFilter(STATUS_COLUMN, "Equals", AVAILABLE_STATUS, false)));
+        return request;
+    }
+
+    /**
+     * Release the row with the given SIM.
+     */
+    public static ReleaseRowRequest releaseRequest(@Nonnull String searchValue) {
+        ReleaseRowRequest request = new ReleaseRowRequest();
+        request.setNameColumnResponse(SEARCH_COLUMN);
+        request.setFilters(Collections.singletonList(
+                new ApiDataFilter(SEARCH_COLUMN, "Equals", searchValue, false)));
+        return request;
+    }
+
+    /**
+     * Get the row with the given SIM.
+     */
+    public static GetRowRequest getRequest(@Nonnull String searchValue) {
+        GetRowRequest request = new GetRowRequest();
+        request.setNameColumnResponse("Assignment");
+        request.setFilters(Collections.singletonList(
+                new ApiDataFilter(SEARCH_COLUMN, "Equals", searchValue, false)));
+        return request;
+    }
+}
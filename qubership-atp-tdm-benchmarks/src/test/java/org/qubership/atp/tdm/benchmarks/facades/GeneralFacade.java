@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.IntFunction;
 
 import jakarta.annotation.Nonnull;
 
@@ -42,6 +43,7 @@ import org.apache.commons.lang3.RandomStringUtils;
 public class GeneralFacade {
 
     private static final String TEST_DATA_TABLE_DEFAULT = "tdm_benchmark_test_data_default";
+    private static final int CHUNK_SIZE = 10_000;
     public static final String TEST_DATA_SEARCH_VALUE = "8901260720040140973";
 
     protected TestDataService testDataService;
@@ -105,6 +107,25 @@ public class GeneralFacade {
         return table;
     }
 
+    /**
+     * Save generated rows in chunks, so that even the largest tables are never held in memory at once.
+     */
+    protected void saveTestDataInChunks(@Nonnull String tableName, @Nonnull List<String> columns, int rows,
+                                        @Nonnull IntFunction<List<String>> rowValues) {
+        for (int offset = 0; offset < rows; offset += CHUNK_SIZE) {
+            int end = Math.min(rows, offset + CHUNK_SIZE);
+            List<Map<String, Object>> data = new ArrayList<>(end - offset);
+            for (int i = offset; i < end; i++) {
+                data.add(Helper.buildTestDataTableRow(columns, rowValues.apply(i)));
+            }
+            TestDataTable table = new TestDataTable();
+            table.setColumns(Helper.getTestDataTableColumns(columns));
+            table.setData(data);
+            table.setRecords(data.size());
+            testDataTableRepository.saveTestData(tableName, offset > 0, table);
+        }
+    }
+
     public TestDataTable importExcelTestData(@Nonnull String fileName) throws IOException {
         MultipartFile file = Helper.toMultipartFile(Helper.getResourcesFile(fileName));
         try (OPCPackage opcPackage = OPCPackage.open(file.getInputStream())) {
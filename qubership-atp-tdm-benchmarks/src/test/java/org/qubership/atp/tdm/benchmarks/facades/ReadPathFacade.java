@@ -0,0 +1,147 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.facades;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import org.apache.commons.lang3.RandomStringUtils;
+
+import org.qubership.atp.tdm.model.QueryInfo;
+import org.qubership.atp.tdm.model.table.OrderType;
+import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.TestDataTableOrder;
+import org.qubership.atp.tdm.model.table.TestDataType;
+import org.qubership.atp.tdm.repo.TestDataTableRepository;
+import org.qubership.atp.tdm.service.TestDataService;
+
+public class ReadPathFacade extends GeneralFacade {
+
+    public static final int PAGE_SIZE = 50;
+
+    private static final String SEARCH_COLUMN = "Assignment";
+    private static final String CASE_SENSITIVE_SUFFIX = "CaseSensitive";
+    private static final int DISTINCT_SEARCH_VALUES = 100;
+
+    public ReadPathFacade(@Nonnull TestDataService testDataService,
+                          @Nonnull TestDataTableRepository testDataTableRepository) {
+        super(testDataService, testDataTableRepository);
+    }
+
+    /**
+     * Create a table with a unique SIM column, a searchable column repeating {@value #DISTINCT_SEARCH_VALUES}
+     * values and random values of 16 characters in the rest.
+     */
+    public void createTable(@Nonnull String tableName, int rows, int columns) {
+        List<String> columnNames = new ArrayList<>(Arrays.asList("SIM", SEARCH_COLUMN));
+        for (int i = columnNames.size(); i < columns; i++) {
+            columnNames.add("Column " + i);
+        }
+        saveTestDataInChunks(tableName, columnNames, rows, i -> {
+            List<String> values = new ArrayList<>(columns);
+            values.add(String.format("89%017d", i));
+            values.add("Test Automation " + i % DISTINCT_SEARCH_VALUES);
+            for (int c = values.size(); c < columns; c++) {
+                values.add(RandomStringUtils.randomAlphanumeric(16));
+            }
+            return values;
+        });
+    }
+
+    public TestDataTable getTestData(@Nonnull String tableName, int offset,
+                                     @Nullable List<TestDataTableFilter> filters,
+                                     @Nullable TestDataTableOrder order) {
+        return testDataService.getTestData(tableName, offset, PAGE_SIZE, filters, order, false);
+    }
+
+    /**
+     * Build the same query the repository executes for a page of available rows.
+     */
+    public static QueryInfo buildQueryInfo(@Nonnull String tableName, int offset, int limit,
+                                           @Nullable List<TestDataTableFilter> filters,
+                                           @Nullable TestDataTableOrder order) {
+        QueryInfo.Builder builder = QueryInfo.newBuilder(tableName, TestDataType.AVAILABLE)
+                .setOffset(offset)
+                .setLimit(limit);
+        if (filters != null) {
+            builder.setFilters(filters);
+        }
+        if (order != null) {
+            builder.setOrder(order);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Build filters by name: none, equals, contains, startWith or date. Contains and startWith filters with
+     * the {@value #CASE_SENSITIVE_SUFFIX} suffix are case-sensitive, Equals has no case-sensitive variant.
+     */
+    @Nullable
+    public static List<TestDataTableFilter> buildFilters(@Nonnull String filter) {
+        boolean caseSensitive = filter.endsWith(CASE_SENSITIVE_SUFFIX);
+        switch (filter.replace(CASE_SENSITIVE_SUFFIX, "")) {
+            case "equals":
+                return textFilter("Equals", "Test Automation 42", caseSensitive);
+            case "contains":
+                return textFilter("Contains", "Automation 4", caseSensitive);
+            case "startWith":
+                return textFilter("Start With", "Test Automation 9", caseSensitive);
+            case "date":
+                String today = LocalDate.now().toString();
+                return Arrays.asList(
+                        new TestDataTableFilter("CREATED_WHEN", "From", Collections.singletonList(today), false),
+                        new TestDataTableFilter("CREATED_WHEN", "To", Collections.singletonList(today), false));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Build order by the searchable column, none for no sorting.
+     */
+    @Nullable
+    public static TestDataTableOrder buildOrder(@Nonnull String order) {
+        return "none".equals(order) ? null : new TestDataTableOrder(SEARCH_COLUMN, OrderType.fromString(order));
+    }
+
+    /**
+     * Offset of the first, middle or last page of the matching rows.
+     */
+    public static int getOffset(@Nonnull String page, int rows) {
+        switch (page) {
+            case "middle":
+                return rows / 2;
+            case "last":
+                return Math.max(0, rows - PAGE_SIZE);
+            default:
+                return 0;
+        }
+    }
+
+    private static List<TestDataTableFilter> textFilter(String searchCondition, String value,
+                                                        boolean caseSensitive) {
+        return Collections.singletonList(new TestDataTableFilter(SEARCH_COLUMN, searchCondition,
+                Collections.singletonList(value), caseSensitive));
+    }
+}
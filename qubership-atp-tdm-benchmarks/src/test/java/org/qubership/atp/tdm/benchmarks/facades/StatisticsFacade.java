@@ -31,7 +31,7 @@ import org.qubership.atp.tdm.service.TestDataService;
 
 public class StatisticsFacade extends GeneralFacade {
 
-    private final StatisticsService statisticsService;
+    protected final StatisticsService statisticsService;
 
     public StatisticsFacade(@Nonnull TestDataService testDataService,
                             @Nonnull TestDataTableRepository testDataTableRepository,
@@ -41,7 +41,7 @@ public class StatisticsFacade extends GeneralFacade {
     }
 
     public List<GeneralStatisticsItem> getTestDataAvailability(@Nonnull UUID projectId, @Nullable UUID systemId) {
-        return statisticsService.getTestDataAvailability(projectId, systemId);
+        return statisticsService.getTestDataAvailability(projectId, systemId).getItems();
     }
 
     public ConsumedStatistics getTestDataConsumption(@Nonnull UUID projectId, @Nullable UUID systemId) {
@@ -0,0 +1,173 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.facades;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.annotation.Nonnull;
+
+import org.qubership.atp.tdm.benchmarks.utils.Helper;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.qubership.atp.tdm.model.statistics.ConsumedStatistics;
+import org.qubership.atp.tdm.model.statistics.OutdatedStatistics;
+import org.qubership.atp.tdm.model.statistics.TestDataTableUsersMonitoring;
+import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportObject;
+import org.qubership.atp.tdm.repo.CatalogRepository;
+import org.qubership.atp.tdm.repo.StatisticsDailyRepository;
+import org.qubership.atp.tdm.repo.TestDataTableRepository;
+import org.qubership.atp.tdm.service.StatisticsService;
+import org.qubership.atp.tdm.service.TestDataService;
+
+public class StatisticsHistoryFacade extends StatisticsFacade {
+
+    public static final int REPORT_DAYS = 30;
+    public static final int EXPIRATION_DAYS = 7;
+
+    private static final String INSERT_OCCUPY_STATISTIC = "INSERT INTO test_data_occupy_statistic "
+            + "(row_id, project_id, system_id, table_name, table_title, occupied_by, occupied_date, created_when) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final List<String> COLUMNS = Arrays.asList("SIM", "Status", "Partner", "Assignment");
+    private static final int TABLE_ROWS = 100;
+    private static final int HISTORY_DAYS = 365;
+    private static final int USERS = 50;
+    private static final int MINUTES_IN_DAY = 24 * 60;
+    private static final int BATCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StatisticsDailyRepository statisticsDailyRepository;
+
+    public StatisticsHistoryFacade(@Nonnull TestDataService testDataService,
+                                   @Nonnull TestDataTableRepository testDataTableRepository,
+                                   @Nonnull StatisticsService statisticsService,
+                                   @Nonnull JdbcTemplate jdbcTemplate,
+                                   @Nonnull StatisticsDailyRepository statisticsDailyRepository) {
+        super(testDataService, testDataTableRepository, statisticsService);
+        this.jdbcTemplate = jdbcTemplate;
+        this.statisticsDailyRepository = statisticsDailyRepository;
+    }
+
+    /**
+     * Create the given amount of small tables and spread the occupy history evenly over them.
+     * Every table is occupied by {@value #USERS} users, one year back from now.
+     *
+     * @return names of created tables
+     */
+    public List<String> createHistory(@Nonnull UUID projectId, @Nonnull UUID systemId, @Nonnull UUID environmentId,
+                                      @Nonnull CatalogRepository catalogRepository, @Nonnull String tablePrefix,
+                                      int tables, int history) {
+        List<String> tableNames = new ArrayList<>(tables);
+        for (int i = 0; i < tables; i++) {
+            String tableName = tablePrefix + "_" + i;
+            Helper.createTestDataTableCatalog(environmentId, projectId, systemId, getTableTitle(i), tableName,
+                    catalogRepository);
+            saveTestDataInChunks(tableName, COLUMNS, TABLE_ROWS, row -> Arrays.asList(
+                    String.format("89%017d", row), "51", "CINTEX", "Test Automation"));
+            tableNames.add(tableName);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (int offset = 0; offset < history; offset += BATCH_SIZE) {
+            int first = offset;
+            int size = Math.min(BATCH_SIZE, history - offset);
+            jdbcTemplate.batchUpdate(INSERT_OCCUPY_STATISTIC, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(@Nonnull PreparedStatement statement, int i) throws SQLException {
+                    int row = first + i;
+                    int table = row % tables;
+                    int user = row / tables % USERS;
+                    LocalDateTime occupiedDate = now.minusDays(row / tables / USERS % HISTORY_DAYS)
+                            .minusMinutes(row % MINUTES_IN_DAY);
+                    statement.setObject(1, UUID.randomUUID());
+                    statement.setObject(2, projectId);
+                    statement.setObject(3, systemId);
+                    statement.setString(4, tableNames.get(table));
+                    statement.setString(5, getTableTitle(table));
+                    statement.setString(6, "User " + user);
+                    statement.setTimestamp(7, Timestamp.valueOf(occupiedDate));
+                    statement.setTimestamp(8, Timestamp.valueOf(occupiedDate.minusDays(row % (2 * EXPIRATION_DAYS))));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+        return tableNames;
+    }
+
+    /**
+     * Enqueue tables and, if requested, roll them up right away. Statistics of queued tables are read
+     * from the occupy history, the rest are read from the daily rollup.
+     */
+    public void prepareDailyStatistics(@Nonnull List<String> tableNames, boolean rollup) {
+        statisticsDailyRepository.enqueue(tableNames);
+        if (rollup) {
+            Long watermark = statisticsDailyRepository.getQueueWatermark();
+            if (Objects.nonNull(watermark)) {
+                tableNames.forEach(tableName -> statisticsDailyRepository.rollupTable(tableName, watermark,
+                        LocalDate.EPOCH));
+            }
+        }
+    }
+
+    public ConsumedStatistics getTestDataConsumption(@Nonnull UUID projectId) {
+        return statisticsService.getTestDataConsumption(projectId, null,
+                LocalDate.now().minusDays(REPORT_DAYS), LocalDate.now());
+    }
+
+    public OutdatedStatistics getTestDataOutdated(@Nonnull UUID projectId) {
+        return statisticsService.getTestDataConsumptionWhitOutdated(projectId, null,
+                LocalDate.now().minusDays(REPORT_DAYS), LocalDate.now(), EXPIRATION_DAYS);
+    }
+
+    public UsersStatisticsReportObject getUsersStatisticsReport(@Nonnull UUID projectId) {
+        TestDataTableUsersMonitoring monitoring = new TestDataTableUsersMonitoring();
+        monitoring.setProjectId(projectId);
+        monitoring.setDaysCount(REPORT_DAYS);
+        return statisticsService.getUsersStatisticsReport(monitoring);
+    }
+
+    /**
+     * Generate CSV report by users and remove the file, so that iterations do not fill the disk.
+     *
+     * @return size of the report in bytes
+     */
+    public long getCsvReportByUsers(@Nonnull UUID projectId) throws IOException {
+        File report = statisticsService.getCsvReportByUsers(projectId, REPORT_DAYS);
+        long size = report.length();
+        Files.delete(report.toPath());
+        return size;
+    }
+
+    private static String getTableTitle(int table) {
+        return "Statistics History " + table;
+    }
+}
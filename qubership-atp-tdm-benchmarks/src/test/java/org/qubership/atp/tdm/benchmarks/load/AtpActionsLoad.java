@@ -0,0 +1,250 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.load;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.benchmarks.facades.ContentionFacade;
+import org.qubership.atp.tdm.benchmarks.utils.Helper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.qubership.atp.tdm.AbstractTestDataTest;
+import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
+import org.qubership.atp.tdm.env.configurator.model.LazyProject;
+import org.qubership.atp.tdm.model.rest.ResponseType;
+import org.qubership.atp.tdm.repo.AvailableDataCounterRepository;
+import org.qubership.atp.tdm.service.AtpActionService;
+
+/**
+ * Load harness of ATP action endpoints. The backend is started on a random port against the test database,
+ * environment services are stubbed, and a mix of REST calls is sent through the real controller stack
+ * following an open model: arrivals are scheduled by rate and do not wait for responses.
+ * Benchmark tests are skipped by default and the harness is not part of the {@code benchmark-regression} profile,
+ * so it is run explicitly:
+ * <pre>
+ * mvn test -pl qubership-atp-tdm-benchmarks -am -Dskip.tests=false -Dtest=AtpActionsLoad
+ *     -Dsurefire.failIfNoSpecifiedTests=false -Dload.rate=200 -Dload.duration=60
+ * </pre>
+ * Response time, service time, throughput, errors and connection pool saturation are written as HdrHistogram
+ * distributions and a summary to {@code reports/load}.
+ * The profile is configured by system properties, see {@link LoadProfile#fromSystemProperties()}.
+ * The pool is sized as in {@code run.sh} unless {@code -Dload.poolSize} is given: a request holds its
+ * JPA connection for the whole call while JDBC repositories acquire another one, so a pool smaller than
+ * the number of server workers starves.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"jdbc.MaxPoolSize=${load.poolSize:50}", "jdbc.MinIdle=${load.poolSize:20}"})
+public class AtpActionsLoad extends AbstractTestDataTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AtpActionsLoad.class);
+
+    private static final String REPORTS_DIRECTORY = "reports/load";
+    private static final int PRE_OCCUPIED_ROWS = 10_000;
+
+    private static final UUID projectId = UUID.randomUUID();
+
+    private static final LazyEnvironment lazyEnvironment = new LazyEnvironment() {{
+        setName("Load Environment");
+        setId(environmentId);
+    }};
+
+    private static final LazyProject lazyProject = new LazyProject() {{
+        setName("Load Project");
+        setId(projectId);
+    }};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AtpActionService atpActionService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AvailableDataCounterRepository availableDataCounterRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Queue<String> occupied = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inserted = new AtomicInteger();
+
+    @Test
+    public void runLoadForAtpActions() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        log.info("Starting ATP actions load, {}", profile);
+        String tableTitle = prepareTable(profile.getRows());
+        AtpActionsRequests requests = new AtpActionsRequests(objectMapper, lazyProject.getName(),
+                lazyEnvironment.getName(), system.getName(), tableTitle);
+        LoadRecorder recorder = new LoadRecorder();
+        ExecutorService responseExecutor = Executors.newCachedThreadPool();
+        HttpClient client = HttpClient.newBuilder().executor(responseExecutor).build();
+        Semaphore inFlight = new Semaphore(profile.getMaxInFlight());
+        try (PoolMonitor poolMonitor = new PoolMonitor(dataSource)) {
+            poolMonitor.start();
+            long start = System.nanoTime();
+            long measurementStart = start + TimeUnit.SECONDS.toNanos(profile.getWarmupSeconds());
+            long end = measurementStart + TimeUnit.SECONDS.toNanos(profile.getDurationSeconds());
+            recorder.setWindow(measurementStart, end);
+            boolean recording = false;
+            for (long scheduled = start; scheduled < end; scheduled += profile.nextInterArrivalNanos()) {
+                waitUntil(scheduled);
+                if (!recording && scheduled >= measurementStart) {
+                    poolMonitor.startRecording();
+                    recording = true;
+                }
+                LoadOperation operation = profile.nextOperation();
+                if (!inFlight.tryAcquire()) {
+                    recorder.recordDropped(operation, scheduled);
+                    continue;
+                }
+                send(client, requests, operation, scheduled, recorder, inFlight, profile.getRows());
+            }
+            poolMonitor.close();
+            if (!inFlight.tryAcquire(profile.getMaxInFlight(), 1, TimeUnit.MINUTES)) {
+                log.warn("Requests are still in flight after the load has finished");
+            }
+            String summary = recorder.writeReports(Paths.get(REPORTS_DIRECTORY), profile, poolMonitor);
+            log.info("ATP actions load finished.\n{}", summary);
+        } finally {
+            responseExecutor.shutdownNow();
+        }
+    }
+
+    private String prepareTable(int rows) {
+        when(environmentsService.getLazyProjectByName(any())).thenReturn(lazyProject);
+        when(environmentsService.getLazyEnvironmentByName(any(), any())).thenReturn(lazyEnvironment);
+        when(environmentsService.getLazySystemByName(any(), any(), any())).thenReturn(lazySystem);
+        String tableTitle = "ATP_ACTIONS_LOAD_" + rows;
+        String tableName = "tdm_benchmark_atp_actions_load_" + UUID.randomUUID().toString().replace("-", "_");
+        Helper.createTestDataTableCatalog(environmentId, projectId, systemId, tableTitle, tableName,
+                catalogRepository);
+        ContentionFacade facade = new ContentionFacade(testDataService, testDataTableRepository, atpActionService,
+                jdbcTemplate, availableDataCounterRepository);
+        facade.createSyntheticTable(tableName, rows);
+        occupied.addAll(facade.occupyRows(tableName, Math.min(PRE_OCCUPIED_ROWS, rows / 10)));
+        inserted.set(rows);
+        return tableTitle;
+    }
+
+    private void send(HttpClient client, AtpActionsRequests requests, LoadOperation operation, long scheduled,
+                      LoadRecorder recorder, Semaphore inFlight, int rows) {
+        String searchValue = getSearchValue(operation, rows);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tdm/rest"
+                        + operation.getPath()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(requests.build(operation, searchValue)))
+                .build();
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, error) -> {
+            try {
+                long completed = System.nanoTime();
+                boolean failed = error != null || response.statusCode() != 200
+                        || !handleResponse(operation, searchValue, response.body());
+                recorder.recordCompleted(operation, scheduled, sent, completed, failed);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private String getSearchValue(LoadOperation operation, int rows) {
+        switch (operation) {
+            case INSERT:
+                return ContentionFacade.searchValue(inserted.getAndIncrement());
+            case RELEASE:
+                String value = occupied.poll();
+                return value != null ? value : randomSearchValue(rows);
+            case RELEASE_BULK:
+                occupied.clear();
+                return "";
+            case GET:
+            case UPDATE:
+                return randomSearchValue(rows);
+            default:
+                return "";
+        }
+    }
+
+    private static String randomSearchValue(int rows) {
+        return ContentionFacade.searchValue(ThreadLocalRandom.current().nextInt(rows));
+    }
+
+    /**
+     * Check responses of the body and keep track of occupied rows.
+     *
+     * @return true if all responses are successful
+     */
+    private boolean handleResponse(LoadOperation operation, String searchValue, byte[] body) {
+        try {
+            JsonNode responses = objectMapper.readTree(body);
+            if (!responses.isArray()) {
+                responses = objectMapper.createArrayNode().add(responses);
+            }
+            boolean success = true;
+            for (JsonNode response : responses) {
+                if (!ResponseType.SUCCESS.name().equals(response.path("type").asText())) {
+                    success = false;
+                } else if (operation == LoadOperation.OCCUPY) {
+                    occupied.add(response.path("content").asText());
+                }
+            }
+            return success;
+        } catch (Exception e) {
+            log.debug("Failed to parse response of operation: {}, search value: {}", operation, searchValue, e);
+            return false;
+        }
+    }
+
+    private static void waitUntil(long nanoTime) {
+        long delay;
+        while ((delay = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(delay);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.load;
+
+import jakarta.annotation.Nonnull;
+
+import org.qubership.atp.tdm.benchmarks.facades.ContentionFacade;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * JSON bodies of ATP action requests in the wire format of {@code RestApiRequest}. Request models are not
+ * serialized directly, because their getters do not mirror the accepted JSON.
+ */
+public class AtpActionsRequests {
+
+    private static final String UPDATE_COLUMN = "Assignment";
+
+    private final ObjectMapper objectMapper;
+    private final String projectName;
+    private final String envName;
+    private final String systemName;
+    private final String tableTitle;
+
+    /**
+     * Class constructor.
+     */
+    public AtpActionsRequests(@Nonnull ObjectMapper objectMapper, @Nonnull String projectName,
+                              @Nonnull String envName, @Nonnull String systemName, @Nonnull String tableTitle) {
+        this.objectMapper = objectMapper;
+        this.projectName = projectName;
+        this.envName = envName;
+        this.systemName = systemName;
+        this.tableTitle = tableTitle;
+    }
+
+    /**
+     * Build body of the given operation. Search value is used by operations on a single row.
+     */
+    public byte[] build(@Nonnull LoadOperation operation, @Nonnull String searchValue) {
+        ObjectNode request = objectMapper.createObjectNode()
+                .put("projectName", projectName)
+                .put("envName", envName)
+                .put("systemName", systemName)
+                .put("title-table", tableTitle);
+        switch (operation) {
+            case INSERT:
+                request.putArray("insert-records").addObject()
+                        .put(ContentionFacade.SEARCH_COLUMN, searchValue)
+                        .put(ContentionFacade.STATUS_COLUMN, ContentionFacade.AVAILABLE_STATUS);
+                break;
+            case OCCUPY:
+                addFilter(request.putArray("occupy-row-requests").addObject()
+                                .put("name-column-response", ContentionFacade.SEARCH_COLUMN),
+                        ContentionFacade.STATUS_COLUMN, ContentionFacade.AVAILABLE_STATUS);
+                break;
+            case RELEASE:
+                addFilter(request.putArray("release-row-requests").addObject()
+                                .put("name-column-response", ContentionFacade.SEARCH_COLUMN),
+                        ContentionFacade.SEARCH_COLUMN, searchValue);
+                break;
+            case GET:
+                addFilter(request.putArray("get-row-requests").addObject()
+                                .put("name-column-response", UPDATE_COLUMN),
+                        ContentionFacade.SEARCH_COLUMN, searchValue);
+                break;
+            case UPDATE:
+                ObjectNode update = request.putArray("update-row-requests").addObject();
+                addFilter(update, ContentionFacade.SEARCH_COLUMN, searchValue);
+                update.putObject("record-with-data-for-update").put(UPDATE_COLUMN, "Load Test " + searchValue);
+                break;
+            case RELEASE_BULK:
+            default:
+                break;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to build request of operation: " + operation, e);
+        }
+    }
+
+    private static void addFilter(@Nonnull ObjectNode rowRequest, @Nonnull String column, @Nonnull String value) {
+        ArrayNode filters = rowRequest.putArray("search-row-parameters-set");
+        filters.addObject()
+                .put("name-column", column)
+                .put("search-criterion", "Equals")
+                .put("search-value", value)
+                .put("caseSensitive", false);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.load;
+
+import java.util.Arrays;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * ATP action endpoints driven by the load harness.
+ */
+public enum LoadOperation {
+
+    INSERT("insert", "/insert-records"),
+    OCCUPY("occupy", "/occupy-records"),
+    RELEASE("release", "/release-records"),
+    RELEASE_BULK("release-bulk", "/release-records/bulk"),
+    GET("get", "/get-record"),
+    UPDATE("update", "/update-records");
+
+    private final String name;
+    private final String path;
+
+    LoadOperation(String name, String path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Find operation by its name in the mix.
+     */
+    public static LoadOperation byName(@Nonnull String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.name.equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown load operation: " + name));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Open-model load profile: requests arrive at the given rate regardless of how fast they are served.
+ * Every setting is read from a system property, e.g. {@code -Dload.rate=500}.
+ */
+public class LoadProfile {
+
+    private static final String DEFAULT_MIX = "occupy:35,get:30,release:20,update:10,insert:4,release-bulk:1";
+
+    private final int rate;
+    private final boolean poisson;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int rows;
+    private final int maxInFlight;
+    private final Map<LoadOperation, Integer> mix;
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    /**
+     * Class constructor.
+     *
+     * @param rate            - arrivals per second
+     * @param poisson         - exponential inter-arrival times if true, constant otherwise
+     * @param warmupSeconds   - duration of warmup, its requests are not recorded
+     * @param durationSeconds - duration of measurement
+     * @param rows            - rows in the table under load
+     * @param maxInFlight     - requests in flight above which new arrivals are dropped
+     * @param mix             - weights of operations, e.g. "occupy:60,get:40"
+     */
+    public LoadProfile(int rate, boolean poisson, int warmupSeconds, int durationSeconds, int rows,
+                       int maxInFlight, @Nonnull String mix) {
+        this.rate = rate;
+        this.poisson = poisson;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.rows = rows;
+        this.maxInFlight = maxInFlight;
+        this.mix = parseMix(mix);
+        this.operations = this.mix.keySet().toArray(new LoadOperation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += this.mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Load mix has no operations: " + mix);
+        }
+    }
+
+    /**
+     * Read profile from system properties, missing ones are defaulted.
+     */
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(Integer.getInteger("load.rate", 100),
+                !"constant".equalsIgnoreCase(System.getProperty("load.arrival", "poisson")),
+                Integer.getInteger("load.warmup", 10),
+                Integer.getInteger("load.duration", 60),
+                Integer.getInteger("load.rows", 100_000),
+                Integer.getInteger("load.maxInFlight", 1_000),
+                System.getProperty("load.mix", DEFAULT_MIX));
+    }
+
+    /**
+     * Pick the next operation according to weights of the mix.
+     */
+    public LoadOperation nextOperation() {
+        int point = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Get nanoseconds between the previous arrival and the next one.
+     */
+    public long nextInterArrivalNanos() {
+        double meanNanos = (double) TimeUnit.SECONDS.toNanos(1) / rate;
+        if (poisson) {
+            return (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanNanos);
+        }
+        return (long) meanNanos;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public boolean isPoisson() {
+        return poisson;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public Map<LoadOperation, Integer> getMix() {
+        return mix;
+    }
+
+    private static Map<LoadOperation, Integer> parseMix(@Nonnull String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String item : mix.split(",")) {
+            String[] parts = item.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Load mix item should look like 'occupy:35': " + item);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(LoadOperation.byName(parts[0]), weight);
+            }
+        }
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rate: %d/s (%s), warmup: %ds, duration: %ds, rows: %d, max in flight: %d, mix: %s",
+                rate, poisson ? "poisson" : "constant", warmupSeconds, durationSeconds, rows, maxInFlight, mix);
+    }
+}
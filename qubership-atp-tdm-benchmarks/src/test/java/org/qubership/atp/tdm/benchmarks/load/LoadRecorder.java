@@ -0,0 +1,180 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.Nonnull;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Records outcomes of requests by operation. Response time is measured from the moment a request was
+ * scheduled to arrive, so queueing in the client and the server is included and coordinated omission is
+ * avoided. Service time is measured from the moment a request was sent. Times are recorded in microseconds,
+ * only requests scheduled within the measurement window are recorded.
+ */
+public class LoadRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final double MICROS_IN_MILLI = 1000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<LoadOperation, Outcomes> outcomes = new EnumMap<>(LoadOperation.class);
+    private volatile long windowStartNanos = Long.MAX_VALUE;
+    private volatile long windowEndNanos = Long.MAX_VALUE;
+
+    /**
+     * Class constructor.
+     */
+    public LoadRecorder() {
+        for (LoadOperation operation : LoadOperation.values()) {
+            outcomes.put(operation, new Outcomes());
+        }
+    }
+
+    /**
+     * Set the measurement window in {@link System#nanoTime()} terms.
+     */
+    public void setWindow(long startNanos, long endNanos) {
+        windowStartNanos = startNanos;
+        windowEndNanos = endNanos;
+    }
+
+    public boolean isInWindow(long scheduledNanos) {
+        return scheduledNanos >= windowStartNanos && scheduledNanos < windowEndNanos;
+    }
+
+    /**
+     * Record completed request.
+     */
+    public void recordCompleted(@Nonnull LoadOperation operation, long scheduledNanos, long sentNanos,
+                                long completedNanos, boolean error) {
+        if (!isInWindow(scheduledNanos)) {
+            return;
+        }
+        Outcomes outcome = outcomes.get(operation);
+        outcome.responseTime.recordValue(toMicros(completedNanos - scheduledNanos));
+        outcome.serviceTime.recordValue(toMicros(completedNanos - sentNanos));
+        if (error) {
+            outcome.errors.increment();
+        }
+    }
+
+    /**
+     * Record request which was not sent, because too many requests were in flight.
+     */
+    public void recordDropped(@Nonnull LoadOperation operation, long scheduledNanos) {
+        if (isInWindow(scheduledNanos)) {
+            outcomes.get(operation).dropped.increment();
+        }
+    }
+
+    /**
+     * Write HdrHistogram percentile distributions (in milliseconds) of every operation and of the pool, and
+     * a summary of the run.
+     *
+     * @return summary in markdown
+     */
+    public String writeReports(@Nonnull Path directory, @Nonnull LoadProfile profile,
+                               @Nonnull PoolMonitor poolMonitor) throws IOException {
+        Files.createDirectories(directory);
+        double seconds = profile.getDurationSeconds();
+        StringBuilder summary = new StringBuilder("# ATP actions load\n\n")
+                .append(profile).append("\n\n")
+                .append("| Operation | Requests | Throughput, req/s | Errors | Error rate | Dropped |")
+                .append(" p50, ms | p90, ms | p99, ms | p99.9, ms | Max, ms | Service p99, ms |\n")
+                .append("|---|---|---|---|---|---|---|---|---|---|---|---|\n");
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        long totalDropped = 0;
+        for (Map.Entry<LoadOperation, Outcomes> entry : outcomes.entrySet()) {
+            Outcomes outcome = entry.getValue();
+            if (outcome.responseTime.getTotalCount() == 0 && outcome.dropped.sum() == 0) {
+                continue;
+            }
+            writeDistribution(directory.resolve(entry.getKey().getName() + "-response-time.hgrm"),
+                    outcome.responseTime, MICROS_IN_MILLI);
+            writeDistribution(directory.resolve(entry.getKey().getName() + "-service-time.hgrm"),
+                    outcome.serviceTime, MICROS_IN_MILLI);
+            total.add(outcome.responseTime);
+            totalErrors += outcome.errors.sum();
+            totalDropped += outcome.dropped.sum();
+            appendRow(summary, entry.getKey().getName(), outcome.responseTime, outcome.errors.sum(),
+                    outcome.dropped.sum(), seconds, outcome.serviceTime.getValueAtPercentile(99));
+        }
+        appendRow(summary, "**total**", total, totalErrors, totalDropped, seconds, Double.NaN);
+        writeDistribution(directory.resolve("total-response-time.hgrm"), total, MICROS_IN_MILLI);
+
+        Histogram active = poolMonitor.getActiveConnections();
+        Histogram awaiting = poolMonitor.getAwaitingThreads();
+        writeDistribution(directory.resolve("pool-active-connections.hgrm"), active, 1.0);
+        writeDistribution(directory.resolve("pool-awaiting-threads.hgrm"), awaiting, 1.0);
+        summary.append("\n| DB pool | p50 | p99 | Max |\n|---|---|---|---|\n")
+                .append(String.format("| Active connections (of %d) | %d | %d | %d |%n",
+                        poolMonitor.getMaximumPoolSize(), active.getValueAtPercentile(50),
+                        active.getValueAtPercentile(99), active.getMaxValue()))
+                .append(String.format("| Threads awaiting connection | %d | %d | %d |%n",
+                        awaiting.getValueAtPercentile(50), awaiting.getValueAtPercentile(99),
+                        awaiting.getMaxValue()))
+                .append(String.format("%nPool saturated in %.1f%% of samples.%n", poolMonitor.getSaturation() * 100));
+        Files.write(directory.resolve("atp-actions-load-report.md"),
+                summary.toString().getBytes(StandardCharsets.UTF_8));
+        return summary.toString();
+    }
+
+    private static void appendRow(@Nonnull StringBuilder summary, @Nonnull String name,
+                                  @Nonnull Histogram responseTime, long errors, long dropped, double seconds,
+                                  double serviceP99Micros) {
+        long requests = responseTime.getTotalCount();
+        summary.append(String.format("| %s | %d | %.1f | %d | %.2f%% | %d |", name, requests, requests / seconds,
+                errors, requests == 0 ? 0 : errors * 100.0 / requests, dropped));
+        for (double percentile : PERCENTILES) {
+            summary.append(String.format(" %.2f |", responseTime.getValueAtPercentile(percentile) / MICROS_IN_MILLI));
+        }
+        summary.append(String.format(" %.2f | %s |%n", responseTime.getMaxValue() / MICROS_IN_MILLI,
+                Double.isNaN(serviceP99Micros) ? "" : String.format("%.2f", serviceP99Micros / MICROS_IN_MILLI)));
+    }
+
+    private static void writeDistribution(@Nonnull Path file, @Nonnull Histogram histogram, double scaling)
+            throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8.name())) {
+            histogram.outputPercentileDistribution(out, scaling);
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    private static class Outcomes {
+
+        private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
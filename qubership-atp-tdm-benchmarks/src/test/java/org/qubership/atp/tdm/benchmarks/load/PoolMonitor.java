@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.load;
+
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import jakarta.annotation.Nonnull;
+
+import org.HdrHistogram.Histogram;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Samples the connection pool of the data source at a fixed interval: active connections and threads
+ * waiting for a connection. The pool is saturated when all of its connections are active.
+ */
+public class PoolMonitor implements AutoCloseable {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 10;
+
+    private final HikariDataSource hikariDataSource;
+    private final Histogram activeConnections = new Histogram(3);
+    private final Histogram awaitingThreads = new Histogram(3);
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "load-pool-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long saturatedSamples;
+    private volatile boolean recording;
+
+    /**
+     * Class constructor, the data source should be a Hikari pool or wrap one.
+     */
+    public PoolMonitor(@Nonnull DataSource dataSource) throws SQLException {
+        this.hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+    }
+
+    /**
+     * Start sampling, samples are recorded only after {@link #startRecording()}.
+     */
+    public void start() {
+        sampler.scheduleAtFixedRate(this::sample, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void startRecording() {
+        recording = true;
+    }
+
+    private synchronized void sample() {
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        if (!recording || pool == null) {
+            return;
+        }
+        int active = pool.getActiveConnections();
+        activeConnections.recordValue(active);
+        awaitingThreads.recordValue(pool.getThreadsAwaitingConnection());
+        if (active >= hikariDataSource.getMaximumPoolSize()) {
+            saturatedSamples++;
+        }
+    }
+
+    public int getMaximumPoolSize() {
+        return hikariDataSource.getMaximumPoolSize();
+    }
+
+    public synchronized Histogram getActiveConnections() {
+        return activeConnections.copy();
+    }
+
+    public synchronized Histogram getAwaitingThreads() {
+        return awaitingThreads.copy();
+    }
+
+    /**
+     * Get share of samples with all connections active.
+     */
+    public synchronized double getSaturation() {
+        long samples = activeConnections.getTotalCount();
+        return samples == 0 ? 0 : (double) saturatedSamples / samples;
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+    }
+}
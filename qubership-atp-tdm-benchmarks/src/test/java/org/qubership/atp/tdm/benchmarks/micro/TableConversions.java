@@ -0,0 +1,164 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.micro;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.sql.rowset.CachedRowSet;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.qubership.atp.tdm.benchmarks.AbstractJmhTest;
+import org.qubership.atp.tdm.benchmarks.utils.SyntheticData;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.repo.impl.loader.TestDataExcelLoader;
+import org.qubership.atp.tdm.utils.TestDataTableConvertor;
+import org.qubership.atp.tdm.utils.TestDataUtils;
+
+/**
+ * Database-free benchmarks of table conversions on synthetic in-memory tables. No Spring context is started,
+ * so results isolate serialization, export and parsing costs. Runs with the gc profiler to report allocation
+ * rates next to timings. Every benchmark runs in a forked JVM, so JIT profiles of one conversion do not slow
+ * down the next one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TableConversions implements AbstractJmhTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void runBenchmarksForTableConversions() throws Exception {
+        Options opts = new OptionsBuilder()
+                .parent(prepareOptionBuilder("jmh-table-conversions-report.json"))
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opts).run();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] serializeTableToJson(Table data) throws IOException {
+        return objectMapper.writeValueAsBytes(data.table);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public long convertTableToCsvFile(Table data) throws IOException, SQLException {
+        data.resultSet.beforeFirst();
+        return consume(TestDataTableConvertor.convertTableToCsvFile(data.table.getName(), data.resultSet));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public long convertTableToExcelFile(Table data) throws IOException, SQLException {
+        data.resultSet.beforeFirst();
+        return consume(TestDataTableConvertor.convertTableToExcelFile(data.table.getName(), data.resultSet));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public TestDataTable parseExcelFile(Table data) throws Exception {
+        try (OPCPackage opcPackage = OPCPackage.open(data.excelFile, PackageAccess.READ)) {
+            return new TestDataExcelLoader(opcPackage).process();
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public String generateInsertTemplate(Columns data) {
+        return TestDataUtils.generateInsertTemplate("tdm_benchmark_synthetic", data.columnNames, false);
+    }
+
+    /**
+     * Exported files are removed right away, so that long runs do not fill up the temporary directory.
+     */
+    private static long consume(File file) throws IOException {
+        long length = file.length();
+        Files.deleteIfExists(file.toPath());
+        return length;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Table {
+
+        @Param({"100", "10000"})
+        public int rows;
+
+        @Param({"8", "64"})
+        public int columns;
+
+        /**
+         * Values longer than 60 characters are serialized as long cells.
+         */
+        @Param({"16", "128"})
+        public int cellLength;
+
+        private TestDataTable table;
+        private CachedRowSet resultSet;
+        private File excelFile;
+
+        @Setup
+        public void setUp() throws IOException, SQLException {
+            table = SyntheticData.buildTable(rows, columns, cellLength);
+            resultSet = SyntheticData.toResultSet(table);
+            excelFile = SyntheticData.writeExcelFile(table);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Columns {
+
+        @Param({"8", "64"})
+        public int columns;
+
+        private List<String> columnNames;
+
+        @Setup
+        public void setUp() {
+            columnNames = SyntheticData.getColumnNames(columns);
+        }
+    }
+}
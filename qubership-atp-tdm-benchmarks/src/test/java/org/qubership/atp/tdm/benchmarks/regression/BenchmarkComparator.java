@@ -0,0 +1,356 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.regression;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Compares JMH json reports with a stored baseline.
+ *
+ * <p>Baseline scores are scaled by the host factor, i.e. the ratio of the current calibration score to the
+ * calibration score recorded with the baseline, so that a run on a slower or faster host is compared with what
+ * the baseline would have scored there. A benchmark regresses when it is slower than that expectation by more
+ * than its tolerance. Spring based suites share one JVM and context (no forks), so their run to run noise is
+ * higher than of forked runs and the default tolerance is 25%.
+ */
+public class BenchmarkComparator {
+
+    private static final double DEFAULT_TOLERANCE = 0.25;
+    private static final String SAMPLE_MODE = "sample";
+    private static final String THROUGHPUT_MODE = "thrpt";
+    private static final String SAMPLE_PERCENTILE = "99.0";
+    private static final String CALIBRATION_KEY = Calibration.BENCHMARK + " avgt";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Read results of all json reports in the directory, keyed by benchmark, params and thread count.
+     * Sampled benchmarks are represented by their 99th percentile.
+     */
+    public Map<String, Score> readReports(@Nonnull File reportsDirectory) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        File[] reports = reportsDirectory.listFiles((dir, name) -> name.endsWith(".json"));
+        if (Objects.isNull(reports)) {
+            return scores;
+        }
+        for (File report : reports) {
+            for (JsonNode result : objectMapper.readTree(report)) {
+                String mode = result.path("mode").asText();
+                JsonNode metric = result.path("primaryMetric");
+                double score = SAMPLE_MODE.equals(mode)
+                        ? metric.path("scorePercentiles").path(SAMPLE_PERCENTILE).asDouble()
+                        : metric.path("score").asDouble();
+                scores.put(buildKey(result), new Score(mode, metric.path("scoreUnit").asText(), score, null));
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Read baseline file, an empty baseline is returned when the file does not exist yet.
+     */
+    public Baseline readBaseline(@Nonnull File baselineFile) throws IOException {
+        if (!baselineFile.exists()) {
+            return new Baseline(DEFAULT_TOLERANCE, null, new TreeMap<>());
+        }
+        JsonNode root = objectMapper.readTree(baselineFile);
+        Map<String, Score> scores = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> benchmarks = root.path("benchmarks").fields();
+        while (benchmarks.hasNext()) {
+            Map.Entry<String, JsonNode> benchmark = benchmarks.next();
+            JsonNode value = benchmark.getValue();
+            scores.put(benchmark.getKey(), new Score(value.path("mode").asText(), value.path("unit").asText(),
+                    value.path("score").asDouble(),
+                    value.hasNonNull("tolerance") ? value.get("tolerance").asDouble() : null));
+        }
+        JsonNode calibration = root.path("calibration");
+        return new Baseline(root.path("defaultTolerance").asDouble(DEFAULT_TOLERANCE),
+                calibration.isNumber() ? calibration.asDouble() : null, scores);
+    }
+
+    /**
+     * Write current scores as the new baseline, keeping tolerances configured for existing benchmarks.
+     */
+    public void writeBaseline(@Nonnull File baselineFile, @Nonnull Baseline previous,
+                              @Nonnull Map<String, Score> current) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("defaultTolerance", previous.getDefaultTolerance());
+        Score calibration = current.get(CALIBRATION_KEY);
+        if (Objects.nonNull(calibration)) {
+            root.put("calibration", calibration.getValue());
+        } else {
+            root.putNull("calibration");
+        }
+        ObjectNode benchmarks = root.putObject("benchmarks");
+        current.forEach((key, score) -> {
+            if (CALIBRATION_KEY.equals(key)) {
+                return;
+            }
+            ObjectNode benchmark = benchmarks.putObject(key);
+            benchmark.put("mode", score.getMode());
+            benchmark.put("unit", score.getUnit());
+            benchmark.put("score", score.getValue());
+            Score baseline = previous.getScores().get(key);
+            if (Objects.nonNull(baseline) && Objects.nonNull(baseline.getTolerance())) {
+                benchmark.put("tolerance", baseline.getTolerance());
+            }
+        });
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(baselineFile, root);
+    }
+
+    /**
+     * Compare current scores with the baseline.
+     */
+    public Report compare(@Nonnull Baseline baseline, @Nonnull Map<String, Score> current) {
+        Score calibration = current.get(CALIBRATION_KEY);
+        Double hostFactor = Objects.nonNull(calibration) && Objects.nonNull(baseline.getCalibration())
+                ? calibration.getValue() / baseline.getCalibration()
+                : null;
+        double factor = Objects.nonNull(hostFactor) ? hostFactor : 1;
+        List<Comparison> comparisons = new ArrayList<>();
+        current.forEach((key, score) -> {
+            if (CALIBRATION_KEY.equals(key)) {
+                return;
+            }
+            Score expected = baseline.getScores().get(key);
+            if (Objects.isNull(expected)) {
+                comparisons.add(new Comparison(key, score, null, Double.NaN, Double.NaN, Status.NEW));
+                return;
+            }
+            double tolerance = Objects.nonNull(expected.getTolerance())
+                    ? expected.getTolerance() : baseline.getDefaultTolerance();
+            boolean higherIsBetter = THROUGHPUT_MODE.equals(score.getMode());
+            double scaled = higherIsBetter ? expected.getValue() / factor : expected.getValue() * factor;
+            double slowdown = higherIsBetter ? scaled / score.getValue() - 1 : score.getValue() / scaled - 1;
+            Status status = slowdown > tolerance ? Status.REGRESSED
+                    : slowdown < -tolerance ? Status.IMPROVED : Status.PASSED;
+            comparisons.add(new Comparison(key, score, expected, scaled, slowdown, status));
+        });
+        baseline.getScores().forEach((key, expected) -> {
+            if (!current.containsKey(key)) {
+                comparisons.add(new Comparison(key, null, expected, Double.NaN, Double.NaN, Status.MISSING));
+            }
+        });
+        return new Report(hostFactor, comparisons);
+    }
+
+    private static String buildKey(JsonNode result) {
+        StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+        JsonNode params = result.path("params");
+        if (params.size() > 0) {
+            Map<String, String> sorted = new TreeMap<>();
+            params.fields().forEachRemaining(param -> sorted.put(param.getKey(), param.getValue().asText()));
+            key.append(sorted.entrySet().stream()
+                    .map(param -> param.getKey() + "=" + param.getValue())
+                    .collect(Collectors.joining(", ", "(", ")")));
+        }
+        int threads = result.path("threads").asInt(1);
+        if (threads > 1) {
+            key.append('[').append(threads).append(" threads]");
+        }
+        key.append(' ').append(result.path("mode").asText());
+        return key.toString();
+    }
+
+    public enum Status {
+        REGRESSED, IMPROVED, PASSED, NEW, MISSING
+    }
+
+    public static class Score {
+
+        private final String mode;
+        private final String unit;
+        private final double value;
+        private final Double tolerance;
+
+        public Score(String mode, String unit, double value, @Nullable Double tolerance) {
+            this.mode = mode;
+            this.unit = unit;
+            this.value = value;
+            this.tolerance = tolerance;
+        }
+
+        public String getMode() {
+            return mode;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        @Nullable
+        public Double getTolerance() {
+            return tolerance;
+        }
+    }
+
+    public static class Baseline {
+
+        private final double defaultTolerance;
+        private final Double calibration;
+        private final Map<String, Score> scores;
+
+        public Baseline(double defaultTolerance, @Nullable Double calibration, Map<String, Score> scores) {
+            this.defaultTolerance = defaultTolerance;
+            this.calibration = calibration;
+            this.scores = scores;
+        }
+
+        public double getDefaultTolerance() {
+            return defaultTolerance;
+        }
+
+        @Nullable
+        public Double getCalibration() {
+            return calibration;
+        }
+
+        public Map<String, Score> getScores() {
+            return scores;
+        }
+    }
+
+    public static class Comparison {
+
+        private final String key;
+        private final Score current;
+        private final Score baseline;
+        private final double expected;
+        private final double slowdown;
+        private final Status status;
+
+        Comparison(String key, @Nullable Score current, @Nullable Score baseline, double expected,
+                   double slowdown, Status status) {
+            this.key = key;
+            this.current = current;
+            this.baseline = baseline;
+            this.expected = expected;
+            this.slowdown = slowdown;
+            this.status = status;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        @Nullable
+        public Score getCurrent() {
+            return current;
+        }
+
+        @Nullable
+        public Score getBaseline() {
+            return baseline;
+        }
+
+        public double getExpected() {
+            return expected;
+        }
+
+        public double getSlowdown() {
+            return slowdown;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+    }
+
+    public static class Report {
+
+        private final Double hostFactor;
+        private final List<Comparison> comparisons;
+
+        Report(@Nullable Double hostFactor, List<Comparison> comparisons) {
+            this.hostFactor = hostFactor;
+            this.comparisons = comparisons;
+        }
+
+        @Nullable
+        public Double getHostFactor() {
+            return hostFactor;
+        }
+
+        public List<Comparison> getComparisons() {
+            return comparisons;
+        }
+
+        public List<Comparison> getRegressions() {
+            return comparisons.stream()
+                    .filter(comparison -> Status.REGRESSED.equals(comparison.getStatus()))
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Render the report as a markdown table, regressions first.
+         */
+        public String toMarkdown() {
+            StringBuilder markdown = new StringBuilder("# Benchmark regression report\n\n");
+            markdown.append(Objects.nonNull(hostFactor)
+                    ? String.format("Host factor: %.3f (calibration score relative to the baseline host).%n%n",
+                    hostFactor)
+                    : "Host factor: not available, scores are compared without normalization.\n\n");
+            markdown.append("| Status | Benchmark | Baseline | Expected | Current | Unit | Slowdown |\n");
+            markdown.append("|---|---|---:|---:|---:|---|---:|\n");
+            comparisons.stream()
+                    .sorted((first, second) -> first.getStatus() != second.getStatus()
+                            ? first.getStatus().compareTo(second.getStatus())
+                            : first.getKey().compareTo(second.getKey()))
+                    .forEach(comparison -> {
+                        Score score = Objects.nonNull(comparison.getCurrent())
+                                ? comparison.getCurrent() : comparison.getBaseline();
+                        markdown.append("| ").append(comparison.getStatus())
+                                .append(" | `").append(comparison.getKey()).append('`')
+                                .append(" | ").append(format(comparison.getBaseline()))
+                                .append(" | ").append(format(comparison.getExpected()))
+                                .append(" | ").append(format(comparison.getCurrent()))
+                                .append(" | ").append(score.getUnit())
+                                .append(" | ").append(Double.isNaN(comparison.getSlowdown())
+                                        ? "" : String.format("%+.1f%%", comparison.getSlowdown() * 100))
+                                .append(" |\n");
+                    });
+            return markdown.toString();
+        }
+
+        private static String format(@Nullable Score score) {
+            return Objects.nonNull(score) ? format(score.getValue()) : "";
+        }
+
+        private static String format(double value) {
+            return Double.isNaN(value) ? "" : String.format("%.3f", value);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.regression;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.benchmarks.regression.BenchmarkComparator.Baseline;
+import org.qubership.atp.tdm.benchmarks.regression.BenchmarkComparator.Comparison;
+import org.qubership.atp.tdm.benchmarks.regression.BenchmarkComparator.Score;
+import org.qubership.atp.tdm.benchmarks.regression.BenchmarkComparator.Status;
+
+public class BenchmarkComparatorTest {
+
+    private static final String CALIBRATION = Calibration.BENCHMARK + " avgt";
+
+    private final BenchmarkComparator comparator = new BenchmarkComparator();
+
+    @Test
+    public void compare_averageTimeOnSlowerHost_baselineScaledUpAndToleranceBoundaryPasses() {
+        Map<String, Score> baselineScores = new TreeMap<>();
+        baselineScores.put("boundary avgt", avgt(8, 0.25));
+        baselineScores.put("regressed avgt", avgt(8, 0.25));
+        baselineScores.put("improvedBoundary avgt", avgt(8, 0.25));
+        baselineScores.put("improved avgt", avgt(8, 0.25));
+        Map<String, Score> current = new TreeMap<>();
+        current.put(CALIBRATION, avgt(4, null));
+        current.put("boundary avgt", avgt(20, null));
+        current.put("regressed avgt", avgt(20.5, null));
+        current.put("improvedBoundary avgt", avgt(12, null));
+        current.put("improved avgt", avgt(11.5, null));
+
+        Map<String, Comparison> comparisons = compare(new Baseline(0.1, 2.0, baselineScores), current);
+
+        Assertions.assertEquals(16, comparisons.get("boundary avgt").getExpected());
+        Assertions.assertEquals(Status.PASSED, comparisons.get("boundary avgt").getStatus());
+        Assertions.assertEquals(Status.REGRESSED, comparisons.get("regressed avgt").getStatus());
+        Assertions.assertEquals(Status.PASSED, comparisons.get("improvedBoundary avgt").getStatus());
+        Assertions.assertEquals(Status.IMPROVED, comparisons.get("improved avgt").getStatus());
+    }
+
+    @Test
+    public void compare_throughputOnSlowerHost_baselineScaledDownAndToleranceBoundaryPasses() {
+        Map<String, Score> baselineScores = new TreeMap<>();
+        baselineScores.put("boundary thrpt", thrpt(32, 1.0));
+        baselineScores.put("regressed thrpt", thrpt(32, 1.0));
+        baselineScores.put("improvedBoundary thrpt", thrpt(32, 0.5));
+        baselineScores.put("improved thrpt", thrpt(32, 0.5));
+        Map<String, Score> current = new TreeMap<>();
+        current.put(CALIBRATION, avgt(4, null));
+        current.put("boundary thrpt", thrpt(8, null));
+        current.put("regressed thrpt", thrpt(7, null));
+        current.put("improvedBoundary thrpt", thrpt(32, null));
+        current.put("improved thrpt", thrpt(40, null));
+
+        Map<String, Comparison> comparisons = compare(new Baseline(0.1, 2.0, baselineScores), current);
+
+        Assertions.assertEquals(16, comparisons.get("boundary thrpt").getExpected());
+        Assertions.assertEquals(1.0, comparisons.get("boundary thrpt").getSlowdown());
+        Assertions.assertEquals(Status.PASSED, comparisons.get("boundary thrpt").getStatus());
+        Assertions.assertEquals(Status.REGRESSED, comparisons.get("regressed thrpt").getStatus());
+        Assertions.assertEquals(Status.PASSED, comparisons.get("improvedBoundary thrpt").getStatus());
+        Assertions.assertEquals(Status.IMPROVED, comparisons.get("improved thrpt").getStatus());
+    }
+
+    @Test
+    public void compare_noCalibrationInBaseline_defaultToleranceAppliedWithoutScaling() {
+        Map<String, Score> baselineScores = new TreeMap<>();
+        baselineScores.put("passed avgt", avgt(10, null));
+        baselineScores.put("regressed avgt", avgt(10, null));
+        baselineScores.put("missing avgt", avgt(10, null));
+        Map<String, Score> current = new TreeMap<>();
+        current.put(CALIBRATION, avgt(4, null));
+        current.put("passed avgt", avgt(10.5, null));
+        current.put("regressed avgt", avgt(12, null));
+        current.put("new avgt", avgt(10, null));
+
+        BenchmarkComparator.Report report = comparator.compare(new Baseline(0.1, null, baselineScores), current);
+        Map<String, Comparison> comparisons = byKey(report);
+
+        Assertions.assertNull(report.getHostFactor());
+        Assertions.assertFalse(comparisons.containsKey(CALIBRATION));
+        Assertions.assertEquals(10, comparisons.get("passed avgt").getExpected());
+        Assertions.assertEquals(Status.PASSED, comparisons.get("passed avgt").getStatus());
+        Assertions.assertEquals(Status.REGRESSED, comparisons.get("regressed avgt").getStatus());
+        Assertions.assertEquals(Status.NEW, comparisons.get("new avgt").getStatus());
+        Assertions.assertEquals(Status.MISSING, comparisons.get("missing avgt").getStatus());
+        Assertions.assertEquals(1, report.getRegressions().size());
+    }
+
+    private Map<String, Comparison> compare(Baseline baseline, Map<String, Score> current) {
+        BenchmarkComparator.Report report = comparator.compare(baseline, current);
+        Assertions.assertEquals(2.0, report.getHostFactor());
+        return byKey(report);
+    }
+
+    private static Map<String, Comparison> byKey(BenchmarkComparator.Report report) {
+        return report.getComparisons().stream()
+                .collect(Collectors.toMap(Comparison::getKey, Function.identity()));
+    }
+
+    private static Score avgt(double value, Double tolerance) {
+        return new Score("avgt", "ms/op", value, tolerance);
+    }
+
+    private static Score thrpt(double value, Double tolerance) {
+        return new Score("thrpt", "ops/s", value, tolerance);
+    }
+}
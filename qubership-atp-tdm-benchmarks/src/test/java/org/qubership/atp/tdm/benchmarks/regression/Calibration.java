@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.regression;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.qubership.atp.tdm.benchmarks.AbstractJmhTest;
+
+/**
+ * Fixed CPU and allocation workload used to estimate the speed of the host. Scores of other benchmarks are
+ * scaled by the ratio of this score to its baseline before being compared. Runs in a forked JVM with a long
+ * warmup, so the score does not depend on benchmarks run before it or on JIT timing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Calibration implements AbstractJmhTest {
+
+    public static final String BENCHMARK = Calibration.class.getName() + ".calibrate";
+    public static final String REPORT = "jmh-calibration-report.json";
+
+    private static final int SIZE = 100_000;
+
+    @Test
+    public void runCalibration() throws Exception {
+        Options opts = new OptionsBuilder()
+                .parent(prepareOptionBuilder(REPORT))
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    public int calibrate(Data data) {
+        int[] values = Arrays.copyOf(data.values, SIZE);
+        Arrays.sort(values);
+        Map<Integer, String> index = new HashMap<>();
+        for (int i = 0; i < SIZE; i += 10) {
+            index.put(values[i], Integer.toHexString(values[i]));
+        }
+        return index.size();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Data {
+
+        private int[] values;
+
+        @Setup
+        public void setUp() {
+            values = new Random(42).ints(SIZE).toArray();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.regression;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares reports written by the benchmark suite with the committed baseline and fails on regressions.
+ * Runs after the suite within the {@code benchmark-regression} profile:
+ * <pre>
+ * mvn test -P benchmark-regression -pl qubership-atp-tdm-benchmarks -Dbenchmark.suite=**&#47;micro&#47;*.java
+ * </pre>
+ * Reports left by earlier runs are removed when the profile starts, so only the selected suite is compared.
+ * The markdown report is written next to the json reports. Run with {@code -Dbenchmark.baseline.update=true}
+ * on the reference host to record the current scores as the new baseline. The committed baseline is recorded
+ * from the {@code micro} suite, which runs in forked JVMs. Other suites are reported as new until they are
+ * recorded.
+ */
+public class RegressionGate {
+
+    private static final String REPORTS_DIRECTORY = "reports";
+    private static final String MARKDOWN_REPORT = "benchmark-regression-report.md";
+
+    @Test
+    public void compareBenchmarksWithBaseline() throws Exception {
+        File baselineFile = new File(System.getProperty("benchmark.baseline", "baseline/benchmark-baseline.json"));
+        File reportsDirectory = new File(REPORTS_DIRECTORY);
+        BenchmarkComparator comparator = new BenchmarkComparator();
+        BenchmarkComparator.Baseline baseline = comparator.readBaseline(baselineFile);
+        Map<String, BenchmarkComparator.Score> current = comparator.readReports(reportsDirectory);
+        Assertions.assertFalse(current.isEmpty(), "No benchmark reports found in " + reportsDirectory);
+
+        BenchmarkComparator.Report report = comparator.compare(baseline, current);
+        Files.write(new File(reportsDirectory, MARKDOWN_REPORT).toPath(),
+                report.toMarkdown().getBytes(StandardCharsets.UTF_8));
+
+        if (Boolean.getBoolean("benchmark.baseline.update")) {
+            comparator.writeBaseline(baselineFile, baseline, current);
+            return;
+        }
+        Assertions.assertTrue(report.getRegressions().isEmpty(), () -> "Benchmarks regressed beyond tolerance: "
+                + report.getRegressions().stream()
+                .map(comparison -> String.format("%s (%+.1f%%)", comparison.getKey(),
+                        comparison.getSlowdown() * 100))
+                .collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * Reports peak heap usage of every iteration: the absolute peak and its growth over the heap used
+ * when the iteration started. Peaks of heap pools are summed, pools may peak at different moments,
+ * so the values are an upper bound.
+ * Benchmarks must run in the same JVM, i.e. without forks.
+ */
+public class HeapPeakProfiler implements InternalProfiler {
+
+    private static final double BYTES_IN_MEGABYTE = 1024 * 1024;
+
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> MemoryType.HEAP.equals(pool.getType()))
+            .collect(Collectors.toList());
+
+    private long usedBefore;
+
+    @Override
+    public String getDescription() {
+        return "Peak heap usage per iteration";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        usedBefore = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams,
+                                                       IterationResult result) {
+        long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return Arrays.asList(
+                new ScalarResult("heap.peak", peak / BYTES_IN_MEGABYTE, "MB", AggregationPolicy.MAX),
+                new ScalarResult("heap.growth", Math.max(0, peak - usedBefore) / BYTES_IN_MEGABYTE, "MB",
+                        AggregationPolicy.MAX));
+    }
+}
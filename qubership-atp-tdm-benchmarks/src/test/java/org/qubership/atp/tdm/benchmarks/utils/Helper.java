@@ -96,7 +96,7 @@ public class Helper {
                                                   @Nonnull String tableName,
                                                   @Nonnull CatalogRepository catalogRepository) {
         TestDataTableCatalog catalog =
-                new TestDataTableCatalog(tableName, environmentId, projectId, systemId, tableTitle);
+                new TestDataTableCatalog(tableName, projectId, environmentId, systemId, tableTitle);
         catalogRepository.save(catalog);
     }
 
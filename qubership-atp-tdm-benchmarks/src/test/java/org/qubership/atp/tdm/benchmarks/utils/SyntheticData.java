@@ -0,0 +1,171 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.benchmarks.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+import jakarta.annotation.Nonnull;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import org.qubership.atp.tdm.model.ColumnType;
+import org.qubership.atp.tdm.model.FilterType;
+import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
+import org.qubership.atp.tdm.model.table.column.TestDataTableColumnIdentity;
+import org.qubership.atp.tdm.repo.impl.SystemColumns;
+
+/**
+ * In-memory test data built without a database: tables, result sets and xlsx files.
+ */
+public class SyntheticData {
+
+    public static final String KEY_COLUMN = "SIM";
+
+    private static final int LINK_COLUMN_STEP = 4;
+    private static final String LINK_DELIMITER = ";";
+
+    /**
+     * Get column names: the key column followed by generated ones.
+     */
+    public static List<String> getColumnNames(int columns) {
+        List<String> columnNames = new ArrayList<>(columns);
+        columnNames.add(KEY_COLUMN);
+        for (int i = 1; i < columns; i++) {
+            columnNames.add("Column " + i);
+        }
+        return columnNames;
+    }
+
+    /**
+     * Build a table with random values of the given length. Every fourth column is a link column,
+     * alternating templated links and plain prefixes, and holds two delimited values per cell.
+     */
+    public static TestDataTable buildTable(int rows, int columns, int cellLength) {
+        List<String> columnNames = getColumnNames(columns);
+        List<TestDataTableColumn> tableColumns = new ArrayList<>(columns);
+        for (int i = 0; i < columns; i++) {
+            tableColumns.add(buildColumn(columnNames.get(i), i));
+        }
+        List<Map<String, Object>> data = new ArrayList<>(rows);
+        for (int r = 0; r < rows; r++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put(SystemColumns.ROW_ID.getName(), UUID.randomUUID());
+            for (int i = 0; i < columns; i++) {
+                row.put(columnNames.get(i), isLinkColumn(i)
+                        ? RandomStringUtils.randomAlphanumeric(cellLength) + LINK_DELIMITER
+                        + RandomStringUtils.randomAlphanumeric(cellLength)
+                        : RandomStringUtils.randomAlphanumeric(cellLength));
+            }
+            data.add(row);
+        }
+        TestDataTable table = new TestDataTable();
+        table.setName("tdm_benchmark_synthetic");
+        table.setColumns(tableColumns);
+        table.setData(data);
+        table.setRecords(rows);
+        return table;
+    }
+
+    /**
+     * Copy the table to a disconnected result set, ROW_ID column included.
+     */
+    public static CachedRowSet toResultSet(@Nonnull TestDataTable table) throws SQLException {
+        List<String> columnNames = new ArrayList<>();
+        columnNames.add(SystemColumns.ROW_ID.getName());
+        columnNames.addAll(table.getColumns().stream()
+                .map(column -> column.getIdentity().getColumnName())
+                .collect(Collectors.toList()));
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(columnNames.size());
+        for (int i = 0; i < columnNames.size(); i++) {
+            metaData.setColumnName(i + 1, columnNames.get(i));
+            metaData.setColumnType(i + 1, Types.VARCHAR);
+        }
+        CachedRowSet resultSet = RowSetProvider.newFactory().createCachedRowSet();
+        resultSet.setMetaData(metaData);
+        for (Map<String, Object> row : table.getData()) {
+            resultSet.moveToInsertRow();
+            for (int i = 0; i < columnNames.size(); i++) {
+                resultSet.updateString(i + 1, String.valueOf(row.get(columnNames.get(i))));
+            }
+            resultSet.insertRow();
+            resultSet.moveToCurrentRow();
+        }
+        resultSet.beforeFirst();
+        return resultSet;
+    }
+
+    /**
+     * Write the table to a temporary xlsx file laid out as a user upload: header row, then values.
+     */
+    public static File writeExcelFile(@Nonnull TestDataTable table) throws IOException {
+        File file = Files.createTempFile("tdm_benchmark_synthetic", ".xlsx").toFile();
+        file.deleteOnExit();
+        List<String> columnNames = table.getColumns().stream()
+                .map(column -> column.getIdentity().getColumnName())
+                .collect(Collectors.toList());
+        try (FileOutputStream outputStream = new FileOutputStream(file); SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            SXSSFSheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < columnNames.size(); i++) {
+                header.createCell(i).setCellValue(columnNames.get(i));
+            }
+            int rowCount = 0;
+            for (Map<String, Object> data : table.getData()) {
+                Row row = sheet.createRow(++rowCount);
+                for (int i = 0; i < columnNames.size(); i++) {
+                    row.createCell(i).setCellValue(String.valueOf(data.get(columnNames.get(i))));
+                }
+            }
+            workbook.write(outputStream);
+        }
+        return file;
+    }
+
+    private static TestDataTableColumn buildColumn(String columnName, int index) {
+        TestDataTableColumnIdentity identity = new TestDataTableColumnIdentity("tdm_benchmark_synthetic", columnName);
+        if (!isLinkColumn(index)) {
+            return new TestDataTableColumn(identity);
+        }
+        String columnLink = (index / LINK_COLUMN_STEP) % 2 == 0
+                ? "https://tdm.example/data/${" + KEY_COLUMN + "}"
+                : "https://tdm.example/data/";
+        return new TestDataTableColumn(identity, ColumnType.LINK, FilterType.TEXT, columnLink, false);
+    }
+
+    private static boolean isLinkColumn(int index) {
+        return index > 0 && index % LINK_COLUMN_STEP == 0;
+    }
+}
@@ -17,26 +17,30 @@
 package org.qubership.atp.tdm.env.configurator.configuration;
 
 import java.lang.reflect.Field;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvInitiateCacheException;
 import org.qubership.atp.tdm.env.configurator.utils.CacheNames;
 import org.qubership.atp.tdm.env.configurator.utils.decryptor.Decryptor;
 import org.qubership.atp.tdm.env.configurator.utils.decryptor.SopsDecryptor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,9 +53,33 @@ public class EnvironmentsConfig {
     @Value("${environments.cache.duration:15}")
     private Integer cacheDuration;
 
+    @Value("${environments.cache.refresh.duration:5}")
+    private Integer cacheRefreshDuration;
+
+    @Value("${environments.cache.maximum.size:1000}")
+    private Integer cacheMaximumSize;
+
     @Value("${envgene.age.private.key:}")
     private String agePrivateKey;
 
+    @Value("${envgene.decryption.concurrency:4}")
+    private int decryptionConcurrency;
+
+    @Value("${envgene.decryption.cache.size:1000}")
+    private int decryptionCacheSize;
+
+    @Value("${envgene.decryption.cache.path:}")
+    private String decryptionCachePath;
+
+    /**
+     * Binds hit/miss metrics of environments caches.
+     * @return metrics provider of {@link RefreshingCache}.
+     */
+    @Bean
+    public CacheMeterBinderProvider<RefreshingCache> refreshingCacheMeterBinderProvider() {
+        return (cache, tags) -> new GuavaCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+    }
+
     /**
      * Creates SopsDecryptor bean if age private key is configured.
      * @return SopsDecryptor instance or null if key is not configured
@@ -60,27 +88,29 @@ public class EnvironmentsConfig {
     @ConditionalOnExpression("!'${envgene.age.private.key:}'.isEmpty()")
     public Decryptor sopsDecryptor() {
         log.info("Initializing SopsDecryptor with age private key from configuration");
-        return new SopsDecryptor(agePrivateKey);
+        return new SopsDecryptor(agePrivateKey, decryptionConcurrency, decryptionCacheSize,
+                decryptionCachePath.isEmpty() ? null : Paths.get(decryptionCachePath));
     }
 
     /**
      * Cache manager.
-     * @return - ConcurrentMapCache.
+     * @return - cache manager of {@link RefreshingCache}s.
      */
     @Bean
     @ConditionalOnProperty(name = "spring.cache.type", havingValue = "GENERIC")
     public CacheManager cacheManager() {
-        log.info("Environments cache manage is enabled. Cache duration: {}", cacheDuration);
+        log.info("Environments cache manage is enabled. Cache duration: {}, refresh: {}, maximum size: {}",
+                cacheDuration, cacheRefreshDuration, cacheMaximumSize);
+        Executor refreshExecutor = Executors.newFixedThreadPool(2, new ThreadFactoryBuilder()
+                .setNameFormat("environments-cache-refresh-%d")
+                .setDaemon(true)
+                .build());
 
         ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager() {
             @Override
             protected Cache createConcurrentMapCache(String name) {
-                return new ConcurrentMapCache(
-                        name,
-                        CacheBuilder.newBuilder()
-                                .expireAfterWrite(cacheDuration, TimeUnit.MINUTES)
-                                .build().asMap(),
-                        false);
+                return new RefreshingCache(name, cacheMaximumSize, Duration.ofMinutes(cacheRefreshDuration),
+                        Duration.ofMinutes(cacheDuration), refreshExecutor);
             }
         };
 
@@ -0,0 +1,179 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.configuration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Size bounded cache which reloads entries in background.
+ *
+ * <p>
+ * Values loaded through {@link #get(Object, Callable)} (i.e. {@code @Cacheable(sync = true)}) remember their loader.
+ * Once an entry is older than the refresh interval, the next read returns the current value and reloads it
+ * asynchronously, so hot entries never expire and readers never wait for a reload. Concurrent misses of the same
+ * key are loaded once. Entries which are not read expire after the expiry interval.
+ */
+@Slf4j
+public class RefreshingCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<Object, Entry> store;
+    private final long refreshNanos;
+    private final Executor refreshExecutor;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates cache.
+     *
+     * @param name cache name
+     * @param maximumSize maximum number of entries
+     * @param refreshAfterWrite age after which entry is reloaded in background on read
+     * @param expireAfterWrite age after which entry which was not reloaded is removed
+     * @param refreshExecutor executor of background reloads
+     */
+    public RefreshingCache(String name, long maximumSize, Duration refreshAfterWrite, Duration expireAfterWrite,
+                           Executor refreshExecutor) {
+        super(true);
+        this.name = name;
+        this.store = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite.toNanos(), TimeUnit.NANOSECONDS)
+                .recordStats()
+                .build();
+        this.refreshNanos = refreshAfterWrite.toNanos();
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @Nonnull
+    public Cache<Object, Entry> getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(@Nonnull Object key) {
+        Entry entry = store.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        refreshIfStale(key, entry);
+        return entry.value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@Nonnull Object key, @Nonnull Callable<T> valueLoader) {
+        Entry entry;
+        try {
+            entry = store.get(key, () -> new Entry(toStoreValue(valueLoader.call()), valueLoader));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+        refreshIfStale(key, entry);
+        return (T) fromStoreValue(entry.value);
+    }
+
+    @Override
+    public void put(@Nonnull Object key, Object value) {
+        Entry previous = store.getIfPresent(key);
+        store.put(key, new Entry(toStoreValue(value), previous == null ? null : previous.loader));
+    }
+
+    @Override
+    public void evict(@Nonnull Object key) {
+        store.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        store.invalidateAll();
+    }
+
+    /**
+     * Evicts entries matching the condition. Values are passed to the condition as returned by the cache,
+     * i.e. {@code null} for cached {@code null}.
+     *
+     * @param condition condition of key and value of the entry
+     * @return number of evicted entries
+     */
+    public int evictIf(BiPredicate<Object, Object> condition) {
+        int evicted = 0;
+        for (Map.Entry<Object, Entry> entry : store.asMap().entrySet()) {
+            if (condition.test(entry.getKey(), fromStoreValue(entry.getValue().value))
+                    && store.asMap().remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private void refreshIfStale(Object key, Entry entry) {
+        if (entry.loader == null || System.nanoTime() - entry.loadedNanos < refreshNanos || !refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Entry refreshed = new Entry(toStoreValue(entry.loader.call()), entry.loader);
+                    // Entry evicted or replaced while reloading must not be overwritten by the reloaded value
+                    store.asMap().replace(key, entry, refreshed);
+                } catch (Exception e) {
+                    log.warn("Failed to refresh entry [{}] of cache [{}], current value is kept", key, name, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.warn("Refresh of entry [{}] of cache [{}] is rejected", key, name);
+        }
+    }
+
+    static final class Entry {
+        private final Object value;
+        private final Callable<?> loader;
+        private final long loadedNanos = System.nanoTime();
+
+        private Entry(Object value, Callable<?> loader) {
+            this.value = value;
+            this.loader = loader;
+        }
+    }
+}
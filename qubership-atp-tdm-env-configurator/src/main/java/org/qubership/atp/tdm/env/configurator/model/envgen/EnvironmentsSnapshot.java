@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.model.envgen;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Parsed environments of a project tagged with the repository revision they were loaded from.
+ * Serialized form is gzipped JSON of the environment fields.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnvironmentsSnapshot {
+
+    private static final ObjectMapper SNAPSHOT_MAPPER = new ObjectMapper()
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(SerializationFeature.WRITE_ENUMS_USING_TO_STRING, true);
+
+    private String revision;
+    private List<YamlEnvironment> environments;
+
+    /**
+     * Serializes snapshot to gzipped JSON.
+     *
+     * @return serialized snapshot
+     * @throws IOException if snapshot cannot be serialized
+     */
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            SNAPSHOT_MAPPER.writeValue(out, this);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Restores snapshot serialized by {@link #serialize()}.
+     *
+     * @param bytes serialized snapshot
+     * @return snapshot
+     * @throws IOException if snapshot cannot be read
+     */
+    public static EnvironmentsSnapshot deserialize(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return SNAPSHOT_MAPPER.readValue(in, EnvironmentsSnapshot.class);
+        }
+    }
+}
@@ -17,7 +17,11 @@
 package org.qubership.atp.tdm.env.configurator.model.envgen;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -92,16 +96,21 @@ public class YamlEnvironment {
     }
 
     private void mergeConnections(List<YamlSystem> yamlSystems) {
-        this.yamlSystems.forEach(system -> {
-            system.getConnections().forEach(connection -> {
-                yamlSystems.forEach(yamlSystem -> {
-                    YamlConnection yamlConnection = yamlSystem.getConnectionById(connection.getId());
-                    if (yamlConnection != null) {
-                        connection.getParameters().putAll(yamlConnection.getParameters());
-                    }
-                });
-            });
+        Map<UUID, Map<String, String>> parametersByConnectionId = new HashMap<>();
+        yamlSystems.forEach(yamlSystem -> {
+            Set<UUID> systemConnectionIds = new HashSet<>();
+            yamlSystem.getConnections().stream()
+                    .filter(yamlConnection -> systemConnectionIds.add(yamlConnection.getId()))
+                    .forEach(yamlConnection -> parametersByConnectionId
+                            .computeIfAbsent(yamlConnection.getId(), id -> new HashMap<>())
+                            .putAll(yamlConnection.getParameters()));
         });
+        this.yamlSystems.forEach(system -> system.getConnections().forEach(connection -> {
+            Map<String, String> parameters = parametersByConnectionId.get(connection.getId());
+            if (parameters != null) {
+                connection.getParameters().putAll(parameters);
+            }
+        }));
     }
 
     public List<UUID> getSystemIds() {
@@ -16,31 +16,238 @@
 
 package org.qubership.atp.tdm.env.configurator.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
+import org.qubership.atp.tdm.env.configurator.model.envgen.YamlConnection;
 import org.qubership.atp.tdm.env.configurator.model.envgen.YamlEnvironment;
+import org.qubership.atp.tdm.env.configurator.model.envgen.YamlSystem;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Cache of environments loaded from git. Besides environments by id it keeps indexes of systems by id,
+ * systems by environment and name, environments by project, systems by project and connections by system.
+ * Indexes are updated for the environment on every put under one lock, readers never lock.
+ */
 @Slf4j
 @Service
 public class CacheService {
-    private final Map<UUID, YamlEnvironment> envGenCache = new ConcurrentHashMap();
+    private final Map<UUID, YamlEnvironment> envGenCache = new ConcurrentHashMap<>();
+    private final Map<UUID, EnvironmentSystems> systemsByEnvironment = new ConcurrentHashMap<>();
+    private final Map<UUID, YamlSystem> systemsById = new ConcurrentHashMap<>();
+    private final Map<UUID, List<YamlConnection>> connectionsBySystem = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<UUID, YamlEnvironment>> environmentsByProject = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<UUID, ProjectSystem>> systemsByProject = new ConcurrentHashMap<>();
+
+    /**
+     * Puts the environment to cache and reindexes its systems.
+     */
+    public synchronized void put(YamlEnvironment yamlEnvironment) {
+        UUID environmentId = yamlEnvironment.getId();
+        YamlEnvironment previous = envGenCache.put(environmentId, yamlEnvironment);
+        EnvironmentSystems systems = new EnvironmentSystems(yamlEnvironment.getYamlSystems());
+        EnvironmentSystems previousSystems = systemsByEnvironment.put(environmentId, systems);
+        systems.byId.forEach((systemId, yamlSystem) -> {
+            systemsById.put(systemId, yamlSystem);
+            connectionsBySystem.put(systemId, yamlSystem.getConnections() == null
+                    ? Collections.emptyList()
+                    : Collections.unmodifiableList(yamlSystem.getConnections()));
+        });
+        if (previousSystems != null) {
+            previousSystems.byId.keySet().stream()
+                    .filter(systemId -> !systems.byId.containsKey(systemId))
+                    .forEach(systemId -> {
+                        systemsById.remove(systemId);
+                        connectionsBySystem.remove(systemId);
+                    });
+        }
+        if (previous != null && previous.getProjectId() != null
+                && !previous.getProjectId().equals(yamlEnvironment.getProjectId())) {
+            environmentsByProject.computeIfPresent(previous.getProjectId(), (projectId, environments) -> {
+                environments.remove(environmentId);
+                return environments.isEmpty() ? null : environments;
+            });
+        }
+        if (yamlEnvironment.getProjectId() != null) {
+            environmentsByProject.computeIfAbsent(yamlEnvironment.getProjectId(),
+                    projectId -> new ConcurrentHashMap<>()).put(environmentId, yamlEnvironment);
+        }
+        indexProjectSystems(yamlEnvironment.getProjectId(), environmentId, systems);
+        if (previous != null) {
+            unindexProjectSystems(previous.getProjectId(), environmentId, previousSystems,
+                    Objects.equals(previous.getProjectId(), yamlEnvironment.getProjectId())
+                            ? systems.byId.keySet() : Collections.emptySet());
+        }
+    }
 
-    public void put(YamlEnvironment yamlEnvironment) {
-        envGenCache.put(yamlEnvironment.getId(), yamlEnvironment);
+    /**
+     * Removes the environment and its systems from cache.
+     */
+    public synchronized void remove(UUID environmentId) {
+        YamlEnvironment previous = envGenCache.remove(environmentId);
+        EnvironmentSystems previousSystems = systemsByEnvironment.remove(environmentId);
+        if (previousSystems != null) {
+            previousSystems.byId.keySet().forEach(systemId -> {
+                systemsById.remove(systemId);
+                connectionsBySystem.remove(systemId);
+            });
+        }
+        if (previous != null && previous.getProjectId() != null) {
+            environmentsByProject.computeIfPresent(previous.getProjectId(), (projectId, environments) -> {
+                environments.remove(environmentId);
+                return environments.isEmpty() ? null : environments;
+            });
+            unindexProjectSystems(previous.getProjectId(), environmentId, previousSystems, Collections.emptySet());
+        }
     }
 
     public YamlEnvironment get(UUID environmentId) {
         return envGenCache.get(environmentId);
     }
 
-    public List<YamlEnvironment> getEnvironments() {
-        return envGenCache.values().stream().collect(Collectors.toList());
+    /**
+     * Returns read-only view of all cached environments.
+     */
+    public Collection<YamlEnvironment> getEnvironments() {
+        return Collections.unmodifiableCollection(envGenCache.values());
+    }
+
+    /**
+     * Returns read-only view of cached environments of the project.
+     */
+    public Collection<YamlEnvironment> getEnvironments(UUID projectId) {
+        Map<UUID, YamlEnvironment> environments = environmentsByProject.get(projectId);
+        return environments == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableCollection(environments.values());
+    }
+
+    public YamlSystem getSystem(UUID systemId) {
+        return systemsById.get(systemId);
+    }
+
+    /**
+     * Returns system of the environment by id or null if it is not cached.
+     */
+    public YamlSystem getSystem(UUID environmentId, UUID systemId) {
+        EnvironmentSystems systems = systemsByEnvironment.get(environmentId);
+        return systems == null ? null : systems.byId.get(systemId);
+    }
+
+    /**
+     * Returns system of the environment by name or null if it is not cached.
+     */
+    public YamlSystem getSystemByName(UUID environmentId, String systemName) {
+        EnvironmentSystems systems = systemsByEnvironment.get(environmentId);
+        return systems == null ? null : systems.byName.get(systemName);
+    }
+
+    /**
+     * Returns connections of the system or empty list if the system is not cached.
+     */
+    public List<YamlConnection> getConnections(UUID systemId) {
+        return connectionsBySystem.getOrDefault(systemId, Collections.emptyList());
+    }
+
+    /**
+     * Returns read-only view of systems of the project with ids of environments containing them.
+     */
+    public Collection<ProjectSystem> getProjectSystems(UUID projectId) {
+        Map<UUID, ProjectSystem> systems = systemsByProject.get(projectId);
+        return systems == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableCollection(systems.values());
+    }
+
+    private void indexProjectSystems(UUID projectId, UUID environmentId, EnvironmentSystems systems) {
+        if (projectId == null) {
+            return;
+        }
+        Map<UUID, ProjectSystem> projectSystems = systemsByProject.computeIfAbsent(projectId,
+                id -> new ConcurrentHashMap<>());
+        systems.byId.forEach((systemId, yamlSystem) -> projectSystems.compute(systemId,
+                (id, projectSystem) -> projectSystem == null
+                        ? new ProjectSystem(yamlSystem, Collections.singletonList(environmentId))
+                        : projectSystem.withEnvironment(yamlSystem, environmentId)));
+    }
+
+    private void unindexProjectSystems(UUID projectId, UUID environmentId, EnvironmentSystems systems,
+                                       Set<UUID> retainedSystemIds) {
+        if (projectId == null || systems == null) {
+            return;
+        }
+        systemsByProject.computeIfPresent(projectId, (id, projectSystems) -> {
+            systems.byId.keySet().stream()
+                    .filter(systemId -> !retainedSystemIds.contains(systemId))
+                    .forEach(systemId -> projectSystems.computeIfPresent(systemId,
+                            (key, projectSystem) -> projectSystem.withoutEnvironment(environmentId)));
+            return projectSystems.isEmpty() ? null : projectSystems;
+        });
+    }
+
+    /**
+     * System of the project with ids of environments containing it. Instances are immutable, the index
+     * replaces them on change.
+     */
+    public static final class ProjectSystem {
+
+        private final YamlSystem system;
+        private final List<UUID> environmentIds;
+
+        private ProjectSystem(YamlSystem system, List<UUID> environmentIds) {
+            this.system = system;
+            this.environmentIds = environmentIds;
+        }
+
+        public YamlSystem getSystem() {
+            return system;
+        }
+
+        public List<UUID> getEnvironmentIds() {
+            return environmentIds;
+        }
+
+        private ProjectSystem withEnvironment(YamlSystem yamlSystem, UUID environmentId) {
+            if (environmentIds.contains(environmentId)) {
+                return new ProjectSystem(yamlSystem, environmentIds);
+            }
+            List<UUID> ids = new ArrayList<>(environmentIds);
+            ids.add(environmentId);
+            return new ProjectSystem(yamlSystem, Collections.unmodifiableList(ids));
+        }
+
+        private ProjectSystem withoutEnvironment(UUID environmentId) {
+            if (!environmentIds.contains(environmentId)) {
+                return this;
+            }
+            List<UUID> ids = new ArrayList<>(environmentIds);
+            ids.remove(environmentId);
+            return ids.isEmpty() ? null : new ProjectSystem(system, Collections.unmodifiableList(ids));
+        }
+    }
+
+    private static class EnvironmentSystems {
+
+        private final Map<UUID, YamlSystem> byId = new HashMap<>();
+        private final Map<String, YamlSystem> byName = new HashMap<>();
+
+        private EnvironmentSystems(List<YamlSystem> yamlSystems) {
+            for (YamlSystem yamlSystem : yamlSystems) {
+                if (yamlSystem.getId() != null) {
+                    byId.putIfAbsent(yamlSystem.getId(), yamlSystem);
+                }
+                byName.putIfAbsent(yamlSystem.getName(), yamlSystem);
+            }
+        }
     }
 }
@@ -62,4 +62,19 @@ public interface EnvironmentsService {
     List<LazySystem> getLazySystemsByProjectIdWithConnections(UUID projectId);
 
     boolean resetCaches();
+
+    /**
+     * Reloads the changed environment and evicts only cached entries which refer to it.
+     */
+    void evictEnvironment(@Nonnull UUID projectId, @Nonnull UUID environmentId);
+
+    /**
+     * Reloads environments with the changed system and evicts only cached entries which refer to it.
+     */
+    void evictSystem(@Nonnull UUID projectId, @Nonnull UUID systemId);
+
+    /**
+     * Evicts cached entries of the changed project.
+     */
+    void evictProject(@Nonnull UUID projectId);
 }
@@ -0,0 +1,44 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.service;
+
+import java.util.UUID;
+
+import org.qubership.atp.tdm.env.configurator.model.envgen.EnvironmentsSnapshot;
+
+/**
+ * Persistent storage of parsed environments, used to warm up the environments cache on startup
+ * without waiting for the repository to be loaded.
+ */
+public interface EnvironmentsSnapshotStore {
+
+    /**
+     * Loads the last saved snapshot of the project.
+     *
+     * @param projectId project id
+     * @return snapshot or null if there is no snapshot
+     */
+    EnvironmentsSnapshot load(UUID projectId);
+
+    /**
+     * Saves snapshot of the project replacing the previous one.
+     *
+     * @param projectId project id
+     * @param snapshot snapshot
+     */
+    void save(UUID projectId, EnvironmentsSnapshot snapshot);
+}
@@ -16,9 +16,6 @@
 
 package org.qubership.atp.tdm.env.configurator.service;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
@@ -26,18 +23,22 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-import org.gitlab4j.api.GitLabApi;
-import org.gitlab4j.api.GitLabApiException;
-import org.gitlab4j.api.models.RepositoryFile;
-import org.gitlab4j.api.models.TreeItem;
 import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvDbConnectionException;
 import org.qubership.atp.tdm.env.configurator.model.Connection;
 import org.qubership.atp.tdm.env.configurator.model.Environment;
@@ -48,12 +49,15 @@ import org.qubership.atp.tdm.env.configurator.model.Project;
 import org.qubership.atp.tdm.env.configurator.model.System;
 import org.qubership.atp.tdm.env.configurator.model.envgen.ConnectionType;
 import org.qubership.atp.tdm.env.configurator.model.envgen.EnvGenProperty;
-import org.qubership.atp.tdm.env.configurator.model.envgen.YamlConfiguration;
+import org.qubership.atp.tdm.env.configurator.model.envgen.EnvironmentsSnapshot;
 import org.qubership.atp.tdm.env.configurator.model.envgen.YamlConnection;
 import org.qubership.atp.tdm.env.configurator.model.envgen.YamlEnvironment;
 import org.qubership.atp.tdm.env.configurator.model.envgen.YamlSystem;
 import org.qubership.atp.tdm.env.configurator.utils.decryptor.Decryptor;
 import org.qubership.atp.tdm.env.configurator.utils.decryptor.SopsDecryptor;
+import org.qubership.atp.tdm.env.configurator.utils.source.EnvironmentsSource;
+import org.qubership.atp.tdm.env.configurator.utils.source.GitLabEnvironmentsSource;
+import org.qubership.atp.tdm.env.configurator.utils.source.LocalEnvironmentsSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -63,7 +67,9 @@ import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -94,10 +100,24 @@ public class GitService {
     @Value("#{${projects.info}}")
     private Map<UUID, String> projects;
 
+    @Value("${git.environments.local.path:}")
+    private String localPath;
+
+    @Value("${git.environments.load.pool.size:8}")
+    private int loadPoolSize;
+
     private CacheService cacheService;
     private ObjectMapper enfConfObjectMapper;
     private Optional<Decryptor> decryptor;
+    private Optional<EnvironmentsSnapshotStore> snapshotStore;
+    private EnvironmentsSource environmentsSource;
+    private ExecutorService loadExecutor;
+    private ExecutorService reconcileExecutor;
+    private final Map<String, RepositoryFileContent> fileContents = new ConcurrentHashMap<>();
+    private final Map<UUID, String> loadedRevisions = new ConcurrentHashMap<>();
     private static final List<String> EXCLUSIONS = Arrays.asList("credentials", "parameters");
+    private static final String ENVIRONMENTS_PATH = "environments";
+    private static final String EFFECTIVE_SET = "effective-set";
 
     {
         enfConfObjectMapper = new YAMLMapper();
@@ -105,11 +125,18 @@ public class GitService {
         enfConfObjectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
     }
 
-    @Autowired
     public GitService(CacheService cacheService, Optional<Decryptor> decryptor) {
+        this(cacheService, decryptor, Optional.empty());
+    }
+
+    @Autowired
+    public GitService(CacheService cacheService, Optional<Decryptor> decryptor,
+                      Optional<EnvironmentsSnapshotStore> snapshotStore) {
         this.cacheService = cacheService;
         this.decryptor = decryptor;
-        log.info("GitService constructor called. Decryptor available: {}", decryptor.isPresent());
+        this.snapshotStore = snapshotStore;
+        log.info("GitService constructor called. Decryptor available: {}, snapshot store available: {}",
+                decryptor.isPresent(), snapshotStore.isPresent());
     }
 
     @PostConstruct
@@ -178,25 +205,36 @@ public class GitService {
         }
     }
 
+    /**
+     * Fills the cache for all projects. Projects having a snapshot are served from it at once
+     * and reconciled with git in background, other projects are loaded from git.
+     */
     private void initializeEnvironmentsCache() {
         log.info("Initializing environments cache for all projects...");
         try {
             for (Map.Entry<UUID, String> entry : projects.entrySet()) {
                 UUID projectId = entry.getKey();
                 String projectName = entry.getValue();
+
+                EnvironmentsSnapshot snapshot = loadSnapshot(projectId);
+                if (snapshot != null && snapshot.getEnvironments() != null) {
+                    snapshot.getEnvironments().forEach(cacheService::put);
+                    log.info("Restored {} environments for project {} from snapshot of revision {}",
+                            snapshot.getEnvironments().size(), projectName, snapshot.getRevision());
+                    getReconcileExecutor().submit(() ->
+                            reconcileEnvironments(projectId, projectName, snapshot.getRevision()));
+                    continue;
+                }
+
                 log.info("Pre-loading environments for project: {} ({})", projectName, projectId);
-                
                 try {
-                    List<LazyEnvironment> environments = getLazyEnvironmentsByFileTree(projectId);
+                    List<YamlEnvironment> environments = refreshEnvironments(projectId, getRevision());
                     log.info("Pre-loaded {} environments for project: {}", environments.size(), projectName);
                     
                     // Verify cache was populated
-                    List<YamlEnvironment> cachedEnvs = cacheService.getEnvironments();
-                    long envsForThisProject = cachedEnvs.stream()
-                        .filter(env -> projectId.equals(env.getProjectId()))
-                        .count();
                     log.info("Cache now contains {} environments for project {} (total cached: {})", 
-                        envsForThisProject, projectName, cachedEnvs.size());
+                        cacheService.getEnvironments(projectId).size(), projectName,
+                        cacheService.getEnvironments().size());
                 } catch (Exception e) {
                     log.warn("Failed to pre-load environments for project {}: {}", projectName, e.getMessage());
                 }
@@ -208,6 +246,63 @@ public class GitService {
         }
     }
 
+    private void reconcileEnvironments(UUID projectId, String projectName, String snapshotRevision) {
+        try {
+            String revision = getRevision();
+            if (revision != null && revision.equals(snapshotRevision)) {
+                loadedRevisions.put(projectId, revision);
+                log.info("Snapshot of project {} is up to date with revision {}", projectName, revision);
+                return;
+            }
+            List<YamlEnvironment> environments = refreshEnvironments(projectId, revision);
+            log.info("Reconciled {} environments of project {} with revision {}",
+                    environments.size(), projectName, revision);
+        } catch (Exception e) {
+            log.warn("Failed to reconcile environments of project {} with git: {}", projectName, e.getMessage());
+        }
+    }
+
+    /**
+     * Loads environments of the project and saves them as a snapshot of the given revision.
+     */
+    private List<YamlEnvironment> refreshEnvironments(UUID projectId, String revision) throws Exception {
+        List<YamlEnvironment> environments = loadEnvironments(projectId, revision);
+        // empty snapshot is saved only when all environments of the project are removed from the repository
+        if (snapshotStore.isPresent()
+                && (!environments.isEmpty() || cacheService.getEnvironments(projectId).isEmpty())) {
+            try {
+                snapshotStore.get().save(projectId, new EnvironmentsSnapshot(revision, environments));
+            } catch (Exception e) {
+                log.warn("Failed to save environments snapshot of project {}: {}", projectId, e.getMessage());
+            }
+        }
+        if (revision != null) {
+            loadedRevisions.put(projectId, revision);
+        }
+        return environments;
+    }
+
+    private EnvironmentsSnapshot loadSnapshot(UUID projectId) {
+        if (!snapshotStore.isPresent()) {
+            return null;
+        }
+        try {
+            return snapshotStore.get().load(projectId);
+        } catch (Exception e) {
+            log.warn("Failed to load environments snapshot of project {}: {}", projectId, e.getMessage());
+            return null;
+        }
+    }
+
+    private String getRevision() {
+        try {
+            return getEnvironmentsSource().getRevision();
+        } catch (Exception e) {
+            log.warn("Failed to get environments repository revision: {}", e.getMessage());
+            return null;
+        }
+    }
+
     public LazyProject getLazyProjectByName(String projectName) {
         LazyProject lazyProject = null;
         for (Map.Entry<UUID, String> entry : projects.entrySet()) {
@@ -261,27 +356,20 @@ public class GitService {
             log.info("Getting environments from cache for project: {}", projectId);
             List<LazyEnvironment> cachedEnvironments = new ArrayList<>();
             
-            List<YamlEnvironment> allCachedEnvironments = cacheService.getEnvironments();
-            log.info("Total cached environments: {}", allCachedEnvironments.size());
-            
-            for (YamlEnvironment yamlEnv : allCachedEnvironments) {
-                log.debug("Checking cached environment: name={}, projectId={}, targetProjectId={}", 
-                    yamlEnv.getName(), yamlEnv.getProjectId(), projectId);
-                if (yamlEnv.getProjectId() != null && yamlEnv.getProjectId().equals(projectId)) {
-                    log.debug("Found matching environment: {}", yamlEnv.getName());
-                    LazyEnvironment lazyEnv = LazyEnvironment.builder()
-                            .id(yamlEnv.getId())
-                            .name(yamlEnv.getName())
-                            .clusterName(yamlEnv.getClusterName())
-                            .projectId(projectId)
-                            .systems(yamlEnv.getYamlSystems() != null
-                                    ? yamlEnv.getYamlSystems().stream()
-                                    .map(system -> UUID.nameUUIDFromBytes(String.format("%s/%s",
-                                            yamlEnv.getName(), system.getName()).getBytes()).toString())
-                                    .collect(Collectors.toList()) : new ArrayList<>())
-                            .build();
-                    cachedEnvironments.add(lazyEnv);
-                }
+            for (YamlEnvironment yamlEnv : cacheService.getEnvironments(projectId)) {
+                log.debug("Found matching environment: {}", yamlEnv.getName());
+                LazyEnvironment lazyEnv = LazyEnvironment.builder()
+                        .id(yamlEnv.getId())
+                        .name(yamlEnv.getName())
+                        .clusterName(yamlEnv.getClusterName())
+                        .projectId(projectId)
+                        .systems(yamlEnv.getYamlSystems() != null
+                                ? yamlEnv.getYamlSystems().stream()
+                                .map(system -> UUID.nameUUIDFromBytes(String.format("%s/%s",
+                                        yamlEnv.getName(), system.getName()).getBytes()).toString())
+                                .collect(Collectors.toList()) : new ArrayList<>())
+                        .build();
+                cachedEnvironments.add(lazyEnv);
             }
             
             log.info("Found {} cached environments for project: {}", cachedEnvironments.size(), projectId);
@@ -295,7 +383,8 @@ public class GitService {
     public List<LazyEnvironment> getLazyEnvironmentsRefresh(UUID projectId) {
         try {
             log.info("Refreshing environments for project: {}", projectId);
-            List<LazyEnvironment> environments = getLazyEnvironmentsByFileTree(projectId);
+            List<LazyEnvironment> environments = toLazyEnvironments(projectId,
+                    refreshEnvironments(projectId, getRevision()));
             log.info("Successfully refreshed {} environments for project: {}", environments.size(), projectId);
             return environments;
         } catch (Exception e) {
@@ -304,6 +393,33 @@ public class GitService {
         }
     }
 
+    /**
+     * Reloads environments of the project after a change event, only changed files are fetched again.
+     * Events of one commit are merged: the project is not reloaded while the revision is the same.
+     */
+    public void refreshProject(UUID projectId) throws Exception {
+        String revision = getRevision();
+        if (revision != null && revision.equals(loadedRevisions.get(projectId))) {
+            log.info("Environments of project {} are already loaded at revision {}", projectId, revision);
+            return;
+        }
+        List<YamlEnvironment> environments = refreshEnvironments(projectId, revision);
+        log.info("Reloaded {} environments of project {}", environments.size(), projectId);
+    }
+
+    /**
+     * Reloads environments of the project after the environment was changed. The environment is removed
+     * from cache if it is no longer found in the repository.
+     */
+    public void refreshEnvironment(UUID projectId, UUID environmentId) throws Exception {
+        List<YamlEnvironment> environments = refreshEnvironments(projectId, getRevision());
+        if (environments.stream().noneMatch(environment -> environmentId.equals(environment.getId()))) {
+            log.info("Environment {} of project {} is not found anymore, removing it from cache",
+                    environmentId, projectId);
+            cacheService.remove(environmentId);
+        }
+    }
+
     public List<LazySystem> getLazySystems(UUID environmentId) {
         try {
             YamlEnvironment yamlEnvironment = cacheService.get(environmentId);
@@ -375,20 +491,13 @@ public class GitService {
     }
 
     public List<Connection> getConnectionsSystemById(UUID environmentId, UUID systemId) throws Exception {
-        YamlSystem yamlSystem = null;
-        if (environmentId != null) {
-            YamlEnvironment yamlEnvironment = cacheService.get(environmentId);
-            yamlSystem = yamlEnvironment.getSystemById(systemId);
-        }
-        List<YamlEnvironment> yamlEnvironments = cacheService.getEnvironments();
-        Optional<YamlEnvironment> systemEnv = yamlEnvironments.stream().filter(yamlEnvironment ->
-                yamlEnvironment.getSystemById(systemId) != null).findAny();
-        if (systemEnv.isPresent()) {
-            yamlSystem = systemEnv.get().getSystemById(systemId);
+        YamlSystem yamlSystem = cacheService.getSystem(systemId);
+        if (yamlSystem == null && environmentId != null) {
+            yamlSystem = cacheService.getSystem(environmentId, systemId);
         }
         if (yamlSystem != null) {
             YamlSystem finalYamlSystem = yamlSystem;
-            return yamlSystem.getConnections().stream().map(yamlConnection -> {
+            return cacheService.getConnections(systemId).stream().map(yamlConnection -> {
                 Connection connection = new Connection();
                 connection.setId(yamlConnection.getId());
                 connection.setName(yamlConnection.getName());
@@ -402,8 +511,7 @@ public class GitService {
     }
 
     public LazySystem getLazySystemById(UUID environmentId, UUID systemId) {
-        YamlEnvironment yamlEnvironment = cacheService.get(environmentId);
-        YamlSystem yamlSystem = yamlEnvironment.getSystemById(systemId);
+        YamlSystem yamlSystem = cacheService.getSystem(environmentId, systemId);
         return LazySystem.builder()
                 .id(yamlSystem.getId())
                 .name(yamlSystem.getName())
@@ -412,44 +520,20 @@ public class GitService {
     }
 
     public List<LazySystem> getLazySystemsByProjectIdWithConnections(UUID projectId) {
-        List<LazySystem> systems = new ArrayList<>();
-
-        for (YamlEnvironment yamlEnvironment : cacheService.getEnvironments()) {
-            List<LazySystem> lazySystems = yamlEnvironment.getYamlSystems().stream().map(yamlSystem ->
-                    LazySystem.builder()
-                    .id(yamlSystem.getId())
-                    .name(yamlSystem.getName())
-                    .connections(yamlSystem.getListConnections())
-                    .build()).collect(Collectors.toList());
-
-            systems.addAll(lazySystems);
-        }
-        return systems;
+        return cacheService.getProjectSystems(projectId).stream()
+                .map(projectSystem -> convertYamlSystemToLazySystem(projectSystem.getSystem()))
+                .collect(Collectors.toList());
     }
 
     public List<LazySystem> getLazySystemsByProjectWithEnvIds(UUID projectId) {
-        Map<UUID, LazySystem.LazySystemBuilder> systemBuilders = new HashMap<>();
-
-        for (YamlEnvironment yamlEnvironment : cacheService.getEnvironments()) {
-            for (YamlSystem yamlSystem : yamlEnvironment.getYamlSystems()) {
-                LazySystem.LazySystemBuilder builder = systemBuilders.computeIfAbsent(
-                    yamlSystem.getId(),
-                    id -> LazySystem.builder()
-                        .id(yamlSystem.getId())
-                        .name(yamlSystem.getName())
-                        .connections(yamlSystem.getListConnections())
-                        .environmentIds(new ArrayList<>())
-                );
-                
-                List<UUID> envIds = new ArrayList<>(builder.build().getEnvironmentIds());
-                envIds.add(yamlEnvironment.getId());
-                builder.environmentIds(envIds);
-            }
-        }
-
-        return systemBuilders.values().stream()
-            .map(LazySystem.LazySystemBuilder::build)
-            .collect(Collectors.toList());
+        return cacheService.getProjectSystems(projectId).stream()
+                .map(projectSystem -> LazySystem.builder()
+                        .id(projectSystem.getSystem().getId())
+                        .name(projectSystem.getSystem().getName())
+                        .connections(projectSystem.getSystem().getListConnections())
+                        .environmentIds(new ArrayList<>(projectSystem.getEnvironmentIds()))
+                        .build())
+                .collect(Collectors.toList());
     }
 
     private Map<String, Object> checkEnvironmentConfiguration(Map<String, Object> mapConfiguration, String endpoint) {
@@ -464,8 +548,7 @@ public class GitService {
     }
 
     public LazySystem getLazySystemByName(UUID projectId, UUID environmentId, String systemName) {
-        YamlEnvironment yamlEnvironment = cacheService.get(environmentId);
-        YamlSystem yamlSystem = yamlEnvironment.getSystemByName(systemName);
+        YamlSystem yamlSystem = cacheService.getSystemByName(environmentId, systemName);
         return LazySystem.builder()
                 .id(yamlSystem.getId())
                 .name(yamlSystem.getName())
@@ -474,8 +557,7 @@ public class GitService {
     }
 
     public System getFullSystemByName(UUID environmentId, String systemName) {
-        YamlEnvironment yamlEnvironment = cacheService.get(environmentId);
-        YamlSystem yamlSystem = yamlEnvironment.getSystemByName(systemName);
+        YamlSystem yamlSystem = cacheService.getSystemByName(environmentId, systemName);
 
         List<Connection> connections = yamlSystem.getConnections().stream().map(yamlConnection -> {
             Connection connection = new Connection();
@@ -529,38 +611,6 @@ public class GitService {
                 .collect(Collectors.toList());
     }
 
-    private YamlConfiguration getYamlConfiguration(String endpoint) throws Exception {
-        RepositoryFile file = getGitFile(endpoint);
-        File tempFile = performRepositoryFile(file);
-        return enfConfObjectMapper.readValue(tempFile, YamlConfiguration.class);
-    }
-
-    private File performRepositoryFile(RepositoryFile file) throws IOException {
-        byte[] decodedBytes = Base64.getDecoder().decode(file.getContent());
-
-        File tempFile = File.createTempFile(file.getFileName(), null);
-        FileOutputStream fos = new FileOutputStream(tempFile);
-        fos.write(decodedBytes);
-        fos.close();
-        return tempFile;
-    }
-
-    private RepositoryFile getGitFile(String gitEndpoint) throws Exception {
-        RepositoryFile file;
-        try (GitLabApi gitLabApi = new GitLabApi(getBaseUrl(), gitToken)) {
-            file = gitLabApi.getRepositoryFileApi().getFile(getProjectPath(), gitEndpoint, ref);
-        } catch (GitLabApiException e) {
-            if ("Not Found".equals(e.getReason()) && e.getHttpStatus() == 404) {
-                log.error("Git file not found by - {}.", gitEndpoint, e);
-            }
-            throw e;
-        } catch (Exception e) {
-            log.error("Error occurred while getting file from git.", e);
-            throw e;
-        }
-        return file;
-    }
-
     private String gitEndpointToGetDeploymentParametersFile(String clusterName, String environmentName) {
         String fullPath = buildPath(deploymentPath, ncAppPath, deploymentParametersPath);
         return buildPath("environments", clusterName, environmentName, fullPath);
@@ -619,231 +669,217 @@ public class GitService {
     }
 
     /**
-     * Get all files from specified directory in Git repository.
+     * Get file content as string, decrypting it if it is SOPS-encrypted.
      *
-     * @param directoryPath path to directory in repository (e.g., "environments" or "environments/cluster1")
-     * @return list of files in directory
-     * @throws Exception if error occurred while getting files
+     * @param filePath path to file in repository
+     * @return file content as string
+     * @throws Exception if error occurred while getting file
      */
-    public List<RepositoryFile> getAllFilesFromDirectory(String directoryPath) throws Exception {
-        List<RepositoryFile> files = new ArrayList<>();
-        try (GitLabApi gitLabApi = new GitLabApi(getBaseUrl(), gitToken)) {
-            List<TreeItem> treeItems = gitLabApi.getRepositoryApi().getTree(getProjectPath(), directoryPath, ref, true);
+    public String getFileContentAsString(String filePath) throws Exception {
+        return getFileContentAsString(filePath, null);
+    }
 
-            for (TreeItem item : treeItems) {
-                if (TreeItem.Type.BLOB.equals(item.getType())) { // blob = file, tree = directory
-                    try {
-                        RepositoryFile file = gitLabApi.getRepositoryFileApi()
-                                .getFile(getProjectPath(), item.getPath(), ref);
-                        files.add(file);
-                    } catch (GitLabApiException e) {
-                        log.warn("Failed to get file: {}", item.getPath(), e);
-                    }
+    private String getFileContentAsString(String filePath, String revision) throws Exception {
+        return decryptIfNeeded(filePath, getEnvironmentsSource().getFileContent(filePath, revision));
+    }
+
+    private String decryptIfNeeded(String filePath, byte[] bytes) {
+        String content = new String(bytes, StandardCharsets.UTF_8);
+        if (decryptor.isPresent() && decryptor.get() instanceof SopsDecryptor) {
+            SopsDecryptor sopsDecryptor = (SopsDecryptor) decryptor.get();
+            if (sopsDecryptor.isEncrypted(content)) {
+                log.debug("File {} is encrypted, attempting to decrypt", filePath);
+                try {
+                    return sopsDecryptor.decryptContent(content);
+                } catch (Exception exception) {
+                    log.warn(String.format("Restoring original content due to file %s decryption failure",
+                            filePath), exception);
                 }
             }
-        } catch (GitLabApiException e) {
-            log.error("Error getting files from directory: {}", directoryPath, e);
-            throw e;
-        } catch (Exception e) {
-            log.error("Error working with Git API", e);
-            throw e;
         }
-        return files;
+        return content;
     }
 
     /**
-     * Get all files with recursive directory traversal.
-     *
-     * @param directoryPath path to directory in repository
-     * @return list of all files in directory and subdirectories
-     * @throws Exception if error occurred while getting files
+     * Get file content by its tree SHA. Content is downloaded at the given revision only if the file is new
+     * or its SHA has changed since the previous load.
      */
-    public List<RepositoryFile> getAllFilesRecursively(String directoryPath) throws Exception {
-        List<RepositoryFile> allFiles = new ArrayList<>();
-        try (GitLabApi gitLabApi = new GitLabApi(getBaseUrl(), gitToken)) {
-            List<TreeItem> treeItems = gitLabApi.getRepositoryApi().getTree(getProjectPath(), directoryPath, ref, true);
+    private String getFileContent(String filePath, String sha, String revision) throws Exception {
+        RepositoryFileContent cached = fileContents.get(filePath);
+        if (cached != null && cached.sha.equals(sha)) {
+            return cached.content;
+        }
+        String content = getFileContentAsString(filePath, revision);
+        fileContents.put(filePath, new RepositoryFileContent(sha, content));
+        return content;
+    }
 
-            for (TreeItem item : treeItems) {
-                if (TreeItem.Type.BLOB.equals(item.getType())) {
-                    try {
-                        RepositoryFile file = gitLabApi.getRepositoryFileApi()
-                                .getFile(getProjectPath(), item.getPath(), ref);
-                        allFiles.add(file);
-                    } catch (GitLabApiException e) {
-                        log.warn("Failed to get file: {}", item.getPath(), e);
-                    }
-                }
-            }
-        } catch (GitLabApiException e) {
-            log.error("Error getting files from directory: {}", directoryPath, e);
-            throw e;
-        } catch (Exception e) {
-            log.error("Error working with Git API", e);
-            throw e;
+    private synchronized EnvironmentsSource getEnvironmentsSource() {
+        if (environmentsSource == null) {
+            environmentsSource = localPath == null || localPath.isEmpty()
+                    ? new GitLabEnvironmentsSource(getBaseUrl(), gitToken, getProjectPath(), ref)
+                    : new LocalEnvironmentsSource(Paths.get(localPath));
+        }
+        return environmentsSource;
+    }
+
+    private synchronized ExecutorService getReconcileExecutor() {
+        if (reconcileExecutor == null) {
+            reconcileExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("environments-reconcile-%d")
+                    .build());
+        }
+        return reconcileExecutor;
+    }
+
+    private synchronized ExecutorService getLoadExecutor() {
+        if (loadExecutor == null) {
+            loadExecutor = Executors.newFixedThreadPool(Math.max(1, loadPoolSize), new ThreadFactoryBuilder()
+                    .setNameFormat("environments-load-%d")
+                    .build());
         }
-        return allFiles;
+        return loadExecutor;
     }
 
     /**
-     * Get list of all files in repository (names and paths only).
-     *
-     * @param directoryPath path to directory (empty string for repository root)
-     * @return list of file tree elements
-     * @throws Exception if error occurred while getting file list
+     * Releases git client and loader threads.
      */
-    private List<TreeItem> getFileTree(String directoryPath) throws Exception {
-        try (GitLabApi gitLabApi = new GitLabApi(getBaseUrl(), gitToken)) {
-            return gitLabApi.getRepositoryApi().getTree(getProjectPath(), directoryPath, ref, true);
-        } catch (GitLabApiException e) {
-            log.error("Error getting file tree: {}", directoryPath, e);
-            throw e;
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (reconcileExecutor != null) {
+            reconcileExecutor.shutdownNow();
+        }
+        if (loadExecutor != null) {
+            loadExecutor.shutdownNow();
+        }
+        if (environmentsSource != null) {
+            environmentsSource.close();
+        }
+    }
+
+    public List<LazyEnvironment> getLazyEnvironmentsByFileTree(UUID projectId) {
+        try {
+            return toLazyEnvironments(projectId, loadEnvironments(projectId, getRevision()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while loading environments for project {}", projectId);
+            return new ArrayList<>();
         } catch (Exception e) {
-            log.error("Error working with Git API", e);
-            throw e;
+            log.error("Failed to get lazy environments by file tree for project {}: {}", projectId, e.getMessage());
+            return new ArrayList<>();
         }
     }
 
     /**
-     * Get file content as string.
+     * Loads environments of the project from the repository tree and puts them to the cache.
+     * The tree is listed with one recursive request, deployment parameters files of all environments
+     * are downloaded and parsed concurrently. Files which SHA has not changed since the previous load
+     * are taken from memory. Tree and files are read at the same revision.
      *
-     * @param filePath path to file in repository
-     * @return file content as string
-     * @throws Exception if error occurred while getting file
+     * @param projectId project id
+     * @param revision commit SHA to load, null for the configured ref
+     * @return list of loaded environments
      */
-    public String getFileContentAsString(String filePath) throws Exception {
-        RepositoryFile file = getGitFile(filePath);
-        byte[] decodedBytes = Base64.getDecoder().decode(file.getContent());
+    private List<YamlEnvironment> loadEnvironments(UUID projectId, String revision) throws Exception {
+        Map<String, String> fileTree = getEnvironmentsSource().getFileTree(ENVIRONMENTS_PATH, revision);
+        String fullDeploymentPath = buildPath(deploymentPath, ncAppPath, deploymentParametersPath);
+        Set<String> envPathsWithEffectiveSet = new HashSet<>();
+        List<String> deploymentParamsPaths = new ArrayList<>();
+        for (String filePath : fileTree.keySet()) {
+            String[] segments = filePath.split("/", 4);
+            if (segments.length < 4 || EXCLUSIONS.contains(segments[1]) || EXCLUSIONS.contains(segments[2])) {
+                continue;
+            }
+            if (segments[3].startsWith(EFFECTIVE_SET + "/")) {
+                envPathsWithEffectiveSet.add(buildPath(ENVIRONMENTS_PATH, segments[1], segments[2]));
+            }
+            if (segments[3].equals(fullDeploymentPath)) {
+                deploymentParamsPaths.add(filePath);
+            }
+        }
+        fileContents.keySet().retainAll(fileTree.keySet());
+        Collections.sort(deploymentParamsPaths);
+
+        Map<String, Future<YamlEnvironment>> loadings = new LinkedHashMap<>();
+        Set<UUID> environmentIds = new HashSet<>();
+        for (String deploymentParamsPath : deploymentParamsPaths) {
+            String[] segments = deploymentParamsPath.split("/", 4);
+            if (!envPathsWithEffectiveSet.contains(buildPath(ENVIRONMENTS_PATH, segments[1], segments[2]))) {
+                continue;
+            }
+            environmentIds.add(new YamlEnvironment(segments[1] + "." + segments[2]).getId());
+            String sha = fileTree.get(deploymentParamsPath);
+            loadings.put(segments[1] + "/" + segments[2], getLoadExecutor().submit(() ->
+                    loadEnvironment(projectId, segments[1], segments[2], deploymentParamsPath, sha, revision)));
+        }
 
-        if (decryptor.isPresent() && decryptor.get() instanceof SopsDecryptor) {
-            File tempFile = File.createTempFile("git_file_", ".yaml");
+        List<YamlEnvironment> environments = new ArrayList<>();
+        for (Map.Entry<String, Future<YamlEnvironment>> loading : loadings.entrySet()) {
             try {
-                try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-                    fos.write(decodedBytes);
-                }
-
-                // Check if file is encrypted and decrypt if needed
-                SopsDecryptor sopsDecryptor = (SopsDecryptor) decryptor.get();
-                if (sopsDecryptor.isEncrypted(tempFile.toPath())) {
-                    log.debug("File {} is encrypted, attempting to decrypt", filePath);
-                    try {
-                        return sopsDecryptor.decrypt(tempFile.toPath());
-                    } catch (Exception exception) {
-                        log.warn(String.format("Restoring original content due to file %s decryption failure",
-                                filePath), exception);
-                    }
-                }
-            } finally {
-                // Clean up temporary file
-                if (tempFile.exists() && !tempFile.delete()) {
-                    log.warn("Failed to delete temporary file: {}", tempFile.getAbsolutePath());
+                YamlEnvironment yamlEnvironment = loading.getValue().get();
+                if (yamlEnvironment != null) {
+                    cacheService.put(yamlEnvironment);
+                    environments.add(yamlEnvironment);
                 }
+            } catch (ExecutionException e) {
+                log.warn("Failed to process environment {}: {}", loading.getKey(), e.getCause().getMessage());
             }
         }
-
-        return new String(decodedBytes, StandardCharsets.UTF_8);
+        evictRemovedEnvironments(projectId, environmentIds);
+        return environments;
     }
 
     /**
-     * Get all directory names in specified directory, excluding EXCLUSIONS.
-     *
-     * @param directoryPath path to directory in repository
-     * @return list of directory names
-     * @throws Exception if error occurred while getting directories
+     * Removes cached environments of the project which are no longer in the repository. Environments
+     * which are in the repository but failed to load are kept as they were.
      */
-    public List<String> getDirectoryNames(String directoryPath) throws Exception {
-        List<String> directoryNames = new ArrayList<>();
-        try (GitLabApi gitLabApi = new GitLabApi(getBaseUrl(), gitToken)) {
-            List<TreeItem> treeItems = gitLabApi.getRepositoryApi()
-                    .getTree(getProjectPath(), directoryPath, ref, false);
-
-            for (TreeItem item : treeItems) {
-                if (TreeItem.Type.TREE.equals(item.getType())) {
-                    String dirName = item.getName();
-                    if (!EXCLUSIONS.contains(dirName)) {
-                        directoryNames.add(dirName);
-                    }
-                }
-            }
-        } catch (GitLabApiException gitLabApiException) {
-            log.error(String.format("Error getting directories from: %s", directoryPath), gitLabApiException);
-            throw gitLabApiException;
-        } catch (Exception exception) {
-            log.error("Error working with Git API", exception);
-            throw exception;
+    private void evictRemovedEnvironments(UUID projectId, Set<UUID> environmentIds) {
+        List<UUID> removedIds = cacheService.getEnvironments(projectId).stream()
+                .map(YamlEnvironment::getId)
+                .filter(environmentId -> !environmentIds.contains(environmentId))
+                .collect(Collectors.toList());
+        removedIds.forEach(cacheService::remove);
+        if (!removedIds.isEmpty()) {
+            log.info("Removed {} environments of project {} which are not found in the repository: {}",
+                    removedIds.size(), projectId, removedIds);
         }
-        return directoryNames;
     }
 
-    public List<LazyEnvironment> getLazyEnvironmentsByFileTree(UUID projectId) {
+    private List<LazyEnvironment> toLazyEnvironments(UUID projectId, List<YamlEnvironment> environments) {
+        return environments.stream()
+                .map(yamlEnvironment -> LazyEnvironment.builder()
+                        .id(yamlEnvironment.getId())
+                        .name(yamlEnvironment.getName())
+                        .clusterName(yamlEnvironment.getClusterName())
+                        .projectId(projectId)
+                        .systems(yamlEnvironment.getYamlSystems().stream()
+                                .map(system -> UUID.nameUUIDFromBytes(String.format("%s/%s",
+                                        yamlEnvironment.getName(), system.getName()).getBytes()).toString())
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private YamlEnvironment loadEnvironment(UUID projectId, String envClusterName, String envName,
+                                            String deploymentParamsPath, String sha, String revision) {
         try {
-            String environmentsPath = "environments/";
-            List<String> envClusterNames = getDirectoryNames(environmentsPath);
-            List<LazyEnvironment> lazyEnvironments = new ArrayList<>();
-            
-            for (String envClusterName : envClusterNames) {
-                try {
-                    String clusterPath = buildPath(environmentsPath, envClusterName);
-                    List<String> envNames = getDirectoryNames(clusterPath);
-                    
-                    for (String envName : envNames) {
-                        try {
-                            String envPath = buildPath(clusterPath, envName);
-                            List<String> envSubDirs = getDirectoryNames(envPath);
-                            boolean hasEffectiveSet = envSubDirs.contains("effective-set");
-                            
-                            if (hasEffectiveSet) {
-                                String fullDeploymentPath = buildPath(deploymentPath, ncAppPath,
-                                        deploymentParametersPath);
-                                String deploymentParamsPath = buildPath(envPath, fullDeploymentPath);
-
-                                try {
-                                    String paramsContent = getFileContentAsString(deploymentParamsPath);
-                                    Map<String, Object> deploymentParams =
-                                            enfConfObjectMapper.readValue(paramsContent, Map.class);
-                                    List<YamlSystem> yamlSystems = parseSystemsFromDeploymentParams(deploymentParams);
-                                    
-                                    if (!yamlSystems.isEmpty()) {
-                                        String fullEnvName = envClusterName + "." + envName;
-                                        LazyEnvironment lazyEnvironment = LazyEnvironment.builder()
-                                                .id(UUID.nameUUIDFromBytes(fullEnvName.getBytes()))
-                                                .name(fullEnvName)
-                                                .clusterName(envClusterName)
-                                                .projectId(projectId)
-                                                .systems(yamlSystems.stream()
-                                                        .map(system -> UUID.nameUUIDFromBytes(
-                                                                String.format("%s/%s", fullEnvName,
-                                                                        system.getName()).getBytes()).toString())
-                                                        .collect(Collectors.toList()))
-                                                .build();
-                                        lazyEnvironments.add(lazyEnvironment);
-                                        
-                                        YamlEnvironment yamlEnvironment = new YamlEnvironment(fullEnvName);
-                                        yamlEnvironment.setClusterName(envClusterName);
-                                        yamlEnvironment.setProjectId(projectId);
-                                        yamlEnvironment.setParameters(deploymentParams);
-                                        yamlEnvironment.setYamlSystems(yamlSystems);
-                                        cacheService.put(yamlEnvironment);
-                                    }
-                                    
-                                } catch (Exception e) {
-                                    log.warn("Failed to parse deployment parameters for environment {}/{}: {}", 
-                                            envClusterName, envName, e.getMessage());
-                                }
-                            }
-                        } catch (Exception e) {
-                            log.warn("Failed to process environment {}/{}: {}", 
-                                    envClusterName, envName, e.getMessage());
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to process cluster {}: {}", envClusterName, e.getMessage());
-                }
+            String paramsContent = getFileContent(deploymentParamsPath, sha, revision);
+            Map<String, Object> deploymentParams = enfConfObjectMapper.readValue(paramsContent, Map.class);
+            List<YamlSystem> yamlSystems = parseSystemsFromDeploymentParams(deploymentParams);
+            if (yamlSystems.isEmpty()) {
+                return null;
             }
-            
-            return lazyEnvironments;
+            String fullEnvName = envClusterName + "." + envName;
+            YamlEnvironment yamlEnvironment = new YamlEnvironment(fullEnvName);
+            yamlEnvironment.setClusterName(envClusterName);
+            yamlEnvironment.setProjectId(projectId);
+            yamlEnvironment.setParameters(deploymentParams);
+            yamlEnvironment.setYamlSystems(yamlSystems);
+            return yamlEnvironment;
         } catch (Exception e) {
-            log.error("Failed to get lazy environments by file tree for project {}: {}", projectId, e.getMessage());
-            return new ArrayList<>();
+            log.warn("Failed to parse deployment parameters for environment {}/{}: {}",
+                    envClusterName, envName, e.getMessage());
+            return null;
         }
     }
 
@@ -932,21 +968,17 @@ public class GitService {
             if (systemMap.containsKey(systemName)) {
                 YamlSystem existingSystem = systemMap.get(systemName);
                 List<YamlConnection> mergedConnections = new ArrayList<>(existingSystem.getConnections());
-                
+                Map<String, YamlConnection> connectionsByName = new HashMap<>();
+                mergedConnections.forEach(existing -> connectionsByName.putIfAbsent(existing.getName(), existing));
+
                 for (YamlConnection newConnection : newSystem.getConnections()) {
-                    boolean exists = mergedConnections.stream()
-                            .anyMatch(existing -> existing.getName().equals(newConnection.getName()));
-                    if (!exists) {
+                    YamlConnection existing = connectionsByName.putIfAbsent(newConnection.getName(), newConnection);
+                    if (existing == null) {
                         mergedConnections.add(newConnection);
                     } else {
-                        mergedConnections.stream()
-                                .filter(existing -> existing.getName().equals(newConnection.getName()))
-                                .findFirst()
-                                .ifPresent(existing -> {
-                                    Map<String, String> mergedParams = new HashMap<>(existing.getParameters());
-                                    mergedParams.putAll(newConnection.getParameters());
-                                    existing.setParameters(mergedParams);
-                                });
+                        Map<String, String> mergedParams = new HashMap<>(existing.getParameters());
+                        mergedParams.putAll(newConnection.getParameters());
+                        existing.setParameters(mergedParams);
                     }
                 }
                 existingSystem.setConnections(mergedConnections);
@@ -1012,4 +1044,14 @@ public class GitService {
         
         return result.toString().replace('\\', '/');
     }
+
+    private static class RepositoryFileContent {
+        private final String sha;
+        private final String content;
+
+        RepositoryFileContent(String sha, String content) {
+            this.sha = sha;
+            this.content = content;
+        }
+    }
 }
@@ -19,11 +19,17 @@ package org.qubership.atp.tdm.env.configurator.service.impl;
 import static java.lang.String.format;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 
 import org.qubership.atp.auth.springbootstarter.exceptions.AtpException;
+import org.qubership.atp.tdm.env.configurator.configuration.RefreshingCache;
 import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvConvertFullProjectByIdException;
 import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvConvertFullSystemByNameException;
 import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvConvertFullSystemBySysIdException;
@@ -46,6 +52,7 @@ import org.qubership.atp.tdm.env.configurator.service.GitService;
 import org.qubership.atp.tdm.env.configurator.utils.CacheNames;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -58,6 +65,34 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class EnvironmentsServiceImpl implements EnvironmentsService {
 
+    private static final List<String> CACHES = Arrays.asList(
+            CacheNames.TDM_FULL_PROJECT_CACHE,
+            CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE,
+            CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE,
+            CacheNames.TDM_LAZY_ENVIRONMENT_BY_NAME_CACHE,
+            CacheNames.TDM_ENV_NAME_BY_ENVIRONMENT_ID_CACHE,
+            CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE,
+            CacheNames.TDM_LAZY_SYSTEM_CACHE,
+            CacheNames.TDM_LAZY_SYSTEM_BY_NAME_CACHE,
+            CacheNames.TDM_LAZY_SYSTEMS_CACHE,
+            CacheNames.TDM_LAZY_SYSTEMS_BY_PROJECT_CACHE,
+            CacheNames.TDM_ALL_SHORT_LAZY_SYSTEMS_BY_PROJECT_CACHE,
+            CacheNames.TDM_LAZY_PROJECT_CACHE,
+            CacheNames.TDM_LAZY_PROJECT_BY_NAME_CACHE);
+    private static final List<String> PROJECT_ENVIRONMENTS_CACHES = Arrays.asList(
+            CacheNames.TDM_FULL_PROJECT_CACHE,
+            CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE,
+            CacheNames.TDM_LAZY_SYSTEMS_BY_PROJECT_CACHE,
+            CacheNames.TDM_ALL_SHORT_LAZY_SYSTEMS_BY_PROJECT_CACHE);
+    private static final List<String> PROJECT_SYSTEMS_CACHES = Arrays.asList(
+            CacheNames.TDM_FULL_PROJECT_CACHE,
+            CacheNames.TDM_LAZY_SYSTEMS_BY_PROJECT_CACHE,
+            CacheNames.TDM_ALL_SHORT_LAZY_SYSTEMS_BY_PROJECT_CACHE);
+    private static final List<String> PROJECTS_CACHES = Collections.singletonList(
+            CacheNames.TDM_LAZY_PROJECTS_CACHE);
+    private static final List<String> PROJECT_BY_NAME_CACHES = Collections.singletonList(
+            CacheNames.TDM_LAZY_PROJECT_BY_NAME_CACHE);
+
     private final GitService gitService;
     private final CacheManager cacheManager;
 
@@ -66,7 +101,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get full project by ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_FULL_PROJECT_CACHE)
+    @Cacheable(value = CacheNames.TDM_FULL_PROJECT_CACHE, sync = true)
     public Project getFullProject(@Nonnull UUID projectId) {
         log.info("Loading project by id: [{}]", projectId);
         Project project;
@@ -84,7 +119,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy project by ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_PROJECT_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_PROJECT_CACHE, sync = true)
     public LazyProject getLazyProjectById(@Nonnull UUID projectId) {
         log.info("Loading lazy project by Id.");
         LazyProject lazyProject = gitService.getLazyProjectById(projectId);
@@ -96,7 +131,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy project by name.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_PROJECT_BY_NAME_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_PROJECT_BY_NAME_CACHE, sync = true)
     public LazyProject getLazyProjectByName(@Nonnull String projectName) {
         log.info("Loading lazy project by name: {}.", projectName);
         LazyProject lazyProject = gitService.getLazyProjectByName(projectName);
@@ -108,7 +143,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy projects.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_PROJECTS_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_PROJECTS_CACHE, sync = true)
     public List<LazyProject> getLazyProjects() {
         log.info("Loading lazy projects.");
         List<LazyProject> lazyProjects;
@@ -127,7 +162,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy environment by ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE, sync = true)
     public LazyEnvironment getLazyEnvironment(@Nonnull UUID environmentId) {
         log.info("Loading lazy environment by environment id: [{}]", environmentId);
         LazyEnvironment environment;
@@ -146,7 +181,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get env name by environment ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_ENV_NAME_BY_ENVIRONMENT_ID_CACHE)
+    @Cacheable(value = CacheNames.TDM_ENV_NAME_BY_ENVIRONMENT_ID_CACHE, sync = true)
     public String getEnvNameById(@Nonnull UUID environmentId) {
         log.info("Loading environment name by environment id: [{}]", environmentId);
         return gitService.getEnvNameById(environmentId);
@@ -156,7 +191,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy environments by project ID - with systems.
      */
     @Override
-//    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE, sync = true)
     public List<LazyEnvironment> getLazyEnvironments(@Nonnull UUID projectId) {
         log.info("Loading lazy environments by project id: [{}]", projectId);
         List<LazyEnvironment> lazyEnvironments;
@@ -192,6 +227,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy environments by project ID - refresh without cache.
      */
     @Override
+    @CachePut(value = CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE, key = "#projectId")
     public List<LazyEnvironment> getLazyEnvironmentsRefresh(@Nonnull UUID projectId) {
         log.info("Refreshing lazy environments by project id: [{}]", projectId);
         List<LazyEnvironment> lazyEnvironments = gitService.getLazyEnvironmentsRefresh(projectId);
@@ -203,7 +239,8 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy environment by project and environment name.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENT_BY_NAME_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENT_BY_NAME_CACHE, key = "{#projectId, #environmentName}",
+            sync = true)
     public LazyEnvironment getLazyEnvironmentByName(@Nonnull UUID projectId, @Nonnull String environmentName) {
         LazyEnvironment lazyEnvironment;
         try {
@@ -220,7 +257,8 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get connections by system ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE)
+    @Cacheable(value = CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE, key = "{#environmentId, #systemId}",
+            sync = true)
     public List<Connection> getConnectionsSystemById(UUID environmentId, UUID systemId) {
         log.info("Loading connections by system ID: {}", systemId);
         List<Connection> connections;
@@ -238,7 +276,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy system by ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEM_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEM_CACHE, key = "{#environmentId, #systemId}", sync = true)
     public LazySystem getLazySystemById(@Nonnull UUID environmentId, @Nonnull UUID systemId) {
         log.info("Loading lazy system by system ID: {}", systemId);
         LazySystem lazySystem;
@@ -256,7 +294,8 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy system by project ID, environment ID, name.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEM_BY_NAME_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEM_BY_NAME_CACHE, key = "{#projectId, #environmentId, #systemName}",
+            sync = true)
     public LazySystem getLazySystemByName(@Nonnull UUID projectId, @Nonnull UUID environmentId,
                                           @Nonnull String systemName) {
         log.info("Loading lazy systems for project id: [{}] by environment id: [{}] and systemName: [{}]", projectId,
@@ -278,7 +317,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * @return list of LazySystem's
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEMS_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEMS_CACHE, sync = true)
     public List<LazySystem> getLazySystems(@Nonnull UUID environmentId) {
         log.info("Loading lazy systems by env ID: [{}].", environmentId);
         List<LazySystem> systems;
@@ -293,7 +332,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
     }
 
     @Override
-    @Cacheable(value = CacheNames.TDM_ALL_SHORT_LAZY_SYSTEMS_BY_PROJECT_CACHE)
+    @Cacheable(value = CacheNames.TDM_ALL_SHORT_LAZY_SYSTEMS_BY_PROJECT_CACHE, sync = true)
     public List<LazySystem> getLazySystemsByProjectWithEnvIds(@Nonnull UUID projectId) {
         log.info("Loading lazy systems by project ID: [{}]", projectId);
         List<LazySystem> lazySystems;
@@ -313,7 +352,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * @return list of LazySystem's
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEMS_BY_PROJECT_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEMS_BY_PROJECT_CACHE, sync = true)
     public List<LazySystem> getLazySystemsByProjectIdWithConnections(@Nonnull UUID projectId) {
         log.info("Loading lazy systems by project ID: [{}]", projectId);
         List<LazySystem> systems;
@@ -347,4 +386,84 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
         log.info("Environment caches have been cleared.");
         return true;
     }
+
+    @Override
+    public void evictEnvironment(@Nonnull UUID projectId, @Nonnull UUID environmentId) {
+        log.info("Evicting caches of environment [{}] of project [{}]", environmentId, projectId);
+        try {
+            gitService.refreshEnvironment(projectId, environmentId);
+        } catch (Exception e) {
+            log.warn("Failed to reload environment [{}] of project [{}]", environmentId, projectId, e);
+        }
+        int evicted = evictIf(PROJECT_ENVIRONMENTS_CACHES, (key, value) -> projectId.equals(key))
+                + evictIf(CACHES, (key, value) -> refersTo(key, environmentId) || refersTo(value, environmentId)
+                || value == null && refersTo(key, projectId));
+        log.info("Evicted {} cached entries of environment [{}]", evicted, environmentId);
+    }
+
+    @Override
+    public void evictSystem(@Nonnull UUID projectId, @Nonnull UUID systemId) {
+        log.info("Evicting caches of system [{}] of project [{}]", systemId, projectId);
+        List<UUID> environmentIds = new ArrayList<>();
+        try {
+            gitService.refreshProject(projectId);
+            gitService.getLazySystemsByProjectWithEnvIds(projectId).stream()
+                    .filter(system -> systemId.equals(system.getId()) && system.getEnvironmentIds() != null)
+                    .forEach(system -> environmentIds.addAll(system.getEnvironmentIds()));
+        } catch (Exception e) {
+            log.warn("Failed to reload system [{}] of project [{}]", systemId, projectId, e);
+        }
+        int evicted = evictIf(PROJECT_SYSTEMS_CACHES, (key, value) -> projectId.equals(key))
+                + evictIf(CACHES, (key, value) -> refersTo(key, systemId) || refersTo(value, systemId)
+                || environmentIds.contains(key) || value == null && refersTo(key, projectId));
+        log.info("Evicted {} cached entries of system [{}]", evicted, systemId);
+    }
+
+    @Override
+    public void evictProject(@Nonnull UUID projectId) {
+        log.info("Evicting caches of project [{}]", projectId);
+        int evicted = evictIf(PROJECTS_CACHES, (key, value) -> true)
+                + evictIf(PROJECT_BY_NAME_CACHES, (key, value) -> value == null)
+                + evictIf(CACHES, (key, value) -> projectId.equals(key) || refersTo(value, projectId));
+        log.info("Evicted {} cached entries of project [{}]", evicted, projectId);
+    }
+
+    private int evictIf(List<String> cacheNames, BiPredicate<Object, Object> condition) {
+        int evicted = 0;
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof RefreshingCache) {
+                evicted += ((RefreshingCache) cache).evictIf(condition);
+            } else if (Objects.nonNull(cache)) {
+                cache.clear();
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Checks whether cache key or value refers to the entity with the id. Composite keys are lists of
+     * method arguments.
+     */
+    private static boolean refersTo(Object keyOrValue, UUID id) {
+        if (keyOrValue instanceof UUID) {
+            return keyOrValue.equals(id);
+        } else if (keyOrValue instanceof Collection) {
+            return ((Collection<?>) keyOrValue).stream().anyMatch(item -> refersTo(item, id));
+        } else if (keyOrValue instanceof LazyEnvironment) {
+            LazyEnvironment environment = (LazyEnvironment) keyOrValue;
+            return id.equals(environment.getId()) || id.equals(environment.getProjectId())
+                    || environment.getSystems() != null && environment.getSystems().contains(id.toString());
+        } else if (keyOrValue instanceof LazySystem) {
+            LazySystem system = (LazySystem) keyOrValue;
+            return id.equals(system.getId()) || refersTo(system.getEnvironmentIds(), id);
+        } else if (keyOrValue instanceof Connection) {
+            return id.equals(((Connection) keyOrValue).getSystemId());
+        } else if (keyOrValue instanceof Project) {
+            return id.equals(((Project) keyOrValue).getId());
+        } else if (keyOrValue instanceof LazyProject) {
+            return id.equals(((LazyProject) keyOrValue).getId());
+        }
+        return false;
+    }
 }
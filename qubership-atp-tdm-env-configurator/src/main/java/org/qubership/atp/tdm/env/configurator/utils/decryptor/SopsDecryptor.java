@@ -23,14 +23,29 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
 import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvDecryptionException;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -39,6 +54,11 @@ import lombok.extern.slf4j.Slf4j;
  * <p>
  * This decryptor uses SOPS CLI to decrypt files that were encrypted with SOPS using age keys.
  * The private key must be provided during construction.
+ *
+ * <p>
+ * Content decrypted by {@link #decryptContent(String)} is cached by SHA-256 of the encrypted content,
+ * in memory and optionally on disk encrypted with a key derived from the age private key, so unchanged
+ * files are decrypted once. The number of concurrently running SOPS processes is bounded.
  */
 @Slf4j
 public class SopsDecryptor implements Decryptor {
@@ -46,6 +66,11 @@ public class SopsDecryptor implements Decryptor {
     private static final String SOPS_AGE_KEY_ENV = "SOPS_AGE_KEY";
     private static final String SOPS_COMMAND = "sops";
     private static final int DEFAULT_TIMEOUT_SECONDS = 60;
+    private static final int DEFAULT_CONCURRENCY = 4;
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+    private static final String CACHE_CIPHER = "AES/GCM/NoPadding";
+    private static final int CACHE_IV_LENGTH = 12;
+    private static final int CACHE_TAG_LENGTH = 128;
     
     // Pattern to match SOPS metadata: "sops:" at the beginning of a line (with optional whitespace)
     private static final Pattern SOPS_METADATA_PATTERN = Pattern.compile("(?m)^\\s*sops\\s*:");
@@ -54,6 +79,12 @@ public class SopsDecryptor implements Decryptor {
 
     private final String privateKey;
     private final int timeoutSeconds;
+    private final String sopsCommand;
+    private final Semaphore decryptPermits;
+    private final Cache<String, String> decryptedContents;
+    private final Path cacheDirectory;
+    private final SecretKeySpec cacheKey;
+    private final SecureRandom random = new SecureRandom();
 
     /**
      * Creates a new SopsDecryptor instance with the provided private key.
@@ -73,11 +104,37 @@ public class SopsDecryptor implements Decryptor {
      * @throws IllegalArgumentException if the private key is null or empty
      */
     public SopsDecryptor(String privateKey, int timeoutSeconds) {
+        this(privateKey, timeoutSeconds, DEFAULT_CONCURRENCY, DEFAULT_CACHE_SIZE, null, SOPS_COMMAND);
+    }
+
+    /**
+     * Creates a new SopsDecryptor instance with decryption concurrency and cache settings.
+     *
+     * @param privateKey the age private key for decryption
+     * @param concurrency maximum number of concurrently running SOPS processes
+     * @param cacheSize maximum number of decrypted contents kept in memory
+     * @param cacheDirectory directory to keep decrypted contents between restarts, null to keep them in memory only
+     * @throws IllegalArgumentException if the private key is null or empty
+     */
+    public SopsDecryptor(String privateKey, int concurrency, int cacheSize, Path cacheDirectory) {
+        this(privateKey, DEFAULT_TIMEOUT_SECONDS, concurrency, cacheSize, cacheDirectory, SOPS_COMMAND);
+    }
+
+    SopsDecryptor(String privateKey, int timeoutSeconds, int concurrency, int cacheSize, Path cacheDirectory,
+                  String sopsCommand) {
         if (privateKey == null || privateKey.trim().isEmpty()) {
             throw new IllegalArgumentException("Private key cannot be null or empty");
         }
         this.privateKey = privateKey.trim();
         this.timeoutSeconds = timeoutSeconds;
+        this.sopsCommand = sopsCommand;
+        this.decryptPermits = new Semaphore(Math.max(1, concurrency));
+        this.decryptedContents = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+        this.cacheDirectory = cacheDirectory;
+        this.cacheKey = new SecretKeySpec(sha256(("tdm-decryption-cache:" + this.privateKey)
+                .getBytes(StandardCharsets.UTF_8)), "AES");
     }
 
     /**
@@ -104,7 +161,12 @@ public class SopsDecryptor implements Decryptor {
         log.debug("Decrypting file: {}", encryptedFilePath);
 
         try {
-            return executeSopsDecrypt(encryptedFilePath);
+            decryptPermits.acquire();
+            try {
+                return executeSopsDecrypt(encryptedFilePath);
+            } finally {
+                decryptPermits.release();
+            }
         } catch (IOException | InterruptedException e) {
             log.error("Failed to decrypt file: " + encryptedFilePath, e);
             throw new TdmEnvDecryptionException("Failed to decrypt file: " + encryptedFilePath);
@@ -137,19 +199,10 @@ public class SopsDecryptor implements Decryptor {
         }
 
         try {
-            byte[] bytes = Files.readAllBytes(filePath);
-            String content = new String(bytes, StandardCharsets.UTF_8);
-            
-            boolean hasSopsMetadata = SOPS_METADATA_PATTERN.matcher(content).find();
-            boolean hasEncryptedValues = ENCRYPTED_VALUE_PATTERN.matcher(content).find();
-            
-            boolean isEncrypted = hasSopsMetadata || hasEncryptedValues;
-            
+            boolean isEncrypted = isEncrypted(new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
             if (isEncrypted) {
-                log.debug("File {} detected as SOPS-encrypted (metadata: {}, encrypted values: {})", 
-                        filePath, hasSopsMetadata, hasEncryptedValues);
+                log.debug("File {} detected as SOPS-encrypted", filePath);
             }
-            
             return isEncrypted;
         } catch (IOException e) {
             log.warn("Failed to check if file is encrypted: {}", filePath, e);
@@ -157,6 +210,152 @@ public class SopsDecryptor implements Decryptor {
         }
     }
 
+    /**
+     * Checks if already loaded file content is encrypted with SOPS, see {@link #isEncrypted(Path)}.
+     *
+     * @param content file content to check
+     * @return true if the content appears to be SOPS-encrypted, false otherwise
+     */
+    public boolean isEncrypted(String content) {
+        if (content == null) {
+            return false;
+        }
+        return SOPS_METADATA_PATTERN.matcher(content).find() || ENCRYPTED_VALUE_PATTERN.matcher(content).find();
+    }
+
+    /**
+     * Decrypts SOPS-encrypted content loaded into memory.
+     * Result is cached by the content hash, concurrent calls for the same content run SOPS once.
+     *
+     * @param encryptedContent encrypted file content
+     * @return decrypted content as a string
+     * @throws TdmEnvDecryptionException if decryption fails
+     */
+    public String decryptContent(String encryptedContent) throws TdmEnvDecryptionException {
+        String contentHash = HexFormat.of().formatHex(sha256(encryptedContent.getBytes(StandardCharsets.UTF_8)));
+        try {
+            return decryptedContents.get(contentHash, () -> {
+                String cached = readCachedContent(contentHash);
+                if (cached != null) {
+                    return cached;
+                }
+                String decrypted = decryptWithTempFile(encryptedContent);
+                writeCachedContent(contentHash, decrypted);
+                return decrypted;
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof TdmEnvDecryptionException) {
+                throw (TdmEnvDecryptionException) e.getCause();
+            }
+            log.error("Failed to decrypt content", e.getCause());
+            throw new TdmEnvDecryptionException("Failed to decrypt content: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * SOPS CLI reads its input from a file, so the content is written to a temporary file
+     * which is removed right after decryption.
+     */
+    private String decryptWithTempFile(String encryptedContent) throws TdmEnvDecryptionException {
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("sops_", ".yaml");
+        } catch (IOException e) {
+            log.error("Failed to create temporary file for decryption", e);
+            throw new TdmEnvDecryptionException("Failed to create temporary file for decryption");
+        }
+        try {
+            Files.write(tempFile, encryptedContent.getBytes(StandardCharsets.UTF_8));
+            return decrypt(tempFile);
+        } catch (IOException e) {
+            log.error("Failed to write temporary file for decryption: " + tempFile, e);
+            throw new TdmEnvDecryptionException("Failed to write temporary file for decryption: " + tempFile);
+        } finally {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                log.warn("Failed to delete temporary file: {}", tempFile, e);
+            }
+        }
+    }
+
+    private String readCachedContent(String contentHash) {
+        if (cacheDirectory == null) {
+            return null;
+        }
+        Path cachedFile = cacheDirectory.resolve(contentHash);
+        if (!Files.isRegularFile(cachedFile)) {
+            return null;
+        }
+        try {
+            return new String(decryptCached(Files.readAllBytes(cachedFile)), StandardCharsets.UTF_8);
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("Decryption cache file {} cannot be read and will be replaced", cachedFile, e);
+            return null;
+        }
+    }
+
+    private void writeCachedContent(String contentHash, String decryptedContent) {
+        if (cacheDirectory == null) {
+            return;
+        }
+        try {
+            byte[] bytes = encryptCached(decryptedContent.getBytes(StandardCharsets.UTF_8));
+            Files.createDirectories(cacheDirectory);
+            Path tempFile = Files.createTempFile(cacheDirectory, contentHash, ".tmp");
+            Files.write(tempFile, bytes);
+            Files.move(tempFile, cacheDirectory.resolve(contentHash), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("Failed to write decryption cache file for content {}", contentHash, e);
+        }
+    }
+
+    /**
+     * Encrypts decrypted content which is kept outside of the repository with AES-GCM
+     * under a key derived from the age private key.
+     *
+     * @param content decrypted content
+     * @return random IV followed by the encrypted content
+     * @throws GeneralSecurityException if content cannot be encrypted
+     */
+    public byte[] encryptCached(byte[] content) throws GeneralSecurityException {
+        byte[] iv = new byte[CACHE_IV_LENGTH];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(CACHE_CIPHER);
+        cipher.init(Cipher.ENCRYPT_MODE, cacheKey, new GCMParameterSpec(CACHE_TAG_LENGTH, iv));
+        byte[] encrypted = cipher.doFinal(content);
+        byte[] bytes = new byte[iv.length + encrypted.length];
+        System.arraycopy(iv, 0, bytes, 0, iv.length);
+        System.arraycopy(encrypted, 0, bytes, iv.length, encrypted.length);
+        return bytes;
+    }
+
+    /**
+     * Decrypts content encrypted by {@link #encryptCached(byte[])}.
+     *
+     * @param bytes encrypted content
+     * @return decrypted content
+     * @throws GeneralSecurityException if content is not encrypted with the current key
+     */
+    public byte[] decryptCached(byte[] bytes) throws GeneralSecurityException {
+        if (bytes.length < CACHE_IV_LENGTH) {
+            throw new GeneralSecurityException("Encrypted content is too short");
+        }
+        Cipher cipher = Cipher.getInstance(CACHE_CIPHER);
+        cipher.init(Cipher.DECRYPT_MODE, cacheKey, new GCMParameterSpec(CACHE_TAG_LENGTH, bytes, 0,
+                CACHE_IV_LENGTH));
+        return cipher.doFinal(bytes, CACHE_IV_LENGTH, bytes.length - CACHE_IV_LENGTH);
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
     /**
      * Executes SOPS decrypt command.
      *
@@ -169,7 +368,7 @@ public class SopsDecryptor implements Decryptor {
     private String executeSopsDecrypt(Path filePath)
             throws IOException, InterruptedException, TdmEnvDecryptionException {
         List<String> command = new ArrayList<>();
-        command.add(SOPS_COMMAND);
+        command.add(sopsCommand);
         command.add("--decrypt");
         command.add(filePath.toString());
 
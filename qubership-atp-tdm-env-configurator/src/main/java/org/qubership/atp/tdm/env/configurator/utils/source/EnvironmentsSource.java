@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.utils.source;
+
+import java.util.Map;
+
+/**
+ * Abstract source of the environments repository files.
+ * <p>
+ * Implementations provide access to the repository tree and file contents
+ * for different storages (GitLab API, local directory).
+ */
+public interface EnvironmentsSource extends AutoCloseable {
+
+    /**
+     * Lists all files under the directory recursively.
+     *
+     * @param directoryPath path to directory relative to the repository root
+     * @param revision commit SHA to read the tree at, null for the configured ref
+     * @return map of file path to git blob SHA
+     * @throws Exception if the tree cannot be read
+     */
+    Map<String, String> getFileTree(String directoryPath, String revision) throws Exception;
+
+    /**
+     * Reads file content.
+     *
+     * @param filePath path to file relative to the repository root
+     * @param revision commit SHA to read the file at, null for the configured ref
+     * @return raw file content
+     * @throws Exception if the file cannot be read
+     */
+    byte[] getFileContent(String filePath, String revision) throws Exception;
+
+    /**
+     * Returns revision (commit SHA) of the repository files are read from.
+     *
+     * @return revision or null if the source is not versioned
+     * @throws Exception if the revision cannot be read
+     */
+    String getRevision() throws Exception;
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.utils.source;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.gitlab4j.api.GitLabApi;
+import org.gitlab4j.api.GitLabApiException;
+import org.gitlab4j.api.models.TreeItem;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Environments source reading the repository through GitLab API.
+ * <p>
+ * A single {@link GitLabApi} client is shared by all requests, so the instance is safe
+ * to use from several loader threads. Tree and files of one load are read at the commit SHA
+ * the ref was resolved to, so a push in the middle of the load cannot mix two revisions.
+ */
+@Slf4j
+public class GitLabEnvironmentsSource implements EnvironmentsSource {
+
+    private final GitLabApi gitLabApi;
+    private final String projectPath;
+    private final String ref;
+
+    /**
+     * Creates GitLab source.
+     *
+     * @param baseUrl GitLab base url
+     * @param token access token
+     * @param projectPath project path in GitLab
+     * @param ref branch or tag reference
+     */
+    public GitLabEnvironmentsSource(String baseUrl, String token, String projectPath, String ref) {
+        this.gitLabApi = new GitLabApi(baseUrl, token);
+        this.projectPath = projectPath;
+        this.ref = ref;
+    }
+
+    @Override
+    public Map<String, String> getFileTree(String directoryPath, String revision) throws GitLabApiException {
+        Map<String, String> files = new HashMap<>();
+        try {
+            for (TreeItem item : gitLabApi.getRepositoryApi()
+                    .getTree(projectPath, directoryPath, refOrRevision(revision), true)) {
+                if (TreeItem.Type.BLOB.equals(item.getType())) {
+                    files.put(item.getPath(), item.getId());
+                }
+            }
+        } catch (GitLabApiException e) {
+            log.error("Error getting file tree: {}", directoryPath, e);
+            throw e;
+        }
+        return files;
+    }
+
+    @Override
+    public String getRevision() throws GitLabApiException {
+        return gitLabApi.getCommitsApi().getCommit(projectPath, ref).getId();
+    }
+
+    @Override
+    public byte[] getFileContent(String filePath, String revision) throws Exception {
+        try (InputStream content = gitLabApi.getRepositoryFileApi()
+                .getRawFile(projectPath, refOrRevision(revision), filePath)) {
+            return content.readAllBytes();
+        } catch (GitLabApiException e) {
+            if (e.getHttpStatus() == 404) {
+                log.error("Git file not found by - {}.", filePath, e);
+            }
+            throw e;
+        }
+    }
+
+    private String refOrRevision(String revision) {
+        return revision == null ? ref : revision;
+    }
+
+    @Override
+    public void close() {
+        gitLabApi.close();
+    }
+}
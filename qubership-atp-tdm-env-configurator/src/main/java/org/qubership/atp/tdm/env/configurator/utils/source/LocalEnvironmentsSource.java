@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.utils.source;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Environments source reading a checked out copy of the repository from the local file system.
+ * <p>
+ * File SHA is calculated the same way git calculates blob ids, so a working copy
+ * of the repository is seen exactly as the GitLab tree of the same revision.
+ * The directory is not versioned, so the requested revision is ignored.
+ */
+@Slf4j
+public class LocalEnvironmentsSource implements EnvironmentsSource {
+
+    private final Path root;
+
+    public LocalEnvironmentsSource(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        log.info("Environments are loaded from local directory: {}", this.root);
+    }
+
+    @Override
+    public Map<String, String> getFileTree(String directoryPath, String revision) throws IOException {
+        Map<String, String> files = new HashMap<>();
+        Path directory = resolve(directoryPath);
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                String relativePath = root.relativize(path).toString().replace('\\', '/');
+                files.put(relativePath, blobSha(Files.readAllBytes(path)));
+            }
+        }
+        return files;
+    }
+
+    @Override
+    public byte[] getFileContent(String filePath, String revision) throws IOException {
+        return Files.readAllBytes(resolve(filePath));
+    }
+
+    /**
+     * Local directory is not versioned, loaded files are always checked against their SHA.
+     */
+    @Override
+    public String getRevision() {
+        return null;
+    }
+
+    private Path resolve(String path) {
+        Path resolved = root.resolve(path.startsWith("/") ? path.substring(1) : path).normalize();
+        if (!resolved.startsWith(root)) {
+            throw new IllegalArgumentException("Path is outside of environments directory: " + path);
+        }
+        return resolved;
+    }
+
+    private static String blobSha(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(("blob " + content.length + "\0").getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 algorithm is not available", e);
+        }
+    }
+}
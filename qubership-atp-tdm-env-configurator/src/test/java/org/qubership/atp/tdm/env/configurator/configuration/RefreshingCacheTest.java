@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class RefreshingCacheTest {
+
+    private static final String KEY = "key";
+
+    @Test
+    void testGet_ConcurrentMisses_ShouldLoadOnce() throws Exception {
+        // Given
+        RefreshingCache cache = new RefreshingCache("test", 10, Duration.ofMinutes(5), Duration.ofMinutes(15),
+                Runnable::run);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> cache.get(KEY, () -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return loads.incrementAndGet();
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            // Then
+            for (Future<Integer> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGet_StaleEntry_ShouldReturnCurrentValueAndReloadInBackground() throws Exception {
+        // Given
+        RefreshingCache cache = new RefreshingCache("test", 10, Duration.ofMillis(1), Duration.ofMinutes(15),
+                Runnable::run);
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals(1, cache.get(KEY, loads::incrementAndGet));
+        Thread.sleep(10);
+
+        // When
+        Integer stale = cache.get(KEY, loads::incrementAndGet);
+
+        // Then
+        assertEquals(1, stale);
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.get(KEY).get());
+    }
+
+    @Test
+    void testRefresh_EntryEvictedWhileReloading_ShouldNotBeRestored() throws Exception {
+        // Given
+        List<Runnable> pending = new ArrayList<>();
+        RefreshingCache cache = new RefreshingCache("test", 10, Duration.ofMillis(1), Duration.ofMinutes(15),
+                pending::add);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(KEY, loads::incrementAndGet);
+        Thread.sleep(10);
+        cache.get(KEY);
+
+        // When
+        cache.evict(KEY);
+        pending.forEach(Runnable::run);
+
+        // Then
+        assertEquals(1, pending.size());
+        assertNull(cache.get(KEY));
+    }
+}
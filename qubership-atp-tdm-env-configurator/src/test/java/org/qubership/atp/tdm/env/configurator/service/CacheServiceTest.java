@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.env.configurator.model.envgen.ConnectionType;
+import org.qubership.atp.tdm.env.configurator.model.envgen.YamlConnection;
+import org.qubership.atp.tdm.env.configurator.model.envgen.YamlEnvironment;
+import org.qubership.atp.tdm.env.configurator.model.envgen.YamlSystem;
+
+class CacheServiceTest {
+
+    private final CacheService cacheService = new CacheService();
+
+    @Test
+    void put_environmentWithSystems_indexesSystemsAndConnections() {
+        UUID projectId = UUID.randomUUID();
+        YamlEnvironment environment = createEnvironment("cluster.env", projectId, "system-1", "system-2");
+        cacheService.put(environment);
+
+        YamlSystem system = environment.getSystemByName("system-1");
+        assertSame(system, cacheService.getSystem(system.getId()));
+        assertSame(system, cacheService.getSystem(environment.getId(), system.getId()));
+        assertSame(system, cacheService.getSystemByName(environment.getId(), "system-1"));
+        assertEquals(system.getConnections(), cacheService.getConnections(system.getId()));
+        assertEquals(Collections.singletonList(environment), new ArrayList<>(cacheService.getEnvironments(projectId)));
+        assertTrue(cacheService.getEnvironments(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void put_environmentAgain_reindexesRemovedSystemsAndMovedProject() {
+        UUID projectId = UUID.randomUUID();
+        UUID newProjectId = UUID.randomUUID();
+        YamlEnvironment environment = createEnvironment("cluster.env", projectId, "system-1", "system-2");
+        cacheService.put(environment);
+        UUID removedSystemId = environment.getSystemByName("system-2").getId();
+
+        YamlEnvironment reloaded = createEnvironment("cluster.env", newProjectId, "system-1");
+        cacheService.put(reloaded);
+
+        assertNull(cacheService.getSystem(removedSystemId));
+        assertNull(cacheService.getSystemByName(reloaded.getId(), "system-2"));
+        assertTrue(cacheService.getConnections(removedSystemId).isEmpty());
+        assertSame(reloaded.getSystemByName("system-1"), cacheService.getSystemByName(reloaded.getId(), "system-1"));
+        assertTrue(cacheService.getEnvironments(projectId).isEmpty());
+        assertEquals(1, cacheService.getEnvironments(newProjectId).size());
+        assertEquals(1, cacheService.getEnvironments().size());
+    }
+
+    @Test
+    void remove_cachedEnvironment_removesItsSystemsAndProjectIndex() {
+        UUID projectId = UUID.randomUUID();
+        YamlEnvironment environment = createEnvironment("cluster.env", projectId, "system-1");
+        cacheService.put(environment);
+        UUID systemId = environment.getSystemByName("system-1").getId();
+
+        cacheService.remove(environment.getId());
+
+        assertNull(cacheService.get(environment.getId()));
+        assertNull(cacheService.getSystem(systemId));
+        assertTrue(cacheService.getConnections(systemId).isEmpty());
+        assertTrue(cacheService.getEnvironments(projectId).isEmpty());
+    }
+
+    @Test
+    void put_environmentsOfProject_indexesProjectSystemsIncrementally() {
+        UUID projectId = UUID.randomUUID();
+        UUID otherProjectId = UUID.randomUUID();
+        YamlEnvironment first = createEnvironment("cluster.first", projectId, "system-1", "system-2");
+        YamlEnvironment second = createEnvironment("cluster.second", projectId, "system-1");
+        cacheService.put(first);
+        cacheService.put(second);
+        assertEquals(3, cacheService.getProjectSystems(projectId).size());
+
+        UUID removedSystemId = first.getSystemByName("system-2").getId();
+        cacheService.put(createEnvironment("cluster.first", projectId, "system-1"));
+        assertTrue(cacheService.getProjectSystems(projectId).stream()
+                .noneMatch(projectSystem -> projectSystem.getSystem().getId().equals(removedSystemId)));
+        assertEquals(2, cacheService.getProjectSystems(projectId).size());
+
+        cacheService.put(createEnvironment("cluster.second", otherProjectId, "system-1"));
+        assertEquals(Collections.singletonList(first.getId()),
+                cacheService.getProjectSystems(projectId).iterator().next().getEnvironmentIds());
+        assertEquals(Collections.singletonList(second.getId()),
+                cacheService.getProjectSystems(otherProjectId).iterator().next().getEnvironmentIds());
+
+        cacheService.remove(first.getId());
+        assertTrue(cacheService.getProjectSystems(projectId).isEmpty());
+    }
+
+    private YamlEnvironment createEnvironment(String name, UUID projectId, String... systemNames) {
+        YamlEnvironment environment = new YamlEnvironment(name);
+        environment.setProjectId(projectId);
+        List<YamlSystem> systems = new ArrayList<>();
+        for (String systemName : systemNames) {
+            YamlSystem system = new YamlSystem();
+            system.setName(systemName);
+            YamlConnection connection = new YamlConnection();
+            connection.setName("DB");
+            connection.setType(ConnectionType.DB);
+            system.setConnections(Collections.singletonList(connection));
+            systems.add(system);
+        }
+        environment.setYamlSystems(systems);
+        return environment;
+    }
+}
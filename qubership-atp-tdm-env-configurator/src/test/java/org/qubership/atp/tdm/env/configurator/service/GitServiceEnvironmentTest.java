@@ -27,7 +27,6 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -175,9 +174,9 @@ class GitServiceEnvironmentTest {
         UUID environmentId = UUID.randomUUID();
         UUID systemId = UUID.randomUUID();
         YamlEnvironment yamlEnvironment = createTestYamlEnvironmentWithSystem(environmentId, systemId);
-        when(cacheService.get(environmentId)).thenReturn(yamlEnvironment);
-        when(cacheService.getEnvironments()).thenReturn(Collections.singletonList(yamlEnvironment));
-
+        YamlSystem yamlSystem = yamlEnvironment.getYamlSystems().get(0);
+        when(cacheService.getSystem(systemId)).thenReturn(yamlSystem);
+        when(cacheService.getConnections(systemId)).thenReturn(yamlSystem.getConnections());
 
         // When
         List<org.qubership.atp.tdm.env.configurator.model.Connection> connections = 
@@ -203,9 +202,8 @@ class GitServiceEnvironmentTest {
         // Given
         UUID environmentId = UUID.randomUUID();
         UUID systemId = UUID.randomUUID();
-        YamlEnvironment yamlEnvironment = createTestYamlEnvironment(environmentId);
-        when(cacheService.get(environmentId)).thenReturn(yamlEnvironment);
-        when(cacheService.getEnvironments()).thenReturn(Collections.singletonList(yamlEnvironment));
+        when(cacheService.getSystem(systemId)).thenReturn(null);
+        when(cacheService.getSystem(environmentId, systemId)).thenReturn(null);
 
         // When
         List<org.qubership.atp.tdm.env.configurator.model.Connection> connections = 
@@ -222,8 +220,7 @@ class GitServiceEnvironmentTest {
         UUID environmentId = UUID.randomUUID();
         UUID systemId = UUID.randomUUID();
         YamlEnvironment yamlEnvironment = createTestYamlEnvironmentWithSystem(environmentId, systemId);
-        when(cacheService.get(environmentId)).thenReturn(yamlEnvironment);
-
+        when(cacheService.getSystem(environmentId, systemId)).thenReturn(yamlEnvironment.getYamlSystems().get(0));
 
         // When
         LazySystem lazySystem = gitService.getLazySystemById(environmentId, systemId);
@@ -243,7 +240,8 @@ class GitServiceEnvironmentTest {
         UUID environmentId = UUID.randomUUID();
         String systemName = "test-system";
         YamlEnvironment yamlEnvironment = createTestYamlEnvironmentWithSystem(environmentId, systemName);
-        when(cacheService.get(environmentId)).thenReturn(yamlEnvironment);
+        when(cacheService.getSystemByName(environmentId, systemName))
+                .thenReturn(yamlEnvironment.getYamlSystems().get(0));
 
         // When
         LazySystem lazySystem = gitService.getLazySystemByName(projectId, environmentId, systemName);
@@ -0,0 +1,192 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
+import org.qubership.atp.tdm.env.configurator.model.envgen.ConnectionType;
+import org.qubership.atp.tdm.env.configurator.model.envgen.EnvironmentsSnapshot;
+import org.qubership.atp.tdm.env.configurator.model.envgen.YamlConnection;
+import org.qubership.atp.tdm.env.configurator.model.envgen.YamlEnvironment;
+import org.qubership.atp.tdm.env.configurator.model.envgen.YamlSystem;
+import org.qubership.atp.tdm.env.configurator.utils.source.LocalEnvironmentsSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class GitServiceLocalSourceTest {
+
+    private static final String PARAMETERS_PATH =
+            "effective-set/deployment/atp/atp3-playwright-runner/values/deployment-parameters.yaml";
+
+    @Mock
+    private CacheService cacheService;
+
+    @TempDir
+    Path repository;
+
+    private GitService gitService;
+    private String deploymentParamsContent;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        gitService = createGitService(Optional.empty());
+
+        deploymentParamsContent = new String(Files.readAllBytes(
+                Paths.get("src/test/resources/test-deployment-parameters.yaml")), StandardCharsets.UTF_8);
+        writeFile("environments/cluster1/env1/" + PARAMETERS_PATH, deploymentParamsContent);
+        writeFile("environments/cluster1/env2/" + PARAMETERS_PATH, deploymentParamsContent);
+        writeFile("environments/cluster1/env3/Inventory/env_definition.yml", "name: env3");
+        writeFile("environments/credentials/env4/" + PARAMETERS_PATH, deploymentParamsContent);
+    }
+
+    private GitService createGitService(Optional<EnvironmentsSnapshotStore> snapshotStore) {
+        GitService gitService = new GitService(cacheService, Optional.empty(), snapshotStore);
+        ReflectionTestUtils.setField(gitService, "localPath", repository.toString());
+        ReflectionTestUtils.setField(gitService, "loadPoolSize", 2);
+        ReflectionTestUtils.setField(gitService, "deploymentPath", "effective-set/deployment");
+        ReflectionTestUtils.setField(gitService, "ncAppPath", "atp/atp3-playwright-runner");
+        ReflectionTestUtils.setField(gitService, "deploymentParametersPath", "values/deployment-parameters.yaml");
+        ReflectionTestUtils.setField(gitService, "deploymentCredentialsPath", "values/credentials.yaml");
+        ReflectionTestUtils.setField(gitService, "projects", new HashMap<>());
+        return gitService;
+    }
+
+    @AfterEach
+    void tearDown() {
+        gitService.shutdown();
+    }
+
+    @Test
+    void getLazyEnvironmentsByFileTree_localDirectory_loadsEnvironmentsWithEffectiveSet() {
+        UUID projectId = UUID.randomUUID();
+
+        List<LazyEnvironment> environments = gitService.getLazyEnvironmentsByFileTree(projectId);
+
+        assertEquals(List.of("cluster1.env1", "cluster1.env2"),
+                environments.stream().map(LazyEnvironment::getName).collect(Collectors.toList()));
+        environments.forEach(environment -> {
+            assertEquals(projectId, environment.getProjectId());
+            assertEquals(3, environment.getSystems().size());
+        });
+        verify(cacheService, times(2)).put(any(YamlEnvironment.class));
+    }
+
+    @Test
+    void getLazyEnvironmentsByFileTree_refresh_downloadsOnlyChangedFiles() throws IOException {
+        LocalEnvironmentsSource source = spy(new LocalEnvironmentsSource(repository));
+        ReflectionTestUtils.setField(gitService, "environmentsSource", source);
+        UUID projectId = UUID.randomUUID();
+
+        gitService.getLazyEnvironmentsByFileTree(projectId);
+        writeFile("environments/cluster1/env2/" + PARAMETERS_PATH,
+                deploymentParamsContent.replace("test-system-3", "test-system-4"));
+        List<LazyEnvironment> environments = gitService.getLazyEnvironmentsByFileTree(projectId);
+
+        verify(source, times(1)).getFileContent("environments/cluster1/env1/" + PARAMETERS_PATH, null);
+        verify(source, times(2)).getFileContent("environments/cluster1/env2/" + PARAMETERS_PATH, null);
+        assertEquals(2, environments.size());
+    }
+
+    @Test
+    void refreshProject_eventsOfSameRevision_reloadsProjectOnce() throws Exception {
+        LocalEnvironmentsSource source = spy(new LocalEnvironmentsSource(repository));
+        when(source.getRevision()).thenReturn("revision1", "revision1", "revision2");
+        ReflectionTestUtils.setField(gitService, "environmentsSource", source);
+        UUID projectId = UUID.randomUUID();
+
+        gitService.refreshProject(projectId);
+        gitService.refreshProject(projectId);
+        verify(source, times(1)).getFileTree("environments", "revision1");
+        verify(source, times(2)).getFileContent(any(), eq("revision1"));
+
+        gitService.refreshProject(projectId);
+        verify(source, times(1)).getFileTree("environments", "revision2");
+    }
+
+    @Test
+    void initializeCache_withSnapshot_restoresEnvironmentsAndReconcilesInBackground() throws IOException {
+        UUID projectId = UUID.randomUUID();
+        YamlConnection connection = new YamlConnection();
+        connection.setName("http");
+        connection.setType(ConnectionType.HTTP_CIP);
+        connection.setParameters(new HashMap<>(Map.of("url", "https://snapshot.example.com")));
+        YamlSystem system = new YamlSystem();
+        system.setName("snapshot-system");
+        system.setConnections(new ArrayList<>(List.of(connection)));
+        YamlEnvironment environment = new YamlEnvironment("cluster0.env0");
+        environment.setProjectId(projectId);
+        environment.setYamlSystems(new ArrayList<>(List.of(system)));
+        EnvironmentsSnapshot snapshot = EnvironmentsSnapshot.deserialize(
+                new EnvironmentsSnapshot("revision", List.of(environment)).serialize());
+        EnvironmentsSnapshotStore snapshotStore = mock(EnvironmentsSnapshotStore.class);
+        when(snapshotStore.load(projectId)).thenReturn(snapshot);
+        when(cacheService.getEnvironments(projectId)).thenReturn(List.of(environment));
+        gitService.shutdown();
+        gitService = createGitService(Optional.of(snapshotStore));
+        ReflectionTestUtils.setField(gitService, "projects", Map.of(projectId, "Project"));
+
+        gitService.initializeCache();
+
+        ArgumentCaptor<EnvironmentsSnapshot> saved = ArgumentCaptor.forClass(EnvironmentsSnapshot.class);
+        verify(snapshotStore, timeout(5000)).save(eq(projectId), saved.capture());
+        assertEquals(List.of("cluster1.env1", "cluster1.env2"), saved.getValue().getEnvironments().stream()
+                .map(YamlEnvironment::getName).collect(Collectors.toList()));
+        ArgumentCaptor<YamlEnvironment> restored = ArgumentCaptor.forClass(YamlEnvironment.class);
+        verify(cacheService, times(3)).put(restored.capture());
+        YamlEnvironment restoredEnvironment = restored.getAllValues().get(0);
+        assertEquals(environment, restoredEnvironment);
+        assertEquals(ConnectionType.HTTP_CIP,
+                restoredEnvironment.getSystemByName("snapshot-system").getConnections().get(0).getType());
+        verify(cacheService).remove(environment.getId());
+    }
+
+    private void writeFile(String path, String content) throws IOException {
+        Path file = repository.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
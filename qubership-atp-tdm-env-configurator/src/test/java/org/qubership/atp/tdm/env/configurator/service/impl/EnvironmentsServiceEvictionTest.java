@@ -0,0 +1,158 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.qubership.atp.tdm.env.configurator.configuration.RefreshingCache;
+import org.qubership.atp.tdm.env.configurator.model.Connection;
+import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
+import org.qubership.atp.tdm.env.configurator.model.LazyProject;
+import org.qubership.atp.tdm.env.configurator.model.LazySystem;
+import org.qubership.atp.tdm.env.configurator.service.GitService;
+import org.qubership.atp.tdm.env.configurator.utils.CacheNames;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class EnvironmentsServiceEvictionTest {
+
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID environmentId = UUID.randomUUID();
+    private final UUID otherEnvironmentId = UUID.randomUUID();
+    private final UUID systemId = UUID.randomUUID();
+    private final UUID otherSystemId = UUID.randomUUID();
+
+    @Mock
+    private GitService gitService;
+
+    private SimpleCacheManager cacheManager;
+    private EnvironmentsServiceImpl environmentsService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        List<Cache> caches = new ArrayList<>();
+        for (Field field : CacheNames.class.getDeclaredFields()) {
+            caches.add(new RefreshingCache(field.get(null).toString(), 100, Duration.ofMinutes(5),
+                    Duration.ofMinutes(15), Runnable::run));
+        }
+        cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        cacheManager.afterPropertiesSet();
+        environmentsService = new EnvironmentsServiceImpl(gitService, cacheManager);
+
+        cache(CacheNames.TDM_LAZY_PROJECT_CACHE).put(projectId, new LazyProject(projectId, "project"));
+        cache(CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE).put(projectId, Arrays.asList(
+                environment(environmentId, systemId), environment(otherEnvironmentId, otherSystemId)));
+        cache(CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE).put(environmentId, environment(environmentId, systemId));
+        cache(CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE).put(otherEnvironmentId,
+                environment(otherEnvironmentId, otherSystemId));
+        cache(CacheNames.TDM_LAZY_ENVIRONMENT_BY_NAME_CACHE).put(Arrays.asList(projectId, "missing"), null);
+        cache(CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE).put(Arrays.asList(environmentId, systemId),
+                Collections.singletonList(connection(systemId)));
+        cache(CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE).put(Arrays.asList(otherEnvironmentId, otherSystemId),
+                Collections.singletonList(connection(otherSystemId)));
+        cache(CacheNames.TDM_LAZY_SYSTEMS_CACHE).put(otherEnvironmentId,
+                Collections.singletonList(system(otherSystemId, otherEnvironmentId)));
+    }
+
+    @Test
+    void evictEnvironment_changedEnvironment_evictsOnlyEntriesOfEnvironmentAndProjectLists() throws Exception {
+        environmentsService.evictEnvironment(projectId, environmentId);
+
+        verify(gitService).refreshEnvironment(projectId, environmentId);
+        assertNull(cache(CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE).get(projectId));
+        assertNull(cache(CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE).get(environmentId));
+        assertNull(cache(CacheNames.TDM_LAZY_ENVIRONMENT_BY_NAME_CACHE).get(Arrays.asList(projectId, "missing")));
+        assertNull(cache(CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE).get(Arrays.asList(environmentId, systemId)));
+        assertNotNull(cache(CacheNames.TDM_LAZY_PROJECT_CACHE).get(projectId));
+        assertNotNull(cache(CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE).get(otherEnvironmentId));
+        assertNotNull(cache(CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE)
+                .get(Arrays.asList(otherEnvironmentId, otherSystemId)));
+        assertNotNull(cache(CacheNames.TDM_LAZY_SYSTEMS_CACHE).get(otherEnvironmentId));
+    }
+
+    @Test
+    void evictSystem_changedSystem_evictsEntriesOfSystemAndEnvironmentsContainingIt() throws Exception {
+        when(gitService.getLazySystemsByProjectWithEnvIds(projectId)).thenReturn(
+                Collections.singletonList(system(otherSystemId, otherEnvironmentId)));
+
+        environmentsService.evictSystem(projectId, otherSystemId);
+
+        verify(gitService).refreshProject(projectId);
+        assertNull(cache(CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE)
+                .get(Arrays.asList(otherEnvironmentId, otherSystemId)));
+        assertNull(cache(CacheNames.TDM_LAZY_SYSTEMS_CACHE).get(otherEnvironmentId));
+        assertNull(cache(CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE).get(otherEnvironmentId));
+        assertNotNull(cache(CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE).get(environmentId));
+        assertNotNull(cache(CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE).get(Arrays.asList(environmentId, systemId)));
+        assertNotNull(cache(CacheNames.TDM_LAZY_PROJECT_CACHE).get(projectId));
+    }
+
+    @Test
+    void evictProject_changedProject_evictsProjectEntries() {
+        environmentsService.evictProject(projectId);
+
+        assertNull(cache(CacheNames.TDM_LAZY_PROJECT_CACHE).get(projectId));
+        assertNull(cache(CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE).get(projectId));
+        assertNull(cache(CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE).get(environmentId));
+        assertNotNull(cache(CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE).get(Arrays.asList(environmentId, systemId)));
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private LazyEnvironment environment(UUID id, UUID systemId) {
+        return LazyEnvironment.builder()
+                .id(id)
+                .projectId(projectId)
+                .name("env-" + id)
+                .systems(Collections.singletonList(systemId.toString()))
+                .build();
+    }
+
+    private LazySystem system(UUID id, UUID environmentId) {
+        return LazySystem.builder()
+                .id(id)
+                .name("system-" + id)
+                .environmentIds(Collections.singletonList(environmentId))
+                .build();
+    }
+
+    private Connection connection(UUID systemId) {
+        Connection connection = new Connection();
+        connection.setSystemId(systemId);
+        return connection;
+    }
+}
@@ -16,14 +16,24 @@
 
 package org.qubership.atp.tdm.env.configurator.utils.decryptor;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +44,8 @@ class SopsDecryptorTest {
 
     private static final String TEST_PRIVATE_KEY = "AGE-SECRET-KEY-1TEST123456789012345678901234567890123456789012345678901234567890";
     private static final int TEST_TIMEOUT = 10;
+    private static final String ENCRYPTED_CONTENT = "password: ENC[AES256_GCM,data:abc]\n";
+    private static final String DECRYPTED_CONTENT = "password: plain-password\n";
 
     private SopsDecryptor decryptor;
 
@@ -269,6 +281,83 @@ class SopsDecryptorTest {
         assertThrows(TdmEnvDecryptionException.class, () -> decryptor.decrypt(directory));
     }
 
+    @Test
+    void testDecryptContent_SameContentDecryptedConcurrently_ShouldRunSopsOnce() throws Exception {
+        // Given
+        Path sopsCalls = tempDir.resolve("sops-calls");
+        SopsDecryptor cachingDecryptor = new SopsDecryptor(TEST_PRIVATE_KEY, TEST_TIMEOUT, 2, 10, null,
+                createFakeSops(sopsCalls).toString());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> cachingDecryptor.decryptContent(ENCRYPTED_CONTENT)));
+            }
+            for (Future<String> result : results) {
+                assertEquals(DECRYPTED_CONTENT, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(1, Files.readAllLines(sopsCalls).size());
+    }
+
+    @Test
+    void testDecryptContent_WithCacheDirectory_ShouldReuseDecryptionAfterRestart() throws Exception {
+        // Given
+        Path sopsCalls = tempDir.resolve("sops-calls");
+        Path fakeSops = createFakeSops(sopsCalls);
+        Path cacheDirectory = tempDir.resolve("cache");
+        new SopsDecryptor(TEST_PRIVATE_KEY, TEST_TIMEOUT, 1, 10, cacheDirectory, fakeSops.toString())
+                .decryptContent(ENCRYPTED_CONTENT);
+
+        // When
+        String restarted = new SopsDecryptor(TEST_PRIVATE_KEY, TEST_TIMEOUT, 1, 10, cacheDirectory,
+                fakeSops.toString()).decryptContent(ENCRYPTED_CONTENT);
+        String anotherKey = new SopsDecryptor(TEST_PRIVATE_KEY + "2", TEST_TIMEOUT, 1, 10, cacheDirectory,
+                fakeSops.toString()).decryptContent(ENCRYPTED_CONTENT);
+
+        // Then
+        assertEquals(DECRYPTED_CONTENT, restarted);
+        assertEquals(DECRYPTED_CONTENT, anotherKey);
+        assertEquals(2, Files.readAllLines(sopsCalls).size());
+        try (Stream<Path> cachedFiles = Files.list(cacheDirectory)) {
+            for (Path cachedFile : (Iterable<Path>) cachedFiles::iterator) {
+                assertFalse(new String(Files.readAllBytes(cachedFile), StandardCharsets.ISO_8859_1)
+                        .contains("plain-password"));
+            }
+        }
+    }
+
+    @Test
+    void testEncryptCached_DecryptedWithSameKeyOnly() throws Exception {
+        // Given
+        byte[] content = "plain-password".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        byte[] encrypted = decryptor.encryptCached(content);
+
+        // Then
+        assertFalse(new String(encrypted, StandardCharsets.ISO_8859_1).contains("plain-password"));
+        assertArrayEquals(content, new SopsDecryptor(TEST_PRIVATE_KEY).decryptCached(encrypted));
+        assertThrows(GeneralSecurityException.class,
+                () -> new SopsDecryptor(TEST_PRIVATE_KEY + "2").decryptCached(encrypted));
+        assertThrows(GeneralSecurityException.class, () -> decryptor.decryptCached(content));
+    }
+
+    // Fake sops writes a line per call and replaces encrypted values in the file passed after --decrypt
+    private Path createFakeSops(Path callsFile) throws IOException {
+        Path script = createTestFile("fake-sops.sh", "#!/bin/sh\n"
+                + "echo call >> '" + callsFile + "'\n"
+                + "sed 's/ENC\\[[^]]*\\]/plain-password/' \"$2\"\n");
+        assertTrue(script.toFile().setExecutable(true));
+        return script;
+    }
+
     // Helper method to create test files
     private Path createTestFile(String fileName, String content) throws IOException {
         Path file = tempDir.resolve(fileName);